@@ -0,0 +1,105 @@
+package com.jjbacsa.jjbacsabackend.etc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.etc.dto.TokenClaims;
+import com.jjbacsa.jjbacsabackend.etc.enums.TokenType;
+import com.jjbacsa.jjbacsabackend.etc.filter.JwtTokenFilter;
+import com.jjbacsa.jjbacsabackend.etc.security.JwtTokenProvider;
+import com.jjbacsa.jjbacsabackend.user.serviceImpl.UserDetailsServiceImpl;
+import com.jjbacsa.jjbacsabackend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * legacy: 요청마다 파서 생성 + 서명 검증 + payload 재파싱 (기존 JwtTokenFilter 방식)
+ * verify: 미리 만든 파서로 한 번만 파싱
+ * cached: 검증된 토큰 캐시 사용
+ * filter*: JwtTokenFilter 전체 처리량
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+    private static final String KEY = "jwt-benchmark-secret-key-0123456789";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+
+    private JwtTokenFilter uncachedFilter;
+    private JwtTokenFilter cachedFilter;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(KEY, "access", "refresh", 0);
+        cached = new JwtUtil(KEY, "access", "refresh", 10000);
+
+        uncachedFilter = new JwtTokenFilter(new JwtTokenProvider(uncached, new UserDetailsServiceImpl(null)));
+        cachedFilter = new JwtTokenFilter(new JwtTokenProvider(cached, new UserDetailsServiceImpl(null)));
+
+        token = "Bearer " + cached.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+    }
+
+    @Benchmark
+    public Map<String, Object> legacy() throws Exception {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(KEY.getBytes())
+                .build()
+                .parseClaimsJws(token.substring(JwtUtil.BEARER_LENGTH))
+                .getBody();
+
+        if (!"access".equals(claims.getSubject())) {
+            throw new IllegalStateException();
+        }
+
+        String payloads = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+
+        return new ObjectMapper().readValue(payloads, HashMap.class);
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return uncached.verify(token, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public TokenClaims cached() {
+        return cached.verify(token, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest filterVerify() throws ServletException, IOException {
+        return filter(uncachedFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest filterCached() throws ServletException, IOException {
+        return filter(cachedFilter);
+    }
+
+    private MockHttpServletRequest filter(JwtTokenFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jjbacsa.jjbacsabackend.google;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.google.dto.api.Prediction;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopApiDto;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopQueryDto;
+import com.jjbacsa.jjbacsabackend.google.serviceImpl.PlacesResponseDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places 응답 파싱 비교
+ * legacy: HashMap 파싱 -> result 재직렬화 -> DTO 재파싱 (기존 GoogleShopServiceImpl 방식)
+ * decoder: PlacesResponseDecoder 단일 패스
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlacesResponseDecoderBenchmark {
+    private ObjectMapper objectMapper;
+    private PlacesResponseDecoder decoder;
+
+    private String details;
+    private String textSearch;
+    private String autoComplete;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        decoder = new PlacesResponseDecoder(objectMapper);
+
+        details = fixture("details.json");
+        textSearch = fixture("textsearch.json");
+        autoComplete = fixture("autocomplete.json");
+    }
+
+    @Benchmark
+    public ShopApiDto detailsLegacy() throws IOException {
+        Map<String, Object> map = checkApiReturn(details);
+        String resultStr = objectMapper.writeValueAsString(map.get("result"));
+
+        return objectMapper.readValue(resultStr, ShopApiDto.class);
+    }
+
+    @Benchmark
+    public ShopApiDto detailsDecoder() throws IOException {
+        return decoder.decodeShop(details);
+    }
+
+    @Benchmark
+    public ShopQueryDto textSearchLegacy() throws IOException {
+        checkApiReturn(textSearch);
+
+        return objectMapper.readValue(textSearch, ShopQueryDto.class);
+    }
+
+    @Benchmark
+    public ShopQueryDto textSearchDecoder() throws IOException {
+        return decoder.decodeQuery(textSearch);
+    }
+
+    @Benchmark
+    public Prediction[] autoCompleteLegacy() throws IOException {
+        Map<String, Object> map = checkApiReturn(autoComplete);
+        String resultStr = objectMapper.writeValueAsString(map.get("predictions"));
+
+        return objectMapper.readValue(resultStr, Prediction[].class);
+    }
+
+    @Benchmark
+    public Prediction[] autoCompleteDecoder() throws IOException {
+        return decoder.decodePredictions(autoComplete);
+    }
+
+    private Map<String, Object> checkApiReturn(String apiReturn) throws IOException {
+        Map<String, Object> map = objectMapper.readValue(apiReturn, new TypeReference<HashMap<String, Object>>() {
+        });
+
+        if (!"OK".equals(map.get("status"))) {
+            throw new IllegalStateException((String) map.get("status"));
+        }
+
+        return map;
+    }
+
+    private String fixture(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/places/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.jjbacsa.jjbacsabackend.image;
+
+import com.jjbacsa.jjbacsabackend.image.process.ImageProcessor;
+import com.jjbacsa.jjbacsabackend.image.process.ImageRenditions;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 리사이징 비교 (4032x3024 JPEG, 휴대폰 사진 크기)
+ * legacy: ImageIO.read 전체 디코딩 -> getScaledInstance(SCALE_SMOOTH) -> jpg (기존 ImageUtil.resizing, 500px 한 장)
+ * legacyRenditions: 같은 방식으로 1280/500/150px 세 장
+ * renditions: ImageProcessor (subsampling 디코딩 + 단계적 축소, 1280/500/150px 세 장)
+ *
+ * 메모리 비교는 -prof gc 로 실행 (./gradlew jmh -PjmhIncludes=ImageRenditionBenchmark)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageRenditionBenchmark {
+    private ImageProcessor processor;
+    private byte[] photo;
+
+    @Setup
+    public void setUp() throws IOException {
+        processor = new ImageProcessor(1280, 500, 150, 1, 1);
+        photo = photo(4032, 3024);
+    }
+
+    @TearDown
+    public void tearDown() {
+        processor.shutdown();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws IOException {
+        return legacyResizing(photo, 500);
+    }
+
+    @Benchmark
+    public int legacyRenditions() throws IOException {
+        return legacyResizing(photo, 1280).length
+                + legacyResizing(photo, 500).length
+                + legacyResizing(photo, 150).length;
+    }
+
+    @Benchmark
+    public ImageRenditions renditions() {
+        return processor.render(new ByteArrayInputStream(photo));
+    }
+
+    // 기존 ImageUtil.resizing
+    private static byte[] legacyResizing(byte[] bytes, int newWidth) throws IOException {
+        BufferedImage inputImage = ImageIO.read(new ByteArrayInputStream(bytes));
+
+        int originalWidth = inputImage.getWidth();
+        int originalHeight = inputImage.getHeight();
+
+        int newHeight = (originalHeight * newWidth) / originalWidth;
+
+        if (originalWidth < newWidth) {
+            newWidth = originalWidth;
+            newHeight = originalHeight;
+        }
+
+        Image resizeImage = inputImage.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH);
+
+        BufferedImage newImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_BGR);
+
+        Graphics graphics = newImage.getGraphics();
+        graphics.drawImage(resizeImage, 0, 0, null);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(newImage, "jpg", out);
+        return out.toByteArray();
+    }
+
+    // 압축이 너무 잘 되지 않도록 무늬와 잡음을 섞은 사진 대용 이미지
+    private static byte[] photo(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int i = 0; i < 400; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillOval(random.nextInt(width), random.nextInt(height), 50 + random.nextInt(600), 50 + random.nextInt(600));
+        }
+        graphics.dispose();
+
+        for (int y = 0; y < height; y += 3) {
+            for (int x = 0; x < width; x += 3) {
+                image.setRGB(x, y, image.getRGB(x, y) ^ random.nextInt(0x0F0F0F));
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+package com.jjbacsa.jjbacsabackend.etc.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Slice 조회에서 요청한 경우에만 주는 대략적인 전체 개수 캐시 (인스턴스 내 LRU, TTL)
+ * (조회 종류, 대상)별로 COUNT 결과를 TTL 동안 재사용하므로 그 사이 추가/삭제된 만큼 차이가 날 수 있다.
+ * 적중률은 paging.total_cache.hits / misses, 항목 수는 paging.total_cache.size 메트릭으로 확인한다.
+ */
+@Component
+public class ApproximateTotalCache implements MeterBinder {
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<String, CachedTotal> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ApproximateTotalCache(@Value("${paging.total-cache.enabled:true}") boolean enabled,
+                                 @Value("${paging.total-cache.size:10000}") int size,
+                                 @Value("${paging.total-cache.ttl:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTotal> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    /**
+     * @param endpoint 조회 종류 (ex. "post", "follow:followers")
+     * @param owner    조회 대상 (사용자 id, 상점 place id, 검색어 등)
+     * @param counter  캐시에 없을 때 실행할 COUNT 쿼리
+     */
+    public long get(String endpoint, Object owner, LongSupplier counter) {
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+
+        String key = endpoint + ":" + owner;
+        CachedTotal cached = cache.get(key);
+
+        if (cached != null && cached.expiredAt > System.currentTimeMillis()) {
+            hitCount.increment();
+            return cached.total;
+        }
+
+        missCount.increment();
+        long total = counter.getAsLong();
+        cache.put(key, new CachedTotal(total, System.currentTimeMillis() + ttlMillis));
+
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("paging.total_cache.hits", hitCount, LongAdder::sum)
+                .description("캐시된 전체 개수를 사용한 조회 수")
+                .register(registry);
+        FunctionCounter.builder("paging.total_cache.misses", missCount, LongAdder::sum)
+                .description("COUNT 쿼리를 실행한 조회 수")
+                .register(registry);
+        Gauge.builder("paging.total_cache.size", cache, Map::size)
+                .description("캐시된 전체 개수 항목 수")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static class CachedTotal {
+        private final long total;
+        private final long expiredAt;
+
+        private CachedTotal(long total, long expiredAt) {
+            this.total = total;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
@@ -11,5 +11,9 @@ public class CustomDialect extends MySQL8Dialect {
 
         registerFunction("match",
                 new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,"match(?1, ?2) against (?3 in boolean mode)"));
+
+        //distance_sphere(경도1, 위도1, 경도2, 위도2) : 두 좌표 사이 거리(m)
+        registerFunction("distance_sphere",
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "ST_Distance_Sphere(POINT(?1, ?2), POINT(?3, ?4))"));
     }
 }
@@ -1,9 +1,9 @@
 package com.jjbacsa.jjbacsabackend.etc.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackAttachment;
 import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackParameter;
-import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackTarget;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.BaseException;
 import com.jjbacsa.jjbacsabackend.etc.exception.CriticalException;
@@ -11,7 +11,6 @@ import com.jjbacsa.jjbacsabackend.util.ParserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindException;
@@ -35,10 +34,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
 
-    private final SlackNotiSender slackNotiSender;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    @Value("${slack.url}")
-    private String notifyErrorUrl;
+    private final SlackErrorNotifier slackErrorNotifier;
 
     @ExceptionHandler(Throwable.class)
     public ResponseEntity<BaseException> defaultException(Throwable e, HandlerMethod handlerMethod) throws IOException {
@@ -122,30 +120,38 @@ public class GlobalExceptionHandler {
         return baseException;
     }
 
-    private <T extends Throwable> void sendSlackNoti(T e, HandlerMethod handlerMethod) throws IOException {
+    // 알림은 SlackErrorNotifier 대기열에 넣기만 하고, 같은 에러가 이미 대기 중이면 내용을 만들지 않는다
+    private <T extends Throwable> void sendSlackNoti(T e, HandlerMethod handlerMethod) {
 
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        String host = request.getHeader("host");
-        String uri = request.getRequestURI();
-
-        SlackTarget slackTarget = new SlackTarget(notifyErrorUrl, "");
-        SlackParameter slackParameter = new SlackParameter();
-        slackParameter.setText(String.format("`%s` 서버에서 에러가 발생했습니다.", host));
         String errorName = e.getClass().getSimpleName();
         String errorFile = e.getStackTrace()[0].getFileName();
-        String errorMessage = e.getMessage();
         int errorLine = e.getStackTrace()[0].getLineNumber();
 
-        String requestParam = new ObjectMapper().writeValueAsString(ParserUtil.splitQueryString(request.getQueryString()));
-        String requestBody = (String) request.getAttribute("requestBody");
-        String message = String.format("```%s %s Line %d```\n```===== [Message] ===== \n%s\n\n===== [Controller] =====\n%s\n\n===== [RequestParameter] =====\n%s\n\n===== [RequestBody] =====\n%s```",
-                errorName, errorFile, errorLine, errorMessage, handlerMethod, requestParam, requestBody);
-
-        SlackAttachment slackAttachment = SlackAttachment.builder()
-                .title(String.format("URI : %s", uri))
-                .text(message)
-                .build();
-        slackParameter.getSlackAttachments().add(slackAttachment);
-        slackNotiSender.send(slackTarget, slackParameter);
+        slackErrorNotifier.report(String.format("%s:%s:%d", errorName, errorFile, errorLine), () -> {
+            String host = request.getHeader("host");
+            String uri = request.getRequestURI();
+
+            SlackParameter slackParameter = new SlackParameter();
+            slackParameter.setText(String.format("`%s` 서버에서 에러가 발생했습니다.", host));
+            String errorMessage = e.getMessage();
+
+            String requestParam;
+            try {
+                requestParam = OBJECT_MAPPER.writeValueAsString(ParserUtil.splitQueryString(request.getQueryString()));
+            } catch (JsonProcessingException jsonProcessingException) {
+                requestParam = request.getQueryString();
+            }
+            String requestBody = RepeatableRequestWrapper.getCapturedBody(request);
+            String message = String.format("```%s %s Line %d```\n```===== [Message] ===== \n%s\n\n===== [Controller] =====\n%s\n\n===== [RequestParameter] =====\n%s\n\n===== [RequestBody] =====\n%s```",
+                    errorName, errorFile, errorLine, errorMessage, handlerMethod, requestParam, requestBody);
+
+            SlackAttachment slackAttachment = SlackAttachment.builder()
+                    .title(String.format("URI : %s", uri))
+                    .text(message)
+                    .build();
+            slackParameter.getSlackAttachments().add(slackAttachment);
+            return slackParameter;
+        });
     }
 }
\ No newline at end of file
@@ -1,30 +1,34 @@
 package com.jjbacsa.jjbacsabackend.etc.config;
 
 import com.nimbusds.oauth2.sdk.util.StringUtils;
-import org.apache.commons.io.IOUtils;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 
 import javax.servlet.ReadListener;
-import javax.servlet.ServletException;
 import javax.servlet.ServletInputStream;
-import javax.servlet.ServletRequest;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
-import javax.servlet.http.Part;
-import java.io.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Collection;
-import java.util.Collections;
 
+/**
+ * 에러 알림(GlobalExceptionHandler)에 요청 본문을 싣기 위해, 컨트롤러가 읽는 본문의 앞부분만 함께 기록한다.
+ * 본문을 미리 읽어 두지 않고 읽히는 만큼만 버퍼(최대 captureLimit)에 복사하며, multipart 요청은 기록하지 않는다.
+ * 문자열 변환은 에러를 보낼 때(getCapturedBody) 한 번만 한다.
+ */
 public class RepeatableRequestWrapper extends HttpServletRequestWrapper {
+    public static final String CAPTURED_BODY = "requestBody";
+    private static final String MULTIPART = "multipart/";
 
     private final Charset encoding;
-    private final byte[] rawData;
-    private Collection<Part> parts;
+    private final BodyCapture capture;
+    private ServletInputStream inputStream;
 
-    public RepeatableRequestWrapper(HttpServletRequest request) throws IOException, ServletException {
+    /**
+     * @param buffer 본문을 복사할 버퍼 (요청이 끝나면 release 후 다른 요청에서 재사용)
+     */
+    public RepeatableRequestWrapper(HttpServletRequest request, byte[] buffer) {
         super(request);
         String characterEncoding = request.getCharacterEncoding();
         if (StringUtils.isBlank(characterEncoding)) {
@@ -32,85 +36,150 @@ public class RepeatableRequestWrapper extends HttpServletRequestWrapper {
         }
         this.encoding = Charset.forName(characterEncoding);
 
-        // Store the parts to the instance variable
-        try {
-            if (super.getHeader(HttpHeaders.CONTENT_TYPE).startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
-                this.parts = request.getParts();
-            }
-        } catch (Exception e) { // multipart/form-data가 아닌 경우
-            this.parts = Collections.emptyList();
-        }
-
-        // Convert InputStream data to byte array and store it to this wrapper instance.
-        InputStream inputStream = null;
-        try {
-            inputStream = request.getInputStream();
-            if (inputStream != null) {
-                this.rawData = IOUtils.toByteArray(inputStream);
-            } else {
-                this.rawData = new byte[0];
-            }
-        } catch (IOException e) {
-            throw e;
-        } finally {
-            if (inputStream != null) {
-                inputStream.close();
-            }
-        }
-        // Store request body to the request attribute.
-        try {
-            String requestBody = new String(this.rawData, this.encoding);
-            request.setAttribute("requestBody", requestBody);
-        } catch (Exception e) {
-            request.setAttribute("requestBody", "");
+        if (buffer.length == 0 || isMultipart(request)) {
+            this.capture = null;
+        } else {
+            this.capture = new BodyCapture(buffer, encoding);
+            request.setAttribute(CAPTURED_BODY, capture);
         }
     }
 
+    /**
+     * 기록된 본문 (없으면 빈 문자열)
+     */
+    public static String getCapturedBody(HttpServletRequest request) {
+        Object capture = request.getAttribute(CAPTURED_BODY);
+        return capture == null ? "" : capture.toString();
+    }
+
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.rawData);
-        ServletInputStream servletInputStream = new ServletInputStream() {
-            @Override
-            public boolean isFinished() {
-                return false;
-            }
+        if (capture == null) {
+            return super.getInputStream();
+        }
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
 
-            @Override
-            public boolean isReady() {
-                return true;
-            }
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (capture == null) {
+            return super.getReader();
+        }
+        return new BufferedReader(new InputStreamReader(this.getInputStream(), this.encoding));
+    }
+
+    // 요청이 끝난 뒤 버퍼를 다른 요청에 넘기기 전에 호출
+    public void release() {
+        if (capture != null) {
+            capture.release();
+            getRequest().removeAttribute(CAPTURED_BODY);
+        }
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        // multipart/form-data, multipart/mixed 등
+        return contentType != null && contentType.toLowerCase().startsWith(MULTIPART);
+    }
 
-            @Override
-            public void setReadListener(ReadListener listener) {
+    private static final class CapturingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final BodyCapture capture;
 
+        private CapturingInputStream(ServletInputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                capture.append(b);
             }
+            return b;
+        }
 
-            @Override
-            public int read() throws IOException {
-                return byteArrayInputStream.read();
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                capture.append(b, off, read);
             }
-        };
+            return read;
+        }
 
-        return servletInputStream;
-    }
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
 
-    @Override
-    public BufferedReader getReader() throws IOException {
-        return new BufferedReader(new InputStreamReader(this.getInputStream(), this.encoding));
-    }
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
 
-    @Override
-    public Collection<Part> getParts() throws IOException, ServletException {
-        return this.parts;
-    }
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
 
-    @Override
-    public Part getPart(String name) throws IOException, ServletException {
-        return super.getPart(name);
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
     }
 
-    @Override
-    public ServletRequest getRequest() {
-        return super.getRequest();
+    private static final class BodyCapture {
+        private final Charset encoding;
+        private byte[] buffer;
+        private int length;
+        private long total;
+
+        private BodyCapture(byte[] buffer, Charset encoding) {
+            this.buffer = buffer;
+            this.encoding = encoding;
+        }
+
+        private void append(int b) {
+            total++;
+            if (buffer != null && length < buffer.length) {
+                buffer[length++] = (byte) b;
+            }
+        }
+
+        private void append(byte[] b, int off, int len) {
+            total += len;
+            if (buffer == null) {
+                return;
+            }
+
+            int copy = Math.min(len, buffer.length - length);
+            if (copy > 0) {
+                System.arraycopy(b, off, buffer, length, copy);
+                length += copy;
+            }
+        }
+
+        private void release() {
+            buffer = null;
+            length = 0;
+        }
+
+        @Override
+        public String toString() {
+            if (buffer == null) {
+                return "";
+            }
+
+            String body = new String(buffer, 0, length, encoding);
+            if (total > length) {
+                return body + String.format("\n... (%d bytes 중 앞 %d bytes)", total, length);
+            }
+            return body;
+        }
     }
 }
@@ -8,6 +8,7 @@ import com.jjbacsa.jjbacsabackend.etc.security.JwtTokenProvider;
 import com.jjbacsa.jjbacsabackend.etc.security.OAuth2SuccessHandler;
 import com.jjbacsa.jjbacsabackend.user.serviceImpl.OAuth2UserServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,6 +37,9 @@ public class SecurityConfig {
     private final OAuth2UserServiceImpl oAuth2UserService;
     private final CustomCorsConfigSource customCorsConfigSource;
 
+    @Value("${request.body-capture.limit:4096}")
+    private int bodyCaptureLimit;
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder(){
         return new BCryptPasswordEncoder();
@@ -60,7 +64,7 @@ public class SecurityConfig {
                 .and()
                 .addFilterBefore(new JwtTokenFilter(jwtTokenProvider),
                         UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new RequestWrappingFilter(),
+                .addFilterBefore(new RequestWrappingFilter(bodyCaptureLimit),
                         JwtTokenFilter.class)
                 .addFilterBefore(new CustomCorsFilter(customCorsConfigSource),  // CORS 필터 추가
                         LogoutFilter.class);
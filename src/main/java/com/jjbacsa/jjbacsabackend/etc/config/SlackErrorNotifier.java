@@ -0,0 +1,251 @@
+package com.jjbacsa.jjbacsabackend.etc.config;
+
+import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackParameter;
+import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackTarget;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 에러 알림 대기열
+ * 요청 스레드는 알림을 대기열에 넣기만 하고, 전용 스레드가 slack.notify.window마다 모아서 Slack으로 보낸다.
+ * 같은 에러(예외, 파일, 줄)는 한 창 안에서 한 건으로 합쳐 발생 횟수만 더하고,
+ * 토큰 버킷으로 전송 속도를 제한하며, 대기열이 가득 차면 버리고 개수를 센다.
+ * 건수는 slack.error_notifier.* 메트릭(reported, aggregated, dropped, rate_limited, sent, failed, pending)으로 확인한다.
+ */
+@Slf4j
+@Component
+public class SlackErrorNotifier implements MeterBinder {
+
+    private final SlackNotiSender slackNotiSender;
+    private final SlackTarget slackTarget;
+    private final int capacity;
+    private final TokenBucket tokenBucket;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService worker;
+
+    private final Map<String, PendingError> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder reported = new LongAdder();
+    private final LongAdder aggregated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @Autowired
+    public SlackErrorNotifier(SlackNotiSender slackNotiSender,
+                              @Value("${slack.url}") String notifyErrorUrl,
+                              @Value("${slack.notify.capacity:100}") int capacity,
+                              @Value("${slack.notify.window:10000}") long windowMillis,
+                              @Value("${slack.notify.burst:5}") int burst,
+                              @Value("${slack.notify.rate-per-minute:20}") int ratePerMinute) {
+        this(slackNotiSender, notifyErrorUrl, capacity, windowMillis, new TokenBucket(burst, ratePerMinute, System::nanoTime), System::nanoTime, true);
+    }
+
+    SlackErrorNotifier(SlackNotiSender slackNotiSender, String notifyErrorUrl, int capacity, long windowMillis,
+                       TokenBucket tokenBucket, LongSupplier nanoClock, boolean startWorker) {
+        this.slackNotiSender = slackNotiSender;
+        this.slackTarget = new SlackTarget(notifyErrorUrl, "");
+        this.capacity = capacity;
+        this.tokenBucket = tokenBucket;
+        this.nanoClock = nanoClock;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slack-error-notifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (startWorker) {
+            worker.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 알림을 대기열에 넣는다. 블로킹하지 않는다.
+     *
+     * @param key     같은 에러를 묶는 기준
+     * @param message 처음 들어온 에러일 때만 호출해서 알림 내용을 만든다 (요청 스레드에서 실행)
+     */
+    public void report(String key, Supplier<SlackParameter> message) {
+        reported.increment();
+
+        // flush의 remove와 같은 키에서 원자적으로 실행되므로, 꺼내간 알림에 센 횟수가 빠지지 않는다
+        if (pending.computeIfPresent(key, (k, existing) -> existing.occurred()) != null) {
+            aggregated.increment();
+            return;
+        }
+        if (pending.size() >= capacity) {
+            dropped.increment();
+            return;
+        }
+
+        PendingError error;
+        try {
+            error = new PendingError(message.get(), nanoClock.getAsLong());
+        } catch (RuntimeException e) {
+            log.warn("에러 알림 생성 실패: {}", key, e);
+            dropped.increment();
+            return;
+        }
+
+        if (pending.merge(key, error, (existing, created) -> existing.occurred()) != error) {
+            aggregated.increment();
+        }
+    }
+
+    // 모인 알림을 보낸다. 토큰이 모자라면 남은 알림은 다음 창으로 넘어가 계속 합쳐진다.
+    void flush() {
+        Iterator<Map.Entry<String, PendingError>> iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (!tokenBucket.tryAcquire()) {
+                rateLimited.increment();
+                return;
+            }
+
+            Map.Entry<String, PendingError> entry = iterator.next();
+            PendingError error = entry.getValue();
+
+            // 꺼낸 뒤에는 더 이상 횟수가 늘지 않는다 (이후 들어온 같은 에러는 새 알림으로 쌓임)
+            if (pending.remove(entry.getKey(), error)) {
+                send(error);
+            }
+        }
+    }
+
+    private void send(PendingError error) {
+        SlackParameter parameter = error.parameter;
+        int count = error.count.get();
+        if (count > 1) {
+            // 토큰이 모자라 다음 창으로 넘어간 알림은 처음 발생한 뒤로 여러 창에 걸쳐 합쳐진다
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong() - error.firstSeenAt));
+            parameter.setText(String.format("%s (%d초 동안 %d회 발생)", parameter.getText(), seconds, count));
+        }
+
+        try {
+            slackNotiSender.send(slackTarget, parameter);
+            sent.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Slack 에러 알림 전송 실패", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "reported", reported, "대기열에 들어온 에러 알림 수");
+        counter(registry, "aggregated", aggregated, "같은 에러로 합쳐진 알림 수");
+        counter(registry, "dropped", dropped, "대기열이 가득 차거나 내용 생성에 실패해 버린 알림 수");
+        counter(registry, "rate_limited", rateLimited, "토큰이 모자라 다음 창으로 미룬 횟수");
+        counter(registry, "sent", sent, "Slack으로 보낸 알림 수");
+        counter(registry, "failed", failed, "Slack 전송에 실패한 알림 수");
+        Gauge.builder("slack.error_notifier.pending", pending, Map::size)
+                .description("전송을 기다리는 알림 수")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, LongAdder adder, String description) {
+        FunctionCounter.builder("slack.error_notifier." + name, adder, LongAdder::sum)
+                .description(description)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    public long getReportedCount() {
+        return reported.sum();
+    }
+
+    public long getAggregatedCount() {
+        return aggregated.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private static final class PendingError {
+        private final SlackParameter parameter;
+        private final long firstSeenAt;
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        private PendingError(SlackParameter parameter, long firstSeenAt) {
+            this.parameter = parameter;
+            this.firstSeenAt = firstSeenAt;
+        }
+
+        private PendingError occurred() {
+            count.incrementAndGet();
+            return this;
+        }
+    }
+
+    /**
+     * 분당 ratePerMinute개씩 채워지고 최대 capacity개까지 쌓이는 토큰 버킷
+     */
+    static final class TokenBucket {
+        private final int capacity;
+        private final double tokensPerNano;
+        private final LongSupplier nanoClock;
+
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, int ratePerMinute, LongSupplier nanoClock) {
+            this.capacity = capacity;
+            this.tokensPerNano = ratePerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.nanoClock = nanoClock;
+            this.tokens = capacity;
+            this.refilledAt = nanoClock.getAsLong();
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 카운터 증감을 트랜잭션 단위로 모았다가 커밋 직전에
+ * 행마다 UPDATE ... SET x = x + :delta 한 번으로 반영한다.
+ * 읽고 쓰는 과정이 없으므로 비관적 락 없이도 갱신이 유실되지 않는다.
+ * 쓰기 지연 모드가 켜진 테이블은 커밋 후 WriteBehindCounters에 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterBuffer {
+
+    private final EntityManager entityManager;
+    private final CounterWriter counterWriter;
+    private final WriteBehindCounters writeBehindCounters;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(CounterField field, Long id, int delta) {
+
+        if (delta == 0) {
+            return;
+        }
+
+        //같은 트랜잭션에서 엔티티로 읽는 값도 맞춰준다 (카운터 컬럼은 updatable = false)
+        Object counter = getManagedCounter(field.getTarget(), id);
+        if (counter != null) {
+            field.applyTo(counter, delta);
+        }
+
+        getPendingCounters().add(field, id, delta);
+    }
+
+    private Object getManagedCounter(CounterTarget target, Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(target.getEntityClass());
+
+        return session.getPersistenceContext().getEntity(session.generateEntityKey(id, persister));
+    }
+
+    private PendingCounters getPendingCounters() {
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingCounters) {
+                return (PendingCounters) synchronization;
+            }
+        }
+
+        PendingCounters pendingCounters = new PendingCounters();
+        TransactionSynchronizationManager.registerSynchronization(pendingCounters);
+
+        return pendingCounters;
+    }
+
+    /**
+     * 트랜잭션별 누적 delta. 데드락을 피하기 위해 테이블, id 순서로 갱신한다.
+     */
+    private class PendingCounters implements TransactionSynchronization {
+
+        private final Map<CounterTarget, TreeMap<Long, int[]>> deltas = new EnumMap<>(CounterTarget.class);
+
+        void add(CounterField field, Long id, int delta) {
+            deltas.computeIfAbsent(field.getTarget(), target -> new TreeMap<>())
+                    .computeIfAbsent(id, key -> new int[field.getTarget().getFieldCount()])[field.getIndex()] += delta;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+
+            for (Map.Entry<CounterTarget, TreeMap<Long, int[]>> entry : deltas.entrySet()) {
+
+                if (writeBehindCounters.supports(entry.getKey())) {
+                    continue;
+                }
+
+                for (Map.Entry<Long, int[]> row : entry.getValue().entrySet()) {
+
+                    if (CounterBuffer.isZero(row.getValue())) {
+                        continue;
+                    }
+
+                    if (counterWriter.update(entry.getKey(), row.getKey(), row.getValue()) == 0) {
+                        log.warn("counter row not found. target={}, id={}", entry.getKey(), row.getKey());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+
+            for (Map.Entry<CounterTarget, TreeMap<Long, int[]>> entry : deltas.entrySet()) {
+
+                if (!writeBehindCounters.supports(entry.getKey())) {
+                    continue;
+                }
+
+                for (Map.Entry<Long, int[]> row : entry.getValue().entrySet()) {
+                    writeBehindCounters.add(entry.getKey(), row.getKey(), row.getValue());
+                }
+            }
+        }
+    }
+
+    static boolean isZero(int[] values) {
+        for (int value : values) {
+            if (value != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
+import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostLoad;
+
+/**
+ * 카운터 엔티티 조회 시 쓰기 지연 중인 증감을 합산 (Spring이 생성하는 엔티티 리스너)
+ * EntityManagerFactory 생성 중에 만들어지므로 WriteBehindCounters는 조회 시점에 가져온다.
+ */
+@RequiredArgsConstructor
+public class CounterEntityListener {
+
+    private final ObjectProvider<WriteBehindCounters> writeBehindCountersProvider;
+
+    @PostLoad
+    public void mergePending(Object counter) {
+        WriteBehindCounters writeBehindCounters = writeBehindCountersProvider.getIfAvailable();
+
+        if (writeBehindCounters == null) {
+            return;
+        }
+
+        if (counter instanceof GoogleShopCount) {
+            writeBehindCounters.mergeInto(CounterTarget.SHOP, ((GoogleShopCount) counter).getId(), counter);
+        } else if (counter instanceof UserCount) {
+            writeBehindCounters.mergeInto(CounterTarget.USER, ((UserCount) counter).getId(), counter);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
+import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryCount;
+import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
+import lombok.Getter;
+
+/**
+ * 카운터 컬럼. index는 CounterTarget 내 delta 배열의 위치
+ */
+@Getter
+public enum CounterField {
+    SHOP_TOTAL_RATING(CounterTarget.SHOP, 0) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            GoogleShopCount shopCount = (GoogleShopCount) counter;
+            shopCount.setTotalRating(shopCount.getTotalRating() + delta);
+        }
+    },
+    SHOP_RATING_COUNT(CounterTarget.SHOP, 1) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            GoogleShopCount shopCount = (GoogleShopCount) counter;
+            shopCount.setRatingCount(shopCount.getRatingCount() + delta);
+        }
+    },
+    USER_REVIEW_COUNT(CounterTarget.USER, 0) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            UserCount userCount = (UserCount) counter;
+            userCount.setReviewCount(userCount.getReviewCount() + delta);
+        }
+    },
+    USER_SCRAP_COUNT(CounterTarget.USER, 1) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            UserCount userCount = (UserCount) counter;
+            userCount.setScrapCount(userCount.getScrapCount() + delta);
+        }
+    },
+    USER_FRIEND_COUNT(CounterTarget.USER, 2) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            UserCount userCount = (UserCount) counter;
+            userCount.setFriendCount(userCount.getFriendCount() + delta);
+        }
+    },
+    DIRECTORY_SCRAP_COUNT(CounterTarget.SCRAP_DIRECTORY, 0) {
+        @Override
+        void applyTo(Object counter, int delta) {
+            ScrapDirectoryCount directoryCount = (ScrapDirectoryCount) counter;
+            directoryCount.setScrapCount(directoryCount.getScrapCount() + delta);
+        }
+    };
+
+    private final CounterTarget target;
+    private final int index;
+
+    CounterField(CounterTarget target, int index) {
+        this.target = target;
+        this.index = index;
+    }
+
+    //영속성 컨텍스트에 올라와 있는 카운터 엔티티 값 반영 (DB 반영은 CounterBuffer가 담당)
+    abstract void applyTo(Object counter, int delta);
+}
@@ -0,0 +1,37 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카운터 값이 원본 데이터(review, scrap, follow)와 어긋난 경우 다시 계산해서 맞춘다.
+ * 쓰기 지연 모드에서만 사용하며, 테이블 단위로 갱신하므로 트래픽이 적은 시간에 실행 (counter.reconcile.cron, 기본값 "-"는 사용 안 함)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "counter.write-behind.enabled", havingValue = "true")
+public class CounterReconciler {
+
+    private final WriteBehindCounters writeBehindCounters;
+    private final CounterWriter counterWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public CounterReconciler(WriteBehindCounters writeBehindCounters, CounterWriter counterWriter, PlatformTransactionManager transactionManager) {
+        this.writeBehindCounters = writeBehindCounters;
+        this.counterWriter = counterWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${counter.reconcile.cron:-}")
+    public void reconcile() {
+        for (CounterTarget target : CounterTarget.values()) {
+            Integer updated = writeBehindCounters.reconcile(target,
+                    () -> transactionTemplate.execute(status -> counterWriter.reconcile(target)));
+            log.info("counter reconciled. target={}, rows={}", target, updated);
+        }
+    }
+}
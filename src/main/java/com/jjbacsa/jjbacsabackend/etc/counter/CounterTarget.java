@@ -0,0 +1,23 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
+import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryCount;
+import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카운터 테이블 (한 행의 카운터들은 UPDATE 한 번으로 갱신)
+ * writeBehind: 쓰기 지연 모드 사용 가능 여부
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterTarget {
+    SHOP(GoogleShopCount.class, 2, true),
+    USER(UserCount.class, 3, true),
+    SCRAP_DIRECTORY(ScrapDirectoryCount.class, 1, false);
+
+    private final Class<?> entityClass;
+    private final int fieldCount;
+    private final boolean writeBehind;
+}
@@ -0,0 +1,48 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapDirectoryRepository;
+import com.jjbacsa.jjbacsabackend.user.repository.UserCountRepository;
+import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 테이블에 실제 UPDATE를 수행 (호출하는 쪽의 트랜잭션에 참여)
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterWriter {
+
+    private final GoogleShopRepository googleShopRepository;
+    private final UserRepository userRepository;
+    private final UserCountRepository userCountRepository;
+    private final ScrapDirectoryRepository scrapDirectoryRepository;
+
+    public int update(CounterTarget target, Long id, int[] deltas) {
+        switch (target) {
+            case SHOP:
+                return googleShopRepository.addShopCount(id, deltas[0], deltas[1]);
+            case USER:
+                return userRepository.addUserCount(id, deltas[0], deltas[1], deltas[2]);
+            case SCRAP_DIRECTORY:
+                return scrapDirectoryRepository.addScrapCount(id, deltas[0]);
+            default:
+                throw new IllegalArgumentException(target.name());
+        }
+    }
+
+    //원본 테이블(review, scrap, follow)로부터 다시 계산
+    public int reconcile(CounterTarget target) {
+        switch (target) {
+            case SHOP:
+                return googleShopRepository.reconcileShopCounts();
+            case USER:
+                return userCountRepository.reconcileUserCounts();
+            case SCRAP_DIRECTORY:
+                return scrapDirectoryRepository.reconcileScrapCounts();
+            default:
+                throw new IllegalArgumentException(target.name());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 지연 모드 (counter.write-behind.enabled)
+ * 커밋된 증감을 LongAdder에 모아두고 주기적으로 한 트랜잭션에서 일괄 반영한다.
+ * 조회 시에는 DB 값에 아직 반영되지 않은 증감을 더해서 보여준다.
+ */
+@Slf4j
+@Component
+public class WriteBehindCounters {
+
+    private final boolean enabled;
+    private final CounterWriter counterWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    //add, 조회는 read lock, flush와 reconcile의 맵 교체만 write lock
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> pending = newPending();
+    //DB 반영 중인 증감 (조회 시 함께 합산)
+    private volatile Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> flushing = newPending();
+
+    public WriteBehindCounters(@Value("${counter.write-behind.enabled:false}") boolean enabled,
+                               CounterWriter counterWriter, PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.counterWriter = counterWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean supports(CounterTarget target) {
+        return enabled && target.isWriteBehind();
+    }
+
+    public void add(CounterTarget target, Long id, int[] deltas) {
+        swapLock.readLock().lock();
+
+        try {
+            LongAdder[] adders = pending.get(target).computeIfAbsent(id, key -> newAdders(target));
+
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0) {
+                    adders[i].add(deltas[i]);
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 반영되지 않은 증감이 없으면 null
+     */
+    public long[] getPending(CounterTarget target, Long id) {
+        if (!supports(target)) {
+            return null;
+        }
+
+        //flush의 맵 교체와 겹치면 같은 증감을 두 번 또는 0번 읽을 수 있으므로 read lock 안에서 합산
+        swapLock.readLock().lock();
+
+        try {
+            LongAdder[] current = pending.get(target).get(id);
+            LongAdder[] inFlight = flushing.get(target).get(id);
+
+            if (current == null && inFlight == null) {
+                return null;
+            }
+
+            long[] sums = new long[target.getFieldCount()];
+
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] = (current == null ? 0 : current[i].sum()) + (inFlight == null ? 0 : inFlight[i].sum());
+            }
+
+            return sums;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    //조회한 카운터 엔티티에 반영되지 않은 증감 합산 (카운터 컬럼은 updatable = false)
+    public void mergeInto(CounterTarget target, Long id, Object counter) {
+        long[] sums = getPending(target, id);
+
+        if (sums == null) {
+            return;
+        }
+
+        for (CounterField field : CounterField.values()) {
+            if (field.getTarget() == target && sums[field.getIndex()] != 0) {
+                field.applyTo(counter, Math.toIntExact(sums[field.getIndex()]));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counter.write-behind.flush-interval:1000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> drained;
+
+        swapLock.writeLock().lock();
+        try {
+            drained = pending;
+            flushing = drained;
+            pending = newPending();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        //데드락을 피하기 위해 테이블, id 순서로 갱신
+        Map<CounterTarget, TreeMap<Long, int[]>> batch = toSortedDeltas(drained);
+
+        try {
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach((target, rows) ->
+                        rows.forEach((id, deltas) -> counterWriter.update(target, id, deltas))));
+            }
+        } catch (RuntimeException e) {
+            log.error("counter flush failed. retry on next flush", e);
+            requeue(batch);
+            return;
+        }
+
+        //커밋된 증감은 DB 값에 포함되므로 바로 조회 합산에서 뺀다
+        swapLock.writeLock().lock();
+        try {
+            flushing = newPending();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * target 카운터를 recompute로 원본 데이터 기준으로 다시 계산한다.
+     * 이미 커밋된 증감은 재계산 결과에 포함되므로 반영하지 않고 버린다. (재계산이 실패하면 다시 보관)
+     * 재계산 도중 커밋된 증감은 남겨두므로 트래픽이 적은 시간에 실행해야 어긋남이 없다.
+     */
+    public synchronized <T> T reconcile(CounterTarget target, Supplier<T> recompute) {
+        ConcurrentHashMap<Long, LongAdder[]> dropped;
+
+        swapLock.writeLock().lock();
+        try {
+            dropped = pending.get(target);
+            pending.put(target, new ConcurrentHashMap<>());
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            return recompute.get();
+        } catch (RuntimeException e) {
+            dropped.forEach((id, adders) -> add(target, id, toDeltas(adders)));
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    //반영 중 목록을 비우고 다시 보관 (조회 시 두 번 합산되지 않도록 한 번에 교체)
+    private void requeue(Map<CounterTarget, TreeMap<Long, int[]>> batch) {
+        swapLock.writeLock().lock();
+        try {
+            flushing = newPending();
+            batch.forEach((target, rows) -> rows.forEach((id, deltas) -> add(target, id, deltas)));
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private Map<CounterTarget, TreeMap<Long, int[]>> toSortedDeltas(Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> drained) {
+        Map<CounterTarget, TreeMap<Long, int[]>> batch = new EnumMap<>(CounterTarget.class);
+
+        drained.forEach((target, rows) -> rows.forEach((id, adders) -> {
+            int[] deltas = toDeltas(adders);
+
+            if (!CounterBuffer.isZero(deltas)) {
+                batch.computeIfAbsent(target, key -> new TreeMap<>()).put(id, deltas);
+            }
+        }));
+
+        return batch;
+    }
+
+    private static int[] toDeltas(LongAdder[] adders) {
+        int[] deltas = new int[adders.length];
+
+        for (int i = 0; i < adders.length; i++) {
+            deltas[i] = Math.toIntExact(adders[i].sum());
+        }
+
+        return deltas;
+    }
+
+    private static Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> newPending() {
+        Map<CounterTarget, ConcurrentHashMap<Long, LongAdder[]>> map = new EnumMap<>(CounterTarget.class);
+
+        for (CounterTarget target : CounterTarget.values()) {
+            map.put(target, new ConcurrentHashMap<>());
+        }
+
+        return map;
+    }
+
+    private static LongAdder[] newAdders(CounterTarget target) {
+        LongAdder[] adders = new LongAdder[target.getFieldCount()];
+
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+
+        return adders;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jjbacsa.jjbacsabackend.etc.dto;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Slice 조회 응답
+ * 전체 개수 대신 다음 페이지 여부(hasNext)를 주고, 요청한 경우 캐시된 대략적인 전체 개수를 함께 준다.
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final Long approximateTotal;
+
+    private CursorSlice(Slice<T> slice, Long approximateTotal) {
+        super(slice.getContent(), slice.getPageable(), slice.hasNext());
+        this.approximateTotal = approximateTotal;
+    }
+
+    public static <T> CursorSlice<T> of(Slice<T> slice, Long approximateTotal) {
+        return new CursorSlice<>(slice, approximateTotal);
+    }
+
+    public boolean isHasNext() {
+        return hasNext();
+    }
+
+    public Long getApproximateTotal() {
+        return approximateTotal;
+    }
+}
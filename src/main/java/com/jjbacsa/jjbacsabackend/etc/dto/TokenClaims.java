@@ -0,0 +1,20 @@
+package com.jjbacsa.jjbacsabackend.etc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final Long id;
+
+    private final String authority;
+
+    private final String subject;
+
+    //만료 시각(ms)
+    private final long expiration;
+}
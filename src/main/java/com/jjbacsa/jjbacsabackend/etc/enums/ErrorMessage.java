@@ -55,7 +55,8 @@ public enum ErrorMessage {
     CONTINUAL_API_EXCEPTION(49, "연속적으로 외부 API 요청에 실패합니다.", HttpStatus.BAD_REQUEST),
     INTERNAL_SHOP_EXCEPTION(50, "상점 정보 조회에 실패합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     PASSWORD_INCORRECT_EXCEPTION(51, "현재 비밀번호가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
-    WEEK_DAY_EXCEPTION(52, "요일이 유효하지 않습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    WEEK_DAY_EXCEPTION(52, "요일이 유효하지 않습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_CURSOR_EXCEPTION(53, "커서가 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
 
     Integer code;
     String errorMessage;
@@ -29,8 +29,8 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         //TODO : Filter Custom Error Handling
         try {
-            if (token != null && jwtTokenProvider.validateToken(token, TokenType.ACCESS)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            if (token != null) {
+                Authentication auth = jwtTokenProvider.authenticate(token, TokenType.ACCESS);
                 // 정상 토큰이면 토큰을 통해 생성한 Authentication 객체를 SecurityContext에 저장
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
@@ -1,8 +1,6 @@
 package com.jjbacsa.jjbacsabackend.etc.filter;
 
 import com.jjbacsa.jjbacsabackend.etc.config.RepeatableRequestWrapper;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -13,12 +11,23 @@ import java.io.IOException;
 
 public class RequestWrappingFilter extends OncePerRequestFilter {
 
+    // 에러 알림에 싣는 본문 최대 크기 (0이면 기록 안 함)
+    private final ThreadLocal<byte[]> buffers;
+
+    public RequestWrappingFilter(int captureLimit) {
+        this.buffers = ThreadLocal.withInitial(() -> new byte[Math.max(captureLimit, 0)]);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        RepeatableRequestWrapper repeatableRequestWrapper = new RepeatableRequestWrapper(request);
-        filterChain.doFilter(repeatableRequestWrapper, response);
+        // 요청 스레드마다 버퍼 하나를 재사용
+        RepeatableRequestWrapper repeatableRequestWrapper = new RepeatableRequestWrapper(request, buffers.get());
+        try {
+            filterChain.doFilter(repeatableRequestWrapper, response);
+        } finally {
+            repeatableRequestWrapper.release();
+        }
 
     }
 }
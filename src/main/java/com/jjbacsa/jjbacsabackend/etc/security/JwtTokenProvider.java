@@ -1,5 +1,6 @@
 package com.jjbacsa.jjbacsabackend.etc.security;
 
+import com.jjbacsa.jjbacsabackend.etc.dto.TokenClaims;
 import com.jjbacsa.jjbacsabackend.etc.enums.TokenType;
 import com.jjbacsa.jjbacsabackend.user.entity.CustomUserDetails;
 import com.jjbacsa.jjbacsabackend.user.serviceImpl.UserDetailsServiceImpl;
@@ -35,6 +36,21 @@ public class JwtTokenProvider {
                 userDetailsService.loadUserByUsername(id.toString()), "", authorities);
     }
 
+    /**
+     * 토큰 검증과 Authentication 생성을 한 번에 처리한다.
+     * 검증 결과의 claims를 그대로 사용하므로 payload를 다시 파싱하지 않는다.
+     */
+    public Authentication authenticate(String token, TokenType tokenType) throws Exception {
+        TokenClaims claims = jwtUtil.verify(token, tokenType);
+
+        Collection<GrantedAuthority> authorities = new ArrayList<>();
+        Arrays.stream(claims.getAuthority().split(","))
+                .forEach(auth -> authorities.add(new SimpleGrantedAuthority(auth)));
+
+        return new UsernamePasswordAuthenticationToken(
+                userDetailsService.loadUserByUsername(claims.getId().toString()), "", authorities);
+    }
+
     public boolean validateToken(String token, TokenType tokenType) throws Exception {
         return jwtUtil.isValid(token, tokenType);
     }
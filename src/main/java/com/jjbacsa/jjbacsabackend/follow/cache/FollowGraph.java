@@ -0,0 +1,176 @@
+package com.jjbacsa.jjbacsabackend.follow.cache;
+
+import com.jjbacsa.jjbacsabackend.follow.repository.FollowRepository;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 팔로워 id 집합 (인스턴스 내 LRU, 짧은 TTL, 정렬된 long[])
+ * 팔로우 수락/삭제, 탈퇴가 커밋된 뒤 같은 인스턴스의 집합에 반영하고, 캐시에 없거나 만료된 사용자만 DB에서 읽는다.
+ * 다른 인스턴스의 변경은 전달되지 않으므로 여러 인스턴스로 운영할 때는 TTL 동안 팔로워 공개 리뷰가
+ * 이전 팔로워에게 보일 수 있다. 단일 인스턴스에서만 켠다. 비활성화 시 매번 DB를 조회한다.
+ * 적중률은 follow.graph.hits / misses, 항목 수는 follow.graph.size 메트릭으로 확인한다.
+ */
+@Component
+public class FollowGraph implements MeterBinder {
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final FollowRepository followRepository;
+    private final Map<Long, CachedFollowers> followers;
+
+    //변경이 커밋될 때마다 증가 (조회 중에 바뀐 집합은 캐시하지 않는다)
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public FollowGraph(@Value("${follow.graph.enabled:false}") boolean enabled,
+                       @Value("${follow.graph.size:10000}") int size,
+                       @Value("${follow.graph.ttl:60}") long ttlSeconds,
+                       FollowRepository followRepository) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.followRepository = followRepository;
+        this.followers = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedFollowers> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    public boolean isFollower(Long userId, Long followerId) {
+        if (!enabled) {
+            return followRepository.existsByUser_IdAndFollower_Id(userId, followerId);
+        }
+
+        return Arrays.binarySearch(load(userId), followerId) >= 0;
+    }
+
+    /**
+     * 정렬된 팔로워 id 배열
+     */
+    public long[] followerIds(Long userId) {
+        if (!enabled) {
+            return SortedIds.toSortedArray(followRepository.findFollowerIdsByUserId(userId));
+        }
+
+        return load(userId).clone();
+    }
+
+    public void follow(Long userId, Long followerId) {
+        afterCommit(() -> followers.computeIfPresent(userId, (id, cached) -> cached.with(SortedIds.add(cached.ids, followerId))));
+    }
+
+    public void unfollow(Long userId, Long followerId) {
+        afterCommit(() -> followers.computeIfPresent(userId, (id, cached) -> cached.with(SortedIds.remove(cached.ids, followerId))));
+    }
+
+    /**
+     * 탈퇴한 사용자의 집합을 지우고 다른 사용자의 집합에서도 뺀다.
+     */
+    public void removeUser(Long userId) {
+        afterCommit(() -> {
+            followers.remove(userId);
+            followers.replaceAll((id, cached) -> cached.with(SortedIds.remove(cached.ids, userId)));
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("follow.graph.hits", hitCount, LongAdder::sum)
+                .description("캐시에서 응답한 팔로워 집합 조회 수")
+                .register(registry);
+        FunctionCounter.builder("follow.graph.misses", missCount, LongAdder::sum)
+                .description("캐시에 없거나 만료되어 DB에서 읽은 팔로워 집합 조회 수")
+                .register(registry);
+        Gauge.builder("follow.graph.size", followers, Map::size)
+                .description("캐시된 사용자 수")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private long[] load(Long userId) {
+        CachedFollowers cached = followers.get(userId);
+
+        if (cached != null && cached.expiredAt > System.currentTimeMillis()) {
+            hitCount.increment();
+            return cached.ids;
+        }
+
+        missCount.increment();
+        long loadedVersion = version.get();
+
+        //호출한 트랜잭션 안에서 읽는다 (이전 스냅샷이었더라도 TTL이 지나면 다시 읽는다)
+        long[] ids = SortedIds.toSortedArray(followRepository.findFollowerIdsByUserId(userId));
+
+        synchronized (followers) {
+            if (version.get() == loadedVersion) {
+                followers.put(userId, new CachedFollowers(ids, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+
+        return ids;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+
+        Runnable apply = () -> {
+            synchronized (followers) {
+                version.incrementAndGet();
+                change.run();
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private static class CachedFollowers {
+        private final long[] ids;
+        private final long expiredAt;
+
+        private CachedFollowers(long[] ids, long expiredAt) {
+            this.ids = ids;
+            this.expiredAt = expiredAt;
+        }
+
+        //변경을 반영해도 만료 시각은 처음 읽은 시점 기준으로 유지한다
+        private CachedFollowers with(long[] ids) {
+            return new CachedFollowers(ids, expiredAt);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import io.swagger.annotations.Authorization;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -115,9 +116,14 @@ public class FollowController {
             authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/follow/followers")
-    public ResponseEntity<Page<UserResponse>> getFollowers(
+    public ResponseEntity<Slice<UserResponse>> getFollowers(
             @RequestParam(required = false) String cursor,
-            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100) @RequestParam(required = false, defaultValue = "20") Integer pageSize) throws Exception {
+            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100) @RequestParam(required = false, defaultValue = "20") Integer pageSize,
+            @ApiParam("true면 전체 개수 없이 hasNext만 반환") @RequestParam(required = false, defaultValue = "false") boolean slice,
+            @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함") @RequestParam(required = false, defaultValue = "false") boolean withTotal) throws Exception {
+
+        if (slice)
+            return new ResponseEntity<>(service.getFollowerSlice(cursor, pageSize, withTotal), HttpStatus.OK);
 
         return new ResponseEntity<>(service.getFollowers(cursor, pageSize), HttpStatus.OK);
     }
@@ -141,16 +147,25 @@ public class FollowController {
             authorizations = @Authorization(value = "Bearer + accessToken"),
             notes = "24시간 내 로그인한 유저 목록 검색\n\n\t" +
                     "pageSize : 한 번에 출력할 결과의 갯수(Default = 20)\n\n\t" +
-                    "cursor : 마지막으로 조회한 유저의 id"
+                    "cursor : 마지막으로 조회한 유저의 cursor\n\n\t" +
+                    "slice : true면 전체 개수 없이 hasNext만 반환(Default = false)\n\n\t" +
+                    "withTotal : slice 조회 시 대략적인 전체 개수(approximateTotal) 포함(Default = false)"
     )
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/recently-active-followers")
-    public ResponseEntity<Page<UserResponse>> getRecentlyActiveFollowers(
+    public ResponseEntity<Slice<UserResponse>> getRecentlyActiveFollowers(
             @ApiParam("가져올 데이터 수(1~100)") @Range(min = 0, max = 100, message = "올바르지 않은 값입니다.")
             @RequestParam(required = false, defaultValue = "20") Integer pageSize,
-            @ApiParam("마지막으로 조회한 유저의 id(제일 작은 id)")
-            @RequestParam(required = false) Long cursor
+            @ApiParam("마지막으로 조회한 유저의 cursor, 첫 조회는 null")
+            @RequestParam(required = false) String cursor,
+            @ApiParam("true면 전체 개수 없이 hasNext만 반환")
+            @RequestParam(required = false, defaultValue = "false") boolean slice,
+            @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함")
+            @RequestParam(required = false, defaultValue = "false") boolean withTotal
     ) throws Exception {
+        if (slice)
+            return new ResponseEntity<>(service.getRecentlyActiveFollowerSlice(cursor, pageSize, withTotal), HttpStatus.OK);
+
         return new ResponseEntity<>(service.getRecentlyActiveFollowers(cursor, pageSize), HttpStatus.OK);
     }
 
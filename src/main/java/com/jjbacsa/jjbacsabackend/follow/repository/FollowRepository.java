@@ -4,6 +4,8 @@ import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
 import com.jjbacsa.jjbacsabackend.follow.repository.dsl.DslFollowRepository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +18,11 @@ public interface FollowRepository extends JpaRepository<FollowEntity, Long>, Dsl
 
     boolean existsByUserAndFollower(UserEntity user, UserEntity follower);
 
+    boolean existsByUser_IdAndFollower_Id(Long userId, Long followerId);
+
+    @Query("SELECT f.follower.id FROM FollowEntity f WHERE f.user.id = :userId")
+    List<Long> findFollowerIdsByUserId(@Param("userId") Long userId);
+
     List<FollowEntity> findAllByFollower(UserEntity user);
 
     List<FollowEntity> findAllByUser(UserEntity user);
@@ -4,12 +4,21 @@ import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface DslFollowRepository {
 
     Page<FollowEntity> findAllByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
 
+    Slice<FollowEntity> findSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
+
+    long countByUser(UserEntity user);
+
     Long deleteFollowWithUser(UserEntity user);
 
-    Page<FollowEntity> findRecentlyActiveFollowersByUserWithCursor(UserEntity user, Long cursor, Pageable pageable);
+    Page<FollowEntity> findRecentlyActiveFollowersByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
+
+    Slice<FollowEntity> findRecentlyActiveFollowerSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
+
+    long countRecentlyActiveFollowersByUser(UserEntity user);
 }
@@ -2,16 +2,15 @@ package com.jjbacsa.jjbacsabackend.follow.repository.dsl;
 
 import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
 import com.jjbacsa.jjbacsabackend.follow.entity.QFollowEntity;
-import com.jjbacsa.jjbacsabackend.user.entity.QUserEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
-import com.querydsl.core.types.ConstantImpl;
+import com.jjbacsa.jjbacsabackend.util.Keyset;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -20,9 +19,18 @@ import java.util.List;
 
 public class DslFollowRepositoryImpl extends QuerydslRepositorySupport implements DslFollowRepository {
 
-    private static final QUserEntity qUser = QUserEntity.userEntity;
     private static final QFollowEntity f = QFollowEntity.followEntity;
 
+    //닉네임 오름차순
+    private static final Keyset followerKeyset = Keyset.of(
+            Keyset.string(f.follower.nickname, Order.ASC),
+            Keyset.number(f.follower.id, Order.ASC));
+
+    //최근 로그인 내림차순
+    private static final Keyset recentlyActiveKeyset = Keyset.of(
+            Keyset.date(f.follower.lastLoggedAt, Order.DESC),
+            Keyset.number(f.follower.id, Order.DESC));
+
     public DslFollowRepositoryImpl() {
         super(FollowEntity.class);
     }
@@ -30,17 +38,28 @@ public class DslFollowRepositoryImpl extends QuerydslRepositorySupport implement
     @Override
     public Page<FollowEntity> findAllByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
 
-        List<FollowEntity> content = from(f).select(f)
-                .join(f.follower).fetchJoin()
-                .where(f.user.eq(user), customCursor(cursor))
-                .orderBy(f.follower.nickname.asc(), f.follower.id.asc())
+        List<FollowEntity> content = followersQuery(user, cursor)
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<FollowEntity> countQuery = from(f).select(f)
-                .where(f.user.eq(user));
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByUser(user));
+    }
+
+    @Override
+    public Slice<FollowEntity> findSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
+
+        List<FollowEntity> content = followersQuery(user, cursor)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+        return SliceUtil.toSlice(content, pageable);
+    }
+
+    @Override
+    public long countByUser(UserEntity user) {
+        return from(f).select(f.count())
+                .where(f.user.eq(user))
+                .fetchOne();
     }
 
     @Override
@@ -51,56 +70,53 @@ public class DslFollowRepositoryImpl extends QuerydslRepositorySupport implement
     }
 
     @Override
-    public Page<FollowEntity> findRecentlyActiveFollowersByUserWithCursor(UserEntity user, Long cursor, Pageable pageable) {
-        Calendar time = Calendar.getInstance();
-        time.add(Calendar.DATE, -1);
+    public Page<FollowEntity> findRecentlyActiveFollowersByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
 
-        StringExpression cursorExpression = null;
-        if (cursor != null) {
-            UserEntity cursorUser = from(qUser).select(qUser).where(qUser.id.eq(cursor)).fetchOne();
-            cursorExpression = Expressions.dateTemplate(String.class,
-                    "DATE_FORMAT({0}, {1})",
-                    cursorUser.getLastLoggedAt(),
-                    ConstantImpl.create("%Y%m%d%H%i%s")).stringValue()
-                    .concat(StringExpressions.lpad(Expressions.asString(cursorUser.getId().toString()), 10, '0'));
-        }
-
-        List<FollowEntity> followers = from(f).select(f)
-                .join(f.follower).fetchJoin()
-                .where(f.user.eq(user),
-                        f.follower.lastLoggedAt.gt(time.getTime()),
-                        getLastLoggedInCursor(cursorExpression))
-                .orderBy(f.follower.lastLoggedAt.desc(), f.follower.id.desc())
+        List<FollowEntity> followers = recentlyActiveFollowersQuery(user, cursor)
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<Long> countQuery = from(f).select(f.count())
-                .where(f.user.eq(user));
-
-        return PageableExecutionUtils.getPage(followers, pageable, countQuery::fetchCount);
+        return PageableExecutionUtils.getPage(followers, pageable, () -> countRecentlyActiveFollowersByUser(user));
     }
 
-    private BooleanExpression customCursor(String cursor) {
+    @Override
+    public Slice<FollowEntity> findRecentlyActiveFollowerSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
+
+        List<FollowEntity> followers = recentlyActiveFollowersQuery(user, cursor)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
 
-        if (cursor == null)
-            return null;
+        return SliceUtil.toSlice(followers, pageable);
+    }
+
+    @Override
+    public long countRecentlyActiveFollowersByUser(UserEntity user) {
+        return from(f).select(f.count())
+                .where(f.user.eq(user), loggedInLastDay())
+                .fetchOne();
+    }
 
-        return StringExpressions.lpad(f.follower.nickname.stringValue(), 20, '0')
-                .concat(StringExpressions.lpad(f.follower.id.stringValue(), 10, '0'))
-                .gt(cursor);
+    private JPQLQuery<FollowEntity> followersQuery(UserEntity user, String cursor) {
+        return from(f).select(f)
+                .join(f.follower).fetchJoin()
+                .where(f.user.eq(user), followerKeyset.after(cursor))
+                .orderBy(followerKeyset.orderBy());
     }
 
-    private BooleanExpression getLastLoggedInCursor(StringExpression cursorExpression) {
+    private JPQLQuery<FollowEntity> recentlyActiveFollowersQuery(UserEntity user, String cursor) {
+        return from(f).select(f)
+                .join(f.follower).fetchJoin()
+                .where(f.user.eq(user),
+                        loggedInLastDay(),
+                        recentlyActiveKeyset.after(cursor))
+                .orderBy(recentlyActiveKeyset.orderBy());
+    }
 
-        if (cursorExpression == null) {
-            return null;
-        }
+    // 24시간 내 로그인
+    private BooleanExpression loggedInLastDay() {
+        Calendar time = Calendar.getInstance();
+        time.add(Calendar.DATE, -1);
 
-        return Expressions.dateTemplate(String.class,
-                        "DATE_FORMAT({0}, {1})",
-                        f.follower.lastLoggedAt,
-                        ConstantImpl.create("%Y%m%d%H%i%s")).stringValue()
-                .concat(StringExpressions.lpad(f.follower.id.stringValue(), 10, '0'))
-                .lt(cursorExpression);
+        return f.follower.lastLoggedAt.gt(time.getTime());
     }
 }
@@ -6,6 +6,7 @@ import com.jjbacsa.jjbacsabackend.follow.dto.FollowResponse;
 import com.jjbacsa.jjbacsabackend.user.dto.UserResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface FollowService {
 
@@ -25,7 +26,11 @@ public interface FollowService {
 
     Page<UserResponse> getFollowers(String cursor, Integer pageSize) throws Exception;
 
-    Page<UserResponse> getRecentlyActiveFollowers(Long cursor, Integer pageSize) throws Exception;
+    Page<UserResponse> getRecentlyActiveFollowers(String cursor, Integer pageSize) throws Exception;
+
+    Slice<UserResponse> getFollowerSlice(String cursor, Integer pageSize, boolean withTotal) throws Exception;
+
+    Slice<UserResponse> getRecentlyActiveFollowerSlice(String cursor, Integer pageSize, boolean withTotal) throws Exception;
 
     Boolean getFollowRequestsInLast24Hours() throws Exception;
 }
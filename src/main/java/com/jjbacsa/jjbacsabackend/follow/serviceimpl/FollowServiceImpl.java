@@ -1,7 +1,10 @@
 package com.jjbacsa.jjbacsabackend.follow.serviceimpl;
 
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
+import com.jjbacsa.jjbacsabackend.etc.dto.CursorSlice;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.follow.cache.FollowGraph;
 import com.jjbacsa.jjbacsabackend.follow.dto.FollowRequest;
 import com.jjbacsa.jjbacsabackend.follow.dto.FollowRequestResponse;
 import com.jjbacsa.jjbacsabackend.follow.dto.FollowResponse;
@@ -17,10 +20,12 @@ import com.jjbacsa.jjbacsabackend.user.dto.UserResponse;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.mapper.UserMapper;
 import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
+import com.jjbacsa.jjbacsabackend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +39,8 @@ public class FollowServiceImpl implements FollowService {
 
     private final FollowRepository followRepository;
     private final FollowRequestRepository followRequestRepository;
+    private final FollowGraph followGraph;
+    private final ApproximateTotalCache approximateTotalCache;
 
     @Override
     public FollowRequestResponse request(FollowRequest request) throws Exception {
@@ -117,17 +124,44 @@ public class FollowServiceImpl implements FollowService {
         UserEntity user = userService.getLoginUser();
         Pageable pageable = PageRequest.of(0, pageSize);
 
-        return followRepository.findAllByUserWithCursor(user, cursor, pageable).map(follow -> UserMapper.INSTANCE.toUserResponse(follow.getFollower()));
+        return followRepository.findAllByUserWithCursor(user, cursor, pageable)
+                .map(follow -> toCursorResponse(follow.getFollower(), CursorUtil.getFollowerCursor(follow.getFollower())));
     }
 
     @Override
-    public Page<UserResponse> getRecentlyActiveFollowers(Long cursor, Integer pageSize) throws Exception {
+    public Page<UserResponse> getRecentlyActiveFollowers(String cursor, Integer pageSize) throws Exception {
 
         UserEntity user = userService.getLoginUser();
         Pageable pageable = PageRequest.of(0, pageSize);
 
         return followRepository.findRecentlyActiveFollowersByUserWithCursor(user, cursor, pageable)
-                .map(follow -> UserMapper.INSTANCE.toUserResponse(follow.getFollower()));
+                .map(follow -> toCursorResponse(follow.getFollower(), CursorUtil.getRecentlyActiveFollowerCursor(follow.getFollower())));
+    }
+
+    @Override
+    public Slice<UserResponse> getFollowerSlice(String cursor, Integer pageSize, boolean withTotal) throws Exception {
+
+        UserEntity user = userService.getLoginUser();
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        Slice<UserResponse> followers = followRepository.findSliceByUserWithCursor(user, cursor, pageable)
+                .map(follow -> toCursorResponse(follow.getFollower(), CursorUtil.getFollowerCursor(follow.getFollower())));
+        Long total = withTotal ? approximateTotalCache.get("follow:followers", user.getId(), () -> followRepository.countByUser(user)) : null;
+
+        return CursorSlice.of(followers, total);
+    }
+
+    @Override
+    public Slice<UserResponse> getRecentlyActiveFollowerSlice(String cursor, Integer pageSize, boolean withTotal) throws Exception {
+
+        UserEntity user = userService.getLoginUser();
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        Slice<UserResponse> followers = followRepository.findRecentlyActiveFollowerSliceByUserWithCursor(user, cursor, pageable)
+                .map(follow -> toCursorResponse(follow.getFollower(), CursorUtil.getRecentlyActiveFollowerCursor(follow.getFollower())));
+        Long total = withTotal ? approximateTotalCache.get("follow:recently-active", user.getId(), () -> followRepository.countRecentlyActiveFollowersByUser(user)) : null;
+
+        return CursorSlice.of(followers, total);
     }
 
     @Override
@@ -137,6 +171,14 @@ public class FollowServiceImpl implements FollowService {
         return followRequestRepository.existsFollowReqeustsInLast24Hours(user.getId());
     }
 
+    private UserResponse toCursorResponse(UserEntity follower, String cursor) {
+
+        UserResponse response = UserMapper.INSTANCE.toUserResponse(follower);
+        response.setCursor(cursor);
+
+        return response;
+    }
+
     private void checkValidFollowRequest(UserEntity user, UserEntity follower) throws RequestInputException {
 
         if (user.equals(follower))
@@ -193,6 +235,7 @@ public class FollowServiceImpl implements FollowService {
                 .follower(follower)
                 .build();
         userService.increaseFriendCount(user.getId());
+        followGraph.follow(user.getId(), follower.getId());
 
         return followRepository.save(follow);
     }
@@ -211,6 +254,7 @@ public class FollowServiceImpl implements FollowService {
                     followRepository.delete(follow);
                     follow.setIsDeleted(1);
                     userService.decreaseFriendCount(user.getId());
+                    followGraph.unfollow(user.getId(), follower.getId());
                 }, null);
     }
 }
@@ -2,6 +2,7 @@ package com.jjbacsa.jjbacsabackend.follow.serviceimpl;
 
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.follow.cache.FollowGraph;
 import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
 import com.jjbacsa.jjbacsabackend.follow.entity.FollowRequestEntity;
 import com.jjbacsa.jjbacsabackend.follow.repository.FollowRepository;
@@ -23,6 +24,7 @@ public class InternalFollowServiceImpl implements InternalFollowService {
     private final FollowRepository followRepository;
     private final FollowRequestRepository followRequestRepository;
     private final InternalUserService userService;
+    private final FollowGraph followGraph;
 
     @Override
     public FollowRequestEntity getFollowRequestById(Long id) throws RequestInputException {
@@ -34,11 +36,13 @@ public class InternalFollowServiceImpl implements InternalFollowService {
     @Override
     public boolean existsByUserAndFollower(UserEntity user, UserEntity follower) {
 
-        return followRepository.existsByUserAndFollower(user, follower);
+        return followGraph.isFollower(user.getId(), follower.getId());
     }
 
     @Override
     public Long deleteFollowWithUser(UserEntity user) {
+        followGraph.removeUser(user.getId());
+
         return followRepository.deleteFollowWithUser(user);
     }
 
@@ -0,0 +1,200 @@
+package com.jjbacsa.jjbacsabackend.google.autocomplete;
+
+import com.jjbacsa.jjbacsabackend.google.dto.ShopNameDto;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.search.entity.SearchEntity;
+import com.jjbacsa.jjbacsabackend.search.repository.SearchRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 자동완성 색인
+ * google_shop 테이블의 상점 이름, 좌표와 search 테이블의 인기 검색어로 PrefixTrie를 만들어 두고 요청은 그것만 읽는다.
+ * autocomplete.refresh-interval마다 마지막 갱신 이후 추가되거나 좌표가 채워진 상점과 인기 검색어만 다시 읽어
+ * 바뀐 것이 있을 때 새 트리를 만들어 통째로 교체한다.
+ * (삭제된 상점, 평가 수 변화는 full-reload-interval마다 전체를 다시 읽어 반영)
+ * 로컬 결과로 충분했던 요청 수는 autocomplete.index.local_hits / thin, 재구성 횟수는 autocomplete.index.rebuilds,
+ * 색인된 항목 수는 autocomplete.index.terms 메트릭으로 확인한다.
+ */
+@Slf4j
+@Component
+public class AutoCompleteIndex implements MeterBinder {
+
+    private final GoogleShopRepository googleShopRepository;
+    private final SearchRepository searchRepository;
+    private final int size;
+    private final int minResults;
+    private final int keywordLimit;
+
+    //갱신 스레드에서만 접근 (refresh, reload는 synchronized)
+    private final Map<String, ShopNameDto> shops = new HashMap<>();
+    private Map<String, Long> keywords = Collections.emptyMap();
+    private Date shopsUpdatedAt;
+
+    private volatile PrefixTrie trie = PrefixTrie.EMPTY;
+
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder thinCount = new LongAdder();
+    private final LongAdder rebuildCount = new LongAdder();
+
+    public AutoCompleteIndex(GoogleShopRepository googleShopRepository, SearchRepository searchRepository,
+                             @Value("${autocomplete.size:10}") int size,
+                             @Value("${autocomplete.min-results:3}") int minResults,
+                             @Value("${autocomplete.keyword-limit:5000}") int keywordLimit) {
+        this.googleShopRepository = googleShopRepository;
+        this.searchRepository = searchRepository;
+        this.size = size;
+        this.minResults = minResults;
+        this.keywordLimit = keywordLimit;
+    }
+
+    /**
+     * 요청 위치 주변 상점 이름, 인기 검색어 순으로 최대 size개
+     */
+    public List<String> complete(String query, double lat, double lng) {
+        String prefix = PrefixTrie.normalize(query);
+
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> results = trie.complete(prefix, GeoCell.of(lat, lng), size);
+
+        if (isEnough(results)) {
+            localHitCount.increment();
+        } else {
+            thinCount.increment();
+        }
+        return results;
+    }
+
+    //로컬 결과만으로 응답해도 되는지 (아니면 외부 자동완성으로 보충)
+    public boolean isEnough(List<String> results) {
+        return results.size() >= minResults;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Scheduled(fixedDelayString = "${autocomplete.refresh-interval:60000}")
+    public synchronized void refresh() {
+        try {
+            boolean changed = loadShops();
+            changed |= loadKeywords();
+
+            if (changed || trie == PrefixTrie.EMPTY) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${autocomplete.full-reload-interval:3600000}",
+            initialDelayString = "${autocomplete.full-reload-interval:3600000}")
+    public synchronized void reload() {
+        shops.clear();
+        shopsUpdatedAt = null;
+        refresh();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autocomplete.index.local_hits", localHitCount, LongAdder::sum)
+                .description("로컬 색인만으로 응답한 자동완성 요청 수")
+                .register(registry);
+        FunctionCounter.builder("autocomplete.index.thin", thinCount, LongAdder::sum)
+                .description("로컬 결과가 모자라 외부 자동완성으로 보충한 요청 수")
+                .register(registry);
+        FunctionCounter.builder("autocomplete.index.rebuilds", rebuildCount, LongAdder::sum)
+                .description("색인을 다시 만든 횟수")
+                .register(registry);
+        //갱신 때마다 트리를 교체하므로 현재 트리를 매번 읽는다
+        Gauge.builder("autocomplete.index.terms", this, AutoCompleteIndex::getTermCount)
+                .description("색인된 상점 이름, 검색어 수")
+                .register(registry);
+    }
+
+    public int getTermCount() {
+        return trie.size();
+    }
+
+    public long getLocalHitCount() {
+        return localHitCount.sum();
+    }
+
+    public long getThinCount() {
+        return thinCount.sum();
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.sum();
+    }
+
+    private boolean loadShops() {
+        List<ShopNameDto> updated = googleShopRepository.findNamesUpdatedSince(shopsUpdatedAt == null ? new Date(0) : shopsUpdatedAt);
+        boolean changed = false;
+
+        for (ShopNameDto shop : updated) {
+            ShopNameDto previous = shops.put(shop.getPlaceId(), shop);
+            changed |= previous == null || !sameEntry(previous, shop);
+
+            if (shopsUpdatedAt == null || shop.getUpdatedAt().after(shopsUpdatedAt)) {
+                shopsUpdatedAt = shop.getUpdatedAt();
+            }
+        }
+
+        return changed;
+    }
+
+    private boolean loadKeywords() {
+        Map<String, Long> loaded = new LinkedHashMap<>();
+
+        for (SearchEntity search : searchRepository.findAllByOrderByScoreDesc(PageRequest.of(0, keywordLimit))) {
+            loaded.put(search.getContent(), search.getScore());
+        }
+
+        if (loaded.equals(keywords)) {
+            return false;
+        }
+        keywords = loaded;
+        return true;
+    }
+
+    private void rebuild() {
+        PrefixTrie.Builder builder = PrefixTrie.builder();
+
+        for (ShopNameDto shop : shops.values()) {
+            builder.addShop(shop.getName(), shop.getLatitude(), shop.getLongitude(),
+                    shop.getRatingCount() == null ? 0 : shop.getRatingCount());
+        }
+        keywords.forEach(builder::addKeyword);
+
+        trie = builder.build(size);
+        rebuildCount.increment();
+    }
+
+    //경계를 포함해서 다시 읽은 같은 행은 바뀐 것으로 보지 않는다
+    private static boolean sameEntry(ShopNameDto a, ShopNameDto b) {
+        return a.getName().equals(b.getName())
+                && a.getUpdatedAt().equals(b.getUpdatedAt())
+                && Objects.equals(a.getRatingCount(), b.getRatingCount());
+    }
+}
@@ -0,0 +1,40 @@
+package com.jjbacsa.jjbacsabackend.google.autocomplete;
+
+/**
+ * 위경도 격자 칸 (약 1km)
+ * 행, 열을 하나의 long으로 묶어서 키로 쓴다.
+ */
+public final class GeoCell {
+    static final double CELL_DEGREE = 0.01;
+
+    private GeoCell() {
+    }
+
+    public static long of(double lat, double lng) {
+        return toKey(toCell(lat), toCell(lng));
+    }
+
+    //자기 칸과 주변 8칸
+    static long[] around(long cell) {
+        int row = (int) (cell >> 32);
+        int col = (int) cell;
+        long[] cells = new long[9];
+        int i = 0;
+
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = col - 1; c <= col + 1; c++) {
+                cells[i++] = toKey(r, c);
+            }
+        }
+
+        return cells;
+    }
+
+    private static int toCell(double degree) {
+        return (int) Math.floor(degree / CELL_DEGREE);
+    }
+
+    private static long toKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
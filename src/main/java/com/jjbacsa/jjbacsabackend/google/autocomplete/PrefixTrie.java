@@ -0,0 +1,324 @@
+package com.jjbacsa.jjbacsabackend.google.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 접두사 트리 (만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 읽는다)
+ * 검색어는 정렬해서 배열에 두고, 노드는 공통 접두사를 한 번에 건너뛰는 radix 트리로 만들어
+ * 각 노드가 자신 아래 검색어의 배열 구간 [start, end)를 가리킨다.
+ * 인기 검색어 상위 topSize개는 구간이 큰 노드에만 미리 계산해두고, 작은 구간은 조회 시 훑는다.
+ * 상점 이름은 격자 칸별로 검색어 번호를 정렬해두고, 요청 위치 주변 칸에서 구간에 드는 것만 찾는다.
+ */
+public final class PrefixTrie {
+    public static final PrefixTrie EMPTY = new Builder().build(0);
+
+    //구간이 이보다 작은 노드는 상위 검색어를 저장하지 않고 조회 시 훑는다
+    static final int SCAN_LIMIT = 64;
+
+    private final String[] keys;
+    private final String[] texts;
+    private final long[] keywordScores;
+    private final Map<Long, CellShops> shopsByCell;
+    private final int topSize;
+    private final Node root;
+
+    private PrefixTrie(String[] keys, String[] texts, long[] keywordScores, Map<Long, CellShops> shopsByCell, int topSize) {
+        this.keys = keys;
+        this.texts = texts;
+        this.keywordScores = keywordScores;
+        this.shopsByCell = shopsByCell;
+        this.topSize = topSize;
+        this.root = keys.length == 0 ? null : build(0, keys.length);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 주변 상점 이름(평가 많은 순) 다음에 인기 검색어(점수 순)를 중복 없이 size개까지 반환한다.
+     *
+     * @param prefix normalize된 접두사
+     */
+    public List<String> complete(String prefix, long cell, int size) {
+        Node node = find(prefix);
+
+        if (node == null || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> results = new LinkedHashSet<>();
+
+        for (int index : nearbyShops(node, cell)) {
+            if (results.size() >= size) {
+                break;
+            }
+            results.add(texts[index]);
+        }
+
+        for (int index : topOf(node)) {
+            if (results.size() >= size) {
+                break;
+            }
+            results.add(texts[index]);
+        }
+
+        return new ArrayList<>(results);
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+
+        while (node != null && prefix.length() > node.depth) {
+            node = node.child(prefix.charAt(node.depth));
+        }
+
+        //건너뛴 공통 접두사까지 맞는지 한 번에 확인
+        if (node == null || !keys[node.start].startsWith(prefix)) {
+            return null;
+        }
+        return node;
+    }
+
+    private List<Integer> nearbyShops(Node node, long cell) {
+        List<long[]> found = new ArrayList<>();
+
+        for (long around : GeoCell.around(cell)) {
+            CellShops shops = shopsByCell.get(around);
+
+            if (shops == null) {
+                continue;
+            }
+
+            int from = lowerBound(shops.indexes, node.start);
+            for (int i = from; i < shops.indexes.length && shops.indexes[i] < node.end; i++) {
+                found.add(new long[]{shops.indexes[i], shops.scores[i]});
+            }
+        }
+
+        found.sort(Comparator.<long[]>comparingLong(shop -> -shop[1]).thenComparingLong(shop -> shop[0]));
+
+        List<Integer> indexes = new ArrayList<>(found.size());
+        for (long[] shop : found) {
+            indexes.add((int) shop[0]);
+        }
+        return indexes;
+    }
+
+    private int[] topOf(Node node) {
+        return node.top != null ? node.top : scanTop(node.start, node.end);
+    }
+
+    private int[] scanTop(int start, int end) {
+        List<Integer> candidates = new ArrayList<>();
+
+        for (int i = start; i < end; i++) {
+            if (keywordScores[i] > 0) {
+                candidates.add(i);
+            }
+        }
+        return selectTop(candidates);
+    }
+
+    private int[] selectTop(List<Integer> candidates) {
+        candidates.sort(Comparator.<Integer>comparingLong(index -> -keywordScores[index]).thenComparingInt(index -> index));
+
+        int count = Math.min(topSize, candidates.size());
+        int[] top = new int[count];
+        for (int i = 0; i < count; i++) {
+            top[i] = candidates.get(i);
+        }
+        return top;
+    }
+
+    //정렬된 keys[start, end)의 공통 접두사 길이만큼 건너뛰고 다음 글자로 자식을 나눈다
+    private Node build(int start, int end) {
+        int depth = commonPrefixLength(keys[start], keys[end - 1]);
+        List<Character> labels = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+
+        int i = keys[start].length() == depth ? start + 1 : start;
+        while (i < end) {
+            char label = keys[i].charAt(depth);
+            int j = i + 1;
+
+            while (j < end && keys[j].charAt(depth) == label) {
+                j++;
+            }
+
+            labels.add(label);
+            children.add(build(i, j));
+            i = j;
+        }
+
+        int[] top = null;
+        if (end - start > SCAN_LIMIT) {
+            List<Integer> candidates = new ArrayList<>();
+
+            if (keys[start].length() == depth && keywordScores[start] > 0) {
+                candidates.add(start);
+            }
+            for (Node child : children) {
+                for (int index : topOf(child)) {
+                    candidates.add(index);
+                }
+            }
+            top = selectTop(candidates);
+        }
+
+        char[] labelArray = new char[labels.size()];
+        for (int k = 0; k < labelArray.length; k++) {
+            labelArray[k] = labels.get(k);
+        }
+
+        return new Node(start, end, depth, labelArray, children.toArray(new Node[0]), top);
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static final class Node {
+        private final int start;
+        private final int end;
+        //이 노드까지 일치한 글자 수
+        private final int depth;
+        private final char[] labels;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(int start, int end, int depth, char[] labels, Node[] children, int[] top) {
+            this.start = start;
+            this.end = end;
+            this.depth = depth;
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class CellShops {
+        private final int[] indexes;
+        private final long[] scores;
+
+        private CellShops(int[] indexes, long[] scores) {
+            this.indexes = indexes;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * 같은 검색어(normalize 기준)는 하나로 합치고, 처음 넣은 표기를 보여준다.
+     */
+    public static final class Builder {
+        private final TreeMap<String, Term> terms = new TreeMap<>();
+
+        private Builder() {
+        }
+
+        public Builder addKeyword(String text, long score) {
+            Term term = term(text);
+            if (term != null) {
+                term.keywordScore += Math.max(score, 1);
+            }
+            return this;
+        }
+
+        public Builder addShop(String name, double lat, double lng, long score) {
+            Term term = term(name);
+            if (term != null) {
+                term.shops.merge(GeoCell.of(lat, lng), Math.max(score, 0), Math::max);
+            }
+            return this;
+        }
+
+        public PrefixTrie build(int topSize) {
+            int size = terms.size();
+            String[] keys = new String[size];
+            String[] texts = new String[size];
+            long[] keywordScores = new long[size];
+            Map<Long, List<long[]>> cells = new HashMap<>();
+
+            int index = 0;
+            for (Map.Entry<String, Term> entry : terms.entrySet()) {
+                Term term = entry.getValue();
+                keys[index] = entry.getKey();
+                texts[index] = term.text;
+                keywordScores[index] = term.keywordScore;
+
+                for (Map.Entry<Long, Long> shop : term.shops.entrySet()) {
+                    cells.computeIfAbsent(shop.getKey(), key -> new ArrayList<>()).add(new long[]{index, shop.getValue()});
+                }
+                index++;
+            }
+
+            //검색어 순서로 넣었으므로 칸마다 번호가 이미 정렬되어 있다
+            Map<Long, CellShops> shopsByCell = new HashMap<>(cells.size() * 2);
+            cells.forEach((cell, shops) -> {
+                int[] indexes = new int[shops.size()];
+                long[] scores = new long[shops.size()];
+
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = (int) shops.get(i)[0];
+                    scores[i] = shops.get(i)[1];
+                }
+                shopsByCell.put(cell, new CellShops(indexes, scores));
+            });
+
+            return new PrefixTrie(keys, texts, keywordScores, shopsByCell, topSize);
+        }
+
+        private Term term(String text) {
+            String key = normalize(text);
+
+            if (key.isEmpty()) {
+                return null;
+            }
+            return terms.computeIfAbsent(key, k -> new Term(text.trim()));
+        }
+    }
+
+    private static final class Term {
+        private final String text;
+        private final Map<Long, Long> shops = new HashMap<>();
+        private long keywordScore;
+
+        private Term(String text) {
+            this.text = text;
+        }
+    }
+}
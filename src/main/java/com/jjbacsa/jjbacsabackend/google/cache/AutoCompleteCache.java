@@ -0,0 +1,102 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구글 자동완성 결과 캐시 (인스턴스 내 LRU, TTL)
+ * 같은 접두사라도 위치에 따라 결과가 다르므로 (접두사, 격자 칸)을 키로 쓴다.
+ * 적중률은 autocomplete.cache.hits / misses, 항목 수는 autocomplete.cache.size 메트릭으로 확인한다.
+ */
+@Component
+public class AutoCompleteCache implements MeterBinder {
+
+    private final long ttlMillis;
+    private final Map<String, CachedResult> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public AutoCompleteCache(@Value("${autocomplete.cache.size:5000}") int maxSize,
+                             @Value("${autocomplete.cache.ttl:600}") long ttlSeconds) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * @return 없거나 만료되었으면 null
+     */
+    public List<String> get(String prefix, long cell) {
+        String key = toKey(prefix, cell);
+        CachedResult cached = cache.get(key);
+
+        if (cached == null || cached.expiredAt < System.currentTimeMillis()) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return cached.results;
+    }
+
+    public void put(String prefix, long cell, List<String> results) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        cache.put(toKey(prefix, cell), new CachedResult(List.copyOf(results), System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autocomplete.cache.hits", hitCount, LongAdder::sum)
+                .description("캐시에서 응답한 구글 자동완성 조회 수")
+                .register(registry);
+        FunctionCounter.builder("autocomplete.cache.misses", missCount, LongAdder::sum)
+                .description("캐시에 없거나 만료된 구글 자동완성 조회 수")
+                .register(registry);
+        Gauge.builder("autocomplete.cache.size", cache, Map::size)
+                .description("캐시된 자동완성 결과 수")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private String toKey(String prefix, long cell) {
+        return cell + ":" + prefix;
+    }
+
+    private static class CachedResult {
+        private final List<String> results;
+        private final long expiredAt;
+
+        private CachedResult(List<String> results, long expiredAt) {
+            this.results = results;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
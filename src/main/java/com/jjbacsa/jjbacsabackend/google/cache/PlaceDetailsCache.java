@@ -0,0 +1,248 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.google.dto.PlaceFieldSet;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 구글 Place Details 응답 캐시
+ * 1차: 인스턴스 내 LRU(TTL) 캐시, 2차: Redis 공용 캐시
+ * 요청한 필드 묶음을 포함하는 더 넓은 필드 묶음이 캐시되어 있으면 그 응답을 그대로 사용한다.
+ * 같은 키에 대한 동시 miss는 외부 API 호출 한 번으로 합친다.
+ * 적중률은 place.details_cache.local_hits / redis_hits / misses, 항목 수는 place.details_cache.size 메트릭으로 확인한다.
+ */
+@Slf4j
+@Component
+public class PlaceDetailsCache implements MeterBinder {
+    private static final String KEY_PREFIX = "place:details:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+
+    private final Map<String, CachedResponse> localCache;
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PlaceDetailsCache(StringRedisTemplate redisTemplate,
+                             @Value("${external.api.cache.enabled:true}") boolean enabled,
+                             @Value("${external.api.cache.local-size:2000}") int localSize,
+                             @Value("${external.api.cache.local-ttl:600}") long localTtlSeconds,
+                             @Value("${external.api.cache.redis-ttl:3600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.localTtlMillis = TimeUnit.SECONDS.toMillis(localTtlSeconds);
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > localSize;
+            }
+        });
+    }
+
+    /**
+     * 캐시에서 응답을 찾고 없으면 loader로 불러와 캐시한다.
+     *
+     * @param loader 필드 묶음을 받아 외부 API 응답을 반환하는 함수
+     */
+    public Mono<String> get(String placeId, PlaceFieldSet fieldSet, Function<PlaceFieldSet, Mono<String>> loader) {
+        if (!enabled) {
+            return loader.apply(fieldSet);
+        }
+
+        String local = getLocal(placeId, fieldSet);
+        if (local != null) {
+            localHitCount.increment();
+            return Mono.just(local);
+        }
+
+        String flightKey = toKey(placeId, fieldSet);
+
+        return inFlight.computeIfAbsent(flightKey, key ->
+                Mono.fromCallable(() -> Optional.ofNullable(getRedis(placeId, fieldSet)))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(cached -> {
+                            if (cached.isPresent()) {
+                                redisHitCount.increment();
+                                putLocal(placeId, fieldSet, cached.get());
+                                return Mono.just(cached.get());
+                            }
+
+                            missCount.increment();
+                            return loader.apply(fieldSet)
+                                    .doOnNext(response -> put(placeId, fieldSet, response));
+                        })
+                        .doFinally(signal -> inFlight.remove(key))
+                        .cache()
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("place.details_cache.local_hits", localHitCount, LongAdder::sum)
+                .description("인스턴스 내 캐시에서 응답한 Place Details 조회 수")
+                .register(registry);
+        FunctionCounter.builder("place.details_cache.redis_hits", redisHitCount, LongAdder::sum)
+                .description("Redis 캐시에서 응답한 Place Details 조회 수")
+                .register(registry);
+        FunctionCounter.builder("place.details_cache.misses", missCount, LongAdder::sum)
+                .description("외부 API를 호출한 Place Details 조회 수")
+                .register(registry);
+        Gauge.builder("place.details_cache.size", localCache, Map::size)
+                .description("인스턴스 내 캐시 항목 수")
+                .register(registry);
+    }
+
+    public long getLocalHitCount() {
+        return localHitCount.sum();
+    }
+
+    public long getRedisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private String getLocal(String placeId, PlaceFieldSet fieldSet) {
+        long now = System.currentTimeMillis();
+
+        for (PlaceFieldSet candidate : coveringSets(fieldSet)) {
+            String key = toKey(placeId, candidate);
+            CachedResponse cached = localCache.get(key);
+
+            if (cached == null) {
+                continue;
+            }
+
+            if (cached.expiredAt < now) {
+                localCache.remove(key);
+                continue;
+            }
+
+            return cached.response;
+        }
+
+        return null;
+    }
+
+    private String getRedis(String placeId, PlaceFieldSet fieldSet) {
+        List<PlaceFieldSet> candidates = coveringSets(fieldSet);
+        List<String> keys = new ArrayList<>();
+
+        for (PlaceFieldSet candidate : candidates) {
+            keys.add(toKey(placeId, candidate));
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+            if (values == null) {
+                return null;
+            }
+
+            for (String value : values) {
+                if (value != null) {
+                    return value;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Place Details Redis 캐시 조회 실패 : {}", e.getMessage());
+        }
+
+        return null;
+    }
+
+    private void put(String placeId, PlaceFieldSet fieldSet, String response) {
+        if (!isOk(response)) {
+            return;
+        }
+
+        putLocal(placeId, fieldSet, response);
+
+        //응답을 받은 이벤트 루프 스레드를 막지 않도록 Redis 저장은 따로 실행하고 기다리지 않는다
+        Mono.fromRunnable(() -> redisTemplate.opsForValue().set(toKey(placeId, fieldSet), response, redisTtl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("Place Details Redis 캐시 저장 실패 : {}", e.getMessage()));
+    }
+
+    private void putLocal(String placeId, PlaceFieldSet fieldSet, String response) {
+        localCache.put(toKey(placeId, fieldSet), new CachedResponse(response, System.currentTimeMillis() + localTtlMillis));
+    }
+
+    //정상 응답만 캐시한다. (status 필드만 확인하고 나머지는 건너뛴다)
+    private boolean isOk(String response) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                if ("status".equals(fieldName)) {
+                    return "OK".equals(parser.getValueAsString());
+                }
+                parser.skipChildren();
+            }
+        } catch (Exception e) {
+            return false;
+        }
+
+        return false;
+    }
+
+    //요청한 필드 묶음을 포함하는 필드 묶음 (좁은 것부터)
+    private List<PlaceFieldSet> coveringSets(PlaceFieldSet fieldSet) {
+        List<PlaceFieldSet> sets = new ArrayList<>();
+        PlaceFieldSet[] values = PlaceFieldSet.values();
+
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (values[i].covers(fieldSet)) {
+                sets.add(values[i]);
+            }
+        }
+
+        return sets;
+    }
+
+    private String toKey(String placeId, PlaceFieldSet fieldSet) {
+        return KEY_PREFIX + fieldSet.name() + ":" + placeId;
+    }
+
+    private static class CachedResponse {
+        private final String response;
+        private final long expiredAt;
+
+        private CachedResponse(String response, long expiredAt) {
+            this.response = response;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
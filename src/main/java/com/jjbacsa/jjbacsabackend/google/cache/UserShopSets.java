@@ -0,0 +1,245 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import com.jjbacsa.jjbacsabackend.follow.cache.FollowGraph;
+import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapRepository;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지도 필터(친구 리뷰, 스크랩)용 사용자별 상점 id 집합 (인스턴스 내 LRU, 짧은 TTL, 정렬된 long[])
+ * 사용자가 리뷰를 쓴 상점, 스크랩한 상점을 캐시하고 리뷰/스크랩 변경이 커밋된 뒤 같은 인스턴스의 집합에 반영한다.
+ * 친구 리뷰 상점은 FollowGraph의 팔로워 id로 각자의 집합을 모아 합집합을 만든다. (팔로우 변경은 FollowGraph가 반영)
+ * 다른 인스턴스의 변경은 TTL이 지나야 보이므로 단일 인스턴스에서만 켠다. 비활성화 시 매번 DB에서 id만 조회한다.
+ * 적중률은 map.shop_sets.hits / misses, 항목 수는 map.shop_sets.size 메트릭으로 확인한다.
+ */
+@Component
+public class UserShopSets implements MeterBinder {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ReviewRepository reviewRepository;
+    private final ScrapRepository scrapRepository;
+    private final FollowGraph followGraph;
+    private final Map<Long, CachedIds> reviewed;
+    private final Map<Long, CachedIds> scrapped;
+
+    //변경이 커밋될 때마다 증가 (조회 중에 바뀐 집합은 캐시하지 않는다)
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public UserShopSets(@Value("${map.shop-sets.enabled:false}") boolean enabled,
+                        @Value("${map.shop-sets.size:10000}") int size,
+                        @Value("${map.shop-sets.ttl:60}") long ttlSeconds,
+                        ReviewRepository reviewRepository,
+                        ScrapRepository scrapRepository,
+                        FollowGraph followGraph) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.reviewRepository = reviewRepository;
+        this.scrapRepository = scrapRepository;
+        this.followGraph = followGraph;
+        this.reviewed = newLru(size);
+        this.scrapped = newLru(size);
+    }
+
+    /**
+     * 사용자가 팔로우하는 사람들이 리뷰를 쓴 상점 id (정렬된 배열)
+     */
+    public long[] friendReviewedShopIds(Long userId) {
+        long[] friendIds = followGraph.followerIds(userId);
+
+        if (friendIds.length == 0) {
+            return SortedIds.EMPTY;
+        }
+
+        if (!enabled) {
+            return SortedIds.union(reviewRepository.findShopIdsByWriterIds(toList(friendIds)).values());
+        }
+
+        List<long[]> sets = new ArrayList<>(friendIds.length);
+        List<Long> missing = new ArrayList<>();
+
+        long now = System.currentTimeMillis();
+
+        for (long friendId : friendIds) {
+            CachedIds cached = reviewed.get(friendId);
+
+            if (cached == null || cached.expiredAt <= now) {
+                missing.add(friendId);
+            } else {
+                sets.add(cached.ids);
+            }
+        }
+        hitCount.add(friendIds.length - missing.size());
+
+        if (!missing.isEmpty()) {
+            missCount.add(missing.size());
+
+            //캐시에 없거나 만료된 친구는 호출한 트랜잭션 안에서 한 번에 조회
+            long loadedVersion = version.get();
+            Map<Long, long[]> loaded = reviewRepository.findShopIdsByWriterIds(missing);
+            long expiredAt = System.currentTimeMillis() + ttlMillis;
+
+            synchronized (reviewed) {
+                if (version.get() == loadedVersion) {
+                    for (Long friendId : missing) {
+                        reviewed.put(friendId, new CachedIds(loaded.getOrDefault(friendId, SortedIds.EMPTY), expiredAt));
+                    }
+                }
+            }
+            sets.addAll(loaded.values());
+        }
+
+        return SortedIds.union(sets);
+    }
+
+    /**
+     * 사용자가 스크랩한 상점 id (정렬된 배열)
+     */
+    public long[] scrappedShopIds(Long userId) {
+        if (!enabled) {
+            return scrapRepository.findShopIdsByUserId(userId);
+        }
+
+        CachedIds cached = scrapped.get(userId);
+
+        if (cached != null && cached.expiredAt > System.currentTimeMillis()) {
+            hitCount.increment();
+            return cached.ids.clone();
+        }
+
+        missCount.increment();
+        long loadedVersion = version.get();
+        long[] ids = scrapRepository.findShopIdsByUserId(userId);
+
+        synchronized (scrapped) {
+            if (version.get() == loadedVersion) {
+                scrapped.put(userId, new CachedIds(ids, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+
+        return ids.clone();
+    }
+
+    public void reviewAdded(Long writerId, Long shopId) {
+        afterCommit(() -> reviewed.computeIfPresent(writerId, (id, cached) -> cached.with(SortedIds.add(cached.ids, shopId))));
+    }
+
+    //같은 상점에 다른 리뷰가 남아 있을 수 있으므로 빼지 않고 다음 조회 때 다시 읽는다
+    public void reviewsRemoved(Long writerId) {
+        afterCommit(() -> reviewed.remove(writerId));
+    }
+
+    public void scrapAdded(Long userId, Long shopId) {
+        afterCommit(() -> scrapped.computeIfPresent(userId, (id, cached) -> cached.with(SortedIds.add(cached.ids, shopId))));
+    }
+
+    //사용자, 상점당 스크랩은 하나
+    public void scrapRemoved(Long userId, Long shopId) {
+        afterCommit(() -> scrapped.computeIfPresent(userId, (id, cached) -> cached.with(SortedIds.remove(cached.ids, shopId))));
+    }
+
+    //디렉토리 삭제 등 여러 스크랩이 한 번에 지워진 경우
+    public void scrapsRemoved(Long userId) {
+        afterCommit(() -> scrapped.remove(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("map.shop_sets.hits", hitCount, LongAdder::sum)
+                .description("캐시에서 읽은 사용자별 상점 id 집합 수")
+                .register(registry);
+        FunctionCounter.builder("map.shop_sets.misses", missCount, LongAdder::sum)
+                .description("캐시에 없거나 만료되어 DB에서 읽은 사용자별 상점 id 집합 수")
+                .register(registry);
+        Gauge.builder("map.shop_sets.size", this, sets -> sets.reviewed.size() + sets.scrapped.size())
+                .description("캐시된 리뷰/스크랩 상점 집합 수")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+
+        Runnable apply = () -> {
+            synchronized (reviewed) {
+                synchronized (scrapped) {
+                    version.incrementAndGet();
+                    change.run();
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private static Map<Long, CachedIds> newLru(int size) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedIds> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    private static class CachedIds {
+        private final long[] ids;
+        private final long expiredAt;
+
+        private CachedIds(long[] ids, long expiredAt) {
+            this.ids = ids;
+            this.expiredAt = expiredAt;
+        }
+
+        //변경을 반영해도 만료 시각은 처음 읽은 시점 기준으로 유지한다
+        private CachedIds with(long[] ids) {
+            return new CachedIds(ids, expiredAt);
+        }
+    }
+}
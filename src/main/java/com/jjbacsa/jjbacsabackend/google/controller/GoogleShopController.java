@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import reactor.core.publisher.Flux;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -139,7 +140,8 @@ public class GoogleShopController {
                     "{\n\n     " +
                     "lat : 현재 요청자의 위도,\n     " +
                     "lng : 현재 요청자의 경도\n     " +
-                    "\n}"
+                    "\n}\n\n" +
+                    "Accept: application/x-ndjson 으로 요청하면 조회가 끝난 상점부터 한 줄씩 반환한다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -154,13 +156,13 @@ public class GoogleShopController {
             @ApiImplicitParam(name = "options_friend", required = false, dataType = "Integer", value = "친구 음식점 필터 여부"),
             @ApiImplicitParam(name = "options_scrap", required = false, dataType = "Integer", value = "스크랩 음식점 필터 여부")
     })
-    @PostMapping("/shops/maps")
-    public ResponseEntity<List<ShopSimpleResponse>> getGoogleShops(@RequestParam(name = "options_nearby", required = false, defaultValue = "1") Integer nearBy,
+    @PostMapping(value = "/shops/maps", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<ShopSimpleResponse>> getGoogleShops(@RequestParam(name = "options_nearby", required = false, defaultValue = "1") Integer nearBy,
                                                                    @RequestParam(name = "options_friend", required = false, defaultValue = "0") Integer friend,
                                                                    @RequestParam(name = "options_scrap", required = false, defaultValue = "0") Integer scrap,
                                                                    @RequestBody @Valid ShopRequest shopRequest) throws Exception {
         return ResponseEntity.ok()
-                .body(googleShopService.getShops(nearBy, friend, scrap, shopRequest));
+                .body(googleShopService.getShopsStream(nearBy, friend, scrap, shopRequest));
     }
 
     @ApiOperation(
@@ -0,0 +1,33 @@
+package com.jjbacsa.jjbacsabackend.google.dto;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Place Details 요청 시 사용하는 필드 묶음
+ * 선언 순서대로 앞의 필드 묶음이 뒤의 필드 묶음을 포함한다. (DETAILS ⊇ SIMPLE ⊇ SCRAP ⊇ PIN ⊇ EXIST)
+ */
+public enum PlaceFieldSet {
+    DETAILS("formatted_address", "formatted_phone_number", "name", "geometry/location/lat", "geometry/location/lng", "types", "place_id", "opening_hours/open_now", "opening_hours/weekday_text", "opening_hours/periods", "photos/photo_reference"),
+    SIMPLE("geometry/location/lng", "geometry/location/lat", "place_id", "name", "photos/photo_reference", "types", "formatted_address", "opening_hours/open_now"),
+    SCRAP("name", "types", "place_id", "photos/photo_reference", "formatted_address"),
+    PIN("name", "types", "place_id", "photos/photo_reference"),
+    EXIST("place_id");
+
+    private final Set<String> fields;
+    private final String fieldString;
+
+    PlaceFieldSet(String... fields) {
+        this.fields = new HashSet<>(Arrays.asList(fields));
+        this.fieldString = String.join(",", fields);
+    }
+
+    public String getFieldString() {
+        return fieldString;
+    }
+
+    public boolean covers(PlaceFieldSet other) {
+        return this.fields.containsAll(other.fields);
+    }
+}
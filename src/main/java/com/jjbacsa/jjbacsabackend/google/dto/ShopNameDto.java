@@ -0,0 +1,20 @@
+package com.jjbacsa.jjbacsabackend.google.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 자동완성 색인용 상점 이름, 위치 (엔티티 대신 필요한 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ShopNameDto {
+    private final String placeId;
+    private final String name;
+    private final Double latitude;
+    private final Double longitude;
+    private final Integer ratingCount;
+    private final Date updatedAt;
+}
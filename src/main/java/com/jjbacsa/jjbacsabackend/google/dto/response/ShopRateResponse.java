@@ -1,5 +1,6 @@
 package com.jjbacsa.jjbacsabackend.google.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -8,12 +9,33 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class ShopRateResponse {
+    @JsonIgnore
+    private Long shopId;
+
+    //일괄 조회 시 상점 구분용
+    @JsonIgnore
+    private String placeId;
+
     @Schema(description = "전체 평점 합산", defaultValue = "0")
     private Integer totalRating;
 
     @Schema(description = "평가 횟수 합산", defaultValue = "0")
     private Integer ratingCount;
 
+    public ShopRateResponse(String placeId, Integer totalRating, Integer ratingCount) {
+        this(null, placeId, totalRating, ratingCount);
+    }
+
+    public ShopRateResponse(Integer totalRating, Integer ratingCount) {
+        this(null, null, totalRating, ratingCount);
+    }
+
+    //쓰기 지연 중인 증감 합산
+    public void addPending(long totalRating, long ratingCount) {
+        this.totalRating += Math.toIntExact(totalRating);
+        this.ratingCount += Math.toIntExact(ratingCount);
+    }
+
     public static ShopRateResponse from(GoogleShopCount countEntity) {
         return new ShopRateResponse(countEntity.getTotalRating(), countEntity.getRatingCount());
     }
@@ -21,4 +43,4 @@ public class ShopRateResponse {
     public static ShopRateResponse createDefaultRateResponse() {
         return new ShopRateResponse(0, 0);
     }
-}
\ No newline at end of file
+}
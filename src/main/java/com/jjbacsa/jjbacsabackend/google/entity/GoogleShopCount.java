@@ -1,5 +1,6 @@
 package com.jjbacsa.jjbacsabackend.google.entity;
 
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterEntityListener;
 import lombok.*;
 
 import javax.persistence.*;
@@ -9,6 +10,7 @@ import javax.persistence.*;
 @Builder
 @AllArgsConstructor
 @Entity
+@EntityListeners(CounterEntityListener.class)
 @Table(name = "google_shop_count")
 public class GoogleShopCount {
     @Id
@@ -21,11 +23,11 @@ public class GoogleShopCount {
 
     @Basic
     @Setter
-    @Column(name = "total_rating", nullable = false)
+    @Column(name = "total_rating", nullable = false, updatable = false)
     private Integer totalRating = 0;
 
     @Basic
     @Setter
-    @Column(name = "rating_count", nullable = false)
+    @Column(name = "rating_count", nullable = false, updatable = false)
     private Integer ratingCount = 0;
 }
@@ -13,7 +13,7 @@ import java.io.Serializable;
 
 /**
  * 리뷰 쓸 때 상점 저장
- * -> place_id 저장
+ * -> place_id, 이름, 좌표 저장 (좌표는 주변 상점 조회에 사용)
  */
 
 @Getter
@@ -39,6 +39,18 @@ public class GoogleShopEntity extends BaseEntity implements Serializable {
     @Column(name = "place_id", nullable = false)
     private String placeId;
 
+    @Basic
+    @Column(name = "name")
+    private String name;
+
+    @Basic
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Basic
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToOne(mappedBy = "shop", fetch = FetchType.EAGER, optional = false, cascade = CascadeType.PERSIST)
     @Builder.Default
     private GoogleShopCount shopCount = new GoogleShopCount();
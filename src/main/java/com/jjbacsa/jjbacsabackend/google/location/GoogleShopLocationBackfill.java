@@ -0,0 +1,71 @@
+package com.jjbacsa.jjbacsabackend.google.location;
+
+import com.jjbacsa.jjbacsabackend.google.dto.api.SimpleShopDto;
+import com.jjbacsa.jjbacsabackend.google.dto.response.Coordinate;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.google.service.GoogleShopService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이름, 좌표 없이 저장된 google_shop 행을 Place Details로 채운다. (좌표 저장 이전에 만들어진 상점)
+ * id 순으로 batch-size개씩 한 번만 확인하고, 구글에서 찾지 못한 상점은 다음 재시작 때 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class GoogleShopLocationBackfill {
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final GoogleShopRepository googleShopRepository;
+    private final GoogleShopService googleShopService;
+
+    //마지막으로 확인한 상점 id (backfill은 synchronized)
+    private long cursor = 0;
+
+    public GoogleShopLocationBackfill(@Value("${map.nearby.backfill.enabled:true}") boolean enabled,
+                                      @Value("${map.nearby.backfill.batch-size:50}") int batchSize,
+                                      GoogleShopRepository googleShopRepository,
+                                      GoogleShopService googleShopService) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.googleShopRepository = googleShopRepository;
+        this.googleShopService = googleShopService;
+    }
+
+    @Scheduled(fixedDelayString = "${map.nearby.backfill.interval:60000}")
+    public synchronized void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        List<GoogleShopEntity> shops = googleShopRepository.findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+        int filled = 0;
+
+        for (GoogleShopEntity shop : shops) {
+            cursor = shop.getId();
+
+            try {
+                SimpleShopDto simpleShop = googleShopService.getSimpleShop(shop.getPlaceId());
+                Coordinate coordinate = simpleShop == null ? null : Coordinate.from(simpleShop.getGeometry());
+
+                if (coordinate != null) {
+                    googleShopRepository.updatePlace(shop.getId(), simpleShop.getName(), coordinate.getLat(), coordinate.getLng());
+                    filled++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("상점 좌표 채우기 실패: {}", shop.getPlaceId(), e);
+            }
+        }
+
+        if (!shops.isEmpty()) {
+            log.info("상점 좌표 채우기: {}/{}", filled, shops.size());
+        }
+    }
+}
@@ -1,30 +1,63 @@
 package com.jjbacsa.jjbacsabackend.google.repository;
 
+import com.jjbacsa.jjbacsabackend.google.dto.ShopNameDto;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.repository.dsl.DslGoogleShopRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GoogleShopRepository extends JpaRepository<GoogleShopEntity, Long> {
+public interface GoogleShopRepository extends JpaRepository<GoogleShopEntity, Long>, DslGoogleShopRepository {
     Optional<GoogleShopEntity> findByPlaceId(String placeId);
 
     GoogleShopEntity getByPlaceId(String placeId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select sc.totalRating from GoogleShopCount sc " +
+    @Modifying
+    @Query("update GoogleShopCount sc " +
+            "set sc.totalRating = sc.totalRating + :totalRating, sc.ratingCount = sc.ratingCount + :ratingCount " +
             "where sc.id = :shopId")
-    Integer getTotalRating(@Param("shopId") Long shopId);
+    int addShopCount(@Param("shopId") Long shopId, @Param("totalRating") int totalRating, @Param("ratingCount") int ratingCount);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select sc.ratingCount from GoogleShopCount sc " +
-            "where sc.id = :shopId")
-    Integer getRatingCount(@Param("shopId") Long shopId);
+    @Modifying
+    @Query(value = "update google_shop_count sc set " +
+            "sc.total_rating = (select coalesce(sum(r.rate), 0) from review r join google_shop s on s.place_id = r.google_place_id " +
+            "   where s.id = sc.shop_id and r.is_deleted = 0), " +
+            "sc.rating_count = (select count(*) from review r join google_shop s on s.place_id = r.google_place_id " +
+            "   where s.id = sc.shop_id and r.is_deleted = 0)",
+            nativeQuery = true)
+    int reconcileShopCounts();
 
     boolean existsByPlaceId(String placeId);
+
+    @Query("select new com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse(s.id, s.placeId, sc.totalRating, sc.ratingCount) " +
+            "from GoogleShopCount sc join sc.shop s " +
+            "where s.placeId in :placeIds")
+    List<ShopRateResponse> findAllRatesByPlaceIdIn(@Param("placeIds") Collection<String> placeIds);
+
+    //좌표가 아직 없는 상점 (id 순)
+    List<GoogleShopEntity> findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(Long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update GoogleShopEntity s set s.name = :name, s.latitude = :latitude, s.longitude = :longitude, s.updatedAt = current_timestamp " +
+            "where s.id = :shopId")
+    int updatePlace(@Param("shopId") Long shopId, @Param("name") String name, @Param("latitude") Double latitude, @Param("longitude") Double longitude);
+
+    //since 이후 추가되거나 이름, 좌표가 채워진 상점 (updated_at이 같은 행을 놓치지 않도록 경계 포함)
+    //평가 수는 google_shop_count에만 쌓여 updated_at을 바꾸지 않으므로 전체 다시 읽기 때 반영된다
+    @Query("select new com.jjbacsa.jjbacsabackend.google.dto.ShopNameDto(s.placeId, s.name, s.latitude, s.longitude, sc.ratingCount, s.updatedAt) " +
+            "from GoogleShopEntity s left join s.shopCount sc " +
+            "where s.updatedAt >= :since and s.name is not null and s.latitude is not null and s.longitude is not null")
+    List<ShopNameDto> findNamesUpdatedSince(@Param("since") Date since);
 }
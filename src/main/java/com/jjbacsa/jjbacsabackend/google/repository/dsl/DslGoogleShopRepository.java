@@ -0,0 +1,14 @@
+package com.jjbacsa.jjbacsabackend.google.repository.dsl;
+
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
+
+import java.util.List;
+
+public interface DslGoogleShopRepository {
+
+    //상점 id와 place id만 한 번에 조회 (id 오름차순, 없는 id는 빠진다)
+    List<ShopIdPair> findIdPairsByIdIn(long[] shopIds);
+
+    //반경(m) 안에서 가까운 limit개 상점 id (정렬된 배열, 좌표가 없는 상점은 빠진다)
+    long[] findIdsNear(double lat, double lng, double radiusMeter, int limit);
+}
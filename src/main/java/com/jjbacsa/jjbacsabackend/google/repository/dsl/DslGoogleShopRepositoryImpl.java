@@ -0,0 +1,76 @@
+package com.jjbacsa.jjbacsabackend.google.repository.dsl;
+
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.entity.QGoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.util.GeoUtil;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DslGoogleShopRepositoryImpl extends QuerydslRepositorySupport implements DslGoogleShopRepository {
+
+    private static final QGoogleShopEntity shop = QGoogleShopEntity.googleShopEntity;
+
+    public DslGoogleShopRepositoryImpl() {
+        super(GoogleShopEntity.class);
+    }
+
+    @Override
+    public List<ShopIdPair> findIdPairsByIdIn(long[] shopIds) {
+
+        if (shopIds.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Long> ids = new ArrayList<>(shopIds.length);
+        for (long shopId : shopIds) {
+            ids.add(shopId);
+        }
+
+        // 엔티티(와 EAGER인 google_shop_count) 대신 두 컬럼만 조회
+        return from(shop)
+                .select(shop.id, shop.placeId)
+                .where(shop.id.in(ids))
+                .orderBy(shop.id.asc())
+                .fetch()
+                .stream()
+                .map(tuple -> ShopIdPair.builder()
+                        .id(tuple.get(shop.id))
+                        .placeId(tuple.get(shop.placeId))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long[] findIdsNear(double lat, double lng, double radiusMeter, int limit) {
+        double[] box = GeoUtil.boundingBox(lat, lng, radiusMeter);
+
+        // (latitude, longitude) 인덱스로 사각 범위만 읽고, 평면 근사 거리 순으로 limit개
+        NumberExpression<Double> dy = shop.latitude.subtract(lat).multiply(GeoUtil.meterPerLatDegree());
+        NumberExpression<Double> dx = shop.longitude.subtract(lng).multiply(GeoUtil.meterPerLngDegree(lat));
+
+        List<Tuple> results = from(shop)
+                .select(shop.id, shop.latitude, shop.longitude)
+                .where(shop.latitude.between(box[0], box[2]),
+                        shop.longitude.between(box[1], box[3]))
+                .orderBy(dy.multiply(dy).add(dx.multiply(dx)).asc())
+                .limit(limit)
+                .fetch();
+
+        List<Long> ids = new ArrayList<>(results.size());
+        for (Tuple tuple : results) {
+            if (GeoUtil.distance(lat, lng, tuple.get(shop.latitude), tuple.get(shop.longitude)) <= radiusMeter) {
+                ids.add(tuple.get(shop.id));
+            }
+        }
+
+        return SortedIds.toSortedArray(ids);
+    }
+}
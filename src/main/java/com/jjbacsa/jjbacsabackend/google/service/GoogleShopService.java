@@ -5,8 +5,12 @@ import com.jjbacsa.jjbacsabackend.google.dto.request.AutoCompleteRequest;
 import com.jjbacsa.jjbacsabackend.google.dto.request.ShopRequest;
 import com.jjbacsa.jjbacsabackend.google.dto.response.*;
 import com.jjbacsa.jjbacsabackend.google.dto.Category;
+import com.jjbacsa.jjbacsabackend.google.dto.api.SimpleShopDto;
+import reactor.core.publisher.Flux;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface GoogleShopService {
 
@@ -24,15 +28,22 @@ public interface GoogleShopService {
     //Scrap 상점 반환(스크랩한 상점 반환 시에 사용)
     ShopScrapResponse getShopScrap(String placeId) throws JsonProcessingException;
 
-    //메인페이지
-    List<ShopSimpleResponse> getShops(Integer nearBy, Integer friend, Integer scrap, ShopRequest shopRequest) throws Exception;
+    //Scrap 상점 반환(별점을 미리 조회한 경우)
+    ShopScrapResponse getShopScrap(String placeId, ShopRateResponse rate) throws JsonProcessingException;
+
+    //메인페이지(조회되는 상점부터 순서대로 반환)
+    Flux<ShopSimpleResponse> getShopsStream(Integer nearBy, Integer friend, Integer scrap, ShopRequest shopRequest) throws Exception;
 
     //검색어 상점 자동완성
     List<String> getAutoComplete(String query, AutoCompleteRequest autoCompleteRequest) throws JsonProcessingException;
 
     ShopRateResponse getShopRate(String placeId);
 
+    //여러 상점 별점 일괄 조회 (key: place_id)
+    Map<String, ShopRateResponse> getShopRates(Collection<String> placeIds);
+
     ShopSimpleScrapResponse getSimpleShopScrap(String placeId) throws Exception;
 
-    boolean isShopExist(String placeId) throws JsonProcessingException;
+    //상점 저장용 이름, 좌표 (없는 상점이거나 조회에 실패하면 null)
+    SimpleShopDto getSimpleShop(String placeId);
 }
@@ -1,10 +1,14 @@
 package com.jjbacsa.jjbacsabackend.google.service;
 
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopScrapResponse;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapEntity;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface InternalGoogleApiService {
 
     GoogleShopEntity getGoogleShopByPlaceId(String placeId);
@@ -13,4 +17,8 @@ public interface InternalGoogleApiService {
 
     ShopScrapResponse formattedToShopResponse(ScrapEntity scrap) throws Exception;
 
+    ShopScrapResponse formattedToShopResponse(ScrapEntity scrap, ShopRateResponse rate) throws Exception;
+
+    Map<String, ShopRateResponse> getShopRates(Collection<String> placeIds);
+
 }
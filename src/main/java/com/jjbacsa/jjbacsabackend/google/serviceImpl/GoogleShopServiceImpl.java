@@ -2,28 +2,33 @@ package com.jjbacsa.jjbacsabackend.google.serviceImpl;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterTarget;
+import com.jjbacsa.jjbacsabackend.etc.counter.WriteBehindCounters;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.enums.WeekType;
-import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
 import com.jjbacsa.jjbacsabackend.etc.exception.BaseException;
-import com.jjbacsa.jjbacsabackend.follow.service.InternalFollowService;
+import com.jjbacsa.jjbacsabackend.google.autocomplete.AutoCompleteIndex;
+import com.jjbacsa.jjbacsabackend.google.autocomplete.GeoCell;
+import com.jjbacsa.jjbacsabackend.google.autocomplete.PrefixTrie;
+import com.jjbacsa.jjbacsabackend.google.cache.AutoCompleteCache;
+import com.jjbacsa.jjbacsabackend.google.cache.PlaceDetailsCache;
+import com.jjbacsa.jjbacsabackend.google.cache.UserShopSets;
 import com.jjbacsa.jjbacsabackend.google.dto.Category;
+import com.jjbacsa.jjbacsabackend.google.dto.PlaceFieldSet;
 import com.jjbacsa.jjbacsabackend.google.dto.api.*;
 import com.jjbacsa.jjbacsabackend.google.dto.api.inner.OpeningHours;
 import com.jjbacsa.jjbacsabackend.google.dto.api.inner.Photo;
 import com.jjbacsa.jjbacsabackend.google.dto.request.AutoCompleteRequest;
 import com.jjbacsa.jjbacsabackend.google.dto.request.ShopRequest;
 import com.jjbacsa.jjbacsabackend.google.dto.response.*;
-import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
 import com.jjbacsa.jjbacsabackend.google.service.GoogleShopService;
-import com.jjbacsa.jjbacsabackend.review.service.InternalReviewService;
 import com.jjbacsa.jjbacsabackend.scrap.service.InternalScrapService;
-import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
@@ -36,13 +41,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Transactional
@@ -51,29 +56,47 @@ import java.util.stream.Collectors;
 public class GoogleShopServiceImpl implements GoogleShopService {
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final PlacesResponseDecoder placesResponseDecoder;
     private final String BASE_URL;
     private final String API_KEY;
     private final GoogleShopRepository googleShopRepository;
-    private final InternalFollowService followService;
-    private final InternalReviewService reviewService;
     private final InternalScrapService scrapService;
+    private final int apiConcurrency;
+    private final Duration apiTimeout;
+    private final PlaceDetailsCache placeDetailsCache;
+    private final WriteBehindCounters writeBehindCounters;
+    private final AutoCompleteIndex autoCompleteIndex;
+    private final AutoCompleteCache autoCompleteCache;
+    private final UserShopSets userShopSets;
+    private final InternalUserService userService;
+    private final double nearByRadius;
+    private final int nearByLimit;
 
-    private final String[] placeDetailsFields = {"formatted_address", "formatted_phone_number", "name", "geometry/location/lat", "geometry/location/lng", "types", "place_id", "opening_hours/open_now", "opening_hours/weekday_text", "opening_hours/periods", "photos/photo_reference"};
-    private final String[] pinFields = {"name", "types", "place_id", "photos/photo_reference"};
-    private final String[] simpleFields = {"geometry/location/lng", "geometry/location/lat", "place_id", "name", "photos/photo_reference", "types", "formatted_address", "opening_hours/open_now"};
-    private final String[] scrapFields = {"name", "types", "place_id", "photos/photo_reference", "formatted_address"};
     private final String[] addressLevels = {"읍", "면", "동", "가", "로", "길"};
-    private final String[] shopExistField = {"place_id"};
 
-    public GoogleShopServiceImpl(@Value("${external.api.url}") String baseUrl, ObjectMapper objectMapper, @Value("${external.api.key}") String key, GoogleShopRepository googleShopRepository, InternalFollowService internalFollowService, InternalReviewService internalReviewService, InternalScrapService internalScrapService) {
+    public GoogleShopServiceImpl(@Value("${external.api.url}") String baseUrl, ObjectMapper objectMapper, @Value("${external.api.key}") String key,
+                                 @Value("${external.api.concurrency:8}") int apiConcurrency, @Value("${external.api.timeout:3000}") long apiTimeoutMillis,
+                                 PlaceDetailsCache placeDetailsCache, GoogleShopRepository googleShopRepository, InternalScrapService internalScrapService,
+                                 WriteBehindCounters writeBehindCounters, AutoCompleteIndex autoCompleteIndex, AutoCompleteCache autoCompleteCache,
+                                 UserShopSets userShopSets, InternalUserService internalUserService,
+                                 @Value("${map.nearby.radius:3000}") double nearByRadius, @Value("${map.nearby.limit:100}") int nearByLimit) {
         this.objectMapper = objectMapper;
         this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.ALWAYS);
+        this.placesResponseDecoder = new PlacesResponseDecoder(objectMapper);
         this.API_KEY = key;
         this.googleShopRepository = googleShopRepository;
-        this.followService = internalFollowService;
-        this.reviewService = internalReviewService;
         this.scrapService = internalScrapService;
+        this.apiConcurrency = apiConcurrency;
+        this.apiTimeout = Duration.ofMillis(apiTimeoutMillis);
+        this.placeDetailsCache = placeDetailsCache;
+        this.writeBehindCounters = writeBehindCounters;
+        this.autoCompleteIndex = autoCompleteIndex;
+        this.autoCompleteCache = autoCompleteCache;
+        this.userShopSets = userShopSets;
+        this.userService = internalUserService;
+        this.nearByRadius = nearByRadius;
+        this.nearByLimit = nearByLimit;
 
         this.BASE_URL = baseUrl;
 
@@ -111,9 +134,7 @@ public class GoogleShopServiceImpl implements GoogleShopService {
 
     @Override
     public ShopResponse getShopDetails(String placeId) throws JsonProcessingException {
-        String requestField = toFieldString(placeDetailsFields);
-
-        String shopStr = this.callGoogleApi(placeId, requestField);
+        String shopStr = this.callGoogleApi(placeId, PlaceFieldSet.DETAILS);
         ShopApiDto shopApiDto = this.jsonToShopApiDto(shopStr);
 
         Category category = getCategory(shopApiDto.getTypes());
@@ -134,9 +155,7 @@ public class GoogleShopServiceImpl implements GoogleShopService {
 
     @Override
     public ShopPinResponse getPinShop(String placeId) throws JsonProcessingException {
-        String requestField = toFieldString(pinFields);
-
-        String shopStr = this.callGoogleApi(placeId, requestField);
+        String shopStr = this.callGoogleApi(placeId, PlaceFieldSet.PIN);
         ShopApiDto shopApiDto = this.jsonToShopApiDto(shopStr);
 
         Category category = getCategory(shopApiDto.getTypes());
@@ -174,22 +193,20 @@ public class GoogleShopServiceImpl implements GoogleShopService {
     }
 
     @Override
-    public boolean isShopExist(String placeId) {
-        String checkedPlaceId;
+    public SimpleShopDto getSimpleShop(String placeId) {
+        SimpleShopDto simpleShopDto;
 
         try {
-            String shopExistStr = callGoogleApi(placeId, toFieldString(shopExistField));
-            ShopApiDto shopApiDto = jsonToShopApiDto(shopExistStr);
-            checkedPlaceId = shopApiDto.getPlaceId();
+            simpleShopDto = jsonToSimpleShopDto(callGoogleApi(placeId, PlaceFieldSet.SIMPLE));
         } catch (Exception e) {
-            return false;
+            return null;
         }
 
-        if (checkedPlaceId == null) {
-            return false;
+        if (simpleShopDto == null || simpleShopDto.getPlaceId() == null) {
+            return null;
         }
 
-        return true;
+        return simpleShopDto;
     }
 
     private TodayPeriod getPeriod(ShopApiDto shopApiDto) {
@@ -226,124 +243,130 @@ public class GoogleShopServiceImpl implements GoogleShopService {
         return WeekType.getWeekTypeByCalender(dayOfWeekNumber);
     }
 
+    /**
+     * 상점 id, 별점 조회는 요청 스레드(트랜잭션 내)에서 끝내고
+     * 외부 API 호출은 동시 요청 수를 제한한 채로 응답이 오는 순서대로 흘려보낸다.
+     * 실패하거나 시간 초과된 상점은 건너뛴다.
+     */
     @Transactional(readOnly = true)
     @Override
-    public List<ShopSimpleResponse> getShops(Integer nearBy, Integer friend, Integer scrap, ShopRequest shopRequest) throws Exception {
-
-        List<Long> shopIds = getShopId(nearBy, friend, scrap);
-
-//        int shopsSize = shopIds.size();
-//        if (shopsSize >= 5) {
-//            shopIds = shopIds.subList(shopsSize - 5, shopsSize);
-//        }
-
-        List<String> placeIDs = getPlaceIds(shopIds);
-        List<SimpleShopDto> simpleShopDtos = this.callApiByPlaceIdsNonBlocking(placeIDs);
-
-        int failCnt = 0;
-        List<ShopSimpleResponse> resultSimpleShopDtos = new ArrayList<>();
-        for (SimpleShopDto simpleShopDto : simpleShopDtos) {
-            try {
-                Coordinate coordinate = Coordinate.from(simpleShopDto.getGeometry());
-                Double dist = getMeter(coordinate, shopRequest);
-
-                ShopSimpleResponse shopSimpleResponse = ShopSimpleResponse.builder()
-                        .placeId(simpleShopDto.getPlaceId())
-                        .name(simpleShopDto.getName())
-                        .coordinate(coordinate)
-                        .category(getCategory(simpleShopDto.getTypes()).name())
-                        .openNow(getOpenNow(simpleShopDto.getOpeningHours()))
-                        .formattedAddress(simpleShopDto.getFormattedAddress())
-                        .simpleFormattedAddress(formattedAddressFormatting(simpleShopDto.getFormattedAddress()))
-                        .rate(getShopRate(simpleShopDto.getPlaceId()))
-                        .dist(dist)
-                        .photos(getPhotoTokens(simpleShopDto.getPhotos()))
-                        .build();
-
-                resultSimpleShopDtos.add(shopSimpleResponse);
-            } catch (Exception e){
-                failCnt ++;
-            }
-
-            if (failCnt >= simpleShopDtos.size() / 2 && failCnt != 0) {
-                throw new ApiException(ErrorMessage.OVER_QUERY_LIMIT_EXCEPTION);
-            }
-        }
-
-        return resultSimpleShopDtos;
+    public Flux<ShopSimpleResponse> getShopsStream(Integer nearBy, Integer friend, Integer scrap, ShopRequest shopRequest) throws Exception {
+        List<String> placeIds = getPlaceIds(getShopId(nearBy, friend, scrap, shopRequest));
+
+        return streamShops(placeIds, shopRequest);
+    }
+
+    private Flux<ShopSimpleResponse> streamShops(List<String> placeIds, ShopRequest shopRequest) {
+        Map<String, ShopRateResponse> rates = getShopRates(placeIds);
+
+        return Flux.fromIterable(placeIds)
+                .flatMap(placeId -> callSimpleShopApi(placeId)
+                                .map(simpleShopDto -> toShopSimpleResponse(simpleShopDto, rates, shopRequest))
+                                .onErrorResume(e -> {
+                                    log.warn("상점 간단 조회 실패 placeId={} : {}", placeId, e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        apiConcurrency);
+    }
+
+    private ShopSimpleResponse toShopSimpleResponse(SimpleShopDto simpleShopDto, Map<String, ShopRateResponse> rates, ShopRequest shopRequest) {
+        Coordinate coordinate = Coordinate.from(simpleShopDto.getGeometry());
+        Double dist = getMeter(coordinate, shopRequest);
+
+        return ShopSimpleResponse.builder()
+                .placeId(simpleShopDto.getPlaceId())
+                .name(simpleShopDto.getName())
+                .coordinate(coordinate)
+                .category(getCategory(simpleShopDto.getTypes()).name())
+                .openNow(getOpenNow(simpleShopDto.getOpeningHours()))
+                .formattedAddress(simpleShopDto.getFormattedAddress())
+                .simpleFormattedAddress(formattedAddressFormatting(simpleShopDto.getFormattedAddress()))
+                .rate(rates.getOrDefault(simpleShopDto.getPlaceId(), ShopRateResponse.createDefaultRateResponse()))
+                .dist(dist)
+                .photos(getPhotoTokens(simpleShopDto.getPhotos()))
+                .build();
     }
 
+    /**
+     * 로컬 색인(상점 이름, 인기 검색어)으로 먼저 찾고, 결과가 부족할 때만 구글 자동완성으로 보충한다.
+     * 구글 결과는 (접두사, 격자 칸)별로 캐시한다.
+     */
     @Override
     public List<String> getAutoComplete(String query, AutoCompleteRequest autoCompleteRequest) throws JsonProcessingException {
-        List<String> autoCompleteResult = new ArrayList<>();
+        List<String> localResult = autoCompleteIndex.complete(query, autoCompleteRequest.getLat(), autoCompleteRequest.getLng());
 
-        String autoCompleteStr = this.callGoogleAutoComplete(query, autoCompleteRequest);
-
-        Map<String, Object> map = null;
-        try {
-            map = this.checkApiReturn(autoCompleteStr);
-        } catch (ApiException e) {
-            if (e.getErrorMessage().equals(ErrorMessage.ZERO_RESULTS_EXCEPTION.getErrorMessage())) {
-                return autoCompleteResult;
-            }
+        if (autoCompleteIndex.isEnough(localResult)) {
+            return localResult;
         }
 
-        String reusltStr = objectMapper.writeValueAsString(map.get("predictions"));
-        Prediction[] autoCompleteApiDto = objectMapper.readValue(reusltStr, Prediction[].class);
-
-        for (Prediction p : autoCompleteApiDto) {
-            String pStr = p.getStructuredFormatting().getMainText();
+        String prefix = PrefixTrie.normalize(query);
+        long cell = GeoCell.of(autoCompleteRequest.getLat(), autoCompleteRequest.getLng());
+        List<String> externalResult = autoCompleteCache.get(prefix, cell);
 
-            if (!autoCompleteResult.contains(pStr)) {
-                autoCompleteResult.add(pStr);
-            }
+        if (externalResult == null) {
+            externalResult = getGoogleAutoComplete(query, autoCompleteRequest);
+            autoCompleteCache.put(prefix, cell, externalResult);
         }
 
-        return autoCompleteResult;
+        Set<String> autoCompleteResult = new LinkedHashSet<>(localResult);
+        autoCompleteResult.addAll(externalResult);
+
+        return new ArrayList<>(autoCompleteResult);
     }
 
     @Override
     public ShopScrapResponse getShopScrap(String placeId) throws JsonProcessingException {
-        String requestField = toFieldString(scrapFields);
-        String shopStr = this.callGoogleApi(placeId, requestField);
+        return getShopScrap(placeId, getShopRate(placeId));
+    }
+
+    @Override
+    public ShopScrapResponse getShopScrap(String placeId, ShopRateResponse rate) throws JsonProcessingException {
+        String shopStr = this.callGoogleApi(placeId, PlaceFieldSet.SCRAP);
         ShopApiDto shopApiDto = this.jsonToShopApiDto(shopStr);
 
         Category category = getCategory(shopApiDto.getTypes());
         String photoToken = getSinglePhotoToken(shopApiDto.getPhotos());
 
-        ShopRateResponse shopRateResponse = getShopRate(placeId);
-
         return ShopScrapResponse.builder()
                 .placeId(shopApiDto.getPlaceId())
                 .name(shopApiDto.getName())
                 .category(category.name())
                 .photo(photoToken)
                 .address(shopApiDto.getFormattedAddress())
-                .rate(shopRateResponse)
+                .rate(rate)
                 .build();
     }
 
-
     @Override
     public ShopRateResponse getShopRate(String placeId) {
-        if (!googleShopRepository.existsByPlaceId(placeId)) {
-            return ShopRateResponse.createDefaultRateResponse();
-        }
+        return getShopRates(List.of(placeId))
+                .getOrDefault(placeId, ShopRateResponse.createDefaultRateResponse());
+    }
 
-        GoogleShopEntity shopEntity = googleShopRepository.getByPlaceId(placeId);
-        GoogleShopCount countEntity = shopEntity.getShopCount();
+    /**
+     * 여러 상점의 별점을 한 번의 쿼리로 가져오는 메소드
+     * 저장되지 않은 상점은 결과에 포함되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, ShopRateResponse> getShopRates(Collection<String> placeIds) {
+        Map<String, ShopRateResponse> rates = new HashMap<>();
 
-        return ShopRateResponse.from(countEntity);
-    }
+        if (placeIds.isEmpty()) {
+            return rates;
+        }
 
-    private String toFieldString(String[] fields) {
-        StringJoiner sj = new StringJoiner(",");
+        for (ShopRateResponse rate : googleShopRepository.findAllRatesByPlaceIdIn(placeIds)) {
+            long[] pending = writeBehindCounters.getPending(CounterTarget.SHOP, rate.getShopId());
 
-        for (String field : fields) {
-            sj.add(field);
+            if (pending != null) {
+                rate.addPending(pending[0], pending[1]);
+            }
+
+            rates.put(rate.getPlaceId(), rate);
         }
 
-        return sj.toString();
+        return rates;
     }
 
     private Double getMeter(Coordinate coordinate, ShopRequest shopRequest) {
@@ -376,55 +399,45 @@ public class GoogleShopServiceImpl implements GoogleShopService {
         return (rad * 180 / Math.PI);
     }
 
-    private List<String> getPlaceIds(List<Long> shopIds) {
-        List<String> placeIds = new ArrayList<>();
+    private List<String> getPlaceIds(long[] shopIds) {
+        List<ShopIdPair> shops = googleShopRepository.findIdPairsByIdIn(shopIds);
 
-        shopIds.stream()
-                .map(shopId -> googleShopRepository.findById(shopId))
-                .map(optionalGoogleShop -> optionalGoogleShop.orElseThrow(() -> new BaseException(ErrorMessage.SHOP_NOT_EXISTS_EXCEPTION)))
-                .forEach(googleShop -> placeIds.add(googleShop.getPlaceId()));
+        if (shops.size() != shopIds.length) {
+            throw new BaseException(ErrorMessage.SHOP_NOT_EXISTS_EXCEPTION);
+        }
 
-        return placeIds;
+        return shops.stream()
+                .map(ShopIdPair::getPlaceId)
+                .collect(Collectors.toList());
     }
 
-    //필터에 따라 상점 id 가져오는 메소드
-    private List<Long> getShopId(Integer nearBy, Integer friend, Integer scrap) throws Exception {
+    //필터에 따라 상점 id 가져오는 메소드 (정렬된 배열)
+    private long[] getShopId(Integer nearBy, Integer friend, Integer scrap, ShopRequest shopRequest) throws Exception {
         if (nearBy == 1) {
-            return googleShopRepository.findAll()
-                    .stream()
-                    .map(GoogleShopEntity::getId)
-                    .collect(Collectors.toList());
+            return getNearByShopIds(shopRequest);
         }
 
-        List<Long> shopIds = new LinkedList<>();
+        if (friend != 1 && scrap != 1) {
+            return SortedIds.EMPTY;
+        }
 
-        if (friend == 1) {
-            List<UserEntity> friends = followService.getFollowers();
+        Long userId = userService.getLoginUserId();
+        List<long[]> shopIds = new ArrayList<>(2);
 
-            friends.stream()
-                    .map(f -> reviewService.getReviewShopIdsForUser(f))
-                    .forEach(ids -> addNonDuplication(ids, shopIds));
+        if (friend == 1) {
+            shopIds.add(userShopSets.friendReviewedShopIds(userId));
         }
 
-        shopIds.sort(Comparator.naturalOrder());
-
         if (scrap == 1) {
-            List<Long> ids = scrapService.getShopIdsForUserScrap();
-            addNonDuplication(ids, shopIds);
+            shopIds.add(userShopSets.scrappedShopIds(userId));
         }
 
-        return shopIds;
+        return SortedIds.union(shopIds);
     }
 
-    private void addNonDuplication(List<Long> ids, List<Long> resultIds) {
-        for (Long id : ids) {
-            int insertionIndex = Collections.binarySearch(resultIds, id);
-
-            if (insertionIndex < 0) {
-                insertionIndex = -(insertionIndex + 1);
-                resultIds.add(insertionIndex, id);
-            }
-        }
+    //요청 위치 반경 안에서 가까운 nearByLimit개 상점 (google_shop 좌표 기준)
+    private long[] getNearByShopIds(ShopRequest shopRequest) {
+        return googleShopRepository.findIdsNear(shopRequest.getLat(), shopRequest.getLng(), nearByRadius, nearByLimit);
     }
 
     private ShopQueryResponses queryDtoToQueryResponses(ShopQueryDto shopQueryDto, ShopRequest shopRequest) {
@@ -510,51 +523,12 @@ public class GoogleShopServiceImpl implements GoogleShopService {
     }
 
     /**
-     * 여러 place_ids에서 간단하게 상점 정보를 받아오는 메소드
+     * place_id 하나에 대해 간단한 상점 정보를 non-blocking으로 받아오는 메소드
      */
-    private List<SimpleShopDto> callApiByPlaceIdsNonBlocking(List<String> placeIds) throws JsonProcessingException {
-        List<Mono<String>> monos = new ArrayList<>();
-
-        for (String id : placeIds) {
-            Mono<String> shopStr;
-
-            shopStr = webClient.get().uri(uriBuilder ->
-                            uriBuilder.path("/details/json")
-                                    .queryParam("place_id", id)
-                                    .queryParam("language", "ko")
-                                    .queryParam("key", API_KEY)
-                                    .queryParam("fields", toFieldString(simpleFields))
-                                    .build()
-                    )
-                    .retrieve().bodyToMono(String.class);
-
-            monos.add(shopStr);
-        }
-
-        Function<Object[], List> combinator = monoList -> Arrays.stream(monoList).collect(Collectors.toList());
-        List<String> results = Mono.zip(monos, combinator).block();
-
-        if (results == null) {
-            results = new ArrayList<>();
-        }
-
-        List<SimpleShopDto> simpleShopDtos = new ArrayList<>();
-        int continualException = 0;
-        for (String result : results) {
-            if (continualException > 5) {
-                throw new ApiException(ErrorMessage.CONTINUAL_API_EXCEPTION);
-            }
-            try {
-                continualException = 0;
-
-                SimpleShopDto simpleShopDto = this.jsonToSimpleShopDto(result);
-                simpleShopDtos.add(simpleShopDto);
-            } catch (ApiException e) {
-                continualException++;
-            }
-        }
-
-        return simpleShopDtos;
+    private Mono<SimpleShopDto> callSimpleShopApi(String placeId) {
+        return placeDetailsCache.get(placeId, PlaceFieldSet.SIMPLE, fieldSet -> callPlaceDetails(placeId, fieldSet))
+                .timeout(apiTimeout)
+                .flatMap(shopStr -> Mono.fromCallable(() -> this.jsonToSimpleShopDto(shopStr)));
     }
 
     /**
@@ -600,21 +574,38 @@ public class GoogleShopServiceImpl implements GoogleShopService {
      * 상점 단일검색을 위한 메소드
      *
      * @param placeId 구글에서 발행한 상점 아이디
-     * @return block으로 받아온 단일 상점 결과
+     * @return block으로 받아온 단일 상점 결과 (캐시된 결과가 있으면 캐시 사용)
      */
-    private String callGoogleApi(String placeId, String fieldStr) {
-        String shopStr = webClient.get().uri(uriBuilder ->
+    private String callGoogleApi(String placeId, PlaceFieldSet fieldSet) {
+        return placeDetailsCache.get(placeId, fieldSet, requestFieldSet -> callPlaceDetails(placeId, requestFieldSet))
+                .block();
+    }
+
+    private Mono<String> callPlaceDetails(String placeId, PlaceFieldSet fieldSet) {
+        return webClient.get().uri(uriBuilder ->
                 uriBuilder.path("/details/json")
                         .queryParam("place_id", placeId)
                         .queryParam("language", "ko")
                         .queryParam("key", API_KEY)
-                        .queryParam("fields", fieldStr)
+                        .queryParam("fields", fieldSet.getFieldString())
                         .build()
-        ).retrieve().bodyToMono(String.class).block();
-
-        return shopStr;
+        ).retrieve().bodyToMono(String.class);
     }
 
+    /**
+     * 구글 자동완성 결과의 상점 이름 (중복 제거, 순서 유지)
+     */
+    private List<String> getGoogleAutoComplete(String query, AutoCompleteRequest autoCompleteRequest) throws JsonProcessingException {
+        String autoCompleteStr = this.callGoogleAutoComplete(query, autoCompleteRequest);
+        Prediction[] autoCompleteApiDto = placesResponseDecoder.decodePredictions(autoCompleteStr);
+        Set<String> mainTexts = new LinkedHashSet<>();
+
+        for (Prediction p : autoCompleteApiDto) {
+            mainTexts.add(p.getStructuredFormatting().getMainText());
+        }
+
+        return new ArrayList<>(mainTexts);
+    }
 
     /**
      * 자동완성 요청을 위한 내부 메소드
@@ -641,74 +632,21 @@ public class GoogleShopServiceImpl implements GoogleShopService {
      * Simple 상점 DTO 파싱 메소드
      */
     private SimpleShopDto jsonToSimpleShopDto(String shopStr) throws JsonProcessingException {
-        Map<String, Object> map = this.checkApiReturn(shopStr);
-
-        String resultStr = objectMapper.writeValueAsString(map.get("result"));
-        SimpleShopDto simpleShopDto = objectMapper.readValue(resultStr, SimpleShopDto.class);
-
-        return simpleShopDto;
+        return placesResponseDecoder.decodeSimpleShop(shopStr);
     }
 
     /**
      * 단일 상점 DTO 파싱 메소드
      */
     private ShopApiDto jsonToShopApiDto(String shopStr) throws JsonProcessingException {
-        Map<String, Object> map = this.checkApiReturn(shopStr);
-
-        String resultStr = objectMapper.writeValueAsString(map.get("result"));
-        ShopApiDto shopApiDto = objectMapper.readValue(resultStr, ShopApiDto.class);
-
-        return shopApiDto;
+        return placesResponseDecoder.decodeShop(shopStr);
     }
 
     /**
      * 다중 상점 DTO 파싱 메소드
      */
     private ShopQueryDto jsonToShopQueryDto(String shopStr) throws JsonProcessingException {
-
-        try {
-            this.checkApiReturn(shopStr);
-        } catch (ApiException e) {
-            if (e.getErrorMessage().equals(ErrorMessage.ZERO_RESULTS_EXCEPTION.getErrorMessage())) {
-                ArrayList<ShopQueryApiDto> shopQueryApiDtos = new ArrayList<>();
-
-                return ShopQueryDto.builder()
-                        .nextPageToken(null)
-                        .results(shopQueryApiDtos)
-                        .build();
-            }
-        }
-
-        ShopQueryDto shopQueryDto = objectMapper.readValue(shopStr, ShopQueryDto.class);
-
-        return shopQueryDto;
-    }
-
-    //api return status check
-    private Map<String, Object> checkApiReturn(String apiReturn) throws JsonProcessingException {
-        Map<String, Object> map = objectMapper.readValue(apiReturn, new TypeReference<HashMap<String, Object>>() {
-        });
-
-        String status = (String) map.get("status");
-
-        if (!status.equals("OK")) {
-            switch (status) {
-                case "ZERO_RESULTS":
-                    throw new ApiException(ErrorMessage.ZERO_RESULTS_EXCEPTION);
-                case "NOT_FOUND":
-                    throw new ApiException(ErrorMessage.NOT_FOUND_EXCEPTION);
-                case "INVALID_REQUEST":
-                    throw new ApiException(ErrorMessage.INVALID_REQUEST_EXCEPTION);
-                case "OVER_QUERY_LIMIT":
-                    throw new ApiException(ErrorMessage.OVER_QUERY_LIMIT_EXCEPTION);
-                case "REQUEST_DENIED":
-                    throw new ApiException(ErrorMessage.REQUEST_DENIEDE_EXCEPTION);
-                case "UNKNOWN_ERROR":
-                    throw new ApiException(ErrorMessage.UNDEFINED_EXCEPTION);
-            }
-        }
-
-        return map;
+        return placesResponseDecoder.decodeQuery(shopStr);
     }
 
     private Category getCategory(List<String> types) {
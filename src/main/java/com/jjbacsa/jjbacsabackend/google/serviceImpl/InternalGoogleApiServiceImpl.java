@@ -2,7 +2,9 @@ package com.jjbacsa.jjbacsabackend.google.serviceImpl;
 
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
-import com.jjbacsa.jjbacsabackend.google.dto.response.ShopPinResponse;
+import com.jjbacsa.jjbacsabackend.google.dto.api.SimpleShopDto;
+import com.jjbacsa.jjbacsabackend.google.dto.response.Coordinate;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopScrapResponse;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
@@ -14,6 +16,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -47,13 +52,31 @@ public class InternalGoogleApiServiceImpl implements InternalGoogleApiService {
         return shopScrapResponse;
     }
 
+    @Override
+    public ShopScrapResponse formattedToShopResponse(ScrapEntity scrap, ShopRateResponse rate) throws Exception {
+        return googleShopService.getShopScrap(scrap.getShop().getPlaceId(), rate);
+    }
+
+    @Override
+    public Map<String, ShopRateResponse> getShopRates(Collection<String> placeIds) {
+        return googleShopService.getShopRates(placeIds);
+    }
+
+    //존재 확인과 함께 이름, 좌표를 받아 저장 (주변 상점 조회, 자동완성에 사용)
     private GoogleShopEntity saveGoogleShop(String placeId) throws Exception {
-        if (googleShopService.isShopExist(placeId) == false) {
+        SimpleShopDto simpleShop = googleShopService.getSimpleShop(placeId);
+
+        if (simpleShop == null) {
             throw new ApiException(ErrorMessage.INVALID_REQUEST_EXCEPTION);
         }
 
+        Coordinate coordinate = Coordinate.from(simpleShop.getGeometry());
+
         GoogleShopEntity googleShopEntity = GoogleShopEntity.builder()
                 .placeId(placeId)
+                .name(simpleShop.getName())
+                .latitude(coordinate == null ? null : coordinate.getLat())
+                .longitude(coordinate == null ? null : coordinate.getLng())
                 .build();
 
         return googleShopRepository.save(googleShopEntity);
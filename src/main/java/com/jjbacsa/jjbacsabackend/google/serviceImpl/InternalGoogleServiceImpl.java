@@ -1,5 +1,7 @@
 package com.jjbacsa.jjbacsabackend.google.serviceImpl;
 
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterBuffer;
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterField;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class InternalGoogleServiceImpl implements InternalGoogleService {
 
     private final GoogleShopRepository googleShopRepository;
+    private final CounterBuffer counterBuffer;
 
     @Override
     @Transactional(readOnly = true)
@@ -27,22 +30,19 @@ public class InternalGoogleServiceImpl implements InternalGoogleService {
     @Override
     public void addTotalRating(Long shopId, int delta) {
 
-        GoogleShopEntity shop = getGoogleShopById(shopId);
-        shop.getShopCount().setTotalRating(googleShopRepository.getTotalRating(shopId) + delta);
+        counterBuffer.add(CounterField.SHOP_TOTAL_RATING, shopId, delta);
     }
 
     @Override
     public void increaseRatingCount(Long shopId) {
 
-        GoogleShopEntity shop = getGoogleShopById(shopId);
-        shop.getShopCount().setRatingCount(googleShopRepository.getRatingCount(shopId) + 1);
+        counterBuffer.add(CounterField.SHOP_RATING_COUNT, shopId, 1);
     }
 
     @Override
     public void decreaseRatingCount(Long shopId) {
 
-        GoogleShopEntity shop = getGoogleShopById(shopId);
-        shop.getShopCount().setRatingCount(googleShopRepository.getRatingCount(shopId) - 1);
+        counterBuffer.add(CounterField.SHOP_RATING_COUNT, shopId, -1);
     }
 
 }
@@ -0,0 +1,165 @@
+package com.jjbacsa.jjbacsabackend.google.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
+import com.jjbacsa.jjbacsabackend.google.dto.api.Prediction;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopApiDto;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopQueryApiDto;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopQueryDto;
+import com.jjbacsa.jjbacsabackend.google.dto.api.SimpleShopDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구글 Places API 응답 파싱
+ * 응답을 한 번만 읽으면서 status를 확인하고 result/results/predictions를 바로 DTO로 바인딩한다.
+ */
+public class PlacesResponseDecoder {
+    private static final String STATUS = "status";
+    private static final String NEXT_PAGE_TOKEN = "next_page_token";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader shopApiReader;
+    private final ObjectReader simpleShopReader;
+    private final ObjectReader queryResultsReader;
+    private final ObjectReader predictionsReader;
+
+    public PlacesResponseDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.shopApiReader = reader(objectMapper.readerFor(ShopApiDto.class));
+        this.simpleShopReader = reader(objectMapper.readerFor(SimpleShopDto.class));
+        this.queryResultsReader = reader(objectMapper.readerFor(new TypeReference<List<ShopQueryApiDto>>() {
+        }));
+        this.predictionsReader = reader(objectMapper.readerFor(Prediction[].class));
+    }
+
+    /**
+     * 단일 상점 상세 응답 (result)
+     */
+    public ShopApiDto decodeShop(String body) throws JsonProcessingException {
+        Decoded<ShopApiDto> decoded = decode(body, "result", shopApiReader);
+        checkStatus(decoded.status);
+
+        return decoded.value;
+    }
+
+    /**
+     * 간단 상점 응답 (result)
+     */
+    public SimpleShopDto decodeSimpleShop(String body) throws JsonProcessingException {
+        Decoded<SimpleShopDto> decoded = decode(body, "result", simpleShopReader);
+        checkStatus(decoded.status);
+
+        return decoded.value;
+    }
+
+    /**
+     * 검색어 다중 상점 응답 (results), 결과가 없으면 빈 결과를 반환한다.
+     */
+    public ShopQueryDto decodeQuery(String body) throws JsonProcessingException {
+        Decoded<List<ShopQueryApiDto>> decoded = decode(body, "results", queryResultsReader);
+
+        if (isZeroResults(decoded.status)) {
+            return ShopQueryDto.builder()
+                    .nextPageToken(null)
+                    .results(new ArrayList<>())
+                    .build();
+        }
+        checkStatus(decoded.status);
+
+        return ShopQueryDto.builder()
+                .nextPageToken(decoded.nextPageToken)
+                .results(decoded.value == null ? new ArrayList<>() : decoded.value)
+                .build();
+    }
+
+    /**
+     * 자동완성 응답 (predictions), 결과가 없으면 빈 배열을 반환한다.
+     */
+    public Prediction[] decodePredictions(String body) throws JsonProcessingException {
+        Decoded<Prediction[]> decoded = decode(body, "predictions", predictionsReader);
+
+        if (isZeroResults(decoded.status)) {
+            return new Prediction[0];
+        }
+        checkStatus(decoded.status);
+
+        return decoded.value == null ? new Prediction[0] : decoded.value;
+    }
+
+    private <T> Decoded<T> decode(String body, String targetField, ObjectReader targetReader) throws JsonProcessingException {
+        Decoded<T> decoded = new Decoded<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiException(ErrorMessage.UNDEFINED_EXCEPTION);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (STATUS.equals(fieldName)) {
+                    decoded.status = parser.getValueAsString();
+                } else if (NEXT_PAGE_TOKEN.equals(fieldName)) {
+                    decoded.nextPageToken = parser.getValueAsString();
+                } else if (targetField.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    decoded.value = targetReader.readValue(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new ApiException(ErrorMessage.UNDEFINED_EXCEPTION);
+        }
+
+        return decoded;
+    }
+
+    private boolean isZeroResults(String status) {
+        return "ZERO_RESULTS".equals(status);
+    }
+
+    //api return status check
+    private void checkStatus(String status) {
+        if (status == null) {
+            throw new ApiException(ErrorMessage.UNDEFINED_EXCEPTION);
+        }
+
+        switch (status) {
+            case "ZERO_RESULTS":
+                throw new ApiException(ErrorMessage.ZERO_RESULTS_EXCEPTION);
+            case "NOT_FOUND":
+                throw new ApiException(ErrorMessage.NOT_FOUND_EXCEPTION);
+            case "INVALID_REQUEST":
+                throw new ApiException(ErrorMessage.INVALID_REQUEST_EXCEPTION);
+            case "OVER_QUERY_LIMIT":
+                throw new ApiException(ErrorMessage.OVER_QUERY_LIMIT_EXCEPTION);
+            case "REQUEST_DENIED":
+                throw new ApiException(ErrorMessage.REQUEST_DENIEDE_EXCEPTION);
+            case "UNKNOWN_ERROR":
+                throw new ApiException(ErrorMessage.UNDEFINED_EXCEPTION);
+        }
+    }
+
+    private static ObjectReader reader(ObjectReader reader) {
+        return reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static class Decoded<T> {
+        private String status;
+        private String nextPageToken;
+        private T value;
+    }
+}
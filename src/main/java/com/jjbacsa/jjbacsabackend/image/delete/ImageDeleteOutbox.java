@@ -0,0 +1,61 @@
+package com.jjbacsa.jjbacsabackend.image.delete;
+
+import com.jjbacsa.jjbacsabackend.image.entity.ImageDeleteOutboxEntity;
+import com.jjbacsa.jjbacsabackend.image.repository.ImageDeleteOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * S3 이미지 삭제 대기열
+ * 요청 처리 중에는 S3를 호출하지 않고 삭제할 경로만 기록해 두고, ImageDeleteWorker가 모아서 지운다.
+ */
+@Slf4j
+@Component
+public class ImageDeleteOutbox {
+
+    private final ImageDeleteOutboxRepository outboxRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ImageDeleteOutbox(ImageDeleteOutboxRepository outboxRepository, PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재 트랜잭션에 삭제 요청을 기록한다. 트랜잭션이 롤백되면 기록도 함께 사라진다.
+     *
+     * @param imagePaths "버킷/디렉토리/파일명" 형식의 경로
+     */
+    public void enqueue(List<String> imagePaths) {
+        if (imagePaths.isEmpty()) {
+            return;
+        }
+
+        outboxRepository.saveAll(imagePaths.stream()
+                .map(ImageDeleteOutboxEntity::of)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 현재 트랜잭션과 상관없이 바로 기록한다.
+     * 롤백되거나 업로드가 실패해서 남은 객체처럼, 바깥 트랜잭션이 커밋되지 않아도 지워야 하는 경우에 쓴다.
+     */
+    public void enqueueNow(List<String> imagePaths) {
+        if (imagePaths.isEmpty()) {
+            return;
+        }
+
+        try {
+            requiresNew.executeWithoutResult(status -> enqueue(imagePaths));
+        } catch (RuntimeException e) {
+            log.warn("이미지 삭제 요청 기록 실패: {}", imagePaths, e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.jjbacsa.jjbacsabackend.image.delete;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.jjbacsa.jjbacsabackend.image.entity.ImageDeleteOutboxEntity;
+import com.jjbacsa.jjbacsabackend.image.repository.ImageDeleteOutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * image_delete_outbox에 쌓인 삭제 요청을 버킷별로 묶어 DeleteObjects 한 번에 최대 1000개씩 지운다.
+ * 실패한 키만 지수 백오프로 다시 시도하고, image.delete.max-attempts 번 실패한 행은 남겨 두어 확인할 수 있게 한다.
+ * 행은 UPDATE로 선점한 뒤 가져오므로 여러 인스턴스가 동시에 실행해도 같은 행을 중복 처리하지 않는다.
+ * 선점한 워커가 image.delete.claim-timeout 안에 끝내지 못한 행은 다른 워커가 다시 선점한다.
+ * 처리량과 남은 행 수는 image.delete.* 메트릭으로 확인한다.
+ */
+@Slf4j
+@Component
+public class ImageDeleteWorker implements MeterBinder {
+    // S3 DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 60 * 60 * 1000L;
+
+    private final ImageDeleteOutboxRepository outboxRepository;
+    private final AmazonS3Client amazonS3Client;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long claimTimeoutMillis;
+
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    public ImageDeleteWorker(ImageDeleteOutboxRepository outboxRepository,
+                             AmazonS3Client amazonS3Client,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${image.delete.batch-size:1000}") int batchSize,
+                             @Value("${image.delete.max-attempts:10}") int maxAttempts,
+                             @Value("${image.delete.backoff:1000}") long backoffMillis,
+                             @Value("${image.delete.claim-timeout:300000}") long claimTimeoutMillis) {
+        this.outboxRepository = outboxRepository;
+        this.amazonS3Client = amazonS3Client;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_KEYS_PER_REQUEST));
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete.interval:5000}")
+    public void drain() {
+        int claimed;
+        do {
+            String token = UUID.randomUUID().toString();
+            claimed = claim(token);
+
+            if (claimed > 0) {
+                transactionTemplate.executeWithoutResult(status -> drainBatch(token));
+            }
+        } while (claimed == batchSize);     // 한 번에 다 못 가져왔으면 이어서 처리
+    }
+
+    // 선점은 짧은 트랜잭션으로 먼저 커밋해서 S3 호출 동안 행 잠금을 잡고 있지 않는다
+    private int claim(String token) {
+        Date now = new Date();
+        Integer claimed = transactionTemplate.execute(status ->
+                outboxRepository.claimDue(token, maxAttempts, now, new Date(now.getTime() + claimTimeoutMillis), batchSize));
+
+        return claimed == null ? 0 : claimed;
+    }
+
+    // 선점한 행을 지우고, 성공한 행은 삭제, 실패한 행은 선점을 풀고 다음 시도 시각을 미룬다
+    private void drainBatch(String token) {
+        List<ImageDeleteOutboxEntity> due = outboxRepository.findByClaimTokenOrderById(token);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ImageDeleteOutboxEntity>> byBucket = due.stream()
+                .collect(Collectors.groupingBy(ImageDeleteOutboxEntity::getBucket, LinkedHashMap::new, Collectors.toList()));
+
+        List<ImageDeleteOutboxEntity> done = new ArrayList<>(due.size());
+        for (Map.Entry<String, List<ImageDeleteOutboxEntity>> entry : byBucket.entrySet()) {
+            done.addAll(deleteObjects(entry.getKey(), entry.getValue()));
+        }
+
+        outboxRepository.deleteAllInBatch(done);
+    }
+
+    private List<ImageDeleteOutboxEntity> deleteObjects(String bucket, List<ImageDeleteOutboxEntity> rows) {
+        String[] keys = rows.stream()
+                .map(ImageDeleteOutboxEntity::getObjectKey)
+                .distinct()
+                .toArray(String[]::new);
+        requests.increment();
+
+        try {
+            // quiet 모드: 실패한 키만 응답에 담긴다 (없는 키는 성공으로 처리됨)
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+            deleted.add(rows.size());
+            return rows;
+        } catch (MultiObjectDeleteException e) {
+            Map<String, String> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getKey(), error.getCode() + ": " + error.getMessage()));
+
+            List<ImageDeleteOutboxEntity> done = new ArrayList<>(rows.size());
+            for (ImageDeleteOutboxEntity row : rows) {
+                String error = errors.get(row.getObjectKey());
+                if (error == null) {
+                    done.add(row);
+                } else {
+                    retry(row, error);
+                }
+            }
+            deleted.add(done.size());
+            return done;
+        } catch (SdkClientException e) {
+            log.warn("이미지 일괄 삭제 실패: bucket={}, keys={}", bucket, keys.length, e);
+            rows.forEach(row -> retry(row, e.getMessage()));
+            return Collections.emptyList();
+        }
+    }
+
+    private void retry(ImageDeleteOutboxEntity row, String error) {
+        failed.increment();
+        row.retryAfter(backoff(row.getAttempts()), error);
+
+        if (row.getAttempts() >= maxAttempts) {
+            log.error("이미지 삭제 포기: {}/{} ({})", row.getBucket(), row.getObjectKey(), error);
+        }
+    }
+
+    private long backoff(int attempts) {
+        return Math.min(backoffMillis << Math.min(attempts, 20), MAX_BACKOFF_MILLIS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("image.delete.deleted", deleted, LongAdder::sum)
+                .description("삭제한 이미지 수")
+                .register(registry);
+        FunctionCounter.builder("image.delete.failed", failed, LongAdder::sum)
+                .description("삭제에 실패해 다시 시도로 미룬 수")
+                .register(registry);
+        FunctionCounter.builder("image.delete.requests", requests, LongAdder::sum)
+                .description("S3 DeleteObjects 요청 수")
+                .register(registry);
+        // 두 게이지는 수집할 때마다 count 쿼리를 실행한다
+        Gauge.builder("image.delete.backlog", this, ImageDeleteWorker::getBacklogCount)
+                .description("삭제 대기 중인 행 수")
+                .register(registry);
+        Gauge.builder("image.delete.abandoned", this, ImageDeleteWorker::getAbandonedCount)
+                .description("재시도 횟수를 다 써서 남아 있는 행 수")
+                .register(registry);
+    }
+
+    public long getDeletedCount() {
+        return deleted.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    // 아직 재시도할 수 있는 삭제 대기 행 수
+    public long getBacklogCount() {
+        return outboxRepository.countByAttemptsLessThan(maxAttempts);
+    }
+
+    // 재시도 횟수를 다 써서 남아 있는 행 수
+    public long getAbandonedCount() {
+        return outboxRepository.countByAttemptsGreaterThanEqual(maxAttempts);
+    }
+}
@@ -11,4 +11,6 @@ public class ImageRequest {
     private String path;
     private String originalName;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String listUrl;
 }
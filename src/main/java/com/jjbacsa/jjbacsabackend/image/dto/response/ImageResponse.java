@@ -12,4 +12,6 @@ public class ImageResponse {
     private String path;
     private String originalName;
     private String url;
+    private String thumbnailUrl;
+    private String listUrl;
 }
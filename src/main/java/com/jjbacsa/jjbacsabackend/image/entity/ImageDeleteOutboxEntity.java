@@ -0,0 +1,75 @@
+package com.jjbacsa.jjbacsabackend.image.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * 삭제 대기 중인 S3 이미지 객체
+ * 이미지를 지우는 트랜잭션 안에서 저장하고, ImageDeleteWorker가 모아서 지운 뒤 행을 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "image_delete_outbox")
+public class ImageDeleteOutboxEntity {
+    private static final int ERROR_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "bucket", nullable = false)
+    private String bucket;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "next_attempt_at", nullable = false)
+    private Date nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    // 처리 중인 워커의 선점 토큰, 기한 (ImageDeleteOutboxRepository.claimDue)
+    @Column(name = "claim_token")
+    private String claimToken;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "claimed_until")
+    private Date claimedUntil;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Date createdAt;
+
+    // imagePath: "버킷/디렉토리/파일명"
+    public static ImageDeleteOutboxEntity of(String imagePath) {
+        int index = imagePath.lastIndexOf('/');
+        Date now = new Date();
+
+        ImageDeleteOutboxEntity outbox = new ImageDeleteOutboxEntity();
+        outbox.bucket = imagePath.substring(0, index);
+        outbox.objectKey = imagePath.substring(index + 1);
+        outbox.nextAttemptAt = now;
+        outbox.createdAt = now;
+
+        return outbox;
+    }
+
+    public void retryAfter(long delayMillis, String error) {
+        this.attempts++;
+        this.nextAttemptAt = new Date(System.currentTimeMillis() + delayMillis);
+        this.lastError = error != null && error.length() > ERROR_MAX_LENGTH ? error.substring(0, ERROR_MAX_LENGTH) : error;
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+}
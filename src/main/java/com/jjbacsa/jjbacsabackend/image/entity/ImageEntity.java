@@ -1,6 +1,7 @@
 package com.jjbacsa.jjbacsabackend.image.entity;
 
 import com.jjbacsa.jjbacsabackend.etc.entity.BaseEntity;
+import com.jjbacsa.jjbacsabackend.image.process.Rendition;
 import com.jjbacsa.jjbacsabackend.etc.enums.OAuthType;
 import com.jjbacsa.jjbacsabackend.etc.enums.UserType;
 import com.jjbacsa.jjbacsabackend.user.dto.UserRequest;
@@ -11,6 +12,9 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -33,11 +37,31 @@ public class ImageEntity extends BaseEntity {
     @Column(name = "url")
     private String url;
 
+    // 사본이 없는 기존 이미지는 null
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
 
+    @Column(name = "list_url")
+    private String listUrl;
 
-    public void updateImage(String path, String originalName, String imageUrl){
+    public void updateImage(String path, String originalName, String imageUrl, String thumbnailUrl, String listUrl){
         this.path = path;
         this.originalName = originalName;
         this.url = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.listUrl = listUrl;
+    }
+
+    // S3에서 지워야 할 원본과 사본 경로
+    public List<String> getStoredPaths(){
+        if (thumbnailUrl == null) {
+            return Collections.singletonList(path);
+        }
+
+        List<String> paths = new ArrayList<>();
+        for (Rendition rendition : Rendition.values()) {
+            paths.add(rendition.pathOf(path));
+        }
+        return paths;
     }
 }
\ No newline at end of file
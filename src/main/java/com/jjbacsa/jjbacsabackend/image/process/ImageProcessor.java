@@ -0,0 +1,182 @@
+package com.jjbacsa.jjbacsabackend.image.process;
+
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.NonCriticalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지로 크기별 사본(FULL, LIST, THUMBNAIL)을 만든다.
+ * 원본을 통째로 디코딩하지 않고 FULL 너비 이상이 되는 만큼만 건너뛰며 읽은 뒤(subsampling),
+ * 절반씩 줄여 나가는 방식으로 축소하고 큰 사본에서 작은 사본을 이어서 만든다.
+ * 디코딩은 메모리를 많이 쓰므로 동시에 처리하는 수를 제한된 스레드 풀로 묶는다.
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final int fullWidth;
+    private final int listWidth;
+    private final int thumbnailWidth;
+    private final ExecutorService executor;
+
+    public ImageProcessor(@Value("${image.rendition.full-width:1280}") int fullWidth,
+                          @Value("${image.rendition.list-width:500}") int listWidth,
+                          @Value("${image.rendition.thumbnail-width:150}") int thumbnailWidth,
+                          @Value("${image.process.concurrency:2}") int concurrency,
+                          @Value("${image.process.queue-size:50}") int queueSize) {
+        this.fullWidth = fullWidth;
+        this.listWidth = listWidth;
+        this.thumbnailWidth = thumbnailWidth;
+        this.executor = newBoundedExecutor(concurrency, queueSize);
+    }
+
+    /**
+     * 작업 스레드에서 사본을 만든다. 대기열이 가득 차면 요청 스레드에서 처리한다.
+     */
+    public Future<ImageRenditions> submit(MultipartFile image) {
+        return executor.submit(() -> {
+            try (InputStream inputStream = image.getInputStream()) {
+                return render(inputStream);
+            }
+        });
+    }
+
+    /**
+     * 현재 스레드에서 사본을 만든다.
+     *
+     * @throws NonCriticalException 읽을 수 없는 이미지인 경우
+     */
+    public ImageRenditions render(InputStream inputStream) {
+        try {
+            BufferedImage full = fit(decode(inputStream, fullWidth), fullWidth);
+            BufferedImage list = fit(full, listWidth);
+            BufferedImage thumbnail = fit(list, thumbnailWidth);
+
+            ImageRenditions renditions = new ImageRenditions();
+            renditions.put(Rendition.FULL, encode(full));
+            renditions.put(Rendition.LIST, encode(list));
+            renditions.put(Rendition.THUMBNAIL, encode(thumbnail));
+            return renditions;
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 사본 생성 실패", e);
+            throw new NonCriticalException(ErrorMessage.IMAGE_RESIZING_EXCEPTION);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 결과 너비가 targetWidth 아래로 내려가지 않는 범위에서 행/열을 건너뛰며 읽는다
+    private static BufferedImage decode(InputStream inputStream, int targetWidth) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / targetWidth);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 너비가 targetWidth가 될 때까지 절반씩 줄인다 (더 작으면 키우지 않고 RGB로만 바꾼다)
+    static BufferedImage fit(BufferedImage source, int targetWidth) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        if (width <= targetWidth) {
+            return source.getType() == BufferedImage.TYPE_INT_RGB ? source : scale(source, width, height);
+        }
+
+        int targetHeight = Math.max(1, (int) ((long) height * targetWidth / width));
+        BufferedImage current = source;
+        do {
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+            current = scale(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            // 투명한 PNG는 흰 배경 위에 그린다
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static ExecutorService newBoundedExecutor(int concurrency, int queueSize) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-process-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,22 @@
+package com.jjbacsa.jjbacsabackend.image.process;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ImageProcessor가 만든 사본들 (모두 JPEG)
+ */
+public class ImageRenditions {
+    public static final String CONTENT_TYPE = "image/jpeg";
+    public static final String EXTENSION = ".jpg";
+
+    private final Map<Rendition, byte[]> renditions = new EnumMap<>(Rendition.class);
+
+    void put(Rendition rendition, byte[] bytes) {
+        renditions.put(rendition, bytes);
+    }
+
+    public byte[] get(Rendition rendition) {
+        return renditions.get(rendition);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jjbacsa.jjbacsabackend.image.process;
+
+/**
+ * 업로드 이미지 하나로 만드는 크기별 사본
+ * 원본 경로(FULL)에 접미사를 붙인 경로에 저장하므로, 원본 경로만 알면 나머지 경로를 구할 수 있다.
+ */
+public enum Rendition {
+    FULL(""),
+    LIST("_list"),
+    THUMBNAIL("_thumb");
+
+    private final String suffix;
+
+    Rendition(String suffix) {
+        this.suffix = suffix;
+    }
+
+    // "bucket/review/uuid.jpg" -> "bucket/review/uuid_thumb.jpg"
+    public String pathOf(String fullPath) {
+        int dot = fullPath.lastIndexOf('.');
+        if (dot < 0 || dot < fullPath.lastIndexOf('/')) {
+            return fullPath + suffix;
+        }
+        return fullPath.substring(0, dot) + suffix + fullPath.substring(dot);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jjbacsa.jjbacsabackend.image.repository;
+
+import com.jjbacsa.jjbacsabackend.image.entity.ImageDeleteOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface ImageDeleteOutboxRepository extends JpaRepository<ImageDeleteOutboxEntity, Long> {
+
+    // 여러 인스턴스가 같은 행을 가져가지 않도록 기한이 된 행을 UPDATE로 먼저 선점한다 (dialect의 SKIP LOCKED 지원과 무관)
+    // 선점 기한이 지난 행은 처리 중 멈춘 워커의 것으로 보고 다시 선점한다
+    @Modifying
+    @Query(value = "update image_delete_outbox " +
+            "set claim_token = :token, claimed_until = :claimedUntil " +
+            "where attempts < :maxAttempts and next_attempt_at <= :now " +
+            "and (claim_token is null or claimed_until < :now) " +
+            "limit :limit",
+            nativeQuery = true)
+    int claimDue(@Param("token") String token, @Param("maxAttempts") int maxAttempts, @Param("now") Date now,
+                 @Param("claimedUntil") Date claimedUntil, @Param("limit") int limit);
+
+    List<ImageDeleteOutboxEntity> findByClaimTokenOrderById(String claimToken);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+
+    long countByAttemptsLessThan(int maxAttempts);
+}
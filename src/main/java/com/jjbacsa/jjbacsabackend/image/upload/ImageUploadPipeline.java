@@ -0,0 +1,241 @@
+package com.jjbacsa.jjbacsabackend.image.upload;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.NonCriticalException;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.image.delete.ImageDeleteOutbox;
+import com.jjbacsa.jjbacsabackend.image.dto.request.ImageRequest;
+import com.jjbacsa.jjbacsabackend.image.process.ImageProcessor;
+import com.jjbacsa.jjbacsabackend.image.process.ImageRenditions;
+import com.jjbacsa.jjbacsabackend.image.process.Rendition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 업로드 파이프라인
+ * 요청의 이미지를 먼저 모두 검사한 뒤 ImageProcessor로 크기별 사본을 만들고, 제한된 스레드 풀에서 TransferManager로 동시에 업로드한다.
+ * 트랜잭션이 롤백되면 올린 객체를, 커밋되면 교체/삭제된 기존 객체를 ImageDeleteOutbox에 넘겨 지운다.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+    private static final long FILE_MAX_SIZE = 10000000L;
+
+    private static final Rendition[] RENDITIONS = Rendition.values();
+
+    private final ImageProcessor imageProcessor;
+    private final ImageDeleteOutbox deleteOutbox;
+    private final ExecutorService executor;
+    private final TransferManager transferManager;
+
+    public ImageUploadPipeline(AmazonS3Client amazonS3Client,
+                               ImageProcessor imageProcessor,
+                               ImageDeleteOutbox deleteOutbox,
+                               @Value("${image.upload.concurrency:4}") int concurrency,
+                               @Value("${image.upload.queue-size:100}") int queueSize) {
+        this.imageProcessor = imageProcessor;
+        this.deleteOutbox = deleteOutbox;
+        this.executor = newBoundedExecutor(concurrency, queueSize);
+        // 사본은 원본(최대 10MB)보다 작아 멀티파트 기준(16MB) 아래이므로 한 파일이 한 스레드만 쓴다
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> executor)
+                .withShutDownThreadPools(false)
+                .build();
+    }
+
+    /**
+     * 이미지마다 크기별 사본을 만들어 동시에 업로드하고 저장할 경로 정보를 요청 순서대로 반환한다.
+     * 하나라도 실패하면 이미 올린 객체를 삭제 대기열에 넣고 예외를 던진다.
+     *
+     * @param path      버킷/디렉토리 경로 ("/"로 끝남)
+     * @param urlFormat 조회 URL 앞부분
+     */
+    public List<ImageRequest> upload(List<MultipartFile> images, String path, String urlFormat) {
+        if (images == null || images.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 처리 전에 전부 검사해서 잘못된 파일이 있으면 아무것도 올리지 않는다
+        for (MultipartFile image : images) {
+            checkImageInfo(image);
+        }
+
+        // 사본 생성은 처리 풀에서 돌리고, 먼저 끝난 이미지부터 업로드를 시작한다
+        List<Future<ImageRenditions>> rendering = new ArrayList<>(images.size());
+        for (MultipartFile image : images) {
+            rendering.add(imageProcessor.submit(image));
+        }
+
+        String bucket = path.substring(0, path.length() - 1);
+        List<ImageRequest> staged = new ArrayList<>(images.size());
+        List<PendingUpload> pending = new ArrayList<>(images.size() * RENDITIONS.length);
+        RuntimeException failure = null;
+
+        for (int i = 0; i < images.size() && failure == null; i++) {
+            ImageRenditions renditions;
+            try {
+                renditions = rendering.get(i).get();
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof NonCriticalException
+                        ? (NonCriticalException) e.getCause()
+                        : new NonCriticalException(ErrorMessage.IMAGE_RESIZING_EXCEPTION);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new RequestInputException(ErrorMessage.IMAGE_UPLOAD_FAIL_EXCEPTION);
+                break;
+            }
+
+            // 파일명 중복 피하고자 UUID 랜덤 변수 설정
+            String fileName = UUID.randomUUID().toString().concat(ImageRenditions.EXTENSION);
+            staged.add(new ImageRequest(path.concat(fileName), images.get(i).getOriginalFilename(), urlFormat.concat(fileName),
+                    urlFormat.concat(Rendition.THUMBNAIL.pathOf(fileName)), urlFormat.concat(Rendition.LIST.pathOf(fileName))));
+
+            for (Rendition rendition : RENDITIONS) {
+                String key = rendition.pathOf(fileName);
+                try {
+                    pending.add(submit(bucket, key, path.concat(key), renditions.get(rendition)));
+                } catch (RuntimeException e) {
+                    failure = new RequestInputException(ErrorMessage.IMAGE_UPLOAD_FAIL_EXCEPTION);
+                    break;
+                }
+            }
+        }
+
+        if (failure != null) {
+            rendering.forEach(future -> future.cancel(true));
+        }
+
+        List<String> uploaded = new ArrayList<>(pending.size());
+        for (PendingUpload upload : pending) {
+            if (upload.await()) {
+                uploaded.add(upload.imagePath);
+            } else if (failure == null) {
+                failure = new RequestInputException(ErrorMessage.IMAGE_UPLOAD_FAIL_EXCEPTION);
+            }
+        }
+
+        if (failure != null) {
+            deleteOutbox.enqueueNow(uploaded);
+            throw failure;
+        }
+
+        deleteOnRollback(uploaded);
+
+        return staged;
+    }
+
+    /**
+     * 기존 이미지 객체를 지운다.
+     * 현재 트랜잭션에 삭제 요청을 기록하므로 커밋된 경우에만 지워지고, 롤백되면 기존 이미지가 남는다.
+     */
+    public void deleteAfterCommit(List<String> imagePaths) {
+        deleteOutbox.enqueue(imagePaths);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(false);
+        executor.shutdown();
+    }
+
+    private PendingUpload submit(String bucket, String key, String imagePath, byte[] bytes) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(bytes.length);
+        objectMetadata.setContentType(ImageRenditions.CONTENT_TYPE);
+
+        Upload upload = transferManager.upload(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return new PendingUpload(upload, imagePath);
+    }
+
+    // 업로드 중 롤백 대비: 커밋되지 않으면 올린 객체를 지운다
+    private void deleteOnRollback(List<String> imagePaths) {
+        if (imagePaths.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteOutbox.enqueueNow(imagePaths);
+                }
+            }
+        });
+    }
+
+    private void checkImageInfo(MultipartFile image) {
+        String contentType = image.getContentType();
+        // 확장자가 jpeg, png인 파일들만 받아서 처리 (사본은 모두 jpg로 저장)
+        if (contentType == null
+                || !(contentType.contains("image/jpg") || contentType.contains("image/jpeg") || contentType.contains("image/png")))
+            throw new RequestInputException(ErrorMessage.INVALID_IMAGE);
+        if (image.getSize() > FILE_MAX_SIZE) throw new RequestInputException(ErrorMessage.IMAGE_SIZE_OVERFLOW_EXCEPTION);
+    }
+
+    // 동시 업로드 수와 대기열 크기를 제한하고, 가득 차면 요청 스레드에서 실행한다
+    private static ExecutorService newBoundedExecutor(int concurrency, int queueSize) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static class PendingUpload {
+        private final Upload upload;
+        private final String imagePath;
+
+        private PendingUpload(Upload upload, String imagePath) {
+            this.upload = upload;
+            this.imagePath = imagePath;
+        }
+
+        // 업로드가 끝날 때까지 기다리고 성공 여부를 반환한다
+        private boolean await() {
+            try {
+                upload.waitForUploadResult();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                upload.abort();
+                return false;
+            } catch (RuntimeException e) {
+                log.warn("이미지 업로드 실패: {}", imagePath, e);
+                return false;
+            }
+        }
+    }
+}
@@ -8,7 +8,7 @@ import com.jjbacsa.jjbacsabackend.inquiry.dto.response.InquiryResponse;
 import com.jjbacsa.jjbacsabackend.inquiry.service.InquiryService;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -122,9 +122,10 @@ public class InquiryController {
                     "커서 기반 페이징\n\n" +
                     "example : \n\n" +
                     "{\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 Inquiry id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 첫 조회는 null\"\n\n" +
+                    "       \"cursor\" : \"조회한 마지막 Inquiry의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 Inquiry의 개수\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer +accessToken"))
     @ApiResponses({
             @ApiResponse(code = 200,
@@ -132,7 +133,10 @@ public class InquiryController {
                     response = InquiryResponse.class)
     })
     @GetMapping(value = "/inquiry")
-    public ResponseEntity<Page<InquiryResponse>> getInquiries(@Validated InquiryCursorRequest inquiryCursorRequest) {
+    public ResponseEntity<Slice<InquiryResponse>> getInquiries(@Validated InquiryCursorRequest inquiryCursorRequest) throws Exception {
+        if (inquiryCursorRequest.isSlice())
+            return new ResponseEntity<>(inquiryService.getInquirySlice(inquiryCursorRequest, false, null), HttpStatus.OK);
+
         return new ResponseEntity<>(inquiryService.getInquiries(inquiryCursorRequest), HttpStatus.OK);
     }
 
@@ -142,9 +146,10 @@ public class InquiryController {
                     "커서 기반 페이징\n\n" +
                     "example : \n\n" +
                     "{\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 Inquiry id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 첫 조회는 null\"\n\n" +
+                    "       \"cursor\" : \"조회한 마지막 Inquiry의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 Inquiry의 개수\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer +accessToken"))
     @ApiResponses({
             @ApiResponse(code = 200,
@@ -152,7 +157,10 @@ public class InquiryController {
                     response = InquiryResponse.class)
     })
     @GetMapping(value = "/inquiry/me")
-    public ResponseEntity<Page<InquiryResponse>> getMyInquiries(@Validated InquiryCursorRequest inquiryCursorRequest) throws Exception {
+    public ResponseEntity<Slice<InquiryResponse>> getMyInquiries(@Validated InquiryCursorRequest inquiryCursorRequest) throws Exception {
+        if (inquiryCursorRequest.isSlice())
+            return new ResponseEntity<>(inquiryService.getInquirySlice(inquiryCursorRequest, true, null), HttpStatus.OK);
+
         return new ResponseEntity<>(inquiryService.getMyInquiries(inquiryCursorRequest), HttpStatus.OK);
     }
 
@@ -162,9 +170,10 @@ public class InquiryController {
                     "커서 기반 페이징\n\n" +
                     "example : \n\n" +
                     "{\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 Inquiry id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 첫 조회는 null\"\n\n" +
+                    "       \"cursor\" : \"조회한 마지막 Inquiry의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 Inquiry의 개수\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함\"\n\n" +
                     "       \"searchWord\" : \"검색어\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer +accessToken"))
     @ApiResponses({
@@ -173,7 +182,10 @@ public class InquiryController {
                     response = InquiryResponse.class)
     })
     @GetMapping(value = "/inquiry/search/{search-word}")
-    public ResponseEntity<Page<InquiryResponse>> searchInquiries(@Validated InquiryCursorRequest inquiryCursorRequest, @ApiParam("검색어") @PathVariable(name = "search-word") String searchWord) {
+    public ResponseEntity<Slice<InquiryResponse>> searchInquiries(@Validated InquiryCursorRequest inquiryCursorRequest, @ApiParam("검색어") @PathVariable(name = "search-word") String searchWord) throws Exception {
+        if (inquiryCursorRequest.isSlice())
+            return new ResponseEntity<>(inquiryService.getInquirySlice(inquiryCursorRequest, false, searchWord), HttpStatus.OK);
+
         return new ResponseEntity<>(inquiryService.searchInquiries(inquiryCursorRequest, searchWord), HttpStatus.OK);
     }
 
@@ -183,9 +195,10 @@ public class InquiryController {
                     "커서 기반 페이징\n\n" +
                     "example : \n\n" +
                     "{\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 Inquiry id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 첫 조회는 null\"\n\n" +
+                    "       \"cursor\" : \"조회한 마지막 Inquiry의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 Inquiry의 개수\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함\"\n\n" +
                     "       \"searchWord\" : \"검색어\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer +accessToken"))
     @ApiResponses({
@@ -194,7 +207,10 @@ public class InquiryController {
                     response = InquiryResponse.class)
     })
     @GetMapping(value = "/inquiry/search/me/{search-word}")
-    public ResponseEntity<Page<InquiryResponse>> searchMyInquiries(@Validated InquiryCursorRequest inquiryCursorRequest, @ApiParam("검색어") @PathVariable(name = "search-word") String searchWord) throws Exception {
+    public ResponseEntity<Slice<InquiryResponse>> searchMyInquiries(@Validated InquiryCursorRequest inquiryCursorRequest, @ApiParam("검색어") @PathVariable(name = "search-word") String searchWord) throws Exception {
+        if (inquiryCursorRequest.isSlice())
+            return new ResponseEntity<>(inquiryService.getInquirySlice(inquiryCursorRequest, true, searchWord), HttpStatus.OK);
+
         return new ResponseEntity<>(inquiryService.searchMyInquiries(inquiryCursorRequest, searchWord), HttpStatus.OK);
     }
 
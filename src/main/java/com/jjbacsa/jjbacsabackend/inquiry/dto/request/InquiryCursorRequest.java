@@ -14,18 +14,19 @@ import javax.annotation.Nullable;
 public class InquiryCursorRequest {
 
     @Nullable
-    @ApiParam("조회한 마지막 Inquiry의 Id")
-    private Long idCursor;
-
-    @Nullable
-    @ApiParam("조회한 마지막 Inquiry의 생성일")
-    private String dateCursor;
-
+    @ApiParam("이전 페이지 마지막 Inquiry의 cursor, 첫 조회는 null")
+    private String cursor;
 
     @Builder.Default
     @ApiParam("조회할 개수")
     @Range(min = 1, max = 100, message = "size의 범위는 1 ~ 100 입니다.")
     private int size = 3;
 
+    @ApiParam("true면 전체 개수를 세지 않고 다음 페이지 여부(hasNext)만 조회")
+    private boolean slice;
+
+    @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 여부")
+    private boolean withTotal;
+
 }
 
@@ -22,5 +22,6 @@ public class InquiryResponse {
     private Date createdAt;
     private List<InquiryImageResponse> inquiryImages;
     private int isSecreted;
+    private String cursor;
 
 }
@@ -19,16 +19,20 @@ public interface InquiryMapper {
     @Mappings({
             @Mapping(source = "image.originalName", target = "originalName"),
             @Mapping(source = "image.path", target = "path"),
-            @Mapping(source = "image.url", target = "imageUrl")
+            @Mapping(source = "image.url", target = "imageUrl"),
+            @Mapping(source = "image.thumbnailUrl", target = "thumbnailUrl"),
+            @Mapping(source = "image.listUrl", target = "listUrl")
     })
     InquiryImageResponse toInquiryImageResponse(InquiryImageEntity inquiryImageEntity);
 
     @Mapping(source = "writer.nickname", target = "createdBy")
+    @Mapping(target = "cursor", ignore = true)
     InquiryResponse toInquiryResponse(InquiryEntity inquiryEntity);
 
     @Mapping(target = "content", ignore = true)
     @Mapping(target = "answer", ignore = true)
     @Mapping(target = "inquiryImages", ignore = true)
     @Mapping(source = "writer.nickname", target = "createdBy")
+    @Mapping(target = "cursor", expression = "java(com.jjbacsa.jjbacsabackend.util.KeysetCursor.encode(inquiryEntity.getCreatedAt(), inquiryEntity.getId()))")
     InquiryResponse toInquiryPageResponse(InquiryEntity inquiryEntity);
 }
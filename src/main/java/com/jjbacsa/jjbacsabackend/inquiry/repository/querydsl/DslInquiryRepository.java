@@ -1,17 +1,22 @@
 package com.jjbacsa.jjbacsabackend.inquiry.repository.querydsl;
 
-import com.jjbacsa.jjbacsabackend.inquiry.dto.request.InquiryCursorRequest;
 import com.jjbacsa.jjbacsabackend.inquiry.entity.InquiryEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface DslInquiryRepository {
-    Page<InquiryEntity> findAllInquiries(String dateCursor, Long idCursor, Pageable pageable);
+    Page<InquiryEntity> findAllInquiries(String cursor, Pageable pageable);
 
-    Page<InquiryEntity> findAllMyInquiries(String dateCursor, Long idCursor, Long userId, Pageable pageable);
+    Page<InquiryEntity> findAllMyInquiries(String cursor, Long userId, Pageable pageable);
 
-    Page<InquiryEntity> findAllSearchInquiries(String dateCursor, Long idCursor, String searchWord, Pageable pageable);
+    Page<InquiryEntity> findAllSearchInquiries(String cursor, String searchWord, Pageable pageable);
 
-    Page<InquiryEntity> findAllSearchMyInquiries(String dateCursor, Long idCursor, String searchWord, Long userId, Pageable pageable);
+    Page<InquiryEntity> findAllSearchMyInquiries(String cursor, String searchWord, Long userId, Pageable pageable);
+
+    // userId, searchWord가 null이면 해당 조건 없이 조회
+    Slice<InquiryEntity> findInquirySlice(String cursor, Long userId, String searchWord, Pageable pageable);
+
+    long countInquiries(Long userId, String searchWord);
 
 }
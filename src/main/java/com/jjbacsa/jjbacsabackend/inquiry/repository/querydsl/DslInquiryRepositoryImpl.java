@@ -1,15 +1,17 @@
 package com.jjbacsa.jjbacsabackend.inquiry.repository.querydsl;
 
-import com.jjbacsa.jjbacsabackend.inquiry.dto.request.InquiryCursorRequest;
 import com.jjbacsa.jjbacsabackend.inquiry.entity.InquiryEntity;
 import com.jjbacsa.jjbacsabackend.inquiry.entity.QInquiryEntity;
+import com.jjbacsa.jjbacsabackend.util.Keyset;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,9 @@ import java.util.List;
 public class DslInquiryRepositoryImpl extends QuerydslRepositorySupport implements DslInquiryRepository {
     private final JPAQueryFactory queryFactory;
     private static QInquiryEntity inquiry = QInquiryEntity.inquiryEntity;
+    private static final Keyset keyset = Keyset.of(
+            Keyset.date(inquiry.createdAt, Order.DESC),
+            Keyset.number(inquiry.id, Order.DESC));
 
     public DslInquiryRepositoryImpl(JPAQueryFactory queryFactory) {
         super(InquiryEntity.class);
@@ -28,87 +33,74 @@ public class DslInquiryRepositoryImpl extends QuerydslRepositorySupport implemen
     }
 
     @Override
-    public Page<InquiryEntity> findAllInquiries(String dateCursor, Long idCursor, Pageable pageable) {
+    public Page<InquiryEntity> findAllInquiries(String cursor, Pageable pageable) {
+        return findInquiryPage(cursor, null, null, pageable);
+    }
 
-        List<InquiryEntity> inquiryEntities = queryFactory
-                .selectFrom(inquiry)
-                .where(customCursor(dateCursor, idCursor))
-                .limit(pageable.getPageSize())
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
-                .fetch();
+    @Override
+    public Page<InquiryEntity> findAllMyInquiries(String cursor, Long userId, Pageable pageable) {
+        return findInquiryPage(cursor, userId, null, pageable);
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(inquiry.count())
-                .from(inquiry);
+    @Override
+    public Page<InquiryEntity> findAllSearchInquiries(String cursor, String searchWord, Pageable pageable) {
+        return findInquiryPage(cursor, null, searchWord, pageable);
+    }
 
-        return PageableExecutionUtils.getPage(inquiryEntities, pageable, countQuery::fetchOne);
+    @Override
+    public Page<InquiryEntity> findAllSearchMyInquiries(String cursor, String searchWord, Long userId, Pageable pageable) {
+        return findInquiryPage(cursor, userId, searchWord, pageable);
     }
 
     @Override
-    public Page<InquiryEntity> findAllMyInquiries(String dateCursor, Long idCursor, Long userId, Pageable pageable) {
+    public Slice<InquiryEntity> findInquirySlice(String cursor, Long userId, String searchWord, Pageable pageable) {
 
-        List<InquiryEntity> inquiryEntities = queryFactory
-                .selectFrom(inquiry)
-                .where(inquiry.writer.id.eq(userId),
-                        customCursor(dateCursor, idCursor))
-                .limit(pageable.getPageSize())
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
+        List<InquiryEntity> inquiryEntities = inquiriesQuery(cursor, userId, searchWord)
+                .limit(SliceUtil.fetchSize(pageable))
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(inquiry.count())
-                .where(inquiry.writer.id.eq(userId))
-                .from(inquiry);
-
-        return PageableExecutionUtils.getPage(inquiryEntities, pageable, countQuery::fetchOne);
+        return SliceUtil.toSlice(inquiryEntities, pageable);
     }
 
     @Override
-    public Page<InquiryEntity> findAllSearchInquiries(String dateCursor, Long idCursor, String searchWord, Pageable pageable) {
-        List<InquiryEntity> inquiryEntities = queryFactory
-                .selectFrom(inquiry)
-                .where(inquiry.title.contains(searchWord),
-                        customCursor(dateCursor, idCursor))
+    public long countInquiries(Long userId, String searchWord) {
+        return countQuery(userId, searchWord).fetchOne();
+    }
+
+    private Page<InquiryEntity> findInquiryPage(String cursor, Long userId, String searchWord, Pageable pageable) {
+
+        List<InquiryEntity> inquiryEntities = inquiriesQuery(cursor, userId, searchWord)
                 .limit(pageable.getPageSize())
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(inquiry.count())
-                .where(inquiry.title.contains(searchWord))
-                .from(inquiry);
+        JPAQuery<Long> countQuery = countQuery(userId, searchWord);
 
         return PageableExecutionUtils.getPage(inquiryEntities, pageable, countQuery::fetchOne);
     }
 
-    @Override
-    public Page<InquiryEntity> findAllSearchMyInquiries(String dateCursor, Long idCursor, String searchWord, Long userId, Pageable pageable) {
-        List<InquiryEntity> inquiryEntities = queryFactory
+    private JPAQuery<InquiryEntity> inquiriesQuery(String cursor, Long userId, String searchWord) {
+        return queryFactory
                 .selectFrom(inquiry)
-                .where(inquiry.writer.id.eq(userId),
-                        inquiry.title.contains(searchWord),
-                        customCursor(dateCursor, idCursor))
-                .limit(pageable.getPageSize())
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
-                .fetch();
+                .where(writtenBy(userId),
+                        titleContains(searchWord),
+                        keyset.after(cursor))
+                .orderBy(keyset.orderBy());
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
+    private JPAQuery<Long> countQuery(Long userId, String searchWord) {
+        return queryFactory
                 .select(inquiry.count())
-                .where(inquiry.writer.id.eq(userId),
-                        inquiry.title.contains(searchWord))
-                .from(inquiry);
-
-        return PageableExecutionUtils.getPage(inquiryEntities, pageable, countQuery::fetchOne);
+                .from(inquiry)
+                .where(writtenBy(userId),
+                        titleContains(searchWord));
     }
 
-    private BooleanExpression customCursor(String dateCursor, Long idCursor) {
-        if (dateCursor == null || idCursor == null) return null;
-
-        StringBuilder sb = new StringBuilder(dateCursor);
-        sb.append(String.format("%1$" + 5 + "s", idCursor).replace(' ', '0'));
+    // null이면 조건 없음
+    private BooleanExpression writtenBy(Long userId) {
+        return userId == null ? null : inquiry.writer.id.eq(userId);
+    }
 
-        return inquiry.createdAt.stringValue().substring(0, 10)
-                .concat(StringExpressions.lpad(inquiry.id.stringValue(), 5, '0'))
-                .lt(sb.toString());
+    private BooleanExpression titleContains(String searchWord) {
+        return searchWord == null ? null : inquiry.title.contains(searchWord);
     }
 }
@@ -5,6 +5,7 @@ import com.jjbacsa.jjbacsabackend.inquiry.dto.request.InquiryCursorRequest;
 import com.jjbacsa.jjbacsabackend.inquiry.dto.request.InquiryRequest;
 import com.jjbacsa.jjbacsabackend.inquiry.dto.response.InquiryResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface InquiryService {
     InquiryResponse getInquiry(Long inquiryId) throws Exception;
@@ -25,5 +26,8 @@ public interface InquiryService {
 
     Page<InquiryResponse> searchMyInquiries(InquiryCursorRequest inquiryCursorRequest, String searchWord) throws Exception;
 
+    // mine이면 나의 Inquiry만, searchWord가 null이면 검색 없이 조회
+    Slice<InquiryResponse> getInquirySlice(InquiryCursorRequest inquiryCursorRequest, boolean mine, String searchWord) throws Exception;
+
 
 }
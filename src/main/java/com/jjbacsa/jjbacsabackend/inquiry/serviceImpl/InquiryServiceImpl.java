@@ -1,5 +1,7 @@
 package com.jjbacsa.jjbacsabackend.inquiry.serviceImpl;
 
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
+import com.jjbacsa.jjbacsabackend.etc.dto.CursorSlice;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.enums.UserType;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
@@ -19,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +34,7 @@ public class InquiryServiceImpl implements InquiryService {
     private final InternalInquiryImageService inquiryImageService;
 
     private final InquiryRepository inquiryRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -83,7 +87,7 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     public Page<InquiryResponse> getInquiries(InquiryCursorRequest inquiryCursorRequest) {
         return inquiryRepository
-                .findAllInquiries(inquiryCursorRequest.getDateCursor(), inquiryCursorRequest.getIdCursor(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
+                .findAllInquiries(inquiryCursorRequest.getCursor(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
                 .map(InquiryMapper.INSTANCE::toInquiryPageResponse);
     }
 
@@ -91,14 +95,14 @@ public class InquiryServiceImpl implements InquiryService {
     public Page<InquiryResponse> getMyInquiries(InquiryCursorRequest inquiryCursorRequest) throws Exception {
         UserEntity userEntity = userService.getLoginUser();
         return inquiryRepository
-                .findAllMyInquiries(inquiryCursorRequest.getDateCursor(), inquiryCursorRequest.getIdCursor(), userEntity.getId(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
+                .findAllMyInquiries(inquiryCursorRequest.getCursor(), userEntity.getId(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
                 .map(InquiryMapper.INSTANCE::toInquiryPageResponse);
     }
 
     @Override
     public Page<InquiryResponse> searchInquiries(InquiryCursorRequest inquiryCursorRequest, String searchWord) {
         return inquiryRepository
-                .findAllSearchInquiries(inquiryCursorRequest.getDateCursor(), inquiryCursorRequest.getIdCursor(), searchWord, PageRequest.ofSize(inquiryCursorRequest.getSize()))
+                .findAllSearchInquiries(inquiryCursorRequest.getCursor(), searchWord, PageRequest.ofSize(inquiryCursorRequest.getSize()))
                 .map(InquiryMapper.INSTANCE::toInquiryPageResponse);
     }
 
@@ -106,10 +110,24 @@ public class InquiryServiceImpl implements InquiryService {
     public Page<InquiryResponse> searchMyInquiries(InquiryCursorRequest inquiryCursorRequest, String searchWord) throws Exception {
         UserEntity userEntity = userService.getLoginUser();
         return inquiryRepository
-                .findAllSearchMyInquiries(inquiryCursorRequest.getDateCursor(), inquiryCursorRequest.getIdCursor(), searchWord, userEntity.getId(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
+                .findAllSearchMyInquiries(inquiryCursorRequest.getCursor(), searchWord, userEntity.getId(), PageRequest.ofSize(inquiryCursorRequest.getSize()))
                 .map(InquiryMapper.INSTANCE::toInquiryPageResponse);
     }
 
+    @Override
+    public Slice<InquiryResponse> getInquirySlice(InquiryCursorRequest inquiryCursorRequest, boolean mine, String searchWord) throws Exception {
+        Long userId = mine ? userService.getLoginUser().getId() : null;
+        Slice<InquiryResponse> inquiries = inquiryRepository
+                .findInquirySlice(inquiryCursorRequest.getCursor(), userId, searchWord, PageRequest.ofSize(inquiryCursorRequest.getSize()))
+                .map(InquiryMapper.INSTANCE::toInquiryPageResponse);
+
+        Long total = inquiryCursorRequest.isWithTotal()
+                ? approximateTotalCache.get("inquiry", userId + ":" + searchWord, () -> inquiryRepository.countInquiries(userId, searchWord))
+                : null;
+
+        return CursorSlice.of(inquiries, total);
+    }
+
     private InquiryEntity getInquiryEntity(Long inquiryId) {
         return inquiryRepository.findById(inquiryId).orElseThrow(
                 () -> new RequestInputException(ErrorMessage.INQUIRY_NOT_EXISTS_EXCEPTION));
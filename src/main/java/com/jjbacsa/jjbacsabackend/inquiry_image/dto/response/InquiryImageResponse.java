@@ -13,4 +13,6 @@ public class InquiryImageResponse {
     private String originalName;
     private String path;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String listUrl;
 }
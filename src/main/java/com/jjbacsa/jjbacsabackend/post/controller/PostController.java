@@ -7,6 +7,7 @@ import com.jjbacsa.jjbacsabackend.post.service.PostService;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -102,9 +103,10 @@ public class PostController {
             notes = "Post 목록을 조회합니다.\n\n" +
                     "example : \n\n" +
                     "{\n\n" +
-                    "       \"idCursor\" : \"마지막 조회한 post id\"\n\n" +
-                    "       \"dateCursor\" : \"마지막 조회한 post createdAt\"\n\n" +
+                    "       \"cursor\" : \"마지막 조회한 post의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 개수 default: 3\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환 default: false\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 default: false\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer +accessToken"))
     @ApiResponses({
             @ApiResponse(code = 200,
@@ -112,7 +114,10 @@ public class PostController {
                     response = Page.class)
     })
     @GetMapping(value = "/post")
-    public ResponseEntity<Page<PostResponse>> getPosts(@Validated PostCursorRequest postCursorRequest) {
+    public ResponseEntity<Slice<PostResponse>> getPosts(@Validated PostCursorRequest postCursorRequest) {
+        if (postCursorRequest.isSlice())
+            return new ResponseEntity<>(postService.getPostSlice(postCursorRequest), HttpStatus.OK);
+
         return new ResponseEntity<>(postService.getPosts(postCursorRequest), HttpStatus.OK);
     }
 
@@ -19,4 +19,5 @@ public class PostResponse {
     @JsonFormat(pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
     private Date createdAt;
     private List<PostImageResponse> postImages;
+    private String cursor;
 }
\ No newline at end of file
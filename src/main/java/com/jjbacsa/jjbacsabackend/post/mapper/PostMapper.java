@@ -16,14 +16,18 @@ public interface PostMapper {
 
     @Mappings({
             @Mapping(source = "image.originalName", target = "originalName"),
-            @Mapping(source = "image.url", target = "imageUrl")
+            @Mapping(source = "image.url", target = "imageUrl"),
+            @Mapping(source = "image.thumbnailUrl", target = "thumbnailUrl"),
+            @Mapping(source = "image.listUrl", target = "listUrl")
     })
     PostImageResponse toPostImageResponse(PostImageEntity postImageEntity);
 
+    @Mapping(target = "cursor", ignore = true)
     PostResponse toPostResponse(PostEntity postEntity);
 
     @Mapping(target = "postImages", ignore = true)
     @Mapping(target = "content", ignore = true)
+    @Mapping(target = "cursor", expression = "java(com.jjbacsa.jjbacsabackend.util.KeysetCursor.encode(postEntity.getCreatedAt(), postEntity.getId()))")
     PostResponse toPostPageResponse(PostEntity postEntity);
 
     @Mapping(target = "postImages", ignore = true)
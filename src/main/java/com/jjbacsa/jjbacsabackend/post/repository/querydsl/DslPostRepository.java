@@ -3,9 +3,12 @@ package com.jjbacsa.jjbacsabackend.post.repository.querydsl;
 import com.jjbacsa.jjbacsabackend.post.entity.PostEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface DslPostRepository {
 
-    Page<PostEntity> findAllPosts(String cursor, Long idCursor, Pageable pageable);
+    Page<PostEntity> findAllPosts(String cursor, Pageable pageable);
+
+    Slice<PostEntity> findPostSlice(String cursor, Pageable pageable);
 
 }
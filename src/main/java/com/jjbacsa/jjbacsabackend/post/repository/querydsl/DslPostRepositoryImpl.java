@@ -3,13 +3,15 @@ package com.jjbacsa.jjbacsabackend.post.repository.querydsl;
 
 import com.jjbacsa.jjbacsabackend.post.entity.PostEntity;
 import com.jjbacsa.jjbacsabackend.post.entity.QPostEntity;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
+import com.jjbacsa.jjbacsabackend.util.Keyset;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import com.querydsl.core.types.Order;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,9 @@ import java.util.List;
 public class DslPostRepositoryImpl extends QuerydslRepositorySupport implements DslPostRepository {
     private final JPAQueryFactory queryFactory;
     private static QPostEntity post = QPostEntity.postEntity;
+    private static final Keyset keyset = Keyset.of(
+            Keyset.date(post.createdAt, Order.DESC),
+            Keyset.number(post.id, Order.DESC));
 
     public DslPostRepositoryImpl(JPAQueryFactory queryFactory) {
         super(PostEntity.class);
@@ -28,13 +33,10 @@ public class DslPostRepositoryImpl extends QuerydslRepositorySupport implements
     }
 
     @Override
-    public Page<PostEntity> findAllPosts(String dateCursor, Long idCursor, Pageable pageable) {
+    public Page<PostEntity> findAllPosts(String cursor, Pageable pageable) {
 
-        List<PostEntity> postEntities = queryFactory
-                .selectFrom(post)
-                .where(customCursor(dateCursor, idCursor))
+        List<PostEntity> postEntities = postsQuery(cursor)
                 .limit(pageable.getPageSize())
-                .orderBy(post.createdAt.desc(), post.id.desc())
                 .fetch();
 
         JPAQuery<Long> countQuery = queryFactory
@@ -44,16 +46,20 @@ public class DslPostRepositoryImpl extends QuerydslRepositorySupport implements
         return PageableExecutionUtils.getPage(postEntities, pageable, countQuery::fetchOne);
     }
 
-    private BooleanExpression customCursor(String dateCursor, Long idCursor) {
-        log.info(dateCursor + idCursor);
-        if (dateCursor == null || idCursor == null) return null;
+    @Override
+    public Slice<PostEntity> findPostSlice(String cursor, Pageable pageable) {
 
-        StringBuilder sb = new StringBuilder(dateCursor);
-        sb.append(String.format("%1$" + 5 + "s", idCursor).replace(' ', '0'));
+        List<PostEntity> postEntities = postsQuery(cursor)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
 
-        return post.createdAt.stringValue().substring(0, 10)
-                .concat(StringExpressions.lpad(post.id.stringValue(), 5, '0'))
-                .lt(sb.toString());
+        return SliceUtil.toSlice(postEntities, pageable);
     }
 
+    private JPAQuery<PostEntity> postsQuery(String cursor) {
+        return queryFactory
+                .selectFrom(post)
+                .where(keyset.after(cursor))
+                .orderBy(keyset.orderBy());
+    }
 }
@@ -4,6 +4,7 @@ import com.jjbacsa.jjbacsabackend.post.dto.request.PostCursorRequest;
 import com.jjbacsa.jjbacsabackend.post.dto.request.PostRequest;
 import com.jjbacsa.jjbacsabackend.post.dto.response.PostResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.io.IOException;
 
@@ -20,4 +21,6 @@ public interface PostService {
 
     Page<PostResponse> getPosts(PostCursorRequest postPageRequest);
 
+    Slice<PostResponse> getPostSlice(PostCursorRequest postPageRequest);
+
 }
@@ -1,5 +1,7 @@
 package com.jjbacsa.jjbacsabackend.post.serviceImpl;
 
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
+import com.jjbacsa.jjbacsabackend.etc.dto.CursorSlice;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
 import com.jjbacsa.jjbacsabackend.post.dto.request.PostCursorRequest;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,7 @@ public class PostServiceImpl implements PostService {
 
     private final InternalPostImageService postImageService;
     private final PostRepository postRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -68,10 +72,21 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getPosts(PostCursorRequest postPageRequest) {
-        return postRepository.findAllPosts(postPageRequest.getDateCursor(), postPageRequest.getIdCursor(), PageRequest.ofSize(postPageRequest.getSize()))
+        return postRepository.findAllPosts(postPageRequest.getCursor(), PageRequest.ofSize(postPageRequest.getSize()))
                 .map(PostMapper.INSTANCE::toPostPageResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostResponse> getPostSlice(PostCursorRequest postPageRequest) {
+        Slice<PostResponse> posts = postRepository.findPostSlice(postPageRequest.getCursor(), PageRequest.ofSize(postPageRequest.getSize()))
+                .map(PostMapper.INSTANCE::toPostPageResponse);
+
+        Long total = postPageRequest.isWithTotal() ? approximateTotalCache.get("post", "all", postRepository::count) : null;
+
+        return CursorSlice.of(posts, total);
+    }
+
     private PostEntity createPostEntity(PostRequest postRequest) throws IOException {
         PostEntity postEntity = PostMapper.INSTANCE.toPostEntity(postRequest);
         if (postRequest.getPostImages() != null) {
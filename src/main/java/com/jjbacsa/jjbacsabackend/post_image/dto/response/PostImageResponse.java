@@ -13,4 +13,6 @@ import lombok.NoArgsConstructor;
 public class PostImageResponse {
     private String originalName;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String listUrl;
 }
@@ -2,6 +2,7 @@ package com.jjbacsa.jjbacsabackend.review.controller;
 
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.request.*;
+import com.jjbacsa.jjbacsabackend.review.dto.response.FollowersReviewSummaryResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewCountResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewDateResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewResponse;
@@ -11,6 +12,7 @@ import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.Authorization;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -84,16 +86,19 @@ public class ReviewController {
                     "example : \n\n" +
                     "{\n\n" +
                     "       \"placeId\" : \"조회할 상점 placeId\"\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 리뷰 id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 정렬 기준이 createdAt일 때 입력\"\n\n" +
-                    "       \"rateCursor\" : \"조회한 마지막 리뷰 rate, 정렬 기준이 rate일 때 입력\"\n\n" +
+                    "       \"cursor\" : \"이전 페이지 마지막 리뷰의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 리뷰의 개수\"\n\n" +
                     "       \"direction\" : \"정렬방식 - 내림차순 desc, 오름차순 asc Default: desc\"\n\n" +
                     "       \"sort\" : \"정렬기준 - createdAt, rate Default: createdAt\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환 Default: false\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 Default: false\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/review/shop/{place-id}")
-    public ResponseEntity<Page<ReviewResponse>> getMyReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+    public ResponseEntity<Slice<ReviewResponse>> getMyReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+        if (reviewCursorRequest.isSlice())
+            return new ResponseEntity<>(reviewService.getMyReviewSliceByShop(reviewCursorRequest, placeId), HttpStatus.OK);
+
         return new ResponseEntity<>(reviewService.getMyReviewsByShop(reviewCursorRequest, placeId), HttpStatus.OK);
     }
 
@@ -104,16 +109,19 @@ public class ReviewController {
                     "example : \n\n" +
                     "{\n\n" +
                     "       \"placeId\" : \"조회할 상점 placeId\"\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 리뷰 id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 정렬 기준이 createdAt일 때 입력\"\n\n" +
-                    "       \"rateCursor\" : \"조회한 마지막 리뷰 rate, 정렬 기준이 rate일 때 입력\"\n\n" +
+                    "       \"cursor\" : \"이전 페이지 마지막 리뷰의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 리뷰의 개수\"\n\n" +
                     "       \"direction\" : \"정렬방식 - 내림차순 desc, 오름차순 asc Default: desc\"\n\n" +
                     "       \"sort\" : \"정렬기준 - createdAt, rate Default: createdAt\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환 Default: false\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 Default: false\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/review/followers/shop/{place-id}")
-    public ResponseEntity<Page<ReviewResponse>> getFollowersReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+    public ResponseEntity<Slice<ReviewResponse>> getFollowersReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+        if (reviewCursorRequest.isSlice())
+            return new ResponseEntity<>(reviewService.getFollowersReviewSliceByShop(reviewCursorRequest, placeId), HttpStatus.OK);
+
         return new ResponseEntity<>(reviewService.getFollowersReviewsByShop(reviewCursorRequest, placeId), HttpStatus.OK);
     }
 
@@ -124,16 +132,19 @@ public class ReviewController {
                     "example : \n\n" +
                     "{\n\n" +
                     "       \"placeId\" : \"조회할 상점 placeId\"\n\n" +
-                    "       \"idCursor\" : \"조회한 마지막 리뷰 id, 첫 조회는 null\"\n\n" +
-                    "       \"dateCursor\" : \"조회한 마지막 리뷰 createdAt, 정렬 기준이 createdAt일 때 입력\"\n\n" +
-                    "       \"rateCursor\" : \"조회한 마지막 리뷰 rate, 정렬 기준이 rate일 때 입력\"\n\n" +
+                    "       \"cursor\" : \"이전 페이지 마지막 리뷰의 cursor, 첫 조회는 null\"\n\n" +
                     "       \"size\" : \"조회할 리뷰의 개수\"\n\n" +
                     "       \"direction\" : \"정렬방식 - 내림차순 desc, 오름차순 asc Default: desc\"\n\n" +
                     "       \"sort\" : \"정렬기준 - createdAt, rate Default: createdAt\"\n\n" +
+                    "       \"slice\" : \"true면 전체 개수 없이 hasNext만 반환 Default: false\"\n\n" +
+                    "       \"withTotal\" : \"slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 Default: false\"\n\n" +
                     "}", authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/review/follower/{follower-id}/shop/{place-id}")
-    public ResponseEntity<Page<ReviewResponse>> getFollowerReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("팔로워 id") @PathVariable(name = "follower-id") Long followerId, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+    public ResponseEntity<Slice<ReviewResponse>> getFollowerReviewsByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("팔로워 id") @PathVariable(name = "follower-id") Long followerId, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+        if (reviewCursorRequest.isSlice())
+            return new ResponseEntity<>(reviewService.getFollowerReviewSliceByShop(reviewCursorRequest, followerId, placeId), HttpStatus.OK);
+
         return new ResponseEntity<>(reviewService.getFollowerReviewsByShop(reviewCursorRequest, followerId, placeId), HttpStatus.OK);
     }
 
@@ -201,6 +212,16 @@ public class ReviewController {
         return new ResponseEntity<>(reviewService.getFollowerReviewLastDateByShop(placeId), HttpStatus.OK);
     }
 
+    @ApiOperation(
+            value = "상점 내 팔로워 리뷰 요약",
+            notes = "특정 상점에 대해 팔로워가 작성한 리뷰의 개수, 마지막 리뷰 날짜, 평균 별점과 첫 페이지 리뷰 목록을 한 번에 조회합니다.\n\n" +
+                    "리뷰 목록 페이징은 팔로워 리뷰 목록 조회와 같습니다.", authorizations = @Authorization(value = "Bearer + accessToken"))
+    @PreAuthorize("hasRole('NORMAL')")
+    @GetMapping(value = "/review/followers/summary/shop/{place-id}")
+    public ResponseEntity<FollowersReviewSummaryResponse> getFollowersReviewSummaryByShop(@Validated ReviewCursorRequest reviewCursorRequest, @ApiParam("리뷰를 조회할 상점 place-id") @PathVariable(name = "place-id") String placeId) throws Exception {
+        return new ResponseEntity<>(reviewService.getFollowersReviewSummaryByShop(reviewCursorRequest, placeId), HttpStatus.OK);
+    }
+
     @ApiOperation(
             value = "상점 내 나의 마지막 리뷰 날짜",
             notes = "특정 상점에 대해 내가 작성한 마지막 리뷰의 날짜를 조회합니다.\n\n", authorizations = @Authorization(value = "Bearer + accessToken"))
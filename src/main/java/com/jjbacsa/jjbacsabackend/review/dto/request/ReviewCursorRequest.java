@@ -18,16 +18,8 @@ import java.util.List;
 public class ReviewCursorRequest {
 
     @Nullable
-    @ApiParam("조회한 마지막 리뷰 id, 첫 조회는 null")
-    private Long idCursor;
-
-    @Nullable
-    @ApiParam("조회한 마지막 리뷰 createdAt, 정렬 기준이 createdAt일 때 입력")
-    private String dateCursor;
-
-    @Nullable
-    @ApiParam("조회한 마지막 리뷰 rate, 정렬 기준이 rate일 때 입력")
-    private Integer rateCursor;
+    @ApiParam("이전 페이지 마지막 리뷰의 cursor, 첫 조회는 null")
+    private String cursor;
 
     @Builder.Default
     @ApiParam("페이지 크기")
@@ -44,16 +36,26 @@ public class ReviewCursorRequest {
     @Pattern(regexp = "^(createdAt|rate)$", message = "올바른 정렬 형식이 아닙니다.")
     private String sort = "createdAt";
 
+    @ApiParam("true면 전체 개수를 세지 않고 다음 페이지 여부(hasNext)만 조회")
+    private boolean slice;
+
+    @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함 여부")
+    private boolean withTotal;
+
     public PageRequest of() {
         List<String> sorts = null;
-        if (this.sort.equals("rate")) {
+        if (isRateSort()) {
             sorts = Arrays.asList("rate", "id");
         } else {
             sorts = Arrays.asList("createdAt", "id");
         }
         return PageRequest.of(0,
                 size,
-                direction == "desc" ? Sort.Direction.DESC : Sort.Direction.ASC,
+                "desc".equals(direction) ? Sort.Direction.DESC : Sort.Direction.ASC,
                 sorts.toArray(String[]::new));
     }
+
+    public boolean isRateSort() {
+        return "rate".equals(sort);
+    }
 }
@@ -0,0 +1,23 @@
+package com.jjbacsa.jjbacsabackend.review.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.Date;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FollowersReviewSummaryResponse {
+    private Long count;
+
+    @JsonFormat(pattern = "yy-MM-dd", timezone = "Asia/Seoul")
+    private Date lastDate;
+
+    private Double averageRate;
+
+    private Page<ReviewResponse> reviews;
+}
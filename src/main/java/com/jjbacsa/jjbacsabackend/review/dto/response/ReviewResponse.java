@@ -22,5 +22,7 @@ public class ReviewResponse {
     private List<ReviewImageResponse> reviewImages;
     private UserReviewResponse userReviewResponse;
     private String shopPlaceId;
+    @Setter
+    private String cursor;
 
 }
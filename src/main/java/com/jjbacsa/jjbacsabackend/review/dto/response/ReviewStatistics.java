@@ -0,0 +1,23 @@
+package com.jjbacsa.jjbacsabackend.review.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 리뷰 집계 (개수, 마지막 작성일, 평균 별점)
+ */
+@Getter
+public class ReviewStatistics {
+    private final Long count;
+    private final Date lastDate;
+    private final Double averageRate;
+
+    @QueryProjection
+    public ReviewStatistics(Long count, Date lastDate, Double averageRate) {
+        this.count = count == null ? 0L : count;
+        this.lastDate = lastDate;
+        this.averageRate = averageRate;
+    }
+}
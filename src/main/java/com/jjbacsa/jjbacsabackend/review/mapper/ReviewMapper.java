@@ -15,17 +15,21 @@ public interface ReviewMapper {
 
     @Mappings({
             @Mapping(source = "image.originalName", target = "originalName"),
-            @Mapping(source = "image.url", target = "imageUrl")
+            @Mapping(source = "image.url", target = "imageUrl"),
+            @Mapping(source = "image.thumbnailUrl", target = "thumbnailUrl"),
+            @Mapping(source = "image.listUrl", target = "listUrl")
     })
     ReviewImageResponse fromReviewImageEntity(ReviewImageEntity reviewImageEntity);
 
     @Mapping(source = "writer", target = "userReviewResponse")
     @Mapping(source = "shop.placeId", target ="shopPlaceId")
+    @Mapping(target = "cursor", ignore = true)
     ReviewResponse fromReviewEntity(ReviewEntity reviewEntity);
 
     @Mapping(target = "reviewImages", ignore = true)
     @Mapping(source = "writer", target = "userReviewResponse")
     @Mapping(source = "shop.placeId", target ="shopPlaceId")
+    @Mapping(target = "cursor", ignore = true)
     ReviewResponse fromReviewEntityWithIgnoreImage(ReviewEntity reviewEntity);
 
 }
@@ -1,9 +1,9 @@
 package com.jjbacsa.jjbacsabackend.review.repository;
 
 
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import com.jjbacsa.jjbacsabackend.review.repository.querydsl.DslReviewRepository;
-import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +20,7 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, Long>, Dsl
     Page<ReviewEntity> findAllByShopId(Long shopId, Pageable pageable);
 
     // Todo: 페이지네이션
-    List<ReviewEntity> findAllByWriterAndShop(UserEntity writer, ShopEntity shop);
+    List<ReviewEntity> findAllByWriterAndShop(UserEntity writer, GoogleShopEntity shop);
 
     List<ReviewEntity> findAllByWriter(UserEntity user);
 }
\ No newline at end of file
@@ -3,12 +3,16 @@ package com.jjbacsa.jjbacsabackend.review.repository.querydsl;
 
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
 import com.jjbacsa.jjbacsabackend.review.dto.request.ReviewCursorRequest;
+import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewStatistics;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 public interface DslReviewRepository {
     ReviewEntity findByReviewId(Long reviewId);
@@ -19,10 +23,23 @@ public interface DslReviewRepository {
 
     Page<ReviewEntity> findAllFollowersReviewsByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request);
 
+    Slice<ReviewEntity> findReviewSliceByShopPlaceId(Long writerId, String placeId, ReviewCursorRequest request);
+
+    Slice<ReviewEntity> findFollowersReviewSliceByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request);
+
+    List<ReviewEntity> findFollowersReviewsByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request);
+
+    ReviewStatistics getFollowersReviewStatisticsByShop(Long userId, String placeId);
+
     List<ShopIdPair> findShopPlaceIdsByMyReviews(Long userId, Long cursor, Pageable pageable) throws Exception;
 
+    //작성자별 리뷰를 쓴 상점 id (정렬된 배열, 리뷰가 없는 작성자는 빠진다)
+    Map<Long, long[]> findShopIdsByWriterIds(Collection<Long> writerIds);
+
     Long getReviewCount(Long userId);
 
+    Long getReviewCountByShop(Long userId, String placeId);
+
     Long getFollowersReviewCountByShop(Long userId, String placeId);
 
     Date getFollowersReviewLastDateByShop(Long userId, String placeId);
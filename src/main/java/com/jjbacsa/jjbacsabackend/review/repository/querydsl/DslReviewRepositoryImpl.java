@@ -1,43 +1,49 @@
 package com.jjbacsa.jjbacsabackend.review.repository.querydsl;
 
-import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
 import com.jjbacsa.jjbacsabackend.follow.entity.QFollowEntity;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
 import com.jjbacsa.jjbacsabackend.google.entity.QGoogleShopCount;
 import com.jjbacsa.jjbacsabackend.google.entity.QGoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.image.entity.QImageEntity;
 import com.jjbacsa.jjbacsabackend.review.dto.request.ReviewCursorRequest;
+import com.jjbacsa.jjbacsabackend.review.dto.response.QReviewStatistics;
+import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewStatistics;
 import com.jjbacsa.jjbacsabackend.review.entity.QReviewEntity;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import com.jjbacsa.jjbacsabackend.review_image.entity.QReviewImageEntity;
 import com.jjbacsa.jjbacsabackend.review_image.entity.ReviewImageEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.QUserEntity;
-import com.jjbacsa.jjbacsabackend.util.QueryDslUtil;
+import com.jjbacsa.jjbacsabackend.util.Keyset;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import com.querydsl.core.types.Order;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Repository
 public class DslReviewRepositoryImpl extends QuerydslRepositorySupport implements DslReviewRepository {
+    static final int WRITER_IDS_CHUNK_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
 
     private static QReviewEntity review = QReviewEntity.reviewEntity;
@@ -77,20 +83,18 @@ public class DslReviewRepositoryImpl extends QuerydslRepositorySupport implement
 
     @Override
     public Long getFollowersReviewCountByShop(Long userId, String placeId) {
-        List<Long> followerIds = findAllFollowerIds(userId);
         return queryFactory.selectFrom(review)
                 .select(review.count())
-                .where(review.writer.id.in(followerIds),
+                .where(writtenByFollowerOf(userId),
                         review.shop.placeId.eq(placeId))
                 .fetchOne();
     }
 
     @Override
     public Date getFollowersReviewLastDateByShop(Long userId, String placeId) {
-        List<Long> followerIds = findAllFollowerIds(userId);
         return queryFactory.selectFrom(review)
                 .select(review.createdAt)
-                .where(review.writer.id.in(followerIds),
+                .where(writtenByFollowerOf(userId),
                         review.shop.placeId.eq(placeId))
                 .orderBy(review.createdAt.desc())
                 .limit(1)
@@ -108,74 +112,86 @@ public class DslReviewRepositoryImpl extends QuerydslRepositorySupport implement
                 .fetchOne();
     }
 
+    @Override
+    public Long getReviewCountByShop(Long userId, String placeId) {
+        return queryFactory.selectFrom(review)
+                .select(review.count())
+                .where(review.writer.id.eq(userId),
+                        review.shop.placeId.eq(placeId))
+                .fetchOne();
+    }
+
     @Override
     public Page<ReviewEntity> findAllByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request) {
         PageRequest pageable = request.of();
-        List<OrderSpecifier> orders = getAllOrderSpecifiers(pageable);
-        List<ReviewEntity> reviews = queryFactory
-                .selectFrom(review)
-                .innerJoin(review.writer, user).fetchJoin()
-                .innerJoin(review.shop, shop).fetchJoin()
-                .where(review.writer.id.eq(userId),
-                        review.shop.placeId.eq(placeId),
-                        customCursor(request.getIdCursor(), request.getRateCursor(), request.getDateCursor(), request.getSort(), request.getDirection()))
-                .orderBy(orders.stream().toArray(OrderSpecifier[]::new))
+        List<ReviewEntity> reviews = writerReviewsQuery(userId, placeId, request)
                 .limit(pageable.getPageSize())
                 .fetch();
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.shop.placeId.eq(placeId));
-        return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(reviews, pageable, () -> getReviewCountByShop(userId, placeId));
     }
 
     @Override
     public Page<ReviewEntity> findAllFollowersReviewsByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request) {
-        List<Long> followerIds = findAllFollowerIds(userId);
         PageRequest pageable = request.of();
-        List<OrderSpecifier> orders = getAllOrderSpecifiers(pageable);
+        List<ReviewEntity> reviews = followersReviewsQuery(userId, placeId, request)
+                .limit(pageable.getPageSize())
+                .fetch();
+        return PageableExecutionUtils.getPage(reviews, pageable, () -> getFollowersReviewCountByShop(userId, placeId));
+    }
+
+    @Override
+    public Slice<ReviewEntity> findReviewSliceByShopPlaceId(Long writerId, String placeId, ReviewCursorRequest request) {
+        PageRequest pageable = request.of();
+        List<ReviewEntity> reviews = writerReviewsQuery(writerId, placeId, request)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
+        return SliceUtil.toSlice(reviews, pageable);
+    }
+
+    @Override
+    public Slice<ReviewEntity> findFollowersReviewSliceByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request) {
+        PageRequest pageable = request.of();
+        List<ReviewEntity> reviews = followersReviewsQuery(userId, placeId, request)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
+        return SliceUtil.toSlice(reviews, pageable);
+    }
+
+    @Override
+    public List<ReviewEntity> findFollowersReviewsByShopPlaceId(Long userId, String placeId, ReviewCursorRequest request) {
+        PageRequest pageable = request.of();
+        Keyset keyset = reviewKeyset(request);
 
-        List<ReviewEntity> reviews = queryFactory
+        return queryFactory
                 .selectFrom(review)
                 .innerJoin(review.writer, user).fetchJoin()
                 .innerJoin(review.shop, shop).fetchJoin()
-                .where(review.writer.id.in(followerIds),
-                        review.shop.placeId.eq(placeId),
-                        customCursor(request.getIdCursor(), request.getRateCursor(), request.getDateCursor(), request.getSort(), request.getDirection())
+                .innerJoin(follow).on(followedBy(userId))
+                .where(shop.placeId.eq(placeId),
+                        keyset.after(request.getCursor())
                 )
-                .orderBy(orders.stream().toArray(OrderSpecifier[]::new))
+                .orderBy(keyset.orderBy())
                 .limit(pageable.getPageSize())
                 .fetch();
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
+    }
+
+    @Override
+    public ReviewStatistics getFollowersReviewStatisticsByShop(Long userId, String placeId) {
+        return queryFactory
+                .select(new QReviewStatistics(review.count(), review.createdAt.max(), review.rate.avg()))
                 .from(review)
-                .where(review.writer.id.in(followerIds),
-                        review.shop.placeId.eq(placeId));
-        return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
+                .innerJoin(follow).on(followedBy(userId))
+                .where(review.shop.placeId.eq(placeId))
+                .fetchOne();
     }
 
     @Override
     public Page<ReviewEntity> findAllFollowerReviewsByShopPlaceId(Long followerId, String placeId, ReviewCursorRequest request) {
         PageRequest pageable = request.of();
-        List<OrderSpecifier> orders = getAllOrderSpecifiers(pageable);
-
-        List<ReviewEntity> reviews = queryFactory
-                .selectFrom(review)
-                .innerJoin(review.writer, user).fetchJoin()
-                .innerJoin(review.shop, shop).fetchJoin()
-                .where(review.writer.id.eq(followerId),
-                        review.shop.placeId.eq(placeId),
-                        customCursor(request.getIdCursor(), request.getRateCursor(), request.getDateCursor(), request.getSort(), request.getDirection())
-                )
-                .orderBy(orders.stream().toArray(OrderSpecifier[]::new))
+        List<ReviewEntity> reviews = writerReviewsQuery(followerId, placeId, request)
                 .limit(pageable.getPageSize())
                 .fetch();
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.writer.id.in(followerId),
-                        review.shop.placeId.eq(placeId));
-        return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(reviews, pageable, () -> getReviewCountByShop(followerId, placeId));
     }
 
     @Override
@@ -198,15 +214,75 @@ public class DslReviewRepositoryImpl extends QuerydslRepositorySupport implement
                 .collect(Collectors.toList());
     }
 
-    private List<Long> findAllFollowerIds(Long userId) {
-        List<FollowEntity> followers = queryFactory
-                .selectFrom(follow)
-                .innerJoin(follow.user, user).fetchJoin()
-                .innerJoin(follow.follower, user).fetchJoin()
-                .where(follow.user.id.eq(userId))
-                .fetch();
+    @Override
+    public Map<Long, long[]> findShopIdsByWriterIds(Collection<Long> writerIds) {
+        Map<Long, long[]> shopIds = new HashMap<>();
+
+        if (writerIds.isEmpty()) {
+            return shopIds;
+        }
+
+        List<Long> writers = new ArrayList<>(writerIds);
+        Map<Long, List<Long>> grouped = new HashMap<>();
+
+        // 팔로워가 많아도 IN 목록이 커지지 않도록 WRITER_IDS_CHUNK_SIZE명씩 나눠 조회
+        for (int from = 0; from < writers.size(); from += WRITER_IDS_CHUNK_SIZE) {
+            // 엔티티 대신 id 두 개만 조회
+            List<Tuple> results = queryFactory
+                    .selectDistinct(review.writer.id, review.shop.id)
+                    .from(review)
+                    .where(review.writer.id.in(writers.subList(from, Math.min(from + WRITER_IDS_CHUNK_SIZE, writers.size()))))
+                    .fetch();
+
+            for (Tuple tuple : results) {
+                grouped.computeIfAbsent(tuple.get(review.writer.id), id -> new ArrayList<>()).add(tuple.get(review.shop.id));
+            }
+        }
+        grouped.forEach((writerId, ids) -> shopIds.put(writerId, SortedIds.toSortedArray(ids)));
+
+        return shopIds;
+    }
+
+    // follow 조인 조건 (entity join에는 @Where가 붙지 않아 삭제 여부를 직접 확인)
+    private BooleanExpression followedBy(Long userId) {
+        return follow.follower.id.eq(review.writer.id)
+                .and(follow.user.id.eq(userId))
+                .and(follow.isDeleted.eq(0));
+    }
+
+    // 팔로워 목록을 가져오지 않고 EXISTS 서브쿼리로 작성자를 확인
+    private BooleanExpression writtenByFollowerOf(Long userId) {
+        return JPAExpressions.selectOne()
+                .from(follow)
+                .where(follow.user.id.eq(userId),
+                        follow.follower.id.eq(review.writer.id))
+                .exists();
+    }
+
+    // 작성자 한 명의 상점 리뷰
+    private JPAQuery<ReviewEntity> writerReviewsQuery(Long writerId, String placeId, ReviewCursorRequest request) {
+        Keyset keyset = reviewKeyset(request);
+        return queryFactory
+                .selectFrom(review)
+                .innerJoin(review.writer, user).fetchJoin()
+                .innerJoin(review.shop, shop).fetchJoin()
+                .where(review.writer.id.eq(writerId),
+                        review.shop.placeId.eq(placeId),
+                        keyset.after(request.getCursor()))
+                .orderBy(keyset.orderBy());
+    }
 
-        return followers.stream().map(o -> o.getFollower().getId()).collect(Collectors.toList());
+    // 팔로워들의 상점 리뷰
+    private JPAQuery<ReviewEntity> followersReviewsQuery(Long userId, String placeId, ReviewCursorRequest request) {
+        Keyset keyset = reviewKeyset(request);
+        return queryFactory
+                .selectFrom(review)
+                .innerJoin(review.writer, user).fetchJoin()
+                .innerJoin(review.shop, shop).fetchJoin()
+                .where(writtenByFollowerOf(userId),
+                        review.shop.placeId.eq(placeId),
+                        keyset.after(request.getCursor()))
+                .orderBy(keyset.orderBy());
     }
 
     private List<ReviewImageEntity> findAllReviewImages(Long reviewId) {
@@ -217,53 +293,14 @@ public class DslReviewRepositoryImpl extends QuerydslRepositorySupport implement
                 .fetch();
     }
 
-    private BooleanExpression customCursor(Long idCursor, Integer rateCursor, String dateCursor, String sort, String direction) {
-        if (idCursor == null) return null;
-        StringExpression cursor = sort.equals("rate") ? review.rate.stringValue() :
-                review.createdAt.stringValue().substring(2, 10);
-        cursor = cursor.concat(StringExpressions.lpad(review.id.stringValue(), 5, '0'));
-        String generateCursor = makeReviewCursor(idCursor, rateCursor, dateCursor, sort);
-        if (direction.equals("desc")) {
-            return cursor.lt(generateCursor);
-        } else return cursor.gt(generateCursor);
-    }
-
-    private String makeReviewCursor(Long idCursor, Integer rateCursor, String dateCursor, String sort) {
-        StringBuilder sb = new StringBuilder();
-        if (sort.equals("rate")) sb.append(rateCursor == null ? "0" : rateCursor.toString());
-        else sb.append(dateCursor == null ? "00-00-00" : dateCursor);
-        sb.append(String.format("%1$" + 5 + "s", idCursor).replace(' ', '0'));
-        return sb.toString();
-    }
+    // 정렬 기준(작성일 또는 별점) + id 키셋
+    private Keyset reviewKeyset(ReviewCursorRequest request) {
+        Order order = "desc".equals(request.getDirection()) ? Order.DESC : Order.ASC;
 
-    private List<OrderSpecifier> getAllOrderSpecifiers(Pageable pageable) {
-        List<OrderSpecifier> orders = new ArrayList<>();
-
-        for (Sort.Order order : pageable.getSort()) {
-            Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
-            switch (order.getProperty()) {
-                case "id":
-                    OrderSpecifier<?> orderId = QueryDslUtil.getSortedColumn(direction, QReviewEntity.reviewEntity, "id");
-                    orders.add(orderId);
-                    break;
-                case "createdAt":
-                    OrderSpecifier<?> orderCreatedAt = QueryDslUtil.getSortedColumn(direction, QReviewEntity.reviewEntity, "createdAt");
-                    orders.add(orderCreatedAt);
-                    break;
-                case "updatedAt":
-                    OrderSpecifier<?> orderUpdatedAt = QueryDslUtil.getSortedColumn(direction, QReviewEntity.reviewEntity, "updatedAt");
-                    orders.add(orderUpdatedAt);
-                    break;
-                case "rate":
-                    OrderSpecifier<?> orderRate = QueryDslUtil.getSortedColumn(direction, QReviewEntity.reviewEntity, "rate");
-                    orders.add(orderRate);
-                    break;
-                case "content":
-                    OrderSpecifier<?> orderContent = QueryDslUtil.getSortedColumn(direction, QReviewEntity.reviewEntity, "content");
-                    orders.add(orderContent);
-                    break;
-            }
+        if (request.isRateSort()) {
+            return Keyset.of(Keyset.integer(review.rate, order), Keyset.number(review.id, order));
         }
-        return orders;
+
+        return Keyset.of(Keyset.date(review.createdAt, order), Keyset.number(review.id, order));
     }
 }
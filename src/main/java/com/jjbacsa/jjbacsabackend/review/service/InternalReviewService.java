@@ -6,9 +6,6 @@ import java.util.List;
 
 public interface InternalReviewService {
 
-    //특정 사용자의 리뷰 Id 반환
-    List<Long> getReviewShopIdsForUser(UserEntity user);
-
     List<ReviewEntity> findReviewsByWriter(UserEntity user);
 
     void deleteReviewsWithUser(UserEntity user);
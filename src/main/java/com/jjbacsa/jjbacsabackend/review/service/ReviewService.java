@@ -2,10 +2,12 @@ package com.jjbacsa.jjbacsabackend.review.service;
 
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.request.*;
+import com.jjbacsa.jjbacsabackend.review.dto.response.FollowersReviewSummaryResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewCountResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewDateResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ReviewService {
 
@@ -23,6 +25,12 @@ public interface ReviewService {
 
     Page<ReviewResponse> getFollowerReviewsByShop(ReviewCursorRequest reviewCursorRequest, Long followerId, String placeId) throws Exception;
 
+    Slice<ReviewResponse> getMyReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception;
+
+    Slice<ReviewResponse> getFollowersReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception;
+
+    Slice<ReviewResponse> getFollowerReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, Long followerId, String placeId) throws Exception;
+
     Page<ShopResponse> getShopsByMyReviews(ShopCursorRequest shopCursorRequest) throws Exception;
 
     Page<ShopResponse> getShopsByFollowerReviews(ShopCursorRequest shopCursorRequest, Long followerId) throws Exception;
@@ -35,5 +43,7 @@ public interface ReviewService {
 
     ReviewDateResponse getFollowerReviewLastDateByShop(String placeId) throws Exception;
 
+    FollowersReviewSummaryResponse getFollowersReviewSummaryByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception;
+
     ReviewDateResponse getReviewLastDateByShop(String placeId) throws Exception;
 }
@@ -1,6 +1,6 @@
 package com.jjbacsa.jjbacsabackend.review.serviceImpl;
 
-import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.cache.UserShopSets;
 import com.jjbacsa.jjbacsabackend.google.service.InternalGoogleService;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
@@ -9,7 +9,6 @@ import com.jjbacsa.jjbacsabackend.review_image.entity.ReviewImageEntity;
 import com.jjbacsa.jjbacsabackend.review_image.service.InternalReviewImageService;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,16 +21,7 @@ public class InternalReviewServiceImpl implements InternalReviewService {
     private final ReviewRepository reviewRepository;
     private final InternalReviewImageService reviewImageService;
     private final InternalGoogleService shopService;
-
-    @Override
-    public List<Long> getReviewShopIdsForUser(UserEntity user) {
-
-        return reviewRepository.findAllByWriter(user)
-                .stream()
-                .map(ReviewEntity::getShop)
-                .map(GoogleShopEntity::getId)
-                .collect(Collectors.toList());
-    }
+    private final UserShopSets userShopSets;
 
     @Override
     public List<ReviewEntity> findReviewsByWriter(UserEntity user) {
@@ -56,6 +46,7 @@ public class InternalReviewServiceImpl implements InternalReviewService {
             shopService.addTotalRating(shopId, -review.getRate());
             shopService.decreaseRatingCount(shopId);
         }
+        userShopSets.reviewsRemoved(user.getId());
     }
 
 }
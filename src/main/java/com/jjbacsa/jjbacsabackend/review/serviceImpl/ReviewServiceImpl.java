@@ -1,16 +1,21 @@
 package com.jjbacsa.jjbacsabackend.review.serviceImpl;
 
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
+import com.jjbacsa.jjbacsabackend.etc.dto.CursorSlice;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
 import com.jjbacsa.jjbacsabackend.follow.service.InternalFollowService;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.cache.UserShopSets;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.google.service.InternalGoogleApiService;
 import com.jjbacsa.jjbacsabackend.google.service.InternalGoogleService;
 import com.jjbacsa.jjbacsabackend.review.dto.request.*;
+import com.jjbacsa.jjbacsabackend.review.dto.response.FollowersReviewSummaryResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewCountResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewDateResponse;
 import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewResponse;
+import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewStatistics;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import com.jjbacsa.jjbacsabackend.review.mapper.ReviewMapper;
 import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
@@ -19,10 +24,13 @@ import com.jjbacsa.jjbacsabackend.review_image.entity.ReviewImageEntity;
 import com.jjbacsa.jjbacsabackend.review_image.service.InternalReviewImageService;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
+import com.jjbacsa.jjbacsabackend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.util.Date;
 import java.util.List;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 
@@ -46,10 +55,13 @@ public class ReviewServiceImpl implements ReviewService {
     private final InternalReviewImageService reviewImageService;
 
     private final ReviewRepository reviewRepository;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final UserShopSets userShopSets;
 
     @Override
     public ReviewResponse create(ReviewRequest reviewRequest) throws Exception {
         ReviewEntity review = reviewRepository.save(createReviewEntity(reviewRequest));
+        userShopSets.reviewAdded(review.getWriter().getId(), review.getShop().getId());
         return ReviewMapper.INSTANCE.fromReviewEntity(review);
     }
 
@@ -83,6 +95,7 @@ public class ReviewServiceImpl implements ReviewService {
         Long shopId = reviewEntity.getShop().getId();
         shopService.addTotalRating(shopId, -reviewEntity.getRate());
         shopService.decreaseRatingCount(shopId);
+        userShopSets.reviewsRemoved(userEntity.getId());
     }
 
     @Override
@@ -115,12 +128,40 @@ public class ReviewServiceImpl implements ReviewService {
         } else throw new RequestInputException(ErrorMessage.NOT_FOLLOWED_EXCEPTION);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReviewResponse> getMyReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception {
+        Long userId = userService.getLoginUser().getId();
+        return toCursorSlice(reviewRepository.findReviewSliceByShopPlaceId(userId, placeId, reviewCursorRequest), reviewCursorRequest,
+                "review:shop", userId + ":" + placeId, () -> reviewRepository.getReviewCountByShop(userId, placeId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReviewResponse> getFollowersReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception {
+        Long userId = userService.getLoginUser().getId();
+        return toCursorSlice(reviewRepository.findFollowersReviewSliceByShopPlaceId(userId, placeId, reviewCursorRequest), reviewCursorRequest,
+                "review:followers:shop", userId + ":" + placeId, () -> reviewRepository.getFollowersReviewCountByShop(userId, placeId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReviewResponse> getFollowerReviewSliceByShop(ReviewCursorRequest reviewCursorRequest, Long followerId, String placeId) throws Exception {
+        UserEntity follower = userService.getUserById(followerId);
+        UserEntity user = userService.getLoginUser();
+        if (!followService.existsByUserAndFollower(user, follower))
+            throw new RequestInputException(ErrorMessage.NOT_FOLLOWED_EXCEPTION);
+
+        return toCursorSlice(reviewRepository.findReviewSliceByShopPlaceId(follower.getId(), placeId, reviewCursorRequest), reviewCursorRequest,
+                "review:shop", follower.getId() + ":" + placeId, () -> reviewRepository.getReviewCountByShop(follower.getId(), placeId));
+    }
+
     @Override
     @Transactional(readOnly = true) // 핀보기 리뷰
     public Page<ReviewResponse> getMyReviewsByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception {
         UserEntity user = userService.getLoginUser();
         return reviewRepository.findAllByShopPlaceId(user.getId(), placeId, reviewCursorRequest)
-                .map(ReviewMapper.INSTANCE::fromReviewEntityWithIgnoreImage);
+                .map(review -> toCursorResponse(review, reviewCursorRequest));
     }
 
     @Override
@@ -128,7 +169,7 @@ public class ReviewServiceImpl implements ReviewService {
     public Page<ReviewResponse> getFollowersReviewsByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception {
         UserEntity user = userService.getLoginUser();
         return reviewRepository.findAllFollowersReviewsByShopPlaceId(user.getId(), placeId, reviewCursorRequest)
-                .map(ReviewMapper.INSTANCE::fromReviewEntityWithIgnoreImage);
+                .map(review -> toCursorResponse(review, reviewCursorRequest));
     }
 
     @Override
@@ -138,7 +179,7 @@ public class ReviewServiceImpl implements ReviewService {
         UserEntity user = userService.getLoginUser();
         if (followService.existsByUserAndFollower(user, follower)) {
             return reviewRepository.findAllFollowerReviewsByShopPlaceId(follower.getId(), placeId, reviewCursorRequest)
-                    .map(ReviewMapper.INSTANCE::fromReviewEntityWithIgnoreImage);
+                    .map(review -> toCursorResponse(review, reviewCursorRequest));
         } else throw new RequestInputException(ErrorMessage.NOT_FOLLOWED_EXCEPTION);
     }
 
@@ -177,6 +218,26 @@ public class ReviewServiceImpl implements ReviewService {
         return ReviewDateResponse.builder().lastDate(date).build();
     }
 
+    @Override
+    @Transactional(readOnly = true) // 핀보기 -> 팔로워 리뷰 수, 마지막 날짜, 평균 별점, 첫 페이지
+    public FollowersReviewSummaryResponse getFollowersReviewSummaryByShop(ReviewCursorRequest reviewCursorRequest, String placeId) throws Exception {
+        Long userId = userService.getLoginUserId();
+        ReviewStatistics statistics = reviewRepository.getFollowersReviewStatisticsByShop(userId, placeId);
+
+        List<ReviewResponse> reviews = statistics.getCount() == 0 ? List.of() :
+                reviewRepository.findFollowersReviewsByShopPlaceId(userId, placeId, reviewCursorRequest)
+                        .stream()
+                        .map(review -> toCursorResponse(review, reviewCursorRequest))
+                        .collect(Collectors.toList());
+
+        return FollowersReviewSummaryResponse.builder()
+                .count(statistics.getCount())
+                .lastDate(statistics.getLastDate())
+                .averageRate(statistics.getAverageRate())
+                .reviews(new PageImpl<>(reviews, reviewCursorRequest.of(), statistics.getCount()))
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true) // 상점에 대한 내 마지막 리뷰 날짜
     public ReviewDateResponse getReviewLastDateByShop(String placeId) throws Exception {
@@ -185,6 +246,24 @@ public class ReviewServiceImpl implements ReviewService {
         return ReviewDateResponse.builder().lastDate(date).build();
     }
 
+    // 목록 응답에 다음 페이지 커서를 담는다
+    private ReviewResponse toCursorResponse(ReviewEntity review, ReviewCursorRequest request) {
+        ReviewResponse response = ReviewMapper.INSTANCE.fromReviewEntityWithIgnoreImage(review);
+        response.setCursor(request.isRateSort()
+                ? KeysetCursor.encode(review.getRate() == null ? 0 : review.getRate(), review.getId())
+                : KeysetCursor.encode(review.getCreatedAt(), review.getId()));
+
+        return response;
+    }
+
+    // withTotal이면 캐시된 대략적인 전체 개수를 함께 담는다
+    private Slice<ReviewResponse> toCursorSlice(Slice<ReviewEntity> reviews, ReviewCursorRequest request,
+                                                String endpoint, String owner, LongSupplier counter) {
+        Long total = request.isWithTotal() ? approximateTotalCache.get(endpoint, owner, counter) : null;
+
+        return CursorSlice.of(reviews.map(review -> toCursorResponse(review, request)), total);
+    }
+
     private ReviewEntity createReviewEntity(ReviewRequest reviewRequest) throws Exception {
         UserEntity userEntity = userService.getLoginUser();
         log.info(reviewRequest.getPlaceId());
@@ -9,4 +9,6 @@ import lombok.*;
 public class ReviewImageResponse {
     String originalName;
     String imageUrl;
+    String thumbnailUrl;
+    String listUrl;
 }
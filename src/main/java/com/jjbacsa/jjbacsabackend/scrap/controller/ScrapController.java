@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Response;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -50,9 +51,14 @@ public class ScrapController {
             authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/scraps/directories")
-    public ResponseEntity<Page<ScrapDirectoryResponse>> getDirectories(
+    public ResponseEntity<Slice<ScrapDirectoryResponse>> getDirectories(
             @RequestParam(required = false) String cursor,
-            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100, message = "1에서 100 사이여야 합니다.") @RequestParam(required = false, defaultValue = "10") Integer pageSize) throws Exception {
+            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100, message = "1에서 100 사이여야 합니다.") @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+            @ApiParam("true면 전체 개수 없이 hasNext만 반환") @RequestParam(required = false, defaultValue = "false") boolean slice,
+            @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함") @RequestParam(required = false, defaultValue = "false") boolean withTotal) throws Exception {
+
+        if (slice)
+            return new ResponseEntity<>(service.getDirectorySlice(cursor, pageSize, withTotal), HttpStatus.OK);
 
         return new ResponseEntity<>(service.getDirectories(cursor, pageSize), HttpStatus.OK);
     }
@@ -113,10 +119,15 @@ public class ScrapController {
             authorizations = @Authorization(value = "Bearer + accessToken"))
     @PreAuthorize("hasRole('NORMAL')")
     @GetMapping(value = "/scraps/directories/{directory_id}")
-    public ResponseEntity<Page<ShopScrapResponse>> getScraps(
+    public ResponseEntity<Slice<ShopScrapResponse>> getScraps(
             @ApiParam("조회할 디렉토리 ID") @PathVariable(value = "directory_id", required = false) Long directoryId,
             @RequestParam(required = false) Long cursor,
-            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100, message = "1에서 100 사이여야 합니다.") @RequestParam(required = false, defaultValue = "10") Integer pageSize) throws Exception {
+            @ApiParam("가져올 데이터 수(1~100)") @Range(min = 1, max = 100, message = "1에서 100 사이여야 합니다.") @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+            @ApiParam("true면 전체 개수 없이 hasNext만 반환") @RequestParam(required = false, defaultValue = "false") boolean slice,
+            @ApiParam("slice 조회 시 대략적인 전체 개수(approximateTotal) 포함") @RequestParam(required = false, defaultValue = "false") boolean withTotal) throws Exception {
+
+        if (slice)
+            return new ResponseEntity<>(service.getScrapSlice(directoryId, cursor, pageSize, withTotal), HttpStatus.OK);
 
         return new ResponseEntity<>(service.getScraps(directoryId, cursor, pageSize), HttpStatus.OK);
     }
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.Date;
 
@@ -21,4 +22,8 @@ public class ScrapDirectoryResponse {
     private Date updatedAt;
     private String name;
     private int scrapCount;
+
+    //목록 조회 시 다음 페이지 커서
+    @Setter
+    private String cursor;
 }
@@ -22,6 +22,6 @@ public class ScrapDirectoryCount {
 
     @Basic
     @Setter
-    @Column(name = "scrap_count", nullable = false)
+    @Column(name = "scrap_count", nullable = false, updatable = false)
     private Integer scrapCount = 0;
 }
\ No newline at end of file
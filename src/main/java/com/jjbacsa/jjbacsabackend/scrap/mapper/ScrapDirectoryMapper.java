@@ -12,5 +12,6 @@ public interface ScrapDirectoryMapper {
     ScrapDirectoryMapper INSTANCE = Mappers.getMapper(ScrapDirectoryMapper.class);
 
     @Mapping(target = "scrapCount", source = "scrapDirectoryCount.scrapCount")
+    @Mapping(target = "cursor", ignore = true)
     ScrapDirectoryResponse toScrapDirectoryResponse(ScrapDirectoryEntity directory);
 }
@@ -4,20 +4,27 @@ import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.scrap.repository.dsl.DslScrapDirectoryRepository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import javax.persistence.LockModeType;
-
 @Repository
 public interface ScrapDirectoryRepository extends JpaRepository<ScrapDirectoryEntity, Long>, DslScrapDirectoryRepository {
 
     boolean existsByUserAndName(UserEntity user, String name);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select sdc.scrapCount from ScrapDirectoryCount sdc " +
+    long countByUser(UserEntity user);
+
+    @Modifying
+    @Query("update ScrapDirectoryCount sdc " +
+            "set sdc.scrapCount = sdc.scrapCount + :delta " +
             "where sdc.id = :scrapDirectoryId")
-    Integer getScrapCount(@Param("scrapDirectoryId") Long scrapDirectoryId);
+    int addScrapCount(@Param("scrapDirectoryId") Long scrapDirectoryId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "update scrap_directory_count dc set " +
+            "dc.scrap_count = (select count(*) from scrap s where s.directory_id = dc.directory_id and s.is_deleted = 0)",
+            nativeQuery = true)
+    int reconcileScrapCounts();
 }
\ No newline at end of file
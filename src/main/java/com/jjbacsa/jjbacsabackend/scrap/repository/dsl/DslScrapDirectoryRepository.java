@@ -4,8 +4,11 @@ import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface DslScrapDirectoryRepository {
 
     Page<ScrapDirectoryEntity> findAllByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
+
+    Slice<ScrapDirectoryEntity> findSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable);
 }
@@ -3,11 +3,13 @@ package com.jjbacsa.jjbacsabackend.scrap.repository.dsl;
 import com.jjbacsa.jjbacsabackend.scrap.entity.QScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
+import com.jjbacsa.jjbacsabackend.util.Keyset;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import com.querydsl.core.types.Order;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -16,6 +18,9 @@ import java.util.List;
 public class DslScrapDirectoryRepositoryImpl extends QuerydslRepositorySupport implements DslScrapDirectoryRepository {
 
     private static final QScrapDirectoryEntity d = QScrapDirectoryEntity.scrapDirectoryEntity;
+    private static final Keyset keyset = Keyset.of(
+            Keyset.string(d.name, Order.ASC),
+            Keyset.number(d.id, Order.ASC));
 
     public DslScrapDirectoryRepositoryImpl() {
         super(ScrapDirectoryEntity.class);
@@ -24,10 +29,7 @@ public class DslScrapDirectoryRepositoryImpl extends QuerydslRepositorySupport i
     @Override
     public Page<ScrapDirectoryEntity> findAllByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
 
-        List<ScrapDirectoryEntity> content = from(d).select(d)
-                .join(d.scrapDirectoryCount).fetchJoin()
-                .where(d.user.eq(user), customCursor(cursor))
-                .orderBy(d.name.asc(), d.id.asc())
+        List<ScrapDirectoryEntity> content = directoriesQuery(user, cursor)
                 .limit(pageable.getPageSize())
                 .fetch();
 
@@ -37,13 +39,20 @@ public class DslScrapDirectoryRepositoryImpl extends QuerydslRepositorySupport i
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
     }
 
-    private BooleanExpression customCursor(String cursor) {
+    @Override
+    public Slice<ScrapDirectoryEntity> findSliceByUserWithCursor(UserEntity user, String cursor, Pageable pageable) {
+
+        List<ScrapDirectoryEntity> content = directoriesQuery(user, cursor)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
 
-        if (cursor == null)
-            return null;
+        return SliceUtil.toSlice(content, pageable);
+    }
 
-        return StringExpressions.lpad(d.name.stringValue(), 10, '0')
-                .concat(StringExpressions.lpad(d.id.stringValue(), 10, '0'))
-                .gt(cursor);
+    private JPQLQuery<ScrapDirectoryEntity> directoriesQuery(UserEntity user, String cursor) {
+        return from(d).select(d)
+                .join(d.scrapDirectoryCount).fetchJoin()
+                .where(d.user.eq(user), keyset.after(cursor))
+                .orderBy(keyset.orderBy());
     }
 }
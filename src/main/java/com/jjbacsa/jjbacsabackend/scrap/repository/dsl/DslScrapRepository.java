@@ -5,12 +5,20 @@ import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface DslScrapRepository {
 
     Page<ScrapEntity> findAllByUserAndDirectoryWithCursor(UserEntity user, ScrapDirectoryEntity directory, Long cursor, Pageable pageable);
 
+    Slice<ScrapEntity> findSliceByUserAndDirectoryWithCursor(UserEntity user, ScrapDirectoryEntity directory, Long cursor, Pageable pageable);
+
+    long countByUserAndDirectory(UserEntity user, ScrapDirectoryEntity directory);
+
     long deleteAllByDirectory(ScrapDirectoryEntity directory);
 
     Page<ScrapEntity> findAllByUserWithCursor(UserEntity user, Long cursor, Pageable pageable);
+
+    //사용자가 스크랩한 상점 id (정렬된 배열)
+    long[] findShopIdsByUserId(Long userId);
 }
@@ -4,10 +4,13 @@ import com.jjbacsa.jjbacsabackend.scrap.entity.QScrapEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapEntity;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import com.jjbacsa.jjbacsabackend.util.SortedIds;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -30,18 +33,28 @@ public class DslScrapRepositoryImpl extends QuerydslRepositorySupport implements
     @Override
     public Page<ScrapEntity> findAllByUserAndDirectoryWithCursor(UserEntity user, ScrapDirectoryEntity directory, Long cursor, Pageable pageable) {
 
-        BooleanExpression condition = getScrapCondition(user, directory);
-
-        List<ScrapEntity> content = from(s).select(s)
-                .where(condition, customCursor(cursor))
-                .orderBy(s.id.asc())
+        List<ScrapEntity> content = scrapsQuery(user, directory, cursor)
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<ScrapEntity> countQuery = from(s).select(s)
-                .where(condition);
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByUserAndDirectory(user, directory));
+    }
+
+    @Override
+    public Slice<ScrapEntity> findSliceByUserAndDirectoryWithCursor(UserEntity user, ScrapDirectoryEntity directory, Long cursor, Pageable pageable) {
+
+        List<ScrapEntity> content = scrapsQuery(user, directory, cursor)
+                .limit(SliceUtil.fetchSize(pageable))
+                .fetch();
+
+        return SliceUtil.toSlice(content, pageable);
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+    @Override
+    public long countByUserAndDirectory(UserEntity user, ScrapDirectoryEntity directory) {
+        return from(s).select(s)
+                .where(getScrapCondition(user, directory))
+                .fetchCount();
     }
 
     @Override
@@ -69,6 +82,22 @@ public class DslScrapRepositoryImpl extends QuerydslRepositorySupport implements
         return PageableExecutionUtils.getPage(content,pageable,countQuery::fetchCount);
     }
 
+    @Override
+    public long[] findShopIdsByUserId(Long userId) {
+        List<Long> shopIds = from(s).select(s.shop.id)
+                .where(s.user.id.eq(userId))
+                .distinct()
+                .fetch();
+
+        return SortedIds.toSortedArray(shopIds);
+    }
+
+    private JPQLQuery<ScrapEntity> scrapsQuery(UserEntity user, ScrapDirectoryEntity directory, Long cursor) {
+        return from(s).select(s)
+                .where(getScrapCondition(user, directory), customCursor(cursor))
+                .orderBy(s.id.asc());
+    }
+
     private BooleanExpression getScrapCondition(UserEntity user, ScrapDirectoryEntity directory) {
 
         if (directory == null)
@@ -5,8 +5,6 @@ import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapEntity;
 
-import java.util.List;
-
 public interface InternalScrapService {
 
     ScrapEntity getScrapById(Long scrapId) throws RequestInputException;
@@ -15,8 +13,6 @@ public interface InternalScrapService {
 
     void addScrapCount(Long scrapDirectoryId, int delta);
 
-    List<Long> getShopIdsForUserScrap() throws Exception;
-
     Long getUserScrapShop(GoogleShopEntity googleShop) throws Exception;
 }
 
@@ -7,6 +7,7 @@ import com.jjbacsa.jjbacsabackend.scrap.dto.ScrapDirectoryResponse;
 import com.jjbacsa.jjbacsabackend.scrap.dto.ScrapRequest;
 import com.jjbacsa.jjbacsabackend.scrap.dto.ScrapResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ScrapService {
 
@@ -14,6 +15,8 @@ public interface ScrapService {
 
     Page<ScrapDirectoryResponse> getDirectories(String cursor, Integer pageSize) throws Exception;
 
+    Slice<ScrapDirectoryResponse> getDirectorySlice(String cursor, Integer pageSize, boolean withTotal) throws Exception;
+
     ScrapDirectoryResponse updateDirectory(Long directoryId, ScrapDirectoryRequest request) throws Exception;
 
     void deleteDirectory(Long directoryId) throws Exception;
@@ -22,6 +25,8 @@ public interface ScrapService {
 
     Page<ShopScrapResponse> getScraps(Long directoryId, Long cursor, Integer pageSize) throws Exception;
 
+    Slice<ShopScrapResponse> getScrapSlice(Long directoryId, Long cursor, Integer pageSize, boolean withTotal) throws Exception;
+
     ScrapResponse move(Long scrapId, ScrapRequest request) throws Exception;
 
     void delete(Long scrapId) throws Exception;
@@ -1,5 +1,7 @@
 package com.jjbacsa.jjbacsabackend.scrap.serviceimpl;
 
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterBuffer;
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterField;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
@@ -15,9 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +27,7 @@ public class InternalScrapServiceImpl implements InternalScrapService {
     private final ScrapRepository scrapRepository;
     private final ScrapDirectoryRepository scrapDirectoryRepository;
     private final InternalUserService internalUserService;
+    private final CounterBuffer counterBuffer;
 
     @Override
     public ScrapEntity getScrapById(Long scrapId) throws RequestInputException {
@@ -46,20 +47,7 @@ public class InternalScrapServiceImpl implements InternalScrapService {
     @Transactional
     public void addScrapCount(Long scrapDirectoryId, int delta) {
 
-        ScrapDirectoryEntity scrapDirectory = getScrapDirectoryById(scrapDirectoryId);
-        scrapDirectory.getScrapDirectoryCount().setScrapCount(scrapDirectoryRepository.getScrapCount(scrapDirectoryId) + delta);
-    }
-
-    //현재 사용자가 스크랩 한 상점 id 가져오기
-    @Override
-    public List<Long> getShopIdsForUserScrap() throws Exception {
-        UserEntity user = internalUserService.getLoginUser();
-
-        return scrapRepository.findAllByUser(user)
-                .stream()
-                .map(ScrapEntity::getShop)
-                .map(GoogleShopEntity::getId)
-                .collect(Collectors.toList());
+        counterBuffer.add(CounterField.DIRECTORY_SCRAP_COUNT, scrapDirectoryId, delta);
     }
 
     //상점 id와 사용자 id 비교해서 현재 사용자가 북마크 하는지 여부 반환
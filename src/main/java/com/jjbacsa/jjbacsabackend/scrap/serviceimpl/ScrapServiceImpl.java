@@ -1,9 +1,13 @@
 package com.jjbacsa.jjbacsabackend.scrap.serviceimpl;
 
 import com.google.common.base.Function;
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
+import com.jjbacsa.jjbacsabackend.etc.dto.CursorSlice;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.BaseException;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.google.cache.UserShopSets;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopScrapResponse;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.google.service.InternalGoogleApiService;
@@ -23,14 +27,19 @@ import com.jjbacsa.jjbacsabackend.scrap.service.InternalScrapService;
 import com.jjbacsa.jjbacsabackend.scrap.service.ScrapService;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
+import com.jjbacsa.jjbacsabackend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -44,6 +53,8 @@ public class ScrapServiceImpl implements ScrapService {
 
     private final ScrapDirectoryRepository scrapDirectoryRepository;
     private final ScrapRepository scrapRepository;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final UserShopSets userShopSets;
 
 
     @Override
@@ -66,7 +77,19 @@ public class ScrapServiceImpl implements ScrapService {
         Pageable pageable = PageRequest.of(0, pageSize);
         Page<ScrapDirectoryEntity> directories = scrapDirectoryRepository.findAllByUserWithCursor(user, cursor, pageable);
 
-        return directories.map(ScrapDirectoryMapper.INSTANCE::toScrapDirectoryResponse);
+        return directories.map(this::toCursorResponse);
+    }
+
+    @Override
+    public Slice<ScrapDirectoryResponse> getDirectorySlice(String cursor, Integer pageSize, boolean withTotal) throws Exception {
+
+        UserEntity user = userService.getLoginUser();
+        Pageable pageable = PageRequest.of(0, pageSize);
+        Slice<ScrapDirectoryResponse> directories = scrapDirectoryRepository.findSliceByUserWithCursor(user, cursor, pageable)
+                .map(this::toCursorResponse);
+        Long total = withTotal ? approximateTotalCache.get("scrap:directories", user.getId(), () -> scrapDirectoryRepository.countByUser(user)) : null;
+
+        return CursorSlice.of(directories, total);
     }
 
     @Override
@@ -125,6 +148,23 @@ public class ScrapServiceImpl implements ScrapService {
         return scrapToShopScrapResponse(scraps, directory);
     }
 
+    @Override
+    public Slice<ShopScrapResponse> getScrapSlice(Long directoryId, Long cursor, Integer pageSize, boolean withTotal) throws Exception {
+
+        UserEntity user = userService.getLoginUser();
+        ScrapDirectoryEntity directory = getDirectoryOrNull(directoryId);
+
+        if (directory != null)
+            checkDirectoryOwner(user, directory);
+
+        Slice<ScrapEntity> scraps = scrapRepository.findSliceByUserAndDirectoryWithCursor(user, directory, cursor, PageRequest.of(0, pageSize));
+        Long total = withTotal
+                ? approximateTotalCache.get("scraps", user.getId() + ":" + (directory == null ? 0 : directory.getId()), () -> scrapRepository.countByUserAndDirectory(user, directory))
+                : null;
+
+        return CursorSlice.of(scraps.map(toShopScrapResponse(scraps)), total);
+    }
+
     @Override
     public Page<ShopScrapResponse> getScrapShops(Long userId, Long cursor, Integer pageSize) throws Exception {
         UserEntity user;
@@ -139,20 +179,39 @@ public class ScrapServiceImpl implements ScrapService {
     }
 
     private Page<ShopScrapResponse> scrapToShopScrapResponse(Page<ScrapEntity> scraps, ScrapDirectoryEntity directory) {
-        Page<ShopScrapResponse> formattedScrapedShops = scraps.map(new Function<ScrapEntity, ShopScrapResponse>() {
+        return scraps.map(toShopScrapResponse(scraps));
+    }
+
+    private Function<ScrapEntity, ShopScrapResponse> toShopScrapResponse(Slice<ScrapEntity> scraps) {
+        //페이지 내 상점 별점은 한 번에 조회
+        List<String> placeIds = scraps.stream()
+                .map(scrap -> scrap.getShop().getPlaceId())
+                .collect(Collectors.toList());
+        Map<String, ShopRateResponse> rates = googleApiService.getShopRates(placeIds);
+
+        return new Function<ScrapEntity, ShopScrapResponse>() {
             @Override
             public ShopScrapResponse apply(ScrapEntity scrap) {
                 try {
-                    ShopScrapResponse shopScrapResponse = googleApiService.formattedToShopResponse(scrap);
+                    String placeId = scrap.getShop().getPlaceId();
+                    ShopRateResponse rate = rates.getOrDefault(placeId, ShopRateResponse.createDefaultRateResponse());
+
+                    ShopScrapResponse shopScrapResponse = googleApiService.formattedToShopResponse(scrap, rate);
                     shopScrapResponse.setScrapInfo(scrap);
                     return shopScrapResponse;
                 } catch (Exception e) {
                     throw new BaseException(ErrorMessage.INTERNAL_SHOP_EXCEPTION);
                 }
             }
-        });
+        };
+    }
 
-        return formattedScrapedShops;
+    private ScrapDirectoryResponse toCursorResponse(ScrapDirectoryEntity directory) {
+
+        ScrapDirectoryResponse response = ScrapDirectoryMapper.INSTANCE.toScrapDirectoryResponse(directory);
+        response.setCursor(CursorUtil.getScrapDirectoryCursor(directory));
+
+        return response;
     }
 
     private void moveScrap(ScrapEntity scrap, ScrapDirectoryEntity directory) {
@@ -258,6 +317,7 @@ public class ScrapServiceImpl implements ScrapService {
         userService.increaseScrapCount(user.getId());
         if (directory != null)
             scrapService.addScrapCount(directory.getId(), 1);
+        userShopSets.scrapAdded(user.getId(), shop.getId());
 
         return scrapRepository.save(scrap);
     }
@@ -268,6 +328,7 @@ public class ScrapServiceImpl implements ScrapService {
         userService.addScrapCount(directory.getUser().getId(), -scrapCount);
         scrapService.addScrapCount(directory.getId(), -scrapCount);
         directory.setIsDeleted(1);
+        userShopSets.scrapsRemoved(directory.getUser().getId());
     }
 
     private void deleteScrap(ScrapEntity scrap) {
@@ -278,6 +339,7 @@ public class ScrapServiceImpl implements ScrapService {
             scrapService.addScrapCount(scrap.getDirectory().getId(), -1);
 
         scrap.setIsDeleted(1);
+        userShopSets.scrapRemoved(scrap.getUser().getId(), scrap.getShop().getId());
     }
 
 
@@ -0,0 +1,186 @@
+package com.jjbacsa.jjbacsabackend.search.ingest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 적재
+ * 검색할 때마다 search 테이블을 갱신하지 않고 검색어별 횟수를 메모리에 모아두었다가
+ * search.ingest.flush-interval마다 한 트랜잭션에서 일괄 upsert한다.
+ * 한 주기에 모으는 검색어 수는 max-keywords로 제한하고, 넘치는 새 검색어는 버리고 개수를 센다.
+ * 건수는 search.ingest.* 메트릭(recorded, dropped, flushed_keywords, statements, failed, pending)으로 확인한다.
+ */
+@Slf4j
+@Component
+public class SearchKeywordIngestor implements MeterBinder {
+    // search.content VARCHAR(255)
+    static final int MAX_KEYWORD_LENGTH = 255;
+
+    private final SearchKeywordWriter searchKeywordWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxKeywords;
+
+    //record는 read lock, flush 시 맵 교체만 write lock
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushedKeywords = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SearchKeywordIngestor(SearchKeywordWriter searchKeywordWriter, PlatformTransactionManager transactionManager,
+                                 @Value("${search.ingest.max-keywords:10000}") int maxKeywords) {
+        this.searchKeywordWriter = searchKeywordWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxKeywords = maxKeywords;
+    }
+
+    public void record(String keyword) {
+        String content = normalize(keyword);
+
+        if (content == null) {
+            dropped.increment();
+            return;
+        }
+
+        swapLock.readLock().lock();
+
+        try {
+            LongAdder count = pending.get(content);
+
+            if (count == null) {
+                if (pending.size() >= maxKeywords) {
+                    dropped.increment();
+                    return;
+                }
+                count = pending.computeIfAbsent(content, key -> new LongAdder());
+            }
+
+            count.increment();
+            recorded.increment();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.ingest.flush-interval:5000}")
+    public synchronized void flush() {
+        ConcurrentHashMap<String, LongAdder> drained;
+
+        swapLock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        //데드락을 피하기 위해 검색어 순서로 반영
+        TreeMap<String, Long> batch = new TreeMap<>();
+        drained.forEach((content, count) -> batch.put(content, count.sum()));
+
+        try {
+            Integer executed = transactionTemplate.execute(status -> searchKeywordWriter.upsert(batch));
+
+            flushedKeywords.add(batch.size());
+            statements.add(executed == null ? 0 : executed);
+        } catch (RuntimeException e) {
+            log.error("search keyword flush failed. retry on next flush", e);
+            failed.increment();
+            restore(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "recorded", recorded, "모은 검색 횟수");
+        counter(registry, "dropped", dropped, "제한을 넘거나 형식이 맞지 않아 버린 검색어 수");
+        counter(registry, "flushed_keywords", flushedKeywords, "DB에 반영한 검색어 수");
+        counter(registry, "statements", statements, "반영에 사용한 upsert 문 수");
+        counter(registry, "failed", failed, "실패해서 다음 주기로 넘긴 반영 수");
+        //flush마다 맵을 교체하므로 현재 맵을 매번 읽는다
+        Gauge.builder("search.ingest.pending", this, SearchKeywordIngestor::getPendingCount)
+                .description("반영을 기다리는 검색어 수")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, LongAdder adder, String description) {
+        FunctionCounter.builder("search.ingest." + name, adder, LongAdder::sum)
+                .description(description)
+                .register(registry);
+    }
+
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFlushedKeywordCount() {
+        return flushedKeywords.sum();
+    }
+
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // 실패한 횟수는 제한과 관계없이 다시 보관한다 (이미 센 검색어라서)
+    private void restore(Map<String, Long> batch) {
+        swapLock.readLock().lock();
+
+        try {
+            batch.forEach((content, count) -> pending.computeIfAbsent(content, key -> new LongAdder()).add(count));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String content = keyword.trim();
+
+        if (content.isEmpty() || content.length() > MAX_KEYWORD_LENGTH) {
+            return null;
+        }
+        return content;
+    }
+}
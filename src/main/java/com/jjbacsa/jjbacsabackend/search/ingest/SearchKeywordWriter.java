@@ -0,0 +1,69 @@
+package com.jjbacsa.jjbacsabackend.search.ingest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 모인 검색어 횟수를 search 테이블에 upsert (호출하는 쪽의 트랜잭션에 참여)
+ * 검색어 CHUNK_SIZE개씩 한 INSERT ... ON DUPLICATE KEY UPDATE 문으로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordWriter {
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT = "INSERT INTO search (content, score) VALUES ";
+    private static final String ROW = "(?, ?)";
+    private static final String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE score = score + VALUES(score)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param counts 검색어별 증가량 (데드락을 피하기 위해 정렬된 순서로 반영)
+     * @return 실행한 문장 수
+     */
+    public int upsert(SortedMap<String, Long> counts) {
+        List<Object> params = new ArrayList<>(Math.min(counts.size(), CHUNK_SIZE) * 2);
+        int statements = 0;
+
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+
+            if (params.size() == CHUNK_SIZE * 2) {
+                execute(params);
+                params.clear();
+                statements++;
+            }
+        }
+
+        if (!params.isEmpty()) {
+            execute(params);
+            statements++;
+        }
+
+        return statements;
+    }
+
+    private void execute(List<Object> params) {
+        int rows = params.size() / 2;
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * (ROW.length() + 2) + ON_DUPLICATE.length());
+
+        sql.append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        sql.append(ON_DUPLICATE);
+
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
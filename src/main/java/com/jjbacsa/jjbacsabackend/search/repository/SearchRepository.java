@@ -1,6 +1,7 @@
 package com.jjbacsa.jjbacsabackend.search.repository;
 
 import com.jjbacsa.jjbacsabackend.search.entity.SearchEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,4 +16,7 @@ public interface SearchRepository extends JpaRepository<SearchEntity, Long> {
 
     List<SearchEntity> findTop5ByContentContainingOrderByScoreDesc(String content);
 
+    //인기 검색어 (index_score)
+    List<SearchEntity> findAllByOrderByScoreDesc(Pageable pageable);
+
 }
@@ -0,0 +1,122 @@
+package com.jjbacsa.jjbacsabackend.search.trending;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 실시간 검색어 순위
+ * 검색마다 "{ranking}:{분}" ZSET에 Lua 스크립트 한 번으로 점수를 더하고(만료 시간 포함),
+ * search.trending.refresh-interval마다 최근 구간을 ZUNIONSTORE WEIGHTS로 합쳐 상위 N개만 ranking 키에 바꿔 넣는다.
+ * (합치기, 자르기, 교체를 Lua 스크립트 한 번으로 실행해 중간에 실패해도 임시 키가 남지 않는다)
+ * 조회는 ranking 키 한 번만 읽는다.
+ */
+@Slf4j
+@Component
+public class RedisTrendingEngine implements TrendingEngine {
+
+    // KEYS[1]: 분 구간 키, ARGV[1]: 검색어, ARGV[2]: 만료(초)
+    private static final RedisScript<Long> RECORD = new DefaultRedisScript<>(
+            "redis.call('ZINCRBY', KEYS[1], 1, ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1", Long.class);
+
+    // KEYS[1]: ranking, KEYS[2]: 임시 키, KEYS[3..]: 분 구간 키(최근 순), ARGV[1]: 순위 개수, ARGV[2..]: 구간별 가중치
+    private static final RedisScript<Long> REFRESH = new DefaultRedisScript<>(
+            "local args = {'ZUNIONSTORE', KEYS[2], #KEYS - 2} " +
+                    "for i = 3, #KEYS do args[#args + 1] = KEYS[i] end " +
+                    "args[#args + 1] = 'WEIGHTS' " +
+                    "for i = 2, #ARGV do args[#args + 1] = ARGV[i] end " +
+                    "local merged = redis.call(unpack(args)) " +
+                    "if merged == 0 then redis.call('DEL', KEYS[1]) return 0 end " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[1]) + 1)) " +
+                    "redis.call('RENAME', KEYS[2], KEYS[1]) " +
+                    "return merged", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ranking;
+    private final TrendingWindow window;
+    private final int size;
+    private final String expireSeconds;
+    private final String[] refreshArgs;
+    private final LongSupplier clock;
+
+    private volatile boolean refreshed = false;
+
+    @Autowired
+    public RedisTrendingEngine(StringRedisTemplate redisTemplate,
+                               @Value("${spring.redis.ranking}") String ranking,
+                               @Value("${search.trending.window:60}") int windowMinutes,
+                               @Value("${search.trending.half-life:10}") double halfLifeMinutes,
+                               @Value("${search.trending.size:10}") int size) {
+        this(redisTemplate, ranking, windowMinutes, halfLifeMinutes, size, System::currentTimeMillis);
+    }
+
+    RedisTrendingEngine(StringRedisTemplate redisTemplate, String ranking, int windowMinutes, double halfLifeMinutes,
+                        int size, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.ranking = ranking;
+        this.window = new TrendingWindow(windowMinutes, halfLifeMinutes);
+        this.size = size;
+        // 계산 범위를 벗어난 구간은 1분 여유를 두고 만료
+        this.expireSeconds = String.valueOf(TimeUnit.MINUTES.toSeconds(windowMinutes + 1));
+        this.refreshArgs = refreshArgs(size, window.weights());
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(String keyword) {
+        long minute = TrendingWindow.minuteOf(clock.getAsLong());
+        redisTemplate.execute(RECORD, Collections.singletonList(bucketKey(minute)), keyword, expireSeconds);
+    }
+
+    @Override
+    public List<String> top() {
+        Set<String> top = redisTemplate.opsForZSet().reverseRange(ranking, 0, size - 1);
+
+        // 서버가 뜬 뒤 아직 한 번도 계산하지 않았으면 바로 계산
+        if ((top == null || top.isEmpty()) && !refreshed) {
+            refresh();
+            top = redisTemplate.opsForZSet().reverseRange(ranking, 0, size - 1);
+        }
+        return top == null ? Collections.emptyList() : new ArrayList<>(top);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.trending.refresh-interval:10000}")
+    public void refresh() {
+        long minute = TrendingWindow.minuteOf(clock.getAsLong());
+        List<String> keys = new ArrayList<>(window.size() + 2);
+        keys.add(ranking);
+        // 스크립트 안에서만 쓰이므로 여러 서버가 같은 임시 키를 써도 겹치지 않는다
+        keys.add(ranking + ":tmp");
+        for (int age = 0; age < window.size(); age++) {
+            keys.add(bucketKey(minute - age));
+        }
+
+        redisTemplate.execute(REFRESH, keys, (Object[]) refreshArgs);
+        refreshed = true;
+    }
+
+    private static String[] refreshArgs(int size, double[] weights) {
+        String[] args = new String[weights.length + 1];
+        args[0] = String.valueOf(size);
+        for (int i = 0; i < weights.length; i++) {
+            args[i + 1] = String.valueOf(weights[i]);
+        }
+        return args;
+    }
+
+    private String bucketKey(long minute) {
+        return ranking + ":" + minute;
+    }
+}
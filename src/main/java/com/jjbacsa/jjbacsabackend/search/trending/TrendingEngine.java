@@ -0,0 +1,18 @@
+package com.jjbacsa.jjbacsabackend.search.trending;
+
+import java.util.List;
+
+/**
+ * 실시간 검색어 순위
+ * 검색어는 분 단위 구간에 기록하고, 최근 구간일수록 큰 가중치를 주어 합친 순위를 주기적으로 계산해 둔다.
+ */
+public interface TrendingEngine {
+
+    void record(String keyword);
+
+    // 마지막으로 계산해 둔 순위 (점수 높은 순)
+    List<String> top();
+
+    // 구간을 합쳐 순위를 다시 계산
+    void refresh();
+}
@@ -0,0 +1,34 @@
+package com.jjbacsa.jjbacsabackend.search.trending;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순위 계산에 쓰는 분 단위 구간과 가중치
+ * age분 전 구간의 가중치는 0.5^(age / halfLife)이고, windowMinutes보다 오래된 구간은 계산에서 뺀다.
+ */
+public class TrendingWindow {
+    private final double[] weights;
+
+    public TrendingWindow(int windowMinutes, double halfLifeMinutes) {
+        this.weights = new double[windowMinutes];
+        for (int age = 0; age < windowMinutes; age++) {
+            weights[age] = Math.pow(0.5, age / halfLifeMinutes);
+        }
+    }
+
+    public static long minuteOf(long epochMillis) {
+        return TimeUnit.MILLISECONDS.toMinutes(epochMillis);
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public double weight(int age) {
+        return weights[age];
+    }
+
+    public double[] weights() {
+        return weights.clone();
+    }
+}
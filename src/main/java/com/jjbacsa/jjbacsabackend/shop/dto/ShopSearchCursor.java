@@ -0,0 +1,50 @@
+package com.jjbacsa.jjbacsabackend.shop.dto;
+
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상점 검색 커서 (정확도 내림차순, 거리 오름차순, id 오름차순)
+ * 클라이언트에는 인코딩된 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ShopSearchCursor {
+    private final double score;
+    private final double dist;
+    private final long shopId;
+
+    public static ShopSearchCursor from(ShopSummaryResponse shop) {
+        return new ShopSearchCursor(shop.getScore(), shop.getDist(), shop.getShopId());
+    }
+
+    public String encode() {
+        String raw = score + ":" + dist + ":" + shopId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     */
+    public static ShopSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(":");
+
+            return new ShopSearchCursor(Double.parseDouble(values[0]), Double.parseDouble(values[1]), Long.parseLong(values[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new RequestInputException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.*;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
 
 @Getter
 @Setter
@@ -20,5 +21,9 @@ public class ShopRequest {
 
     @NotNull(message = "위도를 비워둘 수 없습니다. ")
     private double y;
+
+    //검색 반경(m), 없으면 반경 제한 없이 가까운 순
+    @Positive(message = "반경은 0보다 커야 합니다.")
+    private Double radius;
 }
 
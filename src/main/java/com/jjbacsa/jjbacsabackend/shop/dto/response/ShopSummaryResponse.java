@@ -18,6 +18,8 @@ public class ShopSummaryResponse implements Comparable<ShopSummaryResponse> {
     private double dist;
     private double score;
     private String phone;
+    //다음 페이지 요청 시 사용하는 커서 (커서 검색에서만 제공)
+    private String cursor;
 
     @QueryProjection
     public ShopSummaryResponse(Long shopId, String placeId, String placeName, String address, String x, String y, double score, String phone) {
@@ -42,6 +44,23 @@ public class ShopSummaryResponse implements Comparable<ShopSummaryResponse> {
         this.phone = phone;
     }
 
+    @QueryProjection
+    public ShopSummaryResponse(Long shopId, String placeId, String placeName, String address, String x, String y, String phone, double score, double dist) {
+        this.shopId = shopId;
+        this.placeId = placeId;
+        this.placeName = placeName;
+        this.address = address;
+        this.x = x;
+        this.y = y;
+        this.phone = phone;
+        this.score = score;
+        this.dist = dist;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
     public void setDist(double x, double y) {
         double y_double = Double.valueOf(this.getY());
         double x_double = Double.valueOf(this.getX());
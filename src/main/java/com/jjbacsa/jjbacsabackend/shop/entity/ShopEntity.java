@@ -51,6 +51,15 @@ public class ShopEntity extends BaseEntity {
     @Column(name = "y", nullable = false)
     private String y;
 
+    //위도, 경도 (x, y로부터 저장, DB에서 location POINT 컬럼 생성)
+    @Basic
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Basic
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
     @Basic
     @Column(name = "category_name", nullable = false)
     private String categoryName;
@@ -74,4 +83,11 @@ public class ShopEntity extends BaseEntity {
     @OneToOne(mappedBy = "shop", fetch = FetchType.EAGER, optional = false, cascade = CascadeType.PERSIST)
     @Builder.Default
     private ShopCount shopCount = new ShopCount();
+
+    @PrePersist
+    @PreUpdate
+    private void syncLocation() {
+        this.latitude = Double.valueOf(y);
+        this.longitude = Double.valueOf(x);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public interface ShopRepository extends JpaRepository<ShopEntity, Long>, DslShop
 
     boolean existsByPlaceId(String placeId);
 
+    long countByCategoryName(String categoryName);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select sc.totalRating from ShopCount sc " +
             "where sc.id = :shopId")
@@ -27,4 +29,4 @@ public interface ShopRepository extends JpaRepository<ShopEntity, Long>, DslShop
     @Query("select sc.ratingCount from ShopCount sc " +
             "where sc.id = :shopId")
     Integer getRatingCount(@Param("shopId") Long shopId);
-}
\ No newline at end of file
+}
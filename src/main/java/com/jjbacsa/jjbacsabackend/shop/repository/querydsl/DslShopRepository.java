@@ -1,6 +1,8 @@
 package com.jjbacsa.jjbacsabackend.shop.repository.querydsl;
 
+import com.jjbacsa.jjbacsabackend.shop.dto.ShopSearchCursor;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -12,4 +14,14 @@ public interface DslShopRepository {
 
     List<ShopSummaryResponse> findByPlaceNameContaining(String keyword);
 
+    //정확도, 거리, id 순 정렬 (cursor가 있으면 cursor 다음부터)
+    List<ShopSummaryResponse> searchOrderByScore(String keyword, String category, double lat, double lng, ShopSearchCursor cursor, Pageable pageable);
+
+    long countSearch(String keyword, String category);
+
+    //거리, id 순 정렬 (category, nameKeyword는 null이면 조건 없음)
+    List<ShopSummaryResponse> searchOrderByDistance(String category, String nameKeyword, double lat, double lng, ShopSearchCursor cursor, Pageable pageable);
+
+    long countByPlaceNameContaining(String keyword);
+
 }
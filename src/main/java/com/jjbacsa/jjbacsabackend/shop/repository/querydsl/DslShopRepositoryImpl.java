@@ -1,12 +1,15 @@
 package com.jjbacsa.jjbacsabackend.shop.repository.querydsl;
 
+import com.jjbacsa.jjbacsabackend.shop.dto.ShopSearchCursor;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.QShopSummaryResponse;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import static com.jjbacsa.jjbacsabackend.shop.entity.QShopEntity.shopEntity;
@@ -57,4 +60,103 @@ public class DslShopRepositoryImpl implements DslShopRepository {
                 .where(shopEntity.placeName.contains(keyword))
                 .fetch();
     }
+
+    @Override
+    public List<ShopSummaryResponse> searchOrderByScore(String keyword, String category, double lat, double lng, ShopSearchCursor cursor, Pageable pageable) {
+        NumberTemplate<Double> score = score(keyword);
+        NumberTemplate<Double> dist = dist(lat, lng);
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(matched(keyword));
+
+        if (category != null) {
+            builder.and(shopEntity.categoryName.eq(category));
+        }
+
+        if (cursor != null) {
+            //(score desc, dist asc, id asc) 기준 커서 다음 행
+            builder.and(score.lt(cursor.getScore())
+                    .or(score.eq(cursor.getScore()).and(afterDistance(dist, cursor))));
+        }
+
+        return queryFactory.select(new QShopSummaryResponse(shopEntity.id, shopEntity.placeId, shopEntity.placeName, shopEntity.address, shopEntity.x, shopEntity.y, shopEntity.phone, score, dist))
+                .from(shopEntity)
+                .where(builder)
+                .orderBy(score.desc(), dist.asc(), shopEntity.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public long countSearch(String keyword, String category) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(matched(keyword));
+
+        if (category != null) {
+            builder.and(shopEntity.categoryName.eq(category));
+        }
+
+        return queryFactory.select(shopEntity.count())
+                .from(shopEntity)
+                .where(builder)
+                .fetchOne();
+    }
+
+    @Override
+    public List<ShopSummaryResponse> searchOrderByDistance(String category, String nameKeyword, double lat, double lng, ShopSearchCursor cursor, Pageable pageable) {
+        NumberTemplate<Double> dist = dist(lat, lng);
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (category != null) {
+            builder.and(shopEntity.categoryName.eq(category));
+        }
+
+        if (nameKeyword != null) {
+            builder.and(shopEntity.placeName.contains(nameKeyword));
+        }
+
+        if (cursor != null) {
+            builder.and(afterDistance(dist, cursor));
+        }
+
+        return queryFactory.select(new QShopSummaryResponse(shopEntity.id, shopEntity.placeId, shopEntity.placeName, shopEntity.address, shopEntity.x, shopEntity.y, shopEntity.phone, Expressions.asNumber(0.0), dist))
+                .from(shopEntity)
+                .where(builder)
+                .orderBy(dist.asc(), shopEntity.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public long countByPlaceNameContaining(String keyword) {
+        return queryFactory.select(shopEntity.count())
+                .from(shopEntity)
+                .where(shopEntity.placeName.contains(keyword))
+                .fetchOne();
+    }
+
+    private BooleanExpression matched(String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "function('match',{0},{1},{2})", shopEntity.placeName, shopEntity.address, keyword).gt(0);
+    }
+
+    //커서 비교가 정확하도록 정확도는 소수점 6자리로 반올림
+    private NumberTemplate<Double> score(String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "round(function('match',{0},{1},{2}), 6)", shopEntity.placeName, shopEntity.address, keyword);
+    }
+
+    //거리(m)는 소수점 3자리로 반올림
+    private NumberTemplate<Double> dist(double lat, double lng) {
+        return Expressions.numberTemplate(Double.class,
+                "round(function('distance_sphere',{0},{1},{2},{3}), 3)", shopEntity.longitude, shopEntity.latitude, lng, lat);
+    }
+
+    private BooleanExpression afterDistance(NumberTemplate<Double> dist, ShopSearchCursor cursor) {
+        return dist.gt(cursor.getDist())
+                .or(dist.eq(cursor.getDist()).and(shopEntity.id.gt(cursor.getShopId())));
+    }
 }
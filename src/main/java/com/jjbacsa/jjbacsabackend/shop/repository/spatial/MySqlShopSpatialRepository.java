@@ -0,0 +1,139 @@
+package com.jjbacsa.jjbacsabackend.shop.repository.spatial;
+
+import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import com.jjbacsa.jjbacsabackend.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * shop.location(POINT) SPATIAL INDEX를 사용하는 조회
+ * 가까운 순 조회는 필요한 상점 수(offset + size)로 첫 반경을 정해 MBRContains 범위 조회로 페이지를 채우고,
+ * 부족하면 반경을 두 배씩 넓혀 다시 조회한다. 모든 조회에 MBRContains 조건이 붙으므로 최대 반경(shop.nearest.max-radius) 밖의 상점은 나오지 않는다.
+ * (test 프로필은 src/test의 InMemoryShopSpatialRepository 사용)
+ */
+@Repository
+@Profile("!test")
+public class MySqlShopSpatialRepository implements ShopSpatialRepository {
+
+    private static final double MIN_RADIUS_METER = 1000;
+    //MIN_RADIUS_METER 안에 있다고 보는 상점 수 (첫 반경은 필요한 상점 수의 제곱근에 비례)
+    private static final double SHOPS_PER_MIN_RADIUS = 20;
+
+    private final double maxRadiusMeter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MySqlShopSpatialRepository(@Value("${shop.nearest.max-radius:64000}") double maxRadiusMeter) {
+        this.maxRadiusMeter = maxRadiusMeter;
+    }
+
+    @Override
+    public List<ShopSummaryResponse> findNearest(double lat, double lng, String categoryName, Pageable pageable) {
+        double radius = radiusFor(pageable);
+
+        while (true) {
+            List<ShopSummaryResponse> shops = findShops(lat, lng, radius, categoryName, pageable);
+
+            //반경 안에서 페이지가 채워지면 반경 밖 상점은 모두 더 멀다.
+            if (shops.size() == pageable.getPageSize() || radius >= maxRadiusMeter) {
+                return shops;
+            }
+
+            radius = Math.min(maxRadiusMeter, radius * 2);
+        }
+    }
+
+    @Override
+    public List<ShopSummaryResponse> findWithinRadius(double lat, double lng, double radiusMeter, String categoryName, Pageable pageable) {
+        return findShops(lat, lng, radiusMeter, categoryName, pageable);
+    }
+
+    @Override
+    public long countWithinRadius(double lat, double lng, double radiusMeter, String categoryName) {
+        Query query = entityManager.createNativeQuery("SELECT COUNT(*) FROM shop s" + where(categoryName));
+        setParameters(query, lat, lng, radiusMeter, categoryName);
+
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ShopSummaryResponse> findShops(double lat, double lng, double radiusMeter, String categoryName, Pageable pageable) {
+        String sql = "SELECT s.id, s.place_id, s.place_name, s.address, s.x, s.y, s.phone, " +
+                "ST_Distance_Sphere(s.location, POINT(:lng, :lat)) AS dist " +
+                "FROM shop s" + where(categoryName) +
+                " ORDER BY dist, s.id LIMIT :limit OFFSET :offset";
+
+        Query query = entityManager.createNativeQuery(sql);
+        setParameters(query, lat, lng, radiusMeter, categoryName);
+        query.setParameter("limit", pageable.getPageSize());
+        query.setParameter("offset", pageable.getOffset());
+
+        List<ShopSummaryResponse> shops = new ArrayList<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            shops.add(ShopSummaryResponse.builder()
+                    .shopId(((Number) row[0]).longValue())
+                    .placeId((String) row[1])
+                    .placeName((String) row[2])
+                    .address((String) row[3])
+                    .x((String) row[4])
+                    .y((String) row[5])
+                    .phone((String) row[6])
+                    .dist(((Number) row[7]).doubleValue())
+                    .build());
+        }
+
+        return shops;
+    }
+
+    private String where(String categoryName) {
+        StringBuilder where = new StringBuilder(" WHERE s.is_deleted = 0");
+
+        if (categoryName != null) {
+            where.append(" AND s.category_name = :category");
+        }
+
+        //SPATIAL INDEX를 쓰도록 항상 범위 조건을 붙인다
+        where.append(" AND MBRContains(ST_GeomFromText(:envelope), s.location)")
+                .append(" AND ST_Distance_Sphere(s.location, POINT(:lng, :lat)) <= :radius");
+
+        return where.toString();
+    }
+
+    private void setParameters(Query query, double lat, double lng, double radiusMeter, String categoryName) {
+        query.setParameter("lat", lat);
+        query.setParameter("lng", lng);
+
+        if (categoryName != null) {
+            query.setParameter("category", categoryName);
+        }
+
+        query.setParameter("envelope", toEnvelope(lat, lng, radiusMeter));
+        query.setParameter("radius", radiusMeter);
+    }
+
+    //페이지까지 필요한 상점 수가 들어갈 만한 반경
+    private double radiusFor(Pageable pageable) {
+        double needed = pageable.getOffset() + pageable.getPageSize();
+        double radius = MIN_RADIUS_METER * Math.sqrt(needed / SHOPS_PER_MIN_RADIUS);
+
+        return Math.min(maxRadiusMeter, Math.max(MIN_RADIUS_METER, radius));
+    }
+
+    private String toEnvelope(double lat, double lng, double radiusMeter) {
+        double[] box = GeoUtil.boundingBox(lat, lng, radiusMeter);
+        double minLat = box[0], minLng = box[1], maxLat = box[2], maxLng = box[3];
+
+        return String.format(Locale.ROOT, "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
+                minLng, minLat, maxLng, minLat, maxLng, maxLat, minLng, maxLat, minLng, minLat);
+    }
+}
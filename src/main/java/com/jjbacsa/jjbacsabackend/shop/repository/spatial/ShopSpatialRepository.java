@@ -0,0 +1,21 @@
+package com.jjbacsa.jjbacsabackend.shop.repository.spatial;
+
+import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 좌표 기반 상점 조회
+ * 결과는 거리순(같으면 id순)으로 정렬되며 요청한 페이지만 조회한다.
+ */
+public interface ShopSpatialRepository {
+
+    //가까운 순 상점 (categoryName이 null이면 전체, 최대 반경 shop.nearest.max-radius 안에서만)
+    List<ShopSummaryResponse> findNearest(double lat, double lng, String categoryName, Pageable pageable);
+
+    //반경(m) 내 가까운 순 상점
+    List<ShopSummaryResponse> findWithinRadius(double lat, double lng, double radiusMeter, String categoryName, Pageable pageable);
+
+    long countWithinRadius(double lat, double lng, double radiusMeter, String categoryName);
+}
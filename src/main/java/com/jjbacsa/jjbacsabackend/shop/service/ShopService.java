@@ -5,6 +5,7 @@ import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
 import com.jjbacsa.jjbacsabackend.search.dto.TrendingResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ShopService {
     //단건 조회
@@ -12,4 +13,7 @@ public interface ShopService {
 
     //DB 내 상점 검색
     Page<ShopSummaryResponse> searchShop(ShopRequest shopRequest, Integer page, Integer size);
+
+    //DB 내 상점 검색 (커서 기반)
+    Slice<ShopSummaryResponse> searchShopWithCursor(ShopRequest shopRequest, String cursor, Integer size);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.etc.cache.ApproximateTotalCache;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
 import com.jjbacsa.jjbacsabackend.etc.exception.CriticalException;
@@ -16,15 +17,18 @@ import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
 import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
 import com.jjbacsa.jjbacsabackend.shop.mapper.ShopMapper;
 import com.jjbacsa.jjbacsabackend.shop.repository.ShopRepository;
+import com.jjbacsa.jjbacsabackend.shop.repository.spatial.ShopSpatialRepository;
 import com.jjbacsa.jjbacsabackend.shop.service.ShopService;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
@@ -41,7 +45,9 @@ import java.util.concurrent.TimeUnit;
 public class ShopServiceImpl implements ShopService {
 
     private final ShopRepository shopRepository;
+    private final ShopSpatialRepository shopSpatialRepository;
     private final SearchRepository searchRepository;
+    private final ApproximateTotalCache approximateTotalCache;
     private final WebClient webClient;
     private final String BASE_URL = "https://maps.googleapis.com/maps/api/place";
     private final StringRedisTemplate redisTemplate;
@@ -54,15 +60,17 @@ public class ShopServiceImpl implements ShopService {
 
     private String API_KEY;
 
-    public ShopServiceImpl(ShopRepository shopRepository, ObjectMapper objectMapper, StringRedisTemplate redisTemplate, @Value("${external.api.key}") String key, SearchRepository searchRepository) {
+    public ShopServiceImpl(ShopRepository shopRepository, ShopSpatialRepository shopSpatialRepository, ObjectMapper objectMapper, StringRedisTemplate redisTemplate, @Value("${external.api.key}") String key, SearchRepository searchRepository, ApproximateTotalCache approximateTotalCache) {
 
         this.shopRepository = shopRepository;
+        this.shopSpatialRepository = shopSpatialRepository;
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.ALWAYS);
         this.API_KEY = key;
         this.searchRepository = searchRepository;
+        this.approximateTotalCache = approximateTotalCache;
 
         DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory(BASE_URL);
         factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.TEMPLATE_AND_VALUES);
@@ -179,62 +187,106 @@ public class ShopServiceImpl implements ShopService {
     @Override
     public Page<ShopSummaryResponse> searchShop(ShopRequest shopRequest, Integer page, Integer size) {
         String keyword = shopRequest.getKeyword();
+        Pageable pageable = PageRequest.of(page, size);
+
+        double lat = shopRequest.getY();
+        double lng = shopRequest.getX();
 
         //키워드 검색 타입 판별
         SearchType searchType = typeSetting(keyword);
-        List<ShopSummaryResponse> shopList = new ArrayList<>();
-        String keywordForQuery;
+        List<ShopSummaryResponse> shops;
 
+        //정렬(정확도 -> 거리 -> id)과 페이지 자르기는 DB에서 처리
         switch (searchType) {
             case cafe:
             case restaurant:
                 //키워드 정제
-                keywordForQuery = getKeywordForQuery(keyword);
-                shopList.addAll(shopRepository.search(keywordForQuery, searchType.name()));
+                String keywordForQuery = getKeywordForQuery(keyword);
+                shops = shopRepository.searchOrderByScore(keywordForQuery, searchType.name(), lat, lng, null, pageable);
+                return PageableExecutionUtils.getPage(shops, pageable, () -> countSearch(keywordForQuery, searchType.name()));
+            case cafe_category:
+                return searchNearBy(shopRequest, "cafe", pageable);
+            case restaurant_category:
+                return searchNearBy(shopRequest, "restaurant", pageable);
+            case one:
+                shops = shopRepository.searchOrderByDistance(null, keyword, lat, lng, null, pageable);
+                return PageableExecutionUtils.getPage(shops, pageable, () -> shopRepository.countByPlaceNameContaining(keyword));
+            default:
+                String refinedKeyword = getKeywordForQuery(keyword);
+                shops = shopRepository.searchOrderByScore(refinedKeyword, null, lat, lng, null, pageable);
+                return PageableExecutionUtils.getPage(shops, pageable, () -> countSearch(refinedKeyword, null));
+        }
+    }
+
+    /**
+     * 커서 기반 검색. count 쿼리 없이 size + 1개를 조회해 다음 페이지 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<ShopSummaryResponse> searchShopWithCursor(ShopRequest shopRequest, String cursor, Integer size) {
+        String keyword = shopRequest.getKeyword();
+        ShopSearchCursor searchCursor = ShopSearchCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        double lat = shopRequest.getY();
+        double lng = shopRequest.getX();
+
+        SearchType searchType = typeSetting(keyword);
+        List<ShopSummaryResponse> shops;
+
+        switch (searchType) {
+            case cafe:
+            case restaurant:
+                shops = shopRepository.searchOrderByScore(getKeywordForQuery(keyword), searchType.name(), lat, lng, searchCursor, pageable);
                 break;
             case cafe_category:
-                shopList.addAll(shopRepository.findAllByCategoryName("cafe"));
+                shops = shopRepository.searchOrderByDistance("cafe", null, lat, lng, searchCursor, pageable);
                 break;
             case restaurant_category:
-                shopList.addAll(shopRepository.findAllByCategoryName("restaurant"));
+                shops = shopRepository.searchOrderByDistance("restaurant", null, lat, lng, searchCursor, pageable);
                 break;
             case one:
-                shopList.addAll(shopRepository.findByPlaceNameContaining(keyword));
+                shops = shopRepository.searchOrderByDistance(null, keyword, lat, lng, searchCursor, pageable);
                 break;
-            case NONE:
-                keywordForQuery = getKeywordForQuery(keyword);
-                shopList.addAll(shopRepository.search(keywordForQuery, null));
+            default:
+                shops = shopRepository.searchOrderByScore(getKeywordForQuery(keyword), null, lat, lng, searchCursor, pageable);
                 break;
         }
 
-        //거리 계산
-        for (ShopSummaryResponse shop : shopList) {
-            shop.setDist(shopRequest.getX(), shopRequest.getY());
+        boolean hasNext = shops.size() > size;
+
+        if (hasNext) {
+            shops = shops.subList(0, size);
         }
 
-        if (searchType != SearchType.cafe_category && searchType != SearchType.restaurant_category && searchType != SearchType.one) {
-            //정확도 순으로 정렬(거리순은 2차 정렬)
-            Collections.sort(shopList, new Comparator<ShopSummaryResponse>() {
-                @Override
-                public int compare(ShopSummaryResponse s1, ShopSummaryResponse s2) {
-                    if (s1.getScore() < s2.getScore()) return 1;
-                    else if (s1.getScore() == s2.getScore())
-                        return s1.compareTo(s2);
-                    else
-                        return -1;
-                }
-            });
-        } else {
-            Collections.sort(shopList);
+        for (ShopSummaryResponse shop : shops) {
+            shop.setCursor(ShopSearchCursor.from(shop).encode());
         }
 
-        //pagination
-        Pageable pageable = PageRequest.of(page, size);
+        return new SliceImpl<>(shops, PageRequest.of(0, size), hasNext);
+    }
 
-        int start = Math.min((int) pageable.getOffset(), shopList.size());
-        int end = (start + pageable.getPageSize() > shopList.size() ? shopList.size() : (start + pageable.getPageSize()));
+    //MATCH 전체를 다시 세지 않도록 같은 검색어의 개수는 잠시 재사용 (다음 페이지 요청에서 사용)
+    private long countSearch(String keyword, String category) {
+        return approximateTotalCache.get("shop:search", category + ":" + keyword, () -> shopRepository.countSearch(keyword, category));
+    }
+
+    /**
+     * 카테고리 검색은 DB에서 거리순 정렬 후 요청한 페이지만 가져온다.
+     * (x: 경도, y: 위도)
+     */
+    private Page<ShopSummaryResponse> searchNearBy(ShopRequest shopRequest, String categoryName, Pageable pageable) {
+        double lat = shopRequest.getY();
+        double lng = shopRequest.getX();
+        Double radius = shopRequest.getRadius();
+
+        if (radius == null) {
+            List<ShopSummaryResponse> shops = shopSpatialRepository.findNearest(lat, lng, categoryName, pageable);
+            return PageableExecutionUtils.getPage(shops, pageable, () -> shopRepository.countByCategoryName(categoryName));
+        }
 
-        return new PageImpl<>(shopList.subList(start, end), pageable, shopList.size());
+        List<ShopSummaryResponse> shops = shopSpatialRepository.findWithinRadius(lat, lng, radius, categoryName, pageable);
+        return PageableExecutionUtils.getPage(shops, pageable, () -> shopSpatialRepository.countWithinRadius(lat, lng, radius, categoryName));
     }
 
     private SearchType typeSetting(String keyword) {
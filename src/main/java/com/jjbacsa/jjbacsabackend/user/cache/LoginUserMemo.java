@@ -0,0 +1,75 @@
+package com.jjbacsa.jjbacsabackend.user.cache;
+
+import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 로그인 사용자 메모
+ * 한 요청 안에서 여러 서비스가 getLoginUser를 호출해도 사용자 조회는 한 번만 한다.
+ * 변경 감지, 지연 로딩이 그대로 동작하도록 같은 영속성 컨텍스트의 엔티티일 때만 재사용한다.
+ * 재사용, 조회 수는 user.login_memo.hits / misses 메트릭으로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserMemo implements MeterBinder {
+    private static final String ATTRIBUTE = LoginUserMemo.class.getName();
+
+    private final EntityManager entityManager;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public UserEntity get(Long userId, Supplier<UserEntity> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        Object memo = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (memo instanceof UserEntity) {
+            UserEntity user = (UserEntity) memo;
+
+            if (userId.equals(user.getId()) && entityManager.contains(user)) {
+                hitCount.increment();
+                return user;
+            }
+        }
+
+        missCount.increment();
+        UserEntity user = loader.get();
+        attributes.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+
+        return user;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.login_memo.hits", hitCount, LongAdder::sum)
+                .description("요청 안에서 메모로 대신한 로그인 사용자 조회 수")
+                .register(registry);
+        FunctionCounter.builder("user.login_memo.misses", missCount, LongAdder::sum)
+                .description("로그인 사용자를 DB에서 조회한 수")
+                .register(registry);
+    }
+
+    //메모로 대신한 사용자 조회 수
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
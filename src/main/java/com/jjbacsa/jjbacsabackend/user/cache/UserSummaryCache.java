@@ -0,0 +1,117 @@
+package com.jjbacsa.jjbacsabackend.user.cache;
+
+import com.jjbacsa.jjbacsabackend.user.dto.UserResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 정보 응답 캐시 (인스턴스 내 LRU, 짧은 TTL)
+ * 정보 수정, 프로필 변경, 탈퇴 시 제거하고 리뷰/스크랩/친구 수는 TTL 동안 이전 값일 수 있다.
+ * 적중률은 user.summary_cache.hits / misses, 항목 수는 user.summary_cache.size 메트릭으로 확인한다.
+ */
+@Component
+public class UserSummaryCache implements MeterBinder {
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<Long, CachedUser> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public UserSummaryCache(@Value("${user.cache.enabled:false}") boolean enabled,
+                            @Value("${user.cache.size:1000}") int size,
+                            @Value("${user.cache.ttl:30}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    public UserResponse get(Long userId, Supplier<UserResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CachedUser cached = cache.get(userId);
+
+        if (cached != null && cached.expiredAt > System.currentTimeMillis()) {
+            hitCount.increment();
+            return cached.user;
+        }
+
+        missCount.increment();
+        UserResponse user = loader.get();
+        cache.put(userId, new CachedUser(user, System.currentTimeMillis() + ttlMillis));
+
+        return user;
+    }
+
+    /**
+     * 바로 제거하고, 트랜잭션 중이면 커밋 후에 한 번 더 제거한다.
+     * (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+     */
+    public void evict(Long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        cache.remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(userId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.summary_cache.hits", hitCount, LongAdder::sum)
+                .description("캐시에서 응답한 사용자 정보 조회 수")
+                .register(registry);
+        FunctionCounter.builder("user.summary_cache.misses", missCount, LongAdder::sum)
+                .description("캐시에 없어 새로 만든 사용자 정보 조회 수")
+                .register(registry);
+        Gauge.builder("user.summary_cache.size", cache, Map::size)
+                .description("캐시된 사용자 수")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static class CachedUser {
+        private final UserResponse user;
+        private final long expiredAt;
+
+        private CachedUser(UserResponse user, long expiredAt) {
+            this.user = user;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
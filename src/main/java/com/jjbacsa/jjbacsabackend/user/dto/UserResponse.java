@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
@@ -37,4 +38,8 @@ public class UserResponse {
     private UserType userType;
 
     private UserCountResponse userCountResponse;
+
+    @ApiModelProperty(notes = "목록 조회 시 다음 페이지 커서")
+    @Setter
+    private String cursor;
 }
@@ -1,5 +1,6 @@
 package com.jjbacsa.jjbacsabackend.user.entity;
 
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterEntityListener;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +10,7 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor
 @Entity
+@EntityListeners(CounterEntityListener.class)
 @Table(name = "user_count")
 public class UserCount {
 
@@ -22,16 +24,16 @@ public class UserCount {
 
     @Basic
     @Setter
-    @Column(name = "review_count", nullable = false)
+    @Column(name = "review_count", nullable = false, updatable = false)
     private Integer reviewCount = 0;
 
     @Basic
     @Setter
-    @Column(name = "scrap_count", nullable = false)
+    @Column(name = "scrap_count", nullable = false, updatable = false)
     private Integer scrapCount = 0;
 
     @Basic
     @Setter
-    @Column(name = "friend_count", nullable = false)
+    @Column(name = "friend_count", nullable = false, updatable = false)
     private Integer friendCount = 0;
 }
\ No newline at end of file
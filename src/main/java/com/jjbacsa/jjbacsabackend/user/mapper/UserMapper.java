@@ -16,6 +16,7 @@ public interface UserMapper {
     UserEntity toUserEntity(UserRequest userRequest);
 
     @Mapping(target = "userCountResponse", source = "userCount")
+    @Mapping(target = "cursor", ignore = true)
     UserResponse toUserResponse(UserEntity userEntity);
 
     @Mapping(target = "userCountResponse", source = "userEntity.userCount")
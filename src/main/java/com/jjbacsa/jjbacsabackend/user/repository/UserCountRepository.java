@@ -3,6 +3,16 @@ package com.jjbacsa.jjbacsabackend.user.repository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
 import com.jjbacsa.jjbacsabackend.user.repository.querydsl.DslUserCountRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserCountRepository extends JpaRepository<UserCount, Long>, DslUserCountRepository {
+
+    @Modifying
+    @Query(value = "update user_count uc set " +
+            "uc.review_count = (select count(*) from review r where r.writer_id = uc.user_id and r.is_deleted = 0), " +
+            "uc.scrap_count = (select count(*) from scrap s where s.user_id = uc.user_id and s.is_deleted = 0), " +
+            "uc.friend_count = (select count(*) from follow f where f.user_id = uc.user_id and f.is_deleted = 0)",
+            nativeQuery = true)
+    int reconcileUserCounts();
 }
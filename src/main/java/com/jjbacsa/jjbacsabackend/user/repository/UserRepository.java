@@ -3,13 +3,11 @@ package com.jjbacsa.jjbacsabackend.user.repository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.repository.querydsl.DslUserRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import javax.persistence.LockModeType;
 import java.util.Date;
 import java.util.Optional;
 
@@ -33,20 +31,13 @@ public interface UserRepository extends JpaRepository<UserEntity, Long>, DslUser
 
     boolean existsByEmailAndPasswordIsNotNull(String email);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select uc.reviewCount from UserCount uc " +
-            "where uc.id = :userId")
-    Integer getReviewCount(@Param("userId") Long userId);
-
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select uc.scrapCount from UserCount uc " +
-            "where uc.id = :userId")
-    Integer getScrapCount(@Param("userId") Long userId);
-
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select uc.friendCount from UserCount uc " +
+    @Modifying
+    @Query("update UserCount uc " +
+            "set uc.reviewCount = uc.reviewCount + :reviewCount, uc.scrapCount = uc.scrapCount + :scrapCount, " +
+            "uc.friendCount = uc.friendCount + :friendCount " +
             "where uc.id = :userId")
-    Integer getFriendCount(@Param("userId") Long userId);
+    int addUserCount(@Param("userId") Long userId, @Param("reviewCount") int reviewCount,
+                     @Param("scrapCount") int scrapCount, @Param("friendCount") int friendCount);
 
     @Modifying
     @Query("update UserEntity u set u.lastLoggedAt = :loginTime " +
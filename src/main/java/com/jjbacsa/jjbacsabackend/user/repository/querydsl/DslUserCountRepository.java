@@ -4,4 +4,6 @@ import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 
 public interface DslUserCountRepository {
     Long updateAllFriendsCountByUser(UserEntity user);
+
+    Long resetReviewCount(UserEntity user);
 }
@@ -26,4 +26,13 @@ public class DslUserCountRepositoryImpl extends QuerydslRepositorySupport implem
                                 .where(follow.follower.eq(user))
                 )).execute();
     }
+
+    @Override
+    public Long resetReviewCount(UserEntity user) {
+
+        return update(qUserCount)
+                .set(qUserCount.reviewCount, 0)
+                .where(qUserCount.id.eq(user.getId()))
+                .execute();
+    }
 }
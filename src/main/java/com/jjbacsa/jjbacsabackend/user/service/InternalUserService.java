@@ -11,6 +11,8 @@ public interface InternalUserService {
 
     UserEntity getLoginUser() throws Exception;
 
+    Long getLoginUserId() throws Exception;
+
     UserEntity getUserByEmail(String email) throws RequestInputException;
 
     UserEntity getLocalUserByEmail(String email) throws Exception;
@@ -1,7 +1,10 @@
 package com.jjbacsa.jjbacsabackend.user.serviceImpl;
 
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterBuffer;
+import com.jjbacsa.jjbacsabackend.etc.counter.CounterField;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.user.cache.LoginUserMemo;
 import com.jjbacsa.jjbacsabackend.user.entity.CustomUserDetails;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
@@ -17,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class InternalUserServiceImpl implements InternalUserService {
 
     private final UserRepository userRepository;
+    private final CounterBuffer counterBuffer;
+    private final LoginUserMemo loginUserMemo;
 
     @Override
     public UserEntity getUserById(Long userId) throws RequestInputException {
@@ -35,6 +40,14 @@ public class InternalUserServiceImpl implements InternalUserService {
     @Override
     public UserEntity getLoginUser() throws Exception {
 
+        Long userId = getLoginUserId();
+
+        return loginUserMemo.get(userId, () -> getUserById(userId));
+    }
+
+    @Override
+    public Long getLoginUserId() throws Exception {
+
         Object principal = SecurityContextHolder
                 .getContext()
                 .getAuthentication()
@@ -44,9 +57,7 @@ public class InternalUserServiceImpl implements InternalUserService {
             throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
         }
 
-        Long userId = ((CustomUserDetails) principal).getId();
-
-        return getUserById(userId);
+        return ((CustomUserDetails) principal).getId();
     }
 
     @Override
@@ -79,8 +90,7 @@ public class InternalUserServiceImpl implements InternalUserService {
     @Transactional
     public void increaseReviewCount(Long userId) {
 
-        UserEntity user = getUserById(userId);
-        user.getUserCount().setReviewCount(userRepository.getReviewCount(userId) + 1);
+        counterBuffer.add(CounterField.USER_REVIEW_COUNT, userId, 1);
     }
 
     @Override
@@ -94,16 +104,14 @@ public class InternalUserServiceImpl implements InternalUserService {
     @Transactional
     public void increaseFriendCount(Long userId) {
 
-        UserEntity user = getUserById(userId);
-        user.getUserCount().setFriendCount(userRepository.getFriendCount(userId) + 1);
+        counterBuffer.add(CounterField.USER_FRIEND_COUNT, userId, 1);
     }
 
     @Override
     @Transactional
     public void decreaseReviewCount(Long userId) {
 
-        UserEntity user = getUserById(userId);
-        user.getUserCount().setReviewCount(userRepository.getReviewCount(userId) - 1);
+        counterBuffer.add(CounterField.USER_REVIEW_COUNT, userId, -1);
     }
 
     @Override
@@ -117,15 +125,13 @@ public class InternalUserServiceImpl implements InternalUserService {
     @Transactional
     public void decreaseFriendCount(Long userId) {
 
-        UserEntity user = getUserById(userId);
-        user.getUserCount().setFriendCount(userRepository.getFriendCount(userId) - 1);
+        counterBuffer.add(CounterField.USER_FRIEND_COUNT, userId, -1);
     }
 
     @Override
     @Transactional
     public void addScrapCount(Long userId, int delta) {
 
-        UserEntity user = getUserById(userId);
-        user.getUserCount().setScrapCount(userRepository.getScrapCount(userId) + delta);
+        counterBuffer.add(CounterField.USER_SCRAP_COUNT, userId, delta);
     }
 }
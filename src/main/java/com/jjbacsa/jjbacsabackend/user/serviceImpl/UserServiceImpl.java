@@ -14,6 +14,7 @@ import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
 import com.jjbacsa.jjbacsabackend.review.service.InternalReviewService;
 import com.jjbacsa.jjbacsabackend.review_image.entity.ReviewImageEntity;
 import com.jjbacsa.jjbacsabackend.review_image.service.InternalReviewImageService;
+import com.jjbacsa.jjbacsabackend.user.cache.UserSummaryCache;
 import com.jjbacsa.jjbacsabackend.user.dto.EmailRequest;
 import com.jjbacsa.jjbacsabackend.user.dto.UserModifyRequest;
 import com.jjbacsa.jjbacsabackend.user.dto.UserRequest;
@@ -33,7 +34,6 @@ import com.jjbacsa.jjbacsabackend.user.service.InternalProfileService;
 import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
 import com.jjbacsa.jjbacsabackend.user.service.UserService;
 import com.jjbacsa.jjbacsabackend.util.AuthLinkUtil;
-import com.jjbacsa.jjbacsabackend.util.ImageUtil;
 import com.jjbacsa.jjbacsabackend.util.JwtUtil;
 import com.jjbacsa.jjbacsabackend.util.NameUtil;
 import com.jjbacsa.jjbacsabackend.util.RedisUtil;
@@ -74,9 +74,9 @@ public class UserServiceImpl implements UserService {
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final RedisUtil redisUtil;
-    private final ImageUtil imageUtil;
     private final AuthLinkUtil authLinkUtil;
     private final OAuthInfoRepository oAuthInfoRepository;
+    private final UserSummaryCache userSummaryCache;
 
     @Override
     @Transactional
@@ -182,7 +182,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponse getLoginUser() throws Exception {
-        return UserMapper.INSTANCE.toUserResponse(userService.getLoginUser());
+        Long userId = userService.getLoginUserId();
+
+        return userSummaryCache.get(userId, () -> UserMapper.INSTANCE.toUserResponse(userService.getUserById(userId)));
     }
 
     @Override
@@ -201,13 +203,16 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponse getAccountInfo(Long id) throws Exception {
-        UserEntity user = userRepository.findUserByIdWithCount(id);
 
-        if (user == null) {
-            throw new RequestInputException(ErrorMessage.USER_NOT_EXISTS_EXCEPTION);
-        }
+        return userSummaryCache.get(id, () -> {
+            UserEntity user = userRepository.findUserByIdWithCount(id);
 
-        return UserMapper.INSTANCE.toUserResponse(user);
+            if (user == null) {
+                throw new RequestInputException(ErrorMessage.USER_NOT_EXISTS_EXCEPTION);
+            }
+
+            return UserMapper.INSTANCE.toUserResponse(user);
+        });
     }
 
     //TODO : 2차 배포 시 파라미터(아이디) 추가 (변경 시 채널에 고지 )
@@ -229,6 +234,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        userSummaryCache.evict(user.getId());
         return UserMapper.INSTANCE.toUserResponse(user);
     }
 
@@ -236,6 +242,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void withdraw() throws Exception {
         UserEntity user = userService.getLoginUser();
+        userSummaryCache.evict(user.getId());
 
         if (oAuthInfoRepository.findByUserId(user.getId()).isPresent()) {
             throw new RequestInputException(ErrorMessage.SOCIAL_ACCOUNT_EXCEPTION);
@@ -248,7 +255,7 @@ public class UserServiceImpl implements UserService {
 
         // 작성한 리뷰 및 리뷰 내 사진, 별점 삭제
         reviewService.deleteReviewsWithUser(user);
-        user.getUserCount().setReviewCount(0);
+        userCountRepository.resetReviewCount(user);
 
         // 작성한 문의 및 문의 내 사진 삭제
         inquiryService.deleteInquiriesWithUser(user);
@@ -288,11 +295,11 @@ public class UserServiceImpl implements UserService {
 
         ImageEntity image = null;
         if (profile != null) {
-            profile = imageUtil.resizing(profile, 500);
             image = profileService.createProfileImage(profile);
         }
 
         user.setProfileImage(image);
+        userSummaryCache.evict(user.getId());
         return UserMapper.INSTANCE.toUserResponse(user);
     }
 
@@ -1,35 +1,34 @@
 package com.jjbacsa.jjbacsabackend.util;
 
 import com.jjbacsa.jjbacsabackend.scrap.dto.ScrapDirectoryResponse;
-import com.jjbacsa.jjbacsabackend.scrap.dto.ScrapResponse;
 import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
-import com.jjbacsa.jjbacsabackend.scrap.mapper.ScrapDirectoryMapper;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 
-import java.util.stream.IntStream;
-
+/**
+ * 목록 마지막 항목으로 다음 페이지 커서를 만든다. (KeysetCursor 인코딩)
+ */
 public class CursorUtil {
 
+    // 팔로워 목록: 닉네임, id
     public static String getFollowerCursor(UserEntity user) {
 
-        String pad = IntStream.range(0, 20 - user.getNickname().length())
-                .mapToObj(i -> "0")
-                .reduce((s, s2) -> s + s2).get();
+        return KeysetCursor.encode(user.getNickname(), user.getId());
+    }
+
+    // 최근 로그인한 팔로워 목록: 마지막 로그인 시각, id
+    public static String getRecentlyActiveFollowerCursor(UserEntity user) {
 
-        return pad + user.getNickname() + String.format("%010d", user.getId());
+        return KeysetCursor.encode(user.getLastLoggedAt(), user.getId());
     }
 
+    // 스크랩 디렉토리 목록: 이름, id
     public static String getScrapDirectoryCursor(ScrapDirectoryResponse directory) {
 
-        String pad = IntStream.range(0, 10 - directory.getName().length())
-                .mapToObj(i -> "0")
-                .reduce((s, s2) -> s + s2).get();
-
-        return pad + directory.getName() + String.format("%010d", directory.getId());
+        return KeysetCursor.encode(directory.getName(), directory.getId());
     }
 
     public static String getScrapDirectoryCursor(ScrapDirectoryEntity directory) {
 
-        return getScrapDirectoryCursor(ScrapDirectoryMapper.INSTANCE.toScrapDirectoryResponse(directory));
+        return KeysetCursor.encode(directory.getName(), directory.getId());
     }
 }
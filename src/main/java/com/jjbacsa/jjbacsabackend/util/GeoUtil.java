@@ -0,0 +1,45 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+public class GeoUtil {
+
+    //MySQL ST_Distance_Sphere 기본 반지름과 동일하게 사용
+    public static final double EARTH_RADIUS_METER = 6370986;
+
+    private static final double METER_PER_DEGREE = Math.PI * EARTH_RADIUS_METER / 180;
+
+    /**
+     * 두 좌표 사이의 거리(m)
+     */
+    public static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(m)을 포함하는 사각 범위
+     *
+     * @return {minLat, minLng, maxLat, maxLng}
+     */
+    public static double[] boundingBox(double lat, double lng, double radiusMeter) {
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        double lngDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        return new double[]{lat - latDelta, lng - lngDelta, lat + latDelta, lng + lngDelta};
+    }
+
+    /**
+     * 경도 1도 당 거리(m), 해당 위도 기준
+     */
+    public static double meterPerLngDegree(double lat) {
+        return METER_PER_DEGREE * Math.cos(Math.toRadians(lat));
+    }
+
+    public static double meterPerLatDegree() {
+        return METER_PER_DEGREE;
+    }
+}
@@ -2,28 +2,75 @@ package com.jjbacsa.jjbacsabackend.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.etc.dto.TokenClaims;
 import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
 import com.jjbacsa.jjbacsabackend.etc.enums.TokenType;
 import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
-public class JwtUtil {
-    @Value("${jwt.key}")
-    private String key;
+public class JwtUtil implements MeterBinder {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    @Value("${jwt.access}")
-    private String accessToken;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final String key;
+    private final String accessToken;
+    private final String refreshToken;
 
-    @Value("${jwt.refresh}")
-    private String refreshToken;
+    //서명 키, 파서는 한 번만 만들어서 재사용 (JwtParser는 thread-safe)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    //검증된 토큰 캐시 (토큰 SHA-256 -> claims, LRU, 만료된 토큰은 꺼낼 때 제거)
+    //적중률은 jwt.verify_cache.hits / misses, 항목 수는 jwt.verify_cache.size 메트릭으로 확인한다
+    private final int cacheSize;
+    private final Map<String, TokenClaims> verifiedTokens;
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
 
     public static final short BEARER_LENGTH = 7;
 
+    public JwtUtil(@Value("${jwt.key}") String key,
+                   @Value("${jwt.access}") String accessToken,
+                   @Value("${jwt.refresh}") String refreshToken,
+                   @Value("${jwt.cache.size:10000}") int cacheSize) {
+        this.key = key;
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.cacheSize = cacheSize;
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.signingKey = new SecretKeySpec(key.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     public String generateToken(Long id, TokenType type, String authority){
         Map<String, Object> headers = new HashMap<String, Object>();
         headers.put("typ", "JWT");
@@ -52,6 +99,16 @@ public class JwtUtil {
 
     //TODO: refresh token 추가 로직 적용
     public boolean isValid(String token, TokenType tokenType) throws Exception {
+        verify(token, tokenType);
+
+        return true;
+    }
+
+    /**
+     * 토큰을 검증하고 claims를 반환한다.
+     * 최근에 검증한 토큰은 서명 검증과 파싱 없이 캐시에서 꺼낸다.
+     */
+    public TokenClaims verify(String token, TokenType tokenType) throws RequestInputException {
         if(token == null){
             throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
         }
@@ -62,40 +119,99 @@ public class JwtUtil {
             throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
         }
 
-        Claims claims = null;
-        try{
-            claims = Jwts.parserBuilder().setSigningKey(
-                    key.getBytes())
-                    .build()
-                    .parseClaimsJws(token.substring(BEARER_LENGTH))
-                    .getBody();
-        } catch (ExpiredJwtException expiredJwtException){
+        String jwt = token.substring(BEARER_LENGTH);
+        String cacheKey = cacheSize > 0 ? hash(jwt) : null;
+        TokenClaims claims = cacheKey == null ? null : verifiedTokens.get(cacheKey);
+
+        if (claims != null && claims.getExpiration() <= System.currentTimeMillis()) {
+            verifiedTokens.remove(cacheKey);
             throw new RequestInputException(ErrorMessage.EXPIRED_TOKEN);
-        }  catch (JwtException e){
-            throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
         }
 
-        if(claims.getSubject() == null || claims.get("id", Long.class) == null){
-            throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
+        if (claims != null) {
+            cacheHitCount.increment();
+        } else {
+            cacheMissCount.increment();
+            claims = parse(jwt);
+
+            if (cacheKey != null) {
+                putVerified(cacheKey, claims);
+            }
         }
 
         if(!claims.getSubject().equals(tokenType.isAccess()? accessToken:refreshToken)){
             throw new RequestInputException(ErrorMessage.INVALID_TOKEN_TYPE);
         }
 
-        return true;
+        return claims;
     }
 
     public Map<String, Object> getPayloadsFromJwt(String token) throws Exception {
         String[] chunks = token.split("\\.");
-        String payloads = new String(Base64.getDecoder().decode(chunks[1]));
+        String payloads = new String(Base64.getUrlDecoder().decode(chunks[1]), StandardCharsets.UTF_8);
 
         HashMap<String, Object> map = null;
         try {
-            map = new ObjectMapper().readValue(payloads, HashMap.class);
+            map = OBJECT_MAPPER.readValue(payloads, HashMap.class);
         } catch (JsonProcessingException e) {
             throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
         }
         return map;
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verify_cache.hits", cacheHitCount, LongAdder::sum)
+                .description("캐시에서 꺼낸 토큰 검증 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.verify_cache.misses", cacheMissCount, LongAdder::sum)
+                .description("서명을 검증하고 파싱한 토큰 검증 수")
+                .register(registry);
+        Gauge.builder("jwt.verify_cache.size", verifiedTokens, Map::size)
+                .description("캐시된 토큰 수")
+                .register(registry);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+
+    private TokenClaims parse(String jwt) throws RequestInputException {
+        Claims claims = null;
+        try{
+            claims = jwtParser.parseClaimsJws(jwt).getBody();
+        } catch (ExpiredJwtException expiredJwtException){
+            throw new RequestInputException(ErrorMessage.EXPIRED_TOKEN);
+        }  catch (JwtException e){
+            throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
+        }
+
+        if(claims.getSubject() == null || claims.get("id", Long.class) == null){
+            throw new RequestInputException(ErrorMessage.INVALID_TOKEN);
+        }
+
+        //만료 시각이 없는 토큰은 캐시하지 않는다
+        long expiration = claims.getExpiration() == null ? 0 : claims.getExpiration().getTime();
+
+        return new TokenClaims(claims.get("id", Long.class), String.valueOf(claims.get("auth")), claims.getSubject(), expiration);
+    }
+
+    private void putVerified(String cacheKey, TokenClaims claims) {
+        if (claims.getExpiration() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        //가득 차면 가장 오래 쓰이지 않은 토큰 하나만 밀려난다
+        verifiedTokens.put(cacheKey, claims);
+    }
+
+    private String hash(String jwt) {
+        byte[] digest = SHA_256.get().digest(jwt.getBytes(StandardCharsets.US_ASCII));
+
+        return Base64.getEncoder().encodeToString(digest);
+    }
 }
@@ -0,0 +1,123 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이징 정의
+ * 정렬 키 (k1, k2, ...)에 대해 (k1 < ?) OR (k1 = ? AND k2 < ?) ... 형태의 조건을 만든다.
+ * 문자열 연결 없이 컬럼을 그대로 비교하므로 정렬 키 순서의 인덱스를 탈 수 있다.
+ * 마지막 키는 id처럼 유일한 값이어야 한다.
+ */
+public class Keyset {
+    private final List<Key<?>> keys;
+
+    private Keyset(List<Key<?>> keys) {
+        this.keys = keys;
+    }
+
+    public static Keyset of(Key<?>... keys) {
+        return new Keyset(Arrays.asList(keys));
+    }
+
+    public static Key<Date> date(ComparableExpressionBase<Date> expression, Order order) {
+        return new Key<>(expression, order, value -> new Date(Long.parseLong(value)));
+    }
+
+    public static Key<Long> number(ComparableExpressionBase<Long> expression, Order order) {
+        return new Key<>(expression, order, Long::parseLong);
+    }
+
+    public static Key<Integer> integer(ComparableExpressionBase<Integer> expression, Order order) {
+        return new Key<>(expression, order, Integer::parseInt);
+    }
+
+    public static Key<String> string(ComparableExpressionBase<String> expression, Order order) {
+        return new Key<>(expression, order, Function.identity());
+    }
+
+    public OrderSpecifier<?>[] orderBy() {
+        return keys.stream()
+                .map(Key::orderSpecifier)
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * @return 커서 다음 행 조건, 커서가 없으면 null
+     */
+    public BooleanExpression after(String cursor) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        if (keysetCursor == null) {
+            return null;
+        }
+
+        if (keysetCursor.size() != keys.size()) {
+            throw new RequestInputException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+        }
+
+        BooleanExpression seek = null;
+        BooleanExpression equalPrefix = null;
+
+        for (int i = 0; i < keys.size(); i++) {
+            Key<?> key = keys.get(i);
+            String value = keysetCursor.get(i);
+
+            seek = or(seek, and(equalPrefix, key.compare(key.seekOperator(), value)));
+            equalPrefix = and(equalPrefix, key.compare(Ops.EQ, value));
+        }
+
+        return seek;
+    }
+
+    private static BooleanExpression and(BooleanExpression left, BooleanExpression right) {
+        return left == null ? right : left.and(right);
+    }
+
+    private static BooleanExpression or(BooleanExpression left, BooleanExpression right) {
+        return left == null ? right : left.or(right);
+    }
+
+    public static class Key<T extends Comparable> {
+        private final ComparableExpressionBase<T> expression;
+        private final Order order;
+        private final Function<String, T> parser;
+
+        private Key(ComparableExpressionBase<T> expression, Order order, Function<String, T> parser) {
+            this.expression = expression;
+            this.order = order;
+            this.parser = parser;
+        }
+
+        private OrderSpecifier<T> orderSpecifier() {
+            return order == Order.ASC ? expression.asc() : expression.desc();
+        }
+
+        private Ops seekOperator() {
+            return order == Order.ASC ? Ops.GT : Ops.LT;
+        }
+
+        private BooleanExpression compare(Ops operator, String value) {
+            T parsed;
+
+            try {
+                parsed = parser.apply(value);
+            } catch (IllegalArgumentException e) {
+                throw new RequestInputException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+            }
+
+            return Expressions.booleanOperation(operator, expression, Expressions.constant(parsed));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 키셋 페이징 커서
+ * 마지막으로 조회한 행의 정렬 키 값들을 순서대로 담아 하나의 문자열로 인코딩한다.
+ * 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려준다.
+ */
+public class KeysetCursor {
+    private static final String DELIMITER = ",";
+
+    private final List<String> values;
+
+    private KeysetCursor(List<String> values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values 정렬 키 순서의 값 (Date는 epoch ms로 저장)
+     */
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                throw new IllegalArgumentException("keyset value must not be null");
+            }
+
+            Object value = values[i] instanceof Date ? ((Date) values[i]).getTime() : values[i];
+
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            raw.append(URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> values = new ArrayList<>();
+
+            for (String value : raw.split(DELIMITER, -1)) {
+                values.add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+
+            return new KeysetCursor(Collections.unmodifiableList(values));
+        } catch (IllegalArgumentException e) {
+            throw new RequestInputException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public String get(int index) {
+        return values.get(index);
+    }
+}
@@ -1,13 +0,0 @@
-package com.jjbacsa.jjbacsabackend.util;
-
-import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.Path;
-import com.querydsl.core.types.dsl.Expressions;
-
-public class QueryDslUtil {
-    public static OrderSpecifier<?> getSortedColumn(Order order, Path<?> parent, String fieldName){
-        Path<Object> fieldPath = Expressions.path(Object.class, parent, fieldName);
-        return new OrderSpecifier(order, fieldPath);
-    }
-}
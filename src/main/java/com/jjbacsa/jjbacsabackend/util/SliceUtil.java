@@ -0,0 +1,31 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 개수를 세지 않는 Slice 조회
+ * 페이지 크기보다 한 개 더 조회해서 다음 페이지 존재 여부(hasNext)를 판단한다.
+ */
+public class SliceUtil {
+
+    // 조회할 개수 (페이지 크기 + 1)
+    public static long fetchSize(Pageable pageable) {
+        return pageable.getPageSize() + 1L;
+    }
+
+    // fetchSize 만큼 조회한 결과에서 초과분을 잘라낸다.
+    public static <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, pageable.getPageSize()));
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,101 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정렬된(중복 없는) long[] id 집합 연산
+ * 캐시된 배열은 여러 스레드가 공유하므로 바꾸지 않고 항상 새 배열을 만든다.
+ */
+public class SortedIds {
+    public static final long[] EMPTY = new long[0];
+
+    public static long[] toSortedArray(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    public static long[] add(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+
+        if (index >= 0) {
+            return ids;
+        }
+
+        int insertion = -(index + 1);
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertion);
+        result[insertion] = id;
+        System.arraycopy(ids, insertion, result, insertion + 1, ids.length - insertion);
+
+        return result;
+    }
+
+    public static long[] remove(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+
+        if (index < 0) {
+            return ids;
+        }
+
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+
+        return result;
+    }
+
+    // 두 개씩 병합해 나간다 (전체 원소 수 N, 집합 수 k일 때 O(N log k))
+    public static long[] union(Collection<long[]> sets) {
+        List<long[]> round = new ArrayList<>(sets);
+
+        if (round.isEmpty()) {
+            return EMPTY;
+        }
+        if (round.size() == 1) {
+            return round.get(0).clone();
+        }
+
+        while (round.size() > 1) {
+            List<long[]> next = new ArrayList<>((round.size() + 1) / 2);
+
+            for (int i = 0; i < round.size(); i += 2) {
+                next.add(i + 1 < round.size() ? union(round.get(i), round.get(i + 1)) : round.get(i));
+            }
+            round = next;
+        }
+
+        return round.get(0);
+    }
+
+    public static long[] union(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[size++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[size++] = b[j++];
+            } else {
+                result[size++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[size++] = a[i++];
+        }
+        while (j < b.length) {
+            result[size++] = b[j++];
+        }
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+}
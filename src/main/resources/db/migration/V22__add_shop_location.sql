@@ -0,0 +1,9 @@
+ALTER TABLE shop ADD latitude DOUBLE NOT NULL DEFAULT 0;
+ALTER TABLE shop ADD longitude DOUBLE NOT NULL DEFAULT 0;
+
+UPDATE shop SET latitude = CAST(y AS DECIMAL(10, 7)), longitude = CAST(x AS DECIMAL(10, 7));
+
+ALTER TABLE shop ADD location POINT GENERATED ALWAYS AS (POINT(longitude, latitude)) STORED NOT NULL SRID 0;
+
+ALTER TABLE shop ADD SPATIAL INDEX spatial_index_location (location);
+ALTER TABLE shop ADD INDEX index_category_name (category_name);
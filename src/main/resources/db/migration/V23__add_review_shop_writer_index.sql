@@ -0,0 +1 @@
+ALTER TABLE review ADD INDEX index_place_writer_created (google_place_id, writer_id, created_at);
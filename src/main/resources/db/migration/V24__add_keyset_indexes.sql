@@ -0,0 +1,6 @@
+ALTER TABLE post ADD INDEX index_deleted_created (is_deleted, created_at, id);
+
+ALTER TABLE inquiry ADD INDEX index_deleted_created (is_deleted, created_at, id);
+ALTER TABLE inquiry ADD INDEX index_writer_deleted_created (writer_id, is_deleted, created_at, id);
+
+ALTER TABLE review ADD INDEX index_place_writer_rate (google_place_id, writer_id, rate, id);
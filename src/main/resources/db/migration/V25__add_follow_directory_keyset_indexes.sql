@@ -0,0 +1,6 @@
+ALTER TABLE follow ADD INDEX index_user_deleted_follower (user_id, is_deleted, follower_id);
+
+ALTER TABLE user ADD INDEX index_nickname_id (nickname, id);
+ALTER TABLE user ADD INDEX index_last_logged_id (last_logged_at, id);
+
+ALTER TABLE scrap_directory ADD INDEX index_user_deleted_name (user_id, is_deleted, name, id);
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS image_delete_outbox
+(
+    id              BIGINT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    bucket          VARCHAR(255)    NOT NULL,
+    object_key      VARCHAR(255)    NOT NULL,
+    attempts        INT             NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+    last_error      VARCHAR(255),
+    created_at      TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+    INDEX index_attempts_next_attempt (attempts, next_attempt_at)
+    ) default character set utf8mb4
+    collate utf8mb4_bin;
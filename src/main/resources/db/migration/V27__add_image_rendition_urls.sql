@@ -0,0 +1,2 @@
+ALTER TABLE `image` ADD `thumbnail_url` TEXT NULL;
+ALTER TABLE `image` ADD `list_url` TEXT NULL;
@@ -0,0 +1,17 @@
+-- 같은 검색어로 중복 저장된 행은 점수를 합쳐 하나만 남긴다
+UPDATE search s
+    JOIN (SELECT content, MIN(id) AS keep_id, SUM(score) AS total
+          FROM search
+          GROUP BY content
+          HAVING COUNT(*) > 1) d ON s.id = d.keep_id
+SET s.score = d.total;
+
+DELETE s
+FROM search s
+         JOIN (SELECT content, MIN(id) AS keep_id
+               FROM search
+               GROUP BY content
+               HAVING COUNT(*) > 1) d ON s.content = d.content AND s.id <> d.keep_id;
+
+-- 검색어 upsert(ON DUPLICATE KEY)와 접두사 검색(content LIKE 'q%')에 사용
+ALTER TABLE search ADD UNIQUE INDEX unique_content (content);
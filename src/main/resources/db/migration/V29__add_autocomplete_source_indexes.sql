@@ -0,0 +1,4 @@
+-- 자동완성 색인 갱신: 최근 수정된 상점, 점수 순 인기 검색어
+ALTER TABLE google_shop ADD INDEX index_updated_at (updated_at);
+
+ALTER TABLE search ADD INDEX index_score (score);
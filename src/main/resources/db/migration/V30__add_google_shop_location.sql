@@ -0,0 +1,11 @@
+ALTER TABLE google_shop ADD name VARCHAR(255) NULL;
+ALTER TABLE google_shop ADD latitude DOUBLE NULL;
+ALTER TABLE google_shop ADD longitude DOUBLE NULL;
+
+-- shop 테이블에 같은 상점이 있으면 이름과 좌표를 옮겨 온다 (나머지는 GoogleShopLocationBackfill이 채움)
+UPDATE google_shop g
+    JOIN shop s ON s.place_id = g.place_id
+SET g.name = s.place_name, g.latitude = s.latitude, g.longitude = s.longitude;
+
+-- 주변 상점 조회 (사각 범위)
+ALTER TABLE google_shop ADD INDEX index_latitude_longitude (latitude, longitude);
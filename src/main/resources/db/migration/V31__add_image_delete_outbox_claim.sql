@@ -0,0 +1,4 @@
+-- 워커가 UPDATE로 먼저 선점한 행만 처리한다 (claimed_until이 지난 행은 멈춘 워커의 것으로 보고 다시 선점)
+ALTER TABLE image_delete_outbox ADD claim_token VARCHAR(36) NULL;
+ALTER TABLE image_delete_outbox ADD claimed_until TIMESTAMP NULL;
+ALTER TABLE image_delete_outbox ADD INDEX index_claim_token (claim_token);
@@ -0,0 +1,37 @@
+package com.jjbacsa.jjbacsabackend.config;
+
+import com.jjbacsa.jjbacsabackend.util.GeoUtil;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * test 프로필(H2)에서 MySQL 전용 함수 대신 사용할 함수 등록
+ * match(이름, 주소, 키워드) : 공백으로 나눈 키워드 중 이름이나 주소에 포함된 단어 수 (boolean mode 근사)
+ * distance_sphere(경도1, 위도1, 경도2, 위도2) : 두 좌표 사이 거리(m)
+ */
+@Configuration
+@Profile("test")
+public class H2FunctionConfig {
+
+    public H2FunctionConfig(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS MATCH FOR \"com.jjbacsa.jjbacsabackend.config.H2FunctionConfig.match\"");
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS DISTANCE_SPHERE FOR \"com.jjbacsa.jjbacsabackend.config.H2FunctionConfig.distanceSphere\"");
+    }
+
+    public static double match(String name, String address, String keyword) {
+        double score = 0;
+
+        for (String word : keyword.split(" ")) {
+            if (!word.isEmpty() && (name.contains(word) || address.contains(word))) {
+                score++;
+            }
+        }
+
+        return score;
+    }
+
+    public static double distanceSphere(double lng1, double lat1, double lng2, double lat2) {
+        return GeoUtil.distance(lat1, lng1, lat2, lng2);
+    }
+}
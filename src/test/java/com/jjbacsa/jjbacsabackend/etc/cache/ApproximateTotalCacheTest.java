@@ -0,0 +1,70 @@
+package com.jjbacsa.jjbacsabackend.etc.cache;
+
+import com.jjbacsa.jjbacsabackend.util.SliceUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ApproximateTotalCacheTest {
+
+    @Test
+    void TTL_동안_COUNT_재사용() {
+        ApproximateTotalCache cache = new ApproximateTotalCache(true, 10, 60);
+        AtomicInteger counted = new AtomicInteger();
+
+        long first = cache.get("post", "all", () -> counted.incrementAndGet() * 10L);
+        long second = cache.get("post", "all", () -> counted.incrementAndGet() * 10L);
+        long other = cache.get("inquiry", "all", () -> counted.incrementAndGet() * 10L);
+
+        Assertions.assertEquals(10L, first);
+        Assertions.assertEquals(10L, second);
+        Assertions.assertEquals(20L, other);
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        ApproximateTotalCache cache = new ApproximateTotalCache(true, 10, 60);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("post", "all", () -> 10L);
+        cache.get("post", "all", () -> 10L);
+
+        Assertions.assertEquals(1, registry.get("paging.total_cache.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("paging.total_cache.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("paging.total_cache.size").gauge().value());
+    }
+
+    @Test
+    void 사용_안_함이면_매번_COUNT() {
+        ApproximateTotalCache cache = new ApproximateTotalCache(false, 10, 60);
+        AtomicInteger counted = new AtomicInteger();
+
+        cache.get("post", "all", counted::incrementAndGet);
+        cache.get("post", "all", counted::incrementAndGet);
+
+        Assertions.assertEquals(2, counted.get());
+    }
+
+    @Test
+    void 한_개_더_조회한_결과로_다음_페이지_판단() {
+        PageRequest pageable = PageRequest.ofSize(3);
+
+        Slice<Integer> hasNext = SliceUtil.toSlice(Arrays.asList(1, 2, 3, 4), pageable);
+        Slice<Integer> last = SliceUtil.toSlice(Arrays.asList(1, 2, 3), pageable);
+
+        Assertions.assertEquals(4L, SliceUtil.fetchSize(pageable));
+        Assertions.assertTrue(hasNext.hasNext());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), hasNext.getContent());
+        Assertions.assertFalse(last.hasNext());
+        Assertions.assertEquals(3, last.getNumberOfElements());
+    }
+}
@@ -0,0 +1,77 @@
+package com.jjbacsa.jjbacsabackend.etc.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class RepeatableRequestWrapperTest {
+
+    @DisplayName("읽힌 본문을 그대로 넘기면서 앞부분만 기록")
+    @Test
+    void captureConsumedBody() throws IOException {
+        MockHttpServletRequest request = request("application/json", "{\"content\":\"맛있어요\"}");
+        RepeatableRequestWrapper wrapper = new RepeatableRequestWrapper(request, new byte[1024]);
+
+        Assertions.assertEquals("", RepeatableRequestWrapper.getCapturedBody(request));
+
+        String body = StreamUtils.copyToString(wrapper.getInputStream(), StandardCharsets.UTF_8);
+
+        Assertions.assertEquals("{\"content\":\"맛있어요\"}", body);
+        Assertions.assertEquals(body, RepeatableRequestWrapper.getCapturedBody(request));
+    }
+
+    @DisplayName("버퍼보다 긴 본문은 잘라서 기록")
+    @Test
+    void truncateLongBody() throws IOException {
+        String content = "a".repeat(100);
+        MockHttpServletRequest request = request("application/json", content);
+        RepeatableRequestWrapper wrapper = new RepeatableRequestWrapper(request, new byte[10]);
+
+        byte[] read = new byte[100];
+        int offset = 0;
+        int n;
+        while ((n = wrapper.getInputStream().read(read, offset, read.length - offset)) > 0) {
+            offset += n;
+        }
+
+        Assertions.assertEquals(content, new String(read, StandardCharsets.UTF_8));
+        Assertions.assertTrue(RepeatableRequestWrapper.getCapturedBody(request).startsWith("aaaaaaaaaa\n... (100 bytes"));
+    }
+
+    @DisplayName("multipart 요청은 기록하지 않음")
+    @Test
+    void skipMultipart() throws IOException {
+        MockHttpServletRequest request = request("multipart/form-data; boundary=x", "--x\r\nimage\r\n--x--");
+        RepeatableRequestWrapper wrapper = new RepeatableRequestWrapper(request, new byte[1024]);
+
+        StreamUtils.drain(wrapper.getInputStream());
+
+        Assertions.assertNull(request.getAttribute(RepeatableRequestWrapper.CAPTURED_BODY));
+        Assertions.assertEquals("", RepeatableRequestWrapper.getCapturedBody(request));
+    }
+
+    @DisplayName("요청이 끝나면 버퍼를 놓음")
+    @Test
+    void releaseBuffer() throws IOException {
+        MockHttpServletRequest request = request("application/json", "{}");
+        RepeatableRequestWrapper wrapper = new RepeatableRequestWrapper(request, new byte[1024]);
+        StreamUtils.drain(wrapper.getInputStream());
+
+        wrapper.release();
+
+        Assertions.assertEquals("", RepeatableRequestWrapper.getCapturedBody(request));
+    }
+
+    private static MockHttpServletRequest request(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/review");
+        request.setContentType(contentType);
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
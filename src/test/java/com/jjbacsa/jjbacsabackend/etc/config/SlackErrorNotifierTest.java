@@ -0,0 +1,222 @@
+package com.jjbacsa.jjbacsabackend.etc.config;
+
+import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackParameter;
+import com.jjbacsa.jjbacsabackend.etc.dto.slack.SlackTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SlackErrorNotifierTest {
+
+    private static final Pattern COUNT = Pattern.compile("동안 (\\d+)회 발생");
+
+    private SlackNotiSender slackNotiSender;
+    private AtomicLong clock;
+    private SlackErrorNotifier notifier;
+
+    @BeforeEach
+    void setup() {
+        slackNotiSender = Mockito.mock(SlackNotiSender.class);
+        clock = new AtomicLong();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notifier.shutdown();
+    }
+
+    @DisplayName("같은 에러는 한 건으로 합치고 내용은 한 번만 생성")
+    @Test
+    void aggregateSameError() {
+        notifier = notifier(100, 5, 20);
+        AtomicInteger built = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            notifier.report("NullPointerException:ReviewServiceImpl.java:42", () -> {
+                built.incrementAndGet();
+                return parameter("에러");
+            });
+        }
+        notifier.report("IllegalStateException:ShopServiceImpl.java:7", () -> parameter("다른 에러"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        notifier.flush();
+
+        Assertions.assertEquals(1, built.get());
+        Assertions.assertEquals(49, notifier.getAggregatedCount());
+        Assertions.assertEquals(2, notifier.getSentCount());
+        Assertions.assertEquals(0, notifier.getPendingCount());
+
+        ArgumentCaptor<SlackParameter> captor = ArgumentCaptor.forClass(SlackParameter.class);
+        verify(slackNotiSender, times(2)).send(any(SlackTarget.class), captor.capture());
+        Assertions.assertTrue(captor.getAllValues().stream().anyMatch(parameter -> parameter.getText().equals("에러 (10초 동안 50회 발생)")));
+        Assertions.assertTrue(captor.getAllValues().stream().anyMatch(parameter -> parameter.getText().equals("다른 에러")));
+    }
+
+    @DisplayName("토큰이 없으면 다음 창으로 미루고, 시간이 지나면 다시 전송")
+    @Test
+    void rateLimit() {
+        notifier = notifier(100, 2, 6);
+
+        for (int i = 0; i < 5; i++) {
+            notifier.report("error" + i, () -> parameter("에러"));
+        }
+
+        notifier.flush();
+        Assertions.assertEquals(2, notifier.getSentCount());
+        Assertions.assertEquals(3, notifier.getPendingCount());
+        Assertions.assertEquals(1, notifier.getRateLimitedCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));  // 분당 6개 -> 10초에 1개
+        notifier.flush();
+        Assertions.assertEquals(3, notifier.getSentCount());
+        Assertions.assertEquals(2, notifier.getPendingCount());
+    }
+
+    @DisplayName("다음 창으로 미뤄진 알림은 처음 발생한 시각부터 센다")
+    @Test
+    void durationFromFirstSeen() {
+        notifier = notifier(100, 1, 6);
+        notifier.report("first", () -> parameter("먼저"));
+        notifier.flush();
+
+        notifier.report("a", () -> parameter("에러"));
+        notifier.report("a", () -> parameter("에러"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        notifier.flush();
+        Assertions.assertEquals(1, notifier.getPendingCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        notifier.report("a", () -> parameter("에러"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
+        notifier.flush();
+
+        ArgumentCaptor<SlackParameter> captor = ArgumentCaptor.forClass(SlackParameter.class);
+        verify(slackNotiSender, times(2)).send(any(SlackTarget.class), captor.capture());
+        Assertions.assertEquals("에러 (20초 동안 3회 발생)", captor.getValue().getText());
+    }
+
+    @DisplayName("전송과 동시에 들어온 같은 에러도 횟수가 빠지지 않음")
+    @Test
+    void noLostCountsWhileFlushing() throws Exception {
+        notifier = notifier(100, 1_000_000, 1_000_000);
+        Queue<String> texts = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> texts.add(invocation.<SlackParameter>getArgument(1).getText()))
+                .when(slackNotiSender).send(any(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> flusher = executor.submit(() -> {
+            while (running.get()) {
+                notifier.flush();
+            }
+        });
+        List<Future<?>> reporters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            reporters.add(executor.submit(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    notifier.report("same", () -> parameter("에러"));
+                }
+            }));
+        }
+
+        for (Future<?> reporter : reporters) {
+            reporter.get(10, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        notifier.flush();
+
+        int total = 0;
+        for (String text : texts) {
+            Matcher matcher = COUNT.matcher(text);
+            total += matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+        }
+        Assertions.assertEquals(15000, total);
+    }
+
+    @DisplayName("대기열이 가득 차면 새 에러는 버림")
+    @Test
+    void dropOnOverflow() {
+        notifier = notifier(2, 5, 20);
+
+        notifier.report("a", () -> parameter("a"));
+        notifier.report("b", () -> parameter("b"));
+        notifier.report("c", () -> parameter("c"));
+        notifier.report("a", () -> parameter("a"));
+
+        Assertions.assertEquals(1, notifier.getDroppedCount());
+        Assertions.assertEquals(1, notifier.getAggregatedCount());
+        Assertions.assertEquals(2, notifier.getPendingCount());
+    }
+
+    @DisplayName("버리거나 합친 알림 수를 메트릭으로 등록")
+    @Test
+    void bindMeters() {
+        notifier = notifier(1, 5, 20);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        notifier.bindTo(registry);
+
+        notifier.report("a", () -> parameter("a"));
+        notifier.report("a", () -> parameter("a"));
+        notifier.report("b", () -> parameter("b"));
+
+        Assertions.assertEquals(3, registry.get("slack.error_notifier.reported").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("slack.error_notifier.aggregated").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("slack.error_notifier.dropped").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("slack.error_notifier.pending").gauge().value());
+
+        notifier.flush();
+
+        Assertions.assertEquals(1, registry.get("slack.error_notifier.sent").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("slack.error_notifier.pending").gauge().value());
+    }
+
+    @DisplayName("전송 실패는 세고 넘어감")
+    @Test
+    void countFailure() {
+        notifier = notifier(100, 5, 20);
+        doThrow(new IllegalStateException("timeout")).when(slackNotiSender).send(any(), any());
+
+        notifier.report("a", () -> parameter("a"));
+        notifier.flush();
+
+        Assertions.assertEquals(1, notifier.getFailedCount());
+        Assertions.assertEquals(0, notifier.getPendingCount());
+    }
+
+    private SlackErrorNotifier notifier(int capacity, int burst, int ratePerMinute) {
+        SlackErrorNotifier.TokenBucket tokenBucket = new SlackErrorNotifier.TokenBucket(burst, ratePerMinute, clock::get);
+        return new SlackErrorNotifier(slackNotiSender, "https://hooks.slack.com/test", capacity, 10000, tokenBucket, clock::get, false);
+    }
+
+    private static SlackParameter parameter(String text) {
+        SlackParameter parameter = new SlackParameter();
+        parameter.setText(text);
+        return parameter;
+    }
+}
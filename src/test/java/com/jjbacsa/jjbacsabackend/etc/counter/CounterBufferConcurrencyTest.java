@@ -0,0 +1,123 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.etc.enums.UserType;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.google.service.InternalGoogleService;
+import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import com.jjbacsa.jjbacsabackend.user.repository.UserCountRepository;
+import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
+import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 트랜잭션이 동시에 같은 카운터를 갱신해도 유실이 없는지 확인 (커밋된 데이터로 수행 후 삭제)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class CounterBufferConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 50;
+
+    private final InternalGoogleService googleService;
+    private final InternalUserService userService;
+    private final GoogleShopRepository googleShopRepository;
+    private final UserRepository userRepository;
+    private final UserCountRepository userCountRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private GoogleShopEntity shop;
+    private UserEntity user;
+
+    @BeforeEach
+    void setup() {
+        shop = googleShopRepository.save(GoogleShopEntity.builder()
+                .placeId("counterConcurrencyTest")
+                .build());
+        user = userRepository.save(UserEntity.builder()
+                .account("counterTest")
+                .password("password")
+                .email("counter@google.com")
+                .nickname("counterTest")
+                .userType(UserType.NORMAL)
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        googleShopRepository.deleteById(shop.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @DisplayName("동시 리뷰 작성 시 별점, 리뷰 수 유실 없음")
+    @Test
+    void concurrentIncrease() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                for (int j = 0; j < ITERATIONS; j++) {
+                    //리뷰 작성과 같은 조합 (한 트랜잭션에서 같은 행을 여러 번 갱신)
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userService.increaseReviewCount(user.getId());
+                        googleService.addTotalRating(shop.getId(), 3);
+                        googleService.increaseRatingCount(shop.getId());
+                    });
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int total = THREADS * ITERATIONS;
+        GoogleShopEntity savedShop = googleShopRepository.findById(shop.getId()).get();
+
+        assertEquals(total * 3, savedShop.getShopCount().getTotalRating());
+        assertEquals(total, savedShop.getShopCount().getRatingCount());
+        assertEquals(total, userCountRepository.findById(user.getId()).get().getReviewCount());
+    }
+
+    @DisplayName("롤백된 트랜잭션의 증감은 반영하지 않음")
+    @Test
+    void rollback() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            googleService.addTotalRating(shop.getId(), 5);
+            googleService.increaseRatingCount(shop.getId());
+            status.setRollbackOnly();
+        });
+
+        GoogleShopEntity savedShop = googleShopRepository.findById(shop.getId()).get();
+
+        assertEquals(0, savedShop.getShopCount().getTotalRating());
+        assertEquals(0, savedShop.getShopCount().getRatingCount());
+    }
+}
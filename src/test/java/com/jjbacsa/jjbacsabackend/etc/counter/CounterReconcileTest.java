@@ -0,0 +1,138 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.config.TestBeanConfig;
+import com.jjbacsa.jjbacsabackend.etc.enums.UserType;
+import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
+import com.jjbacsa.jjbacsabackend.follow.repository.FollowRepository;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
+import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
+import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryCount;
+import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapDirectoryEntity;
+import com.jjbacsa.jjbacsabackend.scrap.entity.ScrapEntity;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapDirectoryRepository;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapRepository;
+import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
+import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 어긋난 카운터를 원본 테이블(review, scrap, follow) 기준으로 다시 계산하는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestBeanConfig.class, CounterWriter.class})
+class CounterReconcileTest {
+
+    @Autowired
+    private CounterWriter counterWriter;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private GoogleShopRepository googleShopRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ScrapRepository scrapRepository;
+    @Autowired
+    private ScrapDirectoryRepository scrapDirectoryRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserEntity user;
+    private UserEntity friend;
+    private GoogleShopEntity shop;
+    private ScrapDirectoryEntity directory;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(user("reconcileUser"));
+        friend = userRepository.save(user("reconcileFriend"));
+        shop = googleShopRepository.save(GoogleShopEntity.builder()
+                .placeId("reconcileShop")
+                .build());
+        directory = scrapDirectoryRepository.save(ScrapDirectoryEntity.builder()
+                .user(user)
+                .name("dir")
+                .build());
+
+        reviewRepository.save(review(4));
+        reviewRepository.save(review(2));
+        reviewRepository.delete(reviewRepository.save(review(5)));
+
+        scrapRepository.save(ScrapEntity.builder().user(user).shop(shop).directory(directory).build());
+        scrapRepository.save(ScrapEntity.builder().user(user).shop(shop).build());
+        scrapRepository.delete(scrapRepository.save(ScrapEntity.builder().user(user).shop(shop).directory(directory).build()));
+
+        followRepository.save(FollowEntity.builder().user(user).follower(friend).build());
+        followRepository.delete(followRepository.save(FollowEntity.builder().user(friend).follower(user).build()));
+
+        entityManager.flush();
+
+        //쓰기 지연 유실, 수동 수정 등으로 어긋난 상태
+        googleShopRepository.addShopCount(shop.getId(), 100, 10);
+        userRepository.addUserCount(user.getId(), 7, 7, 7);
+        userRepository.addUserCount(friend.getId(), 3, 3, 3);
+        scrapDirectoryRepository.addScrapCount(directory.getId(), 9);
+    }
+
+    @Test
+    void 원본_기준으로_다시_계산() {
+        for (CounterTarget target : CounterTarget.values()) {
+            counterWriter.reconcile(target);
+        }
+        entityManager.clear();
+
+        GoogleShopCount shopCount = entityManager.find(GoogleShopCount.class, shop.getId());
+        Assertions.assertEquals(6, shopCount.getTotalRating());
+        Assertions.assertEquals(2, shopCount.getRatingCount());
+
+        UserCount userCount = entityManager.find(UserCount.class, user.getId());
+        Assertions.assertEquals(2, userCount.getReviewCount());
+        Assertions.assertEquals(2, userCount.getScrapCount());
+        Assertions.assertEquals(1, userCount.getFriendCount());
+
+        //삭제된 팔로우는 세지 않는다
+        UserCount friendCount = entityManager.find(UserCount.class, friend.getId());
+        Assertions.assertEquals(0, friendCount.getReviewCount());
+        Assertions.assertEquals(0, friendCount.getScrapCount());
+        Assertions.assertEquals(0, friendCount.getFriendCount());
+
+        ScrapDirectoryCount directoryCount = entityManager.find(ScrapDirectoryCount.class, directory.getId());
+        Assertions.assertEquals(1, directoryCount.getScrapCount());
+    }
+
+    private UserEntity user(String account) {
+        return UserEntity.builder()
+                .account(account)
+                .password("password")
+                .email(account + "@google.com")
+                .nickname(account)
+                .userType(UserType.NORMAL)
+                .build();
+    }
+
+    private ReviewEntity review(int rate) {
+        return ReviewEntity.builder()
+                .writer(user)
+                .shop(shop)
+                .content("review")
+                .rate(rate)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.jjbacsa.jjbacsabackend.etc.counter;
+
+import com.jjbacsa.jjbacsabackend.user.entity.UserCount;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WriteBehindCountersTest {
+
+    private CounterWriter counterWriter;
+    private WriteBehindCounters writeBehindCounters;
+
+    @BeforeEach
+    void setup() {
+        counterWriter = Mockito.mock(CounterWriter.class);
+        writeBehindCounters = new WriteBehindCounters(true, counterWriter, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @DisplayName("동시에 쌓인 증감을 행마다 한 번에 반영")
+    @Test
+    void flushMergedDeltas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    writeBehindCounters.add(CounterTarget.SHOP, 1L, new int[]{3, 1});
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assertions.assertArrayEquals(new long[]{24000, 8000}, writeBehindCounters.getPending(CounterTarget.SHOP, 1L));
+
+        writeBehindCounters.flush();
+
+        verify(counterWriter, times(1)).update(eq(CounterTarget.SHOP), eq(1L), aryEq(new int[]{24000, 8000}));
+        Assertions.assertNull(writeBehindCounters.getPending(CounterTarget.SHOP, 1L));
+    }
+
+    @DisplayName("반영 실패 시 증감을 다시 보관")
+    @Test
+    void requeueOnFailure() {
+        when(counterWriter.update(any(), any(), any())).thenThrow(new RuntimeException("db down"));
+
+        writeBehindCounters.add(CounterTarget.USER, 2L, new int[]{1, 0, -1});
+        writeBehindCounters.flush();
+
+        Assertions.assertArrayEquals(new long[]{1, 0, -1}, writeBehindCounters.getPending(CounterTarget.USER, 2L));
+    }
+
+    @DisplayName("재계산 전에 쌓인 증감은 버리고, 재계산이 실패하면 다시 보관")
+    @Test
+    void dropPendingOnReconcile() {
+        writeBehindCounters.add(CounterTarget.USER, 4L, new int[]{1, 0, 0});
+        writeBehindCounters.add(CounterTarget.SHOP, 4L, new int[]{5, 1});
+
+        Assertions.assertThrows(RuntimeException.class, () -> writeBehindCounters.reconcile(CounterTarget.USER, () -> {
+            throw new RuntimeException("db down");
+        }));
+        Assertions.assertArrayEquals(new long[]{1, 0, 0}, writeBehindCounters.getPending(CounterTarget.USER, 4L));
+
+        Assertions.assertEquals(1, writeBehindCounters.reconcile(CounterTarget.USER, () -> 1));
+
+        Assertions.assertNull(writeBehindCounters.getPending(CounterTarget.USER, 4L));
+        Assertions.assertArrayEquals(new long[]{5, 1}, writeBehindCounters.getPending(CounterTarget.SHOP, 4L));
+        verify(counterWriter, never()).update(any(), any(), any());
+    }
+
+    @DisplayName("조회한 카운터에 반영되지 않은 증감 합산")
+    @Test
+    void mergeIntoEntity() {
+        UserCount userCount = new UserCount();
+
+        writeBehindCounters.add(CounterTarget.USER, 3L, new int[]{2, 1, 0});
+        writeBehindCounters.mergeInto(CounterTarget.USER, 3L, userCount);
+
+        Assertions.assertEquals(2, userCount.getReviewCount());
+        Assertions.assertEquals(1, userCount.getScrapCount());
+        Assertions.assertEquals(0, userCount.getFriendCount());
+    }
+
+    @DisplayName("쓰기 지연을 지원하지 않는 테이블")
+    @Test
+    void unsupportedTarget() {
+        Assertions.assertFalse(writeBehindCounters.supports(CounterTarget.SCRAP_DIRECTORY));
+        Assertions.assertFalse(new WriteBehindCounters(false, counterWriter, null).supports(CounterTarget.SHOP));
+    }
+}
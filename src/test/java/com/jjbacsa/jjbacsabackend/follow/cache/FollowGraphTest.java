@@ -0,0 +1,99 @@
+package com.jjbacsa.jjbacsabackend.follow.cache;
+
+import com.jjbacsa.jjbacsabackend.follow.repository.FollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FollowGraphTest {
+
+    @Test
+    void 캐시된_팔로워는_다시_조회하지_않음() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(List.of(3L, 2L));
+        FollowGraph graph = new FollowGraph(true, 10, 60, followRepository);
+
+        Assertions.assertTrue(graph.isFollower(1L, 2L));
+        Assertions.assertFalse(graph.isFollower(1L, 4L));
+        Assertions.assertArrayEquals(new long[]{2L, 3L}, graph.followerIds(1L));
+
+        Mockito.verify(followRepository, Mockito.times(1)).findFollowerIdsByUserId(1L);
+        Assertions.assertEquals(2, graph.getHitCount());
+    }
+
+    @Test
+    void 팔로우_변경_반영() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(List.of(2L));
+        FollowGraph graph = new FollowGraph(true, 10, 60, followRepository);
+
+        graph.followerIds(1L);
+        graph.follow(1L, 5L);
+        graph.unfollow(1L, 2L);
+
+        Assertions.assertArrayEquals(new long[]{5L}, graph.followerIds(1L));
+        Mockito.verify(followRepository, Mockito.times(1)).findFollowerIdsByUserId(1L);
+    }
+
+    @Test
+    void 만료된_집합은_다시_조회() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(List.of(2L), List.of());
+        FollowGraph graph = new FollowGraph(true, 10, 0, followRepository);
+
+        //다른 인스턴스에서 언팔로우된 경우도 TTL이 지나면 반영된다
+        Assertions.assertTrue(graph.isFollower(1L, 2L));
+        Assertions.assertFalse(graph.isFollower(1L, 2L));
+
+        Mockito.verify(followRepository, Mockito.times(2)).findFollowerIdsByUserId(1L);
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(List.of(2L));
+        FollowGraph graph = new FollowGraph(true, 10, 60, followRepository);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        graph.bindTo(registry);
+
+        graph.isFollower(1L, 2L);
+        graph.isFollower(1L, 3L);
+
+        Assertions.assertEquals(1, registry.get("follow.graph.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("follow.graph.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("follow.graph.size").gauge().value());
+    }
+
+    @Test
+    void 탈퇴한_사용자는_모든_집합에서_제거() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(Arrays.asList(2L, 3L));
+        Mockito.when(followRepository.findFollowerIdsByUserId(2L)).thenReturn(List.of(1L));
+        FollowGraph graph = new FollowGraph(true, 10, 60, followRepository);
+
+        graph.followerIds(1L);
+        graph.followerIds(2L);
+        graph.removeUser(2L);
+
+        Assertions.assertFalse(graph.isFollower(1L, 2L));
+        Assertions.assertTrue(graph.isFollower(1L, 3L));
+        Mockito.verify(followRepository, Mockito.times(1)).findFollowerIdsByUserId(1L);
+    }
+
+    @Test
+    void 비활성화시_항상_조회() {
+        FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+        Mockito.when(followRepository.existsByUser_IdAndFollower_Id(1L, 2L)).thenReturn(true);
+        FollowGraph graph = new FollowGraph(false, 10, 60, followRepository);
+
+        Assertions.assertTrue(graph.isFollower(1L, 2L));
+        Assertions.assertTrue(graph.isFollower(1L, 2L));
+
+        Mockito.verify(followRepository, Mockito.times(2)).existsByUser_IdAndFollower_Id(1L, 2L);
+    }
+}
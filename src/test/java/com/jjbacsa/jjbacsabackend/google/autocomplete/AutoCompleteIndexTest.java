@@ -0,0 +1,146 @@
+package com.jjbacsa.jjbacsabackend.google.autocomplete;
+
+import com.jjbacsa.jjbacsabackend.google.dto.ShopNameDto;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.search.entity.SearchEntity;
+import com.jjbacsa.jjbacsabackend.search.repository.SearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class AutoCompleteIndexTest {
+
+    private static final double LAT = 36.35;
+    private static final double LNG = 127.38;
+    //약 50km 떨어진 곳
+    private static final double FAR_LAT = 36.80;
+
+    private GoogleShopRepository googleShopRepository;
+    private SearchRepository searchRepository;
+    private AutoCompleteIndex index;
+
+    @BeforeEach
+    void setup() {
+        googleShopRepository = Mockito.mock(GoogleShopRepository.class);
+        searchRepository = Mockito.mock(SearchRepository.class);
+        index = new AutoCompleteIndex(googleShopRepository, searchRepository, 5, 3, 100);
+    }
+
+    private ShopNameDto shop(String placeId, String name, double lat, int ratingCount, long updatedAt) {
+        return new ShopNameDto(placeId, name, lat, LNG, ratingCount, new Date(updatedAt));
+    }
+
+    private SearchEntity keyword(String content, long score) {
+        return SearchEntity.builder().content(content).score(score).build();
+    }
+
+    @DisplayName("주변 상점을 평가 많은 순으로 먼저, 그다음 인기 검색어를 점수 순으로")
+    @Test
+    void rankNearbyShopsThenKeywords() {
+        when(googleShopRepository.findNamesUpdatedSince(any())).thenReturn(List.of(
+                shop("p1", "떡볶이 명가", LAT, 3, 1000),
+                shop("p2", "떡볶이 천국", LAT, 10, 1000),
+                shop("p3", "떡볶이 먼곳", FAR_LAT, 100, 1000),
+                shop("p4", "라멘집", LAT, 50, 1000)));
+        when(searchRepository.findAllByOrderByScoreDesc(any())).thenReturn(List.of(
+                keyword("떡볶이", 30), keyword("떡갈비", 20), keyword("라멘", 10)));
+
+        index.refresh();
+
+        Assertions.assertEquals(List.of("떡볶이 천국", "떡볶이 명가", "떡볶이", "떡갈비"), index.complete("떡", LAT, LNG));
+        Assertions.assertEquals(List.of("떡볶이 천국", "떡볶이 명가", "떡볶이"), index.complete(" 떡볶 ", LAT, LNG));
+        Assertions.assertEquals(List.of("떡볶이 먼곳", "떡볶이", "떡갈비"), index.complete("떡", FAR_LAT, LNG));
+        Assertions.assertTrue(index.complete("피자", LAT, LNG).isEmpty());
+    }
+
+    @DisplayName("로컬 응답 수와 색인 크기를 메트릭으로 등록")
+    @Test
+    void bindMeters() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        index.bindTo(registry);
+        when(googleShopRepository.findNamesUpdatedSince(any())).thenReturn(List.of(
+                shop("p1", "떡볶이 명가", LAT, 3, 1000),
+                shop("p2", "떡볶이 천국", LAT, 10, 1000)));
+        when(searchRepository.findAllByOrderByScoreDesc(any())).thenReturn(List.of(keyword("떡볶이", 30)));
+
+        index.refresh();
+        index.complete("떡", LAT, LNG);
+        index.complete("피자", LAT, LNG);
+
+        Assertions.assertEquals(1, registry.get("autocomplete.index.local_hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("autocomplete.index.thin").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("autocomplete.index.rebuilds").functionCounter().count());
+        Assertions.assertEquals(index.getTermCount(), registry.get("autocomplete.index.terms").gauge().value());
+    }
+
+    @DisplayName("마지막 갱신 이후 수정된 상점만 다시 읽어 반영")
+    @Test
+    void refreshIncrementally() {
+        when(searchRepository.findAllByOrderByScoreDesc(any())).thenReturn(Collections.emptyList());
+        when(googleShopRepository.findNamesUpdatedSince(any())).thenReturn(List.of(shop("p1", "Burger House", LAT, 1, 1000)));
+
+        index.refresh();
+        Assertions.assertEquals(List.of("Burger House"), index.complete("bur", LAT, LNG));
+
+        //경계(updated_at이 같은 행)는 다시 읽히지만 바뀐 게 없으면 다시 만들지 않는다
+        when(googleShopRepository.findNamesUpdatedSince(new Date(1000))).thenReturn(List.of(shop("p1", "Burger House", LAT, 1, 1000)));
+        index.refresh();
+        Assertions.assertEquals(1, index.getRebuildCount());
+
+        when(googleShopRepository.findNamesUpdatedSince(new Date(1000))).thenReturn(List.of(
+                shop("p1", "Burger Palace", LAT, 1, 2000),
+                shop("p2", "Bagel Shop", LAT, 1, 2000)));
+        index.refresh();
+
+        Assertions.assertEquals(2, index.getRebuildCount());
+        Assertions.assertEquals(List.of("Burger Palace"), index.complete("BUR", LAT, LNG));
+        Assertions.assertEquals(2, index.getTermCount());
+    }
+
+    @DisplayName("색인 갱신이 실패하면 이전 색인을 그대로 사용")
+    @Test
+    void keepIndexOnFailure() {
+        when(searchRepository.findAllByOrderByScoreDesc(any())).thenReturn(List.of(keyword("떡볶이", 1)));
+        when(googleShopRepository.findNamesUpdatedSince(any())).thenReturn(Collections.emptyList());
+        index.refresh();
+
+        when(googleShopRepository.findNamesUpdatedSince(any())).thenThrow(new RuntimeException("db down"));
+        index.reload();
+
+        Assertions.assertEquals(List.of("떡볶이"), index.complete("떡", LAT, LNG));
+    }
+
+    @DisplayName("구간이 큰 노드는 미리 계산한 상위 검색어를 사용")
+    @Test
+    void precomputedTopOnLargeNodes() {
+        PrefixTrie.Builder builder = PrefixTrie.builder();
+        List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < PrefixTrie.SCAN_LIMIT * 4; i++) {
+            builder.addKeyword(String.format("맛집 %03d", i), i + 1);
+        }
+        for (int i = PrefixTrie.SCAN_LIMIT * 4 - 1; expected.size() < 5; i--) {
+            expected.add(String.format("맛집 %03d", i));
+        }
+
+        PrefixTrie trie = builder.build(5);
+
+        Assertions.assertEquals(expected, trie.complete("맛", GeoCell.of(LAT, LNG), 5));
+        Assertions.assertEquals(List.of("맛집 019", "맛집 018", "맛집 017"), trie.complete("맛집 01", GeoCell.of(LAT, LNG), 3));
+        Assertions.assertEquals(List.of("맛집 100"), trie.complete("맛집 100", GeoCell.of(LAT, LNG), 5));
+        Assertions.assertEquals(5, trie.complete("맛집 2", GeoCell.of(LAT, LNG), 5).size());
+        Assertions.assertTrue(trie.complete("맛집 9", GeoCell.of(LAT, LNG), 5).isEmpty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class AutoCompleteCacheTest {
+
+    @Test
+    void 같은_칸의_같은_접두사만_적중() {
+        AutoCompleteCache cache = new AutoCompleteCache(10, 60);
+        cache.put("떡", 1L, List.of("떡볶이"));
+
+        Assertions.assertEquals(List.of("떡볶이"), cache.get("떡", 1L));
+        Assertions.assertNull(cache.get("떡", 2L));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        AutoCompleteCache cache = new AutoCompleteCache(10, 60);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("떡", 1L);
+        cache.put("떡", 1L, List.of("떡볶이"));
+        cache.get("떡", 1L);
+
+        Assertions.assertEquals(1, registry.get("autocomplete.cache.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("autocomplete.cache.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("autocomplete.cache.size").gauge().value());
+    }
+}
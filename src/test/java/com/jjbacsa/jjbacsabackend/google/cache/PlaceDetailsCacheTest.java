@@ -0,0 +1,158 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import com.jjbacsa.jjbacsabackend.google.dto.PlaceFieldSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PlaceDetailsCacheTest {
+    private static final String OK_RESPONSE = "{\"status\":\"OK\",\"result\":{\"place_id\":\"placeId\"}}";
+
+    private PlaceDetailsCache placeDetailsCache;
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        StringRedisTemplate redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.multiGet(ArgumentMatchers.anyCollection()))
+                .thenAnswer(invocation -> Arrays.asList(new String[invocation.<Collection<?>>getArgument(0).size()]));
+
+        placeDetailsCache = new PlaceDetailsCache(redisTemplate, true, 100, 60, 60);
+    }
+
+    @Test
+    void 같은_필드_재요청시_캐시_사용() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            placeDetailsCache.get("placeId", PlaceFieldSet.PIN, fieldSet -> {
+                callCount.incrementAndGet();
+                return Mono.just(OK_RESPONSE);
+            }).block();
+        }
+
+        Assertions.assertEquals(1, callCount.get());
+        Assertions.assertEquals(1, placeDetailsCache.getMissCount());
+        Assertions.assertEquals(2, placeDetailsCache.getLocalHitCount());
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        placeDetailsCache.bindTo(registry);
+
+        for (int i = 0; i < 2; i++) {
+            placeDetailsCache.get("placeId", PlaceFieldSet.PIN, fieldSet -> Mono.just(OK_RESPONSE)).block();
+        }
+
+        Assertions.assertEquals(1, registry.get("place.details_cache.local_hits").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("place.details_cache.redis_hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("place.details_cache.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("place.details_cache.size").gauge().value());
+    }
+
+    @Test
+    void 넓은_필드_캐시로_좁은_필드_요청_처리() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        placeDetailsCache.get("placeId", PlaceFieldSet.DETAILS, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE);
+        }).block();
+
+        String response = placeDetailsCache.get("placeId", PlaceFieldSet.SCRAP, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE);
+        }).block();
+
+        Assertions.assertEquals(OK_RESPONSE, response);
+        Assertions.assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void 좁은_필드_캐시로_넓은_필드_요청_불가() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        placeDetailsCache.get("placeId", PlaceFieldSet.PIN, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE);
+        }).block();
+
+        placeDetailsCache.get("placeId", PlaceFieldSet.DETAILS, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE);
+        }).block();
+
+        Assertions.assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void 동시_요청_한번만_호출() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        Mono<String> first = placeDetailsCache.get("placeId", PlaceFieldSet.SIMPLE, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE).delayElement(Duration.ofMillis(200));
+        });
+        Mono<String> second = placeDetailsCache.get("placeId", PlaceFieldSet.SIMPLE, fieldSet -> {
+            callCount.incrementAndGet();
+            return Mono.just(OK_RESPONSE).delayElement(Duration.ofMillis(200));
+        });
+
+        List<String> responses = Mono.zip(first, second, List::of).block();
+
+        Assertions.assertEquals(2, responses.size());
+        Assertions.assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void Redis_저장은_응답_스레드와_분리() {
+        AtomicReference<String> savedOn = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            savedOn.set(Thread.currentThread().getName());
+            return null;
+        }).when(valueOperations).set(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(Duration.class));
+
+        //응답이 이벤트 루프(여기서는 single 스케줄러)에서 도착하는 경우
+        placeDetailsCache.get("placeId", PlaceFieldSet.PIN, fieldSet -> Mono.just(OK_RESPONSE).publishOn(Schedulers.single())).block();
+
+        Mockito.verify(valueOperations, Mockito.timeout(1000))
+                .set(ArgumentMatchers.eq("place:details:PIN:placeId"), ArgumentMatchers.eq(OK_RESPONSE), ArgumentMatchers.any(Duration.class));
+        Assertions.assertTrue(savedOn.get().startsWith("boundedElastic"));
+    }
+
+    @Test
+    void 실패_응답은_캐시하지_않음() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            placeDetailsCache.get("placeId", PlaceFieldSet.PIN, fieldSet -> {
+                callCount.incrementAndGet();
+                return Mono.just("{\"status\":\"OVER_QUERY_LIMIT\"}");
+            }).block();
+        }
+
+        Assertions.assertEquals(2, callCount.get());
+        Mockito.verify(valueOperations, Mockito.never())
+                .set(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(Duration.class));
+    }
+}
@@ -0,0 +1,138 @@
+package com.jjbacsa.jjbacsabackend.google.cache;
+
+import com.jjbacsa.jjbacsabackend.follow.cache.FollowGraph;
+import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+public class UserShopSetsTest {
+
+    private ReviewRepository reviewRepository;
+    private ScrapRepository scrapRepository;
+    private FollowGraph followGraph;
+
+    @BeforeEach
+    void setup() {
+        reviewRepository = Mockito.mock(ReviewRepository.class);
+        scrapRepository = Mockito.mock(ScrapRepository.class);
+        followGraph = Mockito.mock(FollowGraph.class);
+    }
+
+    private UserShopSets create(boolean enabled) {
+        return new UserShopSets(enabled, 10, 60, reviewRepository, scrapRepository, followGraph);
+    }
+
+    @Test
+    void 친구_리뷰_상점_합집합() {
+        Mockito.when(followGraph.followerIds(1L)).thenReturn(new long[]{2L, 3L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L, 3L)))
+                .thenReturn(Map.of(2L, new long[]{1L, 5L}, 3L, new long[]{2L, 5L, 9L}));
+        UserShopSets sets = create(true);
+
+        Assertions.assertArrayEquals(new long[]{1L, 2L, 5L, 9L}, sets.friendReviewedShopIds(1L));
+        Assertions.assertArrayEquals(new long[]{1L, 2L, 5L, 9L}, sets.friendReviewedShopIds(1L));
+
+        Mockito.verify(reviewRepository, Mockito.times(1)).findShopIdsByWriterIds(Mockito.any());
+        Assertions.assertEquals(2, sets.getHitCount());
+    }
+
+    @Test
+    void 캐시에_없는_친구만_조회() {
+        Mockito.when(followGraph.followerIds(1L)).thenReturn(new long[]{2L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L))).thenReturn(Map.of(2L, new long[]{1L}));
+        UserShopSets sets = create(true);
+        sets.friendReviewedShopIds(1L);
+
+        //새로 팔로우한 친구(리뷰 없음)만 다시 읽는다
+        Mockito.when(followGraph.followerIds(1L)).thenReturn(new long[]{2L, 4L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(4L))).thenReturn(Map.of());
+
+        Assertions.assertArrayEquals(new long[]{1L}, sets.friendReviewedShopIds(1L));
+        Assertions.assertArrayEquals(new long[]{1L}, sets.friendReviewedShopIds(1L));
+        Mockito.verify(reviewRepository, Mockito.times(1)).findShopIdsByWriterIds(List.of(4L));
+    }
+
+    @Test
+    void 리뷰_스크랩_변경_반영() {
+        Mockito.when(followGraph.followerIds(1L)).thenReturn(new long[]{2L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L))).thenReturn(Map.of(2L, new long[]{3L}));
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{4L, 7L});
+        UserShopSets sets = create(true);
+
+        sets.friendReviewedShopIds(1L);
+        sets.scrappedShopIds(1L);
+
+        sets.reviewAdded(2L, 1L);
+        sets.scrapAdded(1L, 5L);
+        sets.scrapRemoved(1L, 7L);
+
+        Assertions.assertArrayEquals(new long[]{1L, 3L}, sets.friendReviewedShopIds(1L));
+        Assertions.assertArrayEquals(new long[]{4L, 5L}, sets.scrappedShopIds(1L));
+        Mockito.verify(reviewRepository, Mockito.times(1)).findShopIdsByWriterIds(Mockito.any());
+        Mockito.verify(scrapRepository, Mockito.times(1)).findShopIdsByUserId(1L);
+
+        //리뷰 삭제, 디렉토리 삭제는 다시 읽는다
+        sets.reviewsRemoved(2L);
+        sets.scrapsRemoved(1L);
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L))).thenReturn(Map.of());
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{4L});
+
+        Assertions.assertArrayEquals(new long[0], sets.friendReviewedShopIds(1L));
+        Assertions.assertArrayEquals(new long[]{4L}, sets.scrappedShopIds(1L));
+    }
+
+    @Test
+    void 만료된_집합은_다시_조회() {
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{1L}, new long[]{1L, 2L});
+        UserShopSets sets = new UserShopSets(true, 10, 0, reviewRepository, scrapRepository, followGraph);
+
+        //다른 인스턴스에서 추가된 스크랩도 TTL이 지나면 반영된다
+        Assertions.assertArrayEquals(new long[]{1L}, sets.scrappedShopIds(1L));
+        Assertions.assertArrayEquals(new long[]{1L, 2L}, sets.scrappedShopIds(1L));
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{1L});
+        UserShopSets sets = create(true);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        sets.bindTo(registry);
+
+        sets.scrappedShopIds(1L);
+        sets.scrappedShopIds(1L);
+
+        Assertions.assertEquals(1, registry.get("map.shop_sets.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("map.shop_sets.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("map.shop_sets.size").gauge().value());
+    }
+
+    @Test
+    void 반환한_배열을_바꿔도_캐시는_그대로() {
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{1L, 2L});
+        UserShopSets sets = create(true);
+
+        sets.scrappedShopIds(1L)[0] = 100L;
+
+        Assertions.assertArrayEquals(new long[]{1L, 2L}, sets.scrappedShopIds(1L));
+    }
+
+    @Test
+    void 비활성화시_항상_조회() {
+        Mockito.when(scrapRepository.findShopIdsByUserId(1L)).thenReturn(new long[]{1L});
+        UserShopSets sets = create(false);
+
+        sets.scrappedShopIds(1L);
+        sets.scrapAdded(1L, 2L);
+        sets.scrappedShopIds(1L);
+
+        Mockito.verify(scrapRepository, Mockito.times(2)).findShopIdsByUserId(1L);
+    }
+}
@@ -1,7 +1,12 @@
 package com.jjbacsa.jjbacsabackend.google.repository;
 
 import com.jjbacsa.jjbacsabackend.config.TestBeanConfig;
+import com.jjbacsa.jjbacsabackend.google.dto.ShopNameDto;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +16,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManager;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @DataJpaTest
 @ExtendWith(SpringExtension.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -19,6 +29,8 @@ public class GoogleRepositoryTest {
 
     @Autowired
     private GoogleShopRepository googleShopRepository;
+    @Autowired
+    private EntityManager entityManager;
     String place_id = "ChIJx44qfNaYfDURtM0hCeeC7N4";
 
     @Test
@@ -61,5 +73,81 @@ public class GoogleRepositoryTest {
         Assertions.assertEquals(googleShopEntityById.getPlaceId(),"test2");
     }
 
+    @Test
+    public void place_id_목록으로_별점_일괄_조회(){
+        GoogleShopEntity shopEntity1 = GoogleShopEntity.builder()
+                .placeId("rate1")
+                .build();
+        GoogleShopEntity shopEntity2 = GoogleShopEntity.builder()
+                .placeId("rate2")
+                .build();
+        shopEntity1.getShopCount().setTotalRating(9);
+        shopEntity1.getShopCount().setRatingCount(2);
+
+        googleShopRepository.save(shopEntity1);
+        googleShopRepository.save(shopEntity2);
+
+        List<ShopRateResponse> rates = googleShopRepository.findAllRatesByPlaceIdIn(List.of("rate1", "rate2", "none"));
+
+        Assertions.assertEquals(2, rates.size());
+
+        ShopRateResponse rate1 = rates.stream()
+                .filter(rate -> rate.getPlaceId().equals("rate1"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(9, rate1.getTotalRating());
+        Assertions.assertEquals(2, rate1.getRatingCount());
+    }
+
+    @Test
+    public void 좌표로_주변_상점_조회(){
+        //shop 테이블에 없는, 리뷰/스크랩으로 저장된 상점만 있는 경우
+        GoogleShopEntity near = googleShopRepository.save(GoogleShopEntity.builder().placeId("near").latitude(36.3500).longitude(127.3800).build());
+        GoogleShopEntity nearer = googleShopRepository.save(GoogleShopEntity.builder().placeId("nearer").latitude(36.3501).longitude(127.3801).build());
+        //사각 범위 모서리 (반경 밖)
+        googleShopRepository.save(GoogleShopEntity.builder().placeId("corner").latitude(36.3580).longitude(127.3899).build());
+        googleShopRepository.save(GoogleShopEntity.builder().placeId("far").latitude(36.8000).longitude(127.3800).build());
+        googleShopRepository.save(GoogleShopEntity.builder().placeId("no_location").build());
+
+        Assertions.assertArrayEquals(new long[]{near.getId(), nearer.getId()}, googleShopRepository.findIdsNear(36.3501, 127.3801, 1000, 10));
+        Assertions.assertArrayEquals(new long[]{nearer.getId()}, googleShopRepository.findIdsNear(36.3501, 127.3801, 1000, 1));
+    }
+
+    @Test
+    public void 자동완성용_상점_이름_조회(){
+        googleShopRepository.save(GoogleShopEntity.builder().placeId("named").name("떡볶이 명가").latitude(36.35).longitude(127.38).build());
+        //이름, 좌표가 아직 채워지지 않은 상점은 제외
+        googleShopRepository.save(GoogleShopEntity.builder().placeId("unnamed").build());
+        entityManager.flush();
+
+        List<String> names = googleShopRepository.findNamesUpdatedSince(new Date(0)).stream()
+                .map(ShopNameDto::getName)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(List.of("떡볶이 명가"), names);
+    }
+
+    @Test
+    public void id_목록으로_place_id_한번에_조회(){
+        long[] shopIds = new long[3];
+        for (int i = 0; i < shopIds.length; i++) {
+            shopIds[i] = googleShopRepository.save(GoogleShopEntity.builder().placeId("pair" + i).build()).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<ShopIdPair> pairs = googleShopRepository.findIdPairsByIdIn(shopIds);
+
+        Assertions.assertEquals(List.of("pair0", "pair1", "pair2"),
+                pairs.stream().map(ShopIdPair::getPlaceId).collect(Collectors.toList()));
+        //상점 엔티티, 상점 카운트를 읽지 않고 쿼리 한 번
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
 
 }
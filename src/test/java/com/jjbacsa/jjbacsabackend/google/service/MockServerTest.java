@@ -2,21 +2,29 @@ package com.jjbacsa.jjbacsabackend.google.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jjbacsa.jjbacsabackend.follow.service.InternalFollowService;
+import com.jjbacsa.jjbacsabackend.etc.counter.WriteBehindCounters;
+import com.jjbacsa.jjbacsabackend.follow.cache.FollowGraph;
+import com.jjbacsa.jjbacsabackend.google.autocomplete.AutoCompleteIndex;
+import com.jjbacsa.jjbacsabackend.google.cache.AutoCompleteCache;
+import com.jjbacsa.jjbacsabackend.google.cache.PlaceDetailsCache;
+import com.jjbacsa.jjbacsabackend.google.cache.UserShopSets;
 import com.jjbacsa.jjbacsabackend.google.dto.api.Prediction;
 import com.jjbacsa.jjbacsabackend.google.dto.api.ShopApiDto;
 import com.jjbacsa.jjbacsabackend.google.dto.api.inner.Geometry;
 import com.jjbacsa.jjbacsabackend.google.dto.api.inner.OpeningHours;
 import com.jjbacsa.jjbacsabackend.google.dto.request.AutoCompleteRequest;
 import com.jjbacsa.jjbacsabackend.google.dto.request.ShopRequest;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopIdPair;
+import com.jjbacsa.jjbacsabackend.google.dto.response.ShopRateResponse;
 import com.jjbacsa.jjbacsabackend.google.dto.response.ShopResponse;
-import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopCount;
 import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
 import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
 import com.jjbacsa.jjbacsabackend.google.serviceImpl.GoogleShopServiceImpl;
-import com.jjbacsa.jjbacsabackend.review.service.InternalReviewService;
+import com.jjbacsa.jjbacsabackend.review.repository.ReviewRepository;
+import com.jjbacsa.jjbacsabackend.scrap.repository.ScrapRepository;
 import com.jjbacsa.jjbacsabackend.scrap.service.InternalScrapService;
-import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import com.jjbacsa.jjbacsabackend.search.repository.SearchRepository;
+import com.jjbacsa.jjbacsabackend.user.service.InternalUserService;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -30,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Setter
 @Getter
@@ -48,32 +57,43 @@ class AutoCompleteResponse {
 
 @ExtendWith(MockitoExtension.class)
 public class MockServerTest {
+    static final long USER_ID = 1L;
+
     static GoogleShopService googleShopService;
     static MockWebServer mockWebServer;
     static ObjectMapper objectMapper;
 
     static GoogleShopRepository googleShopRepository;
-    static InternalFollowService internalFollowService;
-    static InternalReviewService internalReviewService;
     static InternalScrapService internalScrapService;
+    static ReviewRepository reviewRepository;
+    static ScrapRepository scrapRepository;
+    static FollowGraph followGraph;
 
     static ShopApiResponse baseResponse;
     static Geometry geometry;
 
 
     @BeforeAll
-    static void init() throws IOException {
+    static void init() throws Exception {
         googleShopRepository = Mockito.mock(GoogleShopRepository.class);
-        internalReviewService = Mockito.mock(InternalReviewService.class);
-        internalFollowService = Mockito.mock(InternalFollowService.class);
         internalScrapService = Mockito.mock(InternalScrapService.class);
+        reviewRepository = Mockito.mock(ReviewRepository.class);
+        scrapRepository = Mockito.mock(ScrapRepository.class);
+        followGraph = Mockito.mock(FollowGraph.class);
+
+        InternalUserService internalUserService = Mockito.mock(InternalUserService.class);
+        Mockito.when(internalUserService.getLoginUserId()).thenReturn(USER_ID);
 
         mockWebServer = new MockWebServer();
         mockWebServer.start();
 
         String baseUrl = String.format("http://localhost:%s", mockWebServer.getPort());
 
-        googleShopService = new GoogleShopServiceImpl(baseUrl, new ObjectMapper(), "KEY", googleShopRepository, internalFollowService, internalReviewService, internalScrapService);
+        googleShopService = new GoogleShopServiceImpl(baseUrl, new ObjectMapper(), "KEY", 4, 3000, new PlaceDetailsCache(null, false, 0, 0, 0), googleShopRepository, internalScrapService,
+                new WriteBehindCounters(false, null, null),
+                new AutoCompleteIndex(googleShopRepository, Mockito.mock(SearchRepository.class), 10, 3, 5000), new AutoCompleteCache(100, 0),
+                new UserShopSets(false, 10, 60, reviewRepository, scrapRepository, followGraph),
+                internalUserService, 3000, 100);
         objectMapper = new ObjectMapper();
 
         Geometry.Location location = new Geometry.Location();
@@ -160,40 +180,40 @@ public class MockServerTest {
     @Transactional
     @Test
     void 상점_별점_기본형_반환() throws Exception {
-        Mockito.when(googleShopRepository.existsByPlaceId("placeId"))
-                .thenReturn(false);
+        Mockito.when(googleShopRepository.findAllRatesByPlaceIdIn(List.of("placeId")))
+                .thenReturn(List.of());
 
         Assertions.assertEquals(0, googleShopService.getShopRate("placeId").getRatingCount());
     }
 
     @Test
     void 상점_별점_반환() {
-        Mockito.when(googleShopRepository.existsByPlaceId("placeId"))
-                .thenReturn(true);
-
-        Mockito.when(googleShopRepository.getByPlaceId("placeId"))
-                .thenReturn(GoogleShopEntity.builder()
-                        .shopCount(GoogleShopCount.builder()
-                                .ratingCount(4)
-                                .totalRating(1).build())
-                        .build()
-                );
+        Mockito.when(googleShopRepository.findAllRatesByPlaceIdIn(List.of("placeId")))
+                .thenReturn(List.of(new ShopRateResponse("placeId", 1, 4)));
 
         Assertions.assertEquals(4, googleShopService.getShopRate("placeId").getRatingCount());
     }
 
+    @Test
+    void 상점_별점_일괄_반환() {
+        Mockito.when(googleShopRepository.findAllRatesByPlaceIdIn(List.of("placeId1", "placeId2")))
+                .thenReturn(List.of(new ShopRateResponse("placeId1", 5, 1)));
+
+        Map<String, ShopRateResponse> rates = googleShopService.getShopRates(List.of("placeId1", "placeId2"));
+
+        Assertions.assertEquals(1, rates.size());
+        Assertions.assertEquals(5, rates.get("placeId1").getTotalRating());
+    }
+
     @Test
     void 가까운_상점_반환() throws Exception {
         GoogleShopEntity googleShopEntity1 = GoogleShopEntity.builder().id(1L).placeId("placeId1").build();
         GoogleShopEntity googleShopEntity2 = GoogleShopEntity.builder().id(2L).placeId("placeId2").build();
         GoogleShopEntity googleShopEntity3 = GoogleShopEntity.builder().id(3L).placeId("placeId3").build();
 
-        Mockito.when(googleShopRepository.findAll())
-                .thenReturn(List.of(googleShopEntity1, googleShopEntity2, googleShopEntity3));
+        givenNearBy(List.of(googleShopEntity1, googleShopEntity2, googleShopEntity3));
 
-        Mockito.when(googleShopRepository.findById(1L)).thenReturn(Optional.of(googleShopEntity1));
-        Mockito.when(googleShopRepository.findById(2L)).thenReturn(Optional.of(googleShopEntity2));
-        Mockito.when(googleShopRepository.findById(3L)).thenReturn(Optional.of(googleShopEntity3));
+        givenShops(List.of(googleShopEntity1, googleShopEntity2, googleShopEntity3));
 
         Geometry.Location location = new Geometry.Location();
         location.setLng(127.0);
@@ -229,35 +249,23 @@ public class MockServerTest {
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse2)));
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse3)));
 
-        Assertions.assertEquals(3, googleShopService.getShops(1, 0, 0,
-                ShopRequest.builder().lng(127).lat(35).build()).size()
+        Assertions.assertEquals(3, googleShopService.getShopsStream(1, 0, 0,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
         );
     }
 
     @Test
     void 친구_리뷰_상점_반환() throws Exception {
-        List<UserEntity> userEntities = new ArrayList<>();
-        UserEntity followerEntity = UserEntity.builder()
-                .id(2L)
-                .build();
-
-        userEntities.add(followerEntity);
-
-        Mockito.when(internalFollowService.getFollowers())
-                .thenReturn(userEntities);
-
-        Mockito.when(internalReviewService.getReviewShopIdsForUser(followerEntity))
-                .thenReturn(List.of(1L, 2L, 3L, 4L));
+        Mockito.when(followGraph.followerIds(USER_ID)).thenReturn(new long[]{2L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L)))
+                .thenReturn(Map.of(2L, new long[]{1L, 2L, 3L, 4L}));
 
         GoogleShopEntity googleShopEntity1 = GoogleShopEntity.builder().id(1L).placeId("placeId1").build();
         GoogleShopEntity googleShopEntity2 = GoogleShopEntity.builder().id(2L).placeId("placeId2").build();
         GoogleShopEntity googleShopEntity3 = GoogleShopEntity.builder().id(3L).placeId("placeId3").build();
-        GoogleShopEntity googleShopEntity4 = GoogleShopEntity.builder().id(3L).placeId("placeId4").build();
+        GoogleShopEntity googleShopEntity4 = GoogleShopEntity.builder().id(4L).placeId("placeId4").build();
 
-        Mockito.when(googleShopRepository.findById(1L)).thenReturn(Optional.of(googleShopEntity1));
-        Mockito.when(googleShopRepository.findById(2L)).thenReturn(Optional.of(googleShopEntity2));
-        Mockito.when(googleShopRepository.findById(3L)).thenReturn(Optional.of(googleShopEntity3));
-        Mockito.when(googleShopRepository.findById(4L)).thenReturn(Optional.of(googleShopEntity4));
+        givenShops(List.of(googleShopEntity1, googleShopEntity2, googleShopEntity3, googleShopEntity4));
 
         ShopApiResponse shopApiResponse1 = ShopApiResponse.builder()
                 .status("OK")
@@ -296,18 +304,17 @@ public class MockServerTest {
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse3)));
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse4)));
 
-        Assertions.assertEquals(4, googleShopService.getShops(0, 1, 0,
-                ShopRequest.builder().lng(127).lat(35).build()).size()
+        Assertions.assertEquals(4, googleShopService.getShopsStream(0, 1, 0,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
         );
     }
 
     @Test
     void 스크랩_상점_반환() throws Exception {
-        Mockito.when(internalScrapService.getShopIdsForUserScrap())
-                .thenReturn(List.of(1L));
+        Mockito.when(scrapRepository.findShopIdsByUserId(USER_ID)).thenReturn(new long[]{1L});
 
         GoogleShopEntity googleShopEntity1 = GoogleShopEntity.builder().id(1L).placeId("placeId1").build();
-        Mockito.when(googleShopRepository.findById(1L)).thenReturn(Optional.of(googleShopEntity1));
+        givenShops(List.of(googleShopEntity1));
 
         ShopApiResponse shopApiResponse1 = ShopApiResponse.builder()
                 .status("OK")
@@ -319,29 +326,20 @@ public class MockServerTest {
 
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse1)));
 
-        Assertions.assertEquals(1, googleShopService.getShops(0, 0, 1,
-                ShopRequest.builder().lng(127).lat(35).build()).size()
+        Assertions.assertEquals(1, googleShopService.getShopsStream(0, 0, 1,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
         );
     }
 
     @Test
     void 리뷰_스크랩_상점_중복집계_제거() throws Exception {
-        List<UserEntity> userEntities = new ArrayList<>();
-        UserEntity followerEntity = UserEntity.builder()
-                .id(1L)
-                .build();
-        userEntities.add(followerEntity);
-
-        Mockito.when(internalFollowService.getFollowers())
-                .thenReturn(userEntities);
-
-        Mockito.when(internalReviewService.getReviewShopIdsForUser(followerEntity))
-                .thenReturn(List.of(1L));
-        Mockito.when(internalScrapService.getShopIdsForUserScrap())
-                .thenReturn(List.of(1L));
+        Mockito.when(followGraph.followerIds(USER_ID)).thenReturn(new long[]{2L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L)))
+                .thenReturn(Map.of(2L, new long[]{1L}));
+        Mockito.when(scrapRepository.findShopIdsByUserId(USER_ID)).thenReturn(new long[]{1L});
 
         GoogleShopEntity googleShopEntity1 = GoogleShopEntity.builder().id(1L).placeId("placeId1").build();
-        Mockito.when(googleShopRepository.findById(1L)).thenReturn(Optional.of(googleShopEntity1));
+        givenShops(List.of(googleShopEntity1));
 
         ShopApiResponse shopApiResponse1 = ShopApiResponse.builder()
                 .status("OK")
@@ -353,31 +351,21 @@ public class MockServerTest {
 
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse1)));
 
-        Assertions.assertEquals(1, googleShopService.getShops(0, 1, 1,
-                ShopRequest.builder().lng(127).lat(35).build()).size()
+        Assertions.assertEquals(1, googleShopService.getShopsStream(0, 1, 1,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
         );
     }
 
     @Test
     void 리뷰_스크랩_상점_중복없이_집계() throws Exception {
-        List<UserEntity> userEntities = new ArrayList<>();
-        UserEntity followerEntity = UserEntity.builder()
-                .id(1L)
-                .build();
-        userEntities.add(followerEntity);
-
-        Mockito.when(internalFollowService.getFollowers())
-                .thenReturn(userEntities);
-
-        Mockito.when(internalReviewService.getReviewShopIdsForUser(followerEntity))
-                .thenReturn(List.of(1L));
-        Mockito.when(internalScrapService.getShopIdsForUserScrap())
-                .thenReturn(List.of(2L));
+        Mockito.when(followGraph.followerIds(USER_ID)).thenReturn(new long[]{2L});
+        Mockito.when(reviewRepository.findShopIdsByWriterIds(List.of(2L)))
+                .thenReturn(Map.of(2L, new long[]{1L}));
+        Mockito.when(scrapRepository.findShopIdsByUserId(USER_ID)).thenReturn(new long[]{2L});
 
         GoogleShopEntity googleShopEntity1 = GoogleShopEntity.builder().id(1L).placeId("placeId1").build();
         GoogleShopEntity googleShopEntity2 = GoogleShopEntity.builder().id(2L).placeId("placeId2").build();
-        Mockito.when(googleShopRepository.findById(1L)).thenReturn(Optional.of(googleShopEntity1));
-        Mockito.when(googleShopRepository.findById(2L)).thenReturn(Optional.of(googleShopEntity2));
+        givenShops(List.of(googleShopEntity1, googleShopEntity2));
 
         ShopApiResponse shopApiResponse1 = ShopApiResponse.builder()
                 .status("OK")
@@ -398,11 +386,62 @@ public class MockServerTest {
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse1)));
         mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse2)));
 
-        Assertions.assertEquals(2, googleShopService.getShops(0, 1, 1,
-                ShopRequest.builder().lng(127).lat(35).build()).size()
+        Assertions.assertEquals(2, googleShopService.getShopsStream(0, 1, 1,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
+        );
+    }
+
+    @Test
+    void 일부_상점_조회_실패시_나머지_반환() throws Exception {
+        List<GoogleShopEntity> googleShopEntities = new ArrayList<>();
+        for (long id = 11; id <= 14; id++) {
+            GoogleShopEntity googleShopEntity = GoogleShopEntity.builder().id(id).placeId("placeId" + id).build();
+            googleShopEntities.add(googleShopEntity);
+        }
+
+        givenNearBy(googleShopEntities);
+        givenShops(googleShopEntities);
+
+        for (int i = 0; i < 3; i++) {
+            ShopApiResponse shopApiResponse = ShopApiResponse.builder()
+                    .status("OK")
+                    .result(ShopApiDto.builder()
+                            .placeId("placeId")
+                            .geometry(geometry)
+                            .build()
+                    ).build();
+
+            mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(shopApiResponse)));
+        }
+        mockWebServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(ShopApiResponse.builder().status("NOT_FOUND").build())));
+
+        Assertions.assertEquals(3, googleShopService.getShopsStream(1, 0, 0,
+                ShopRequest.builder().lng(127).lat(35).build()).collectList().block().size()
         );
     }
 
+    //상점 id 목록을 place id로 한 번에 조회
+    private void givenShops(List<GoogleShopEntity> googleShopEntities) {
+        Map<Long, String> placeIds = new HashMap<>();
+        googleShopEntities.forEach(googleShopEntity -> placeIds.put(googleShopEntity.getId(), googleShopEntity.getPlaceId()));
+
+        Mockito.when(googleShopRepository.findIdPairsByIdIn(Mockito.any())).thenAnswer(invocation -> {
+            long[] shopIds = invocation.getArgument(0);
+
+            return Arrays.stream(shopIds)
+                    .filter(placeIds::containsKey)
+                    .mapToObj(shopId -> ShopIdPair.builder().id(shopId).placeId(placeIds.get(shopId)).build())
+                    .collect(Collectors.toList());
+        });
+    }
+
+    //반경 안 상점 id (google_shop 좌표 기준)
+    private void givenNearBy(List<GoogleShopEntity> googleShopEntities) {
+        long[] ids = googleShopEntities.stream().mapToLong(GoogleShopEntity::getId).sorted().toArray();
+
+        Mockito.when(googleShopRepository.findIdsNear(35.0, 127.0, 3000.0, 100)).thenReturn(ids);
+    }
+
     @Test
     void 자동완성_테스트() throws JsonProcessingException {
         Prediction prediction1 = new Prediction();
@@ -0,0 +1,53 @@
+package com.jjbacsa.jjbacsabackend.google.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopApiDto;
+import com.jjbacsa.jjbacsabackend.google.dto.api.ShopQueryDto;
+import com.jjbacsa.jjbacsabackend.google.serviceImpl.PlacesResponseDecoder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PlacesResponseDecoderTest {
+    private final PlacesResponseDecoder decoder = new PlacesResponseDecoder(new ObjectMapper());
+
+    @Test
+    void 상세정보_파싱() throws JsonProcessingException {
+        String body = "{\"html_attributions\":[],\"result\":{\"place_id\":\"placeId\",\"name\":\"상점\",\"unknown\":{\"a\":[1,2]}," +
+                "\"geometry\":{\"location\":{\"lat\":35.0,\"lng\":127.0}},\"photos\":[{\"photo_reference\":\"ref\"}]},\"status\":\"OK\"}";
+
+        ShopApiDto shopApiDto = decoder.decodeShop(body);
+
+        Assertions.assertEquals("placeId", shopApiDto.getPlaceId());
+        Assertions.assertEquals(127.0, shopApiDto.getGeometry().getLocation().getLng());
+        Assertions.assertEquals("ref", shopApiDto.getPhotos().get(0).getPhotoReference());
+    }
+
+    @Test
+    void 실패_상태_예외() {
+        Assertions.assertThrows(ApiException.class,
+                () -> decoder.decodeShop("{\"result\":null,\"status\":\"NOT_FOUND\"}"));
+    }
+
+    @Test
+    void 검색결과_없음_빈결과_반환() throws JsonProcessingException {
+        ShopQueryDto shopQueryDto = decoder.decodeQuery("{\"html_attributions\":[],\"results\":[],\"status\":\"ZERO_RESULTS\"}");
+
+        Assertions.assertNull(shopQueryDto.getNextPageToken());
+        Assertions.assertTrue(shopQueryDto.getResults().isEmpty());
+    }
+
+    @Test
+    void 검색결과_다음페이지_토큰() throws JsonProcessingException {
+        ShopQueryDto shopQueryDto = decoder.decodeQuery("{\"next_page_token\":\"token\",\"results\":[{\"place_id\":\"a\"},{\"place_id\":\"b\"}],\"status\":\"OK\"}");
+
+        Assertions.assertEquals("token", shopQueryDto.getNextPageToken());
+        Assertions.assertEquals(2, shopQueryDto.getResults().size());
+    }
+
+    @Test
+    void 자동완성_결과_없음() throws JsonProcessingException {
+        Assertions.assertEquals(0, decoder.decodePredictions("{\"predictions\":[],\"status\":\"ZERO_RESULTS\"}").length);
+    }
+}
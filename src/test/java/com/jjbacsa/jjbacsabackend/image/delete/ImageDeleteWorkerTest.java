@@ -0,0 +1,168 @@
+package com.jjbacsa.jjbacsabackend.image.delete;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.jjbacsa.jjbacsabackend.image.entity.ImageDeleteOutboxEntity;
+import com.jjbacsa.jjbacsabackend.image.repository.ImageDeleteOutboxRepository;
+import com.jjbacsa.jjbacsabackend.image.upload.LocalS3Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ImageDeleteWorkerTest {
+
+    private ImageDeleteOutboxRepository outboxRepository;
+    private LocalS3Client s3;
+
+    @BeforeEach
+    void setup() {
+        outboxRepository = Mockito.mock(ImageDeleteOutboxRepository.class);
+        s3 = new LocalS3Client(0);
+    }
+
+    @DisplayName("버킷별로 묶어서 요청당 최대 1000개씩 삭제")
+    @Test
+    void deleteInBatches() {
+        List<ImageDeleteOutboxEntity> rows = rows("bucket/review", 2500);
+        rows.add(ImageDeleteOutboxEntity.of("bucket/profile/a.png"));
+        s3.put("bucket/profile/a.png");
+
+        givenClaimed(rows.subList(0, 1000), rows.subList(1000, 2000), rows.subList(2000, 2501));
+
+        ImageDeleteWorker worker = worker(s3);
+        worker.drain();
+
+        Assertions.assertEquals(0, s3.size());
+        Assertions.assertEquals(Arrays.asList(1000, 1000, 500, 1), s3.getDeleteRequestSizes());
+        Assertions.assertEquals(2501, worker.getDeletedCount());
+        Assertions.assertEquals(4, worker.getRequestCount());
+        Assertions.assertEquals(0, worker.getFailedCount());
+        verify(outboxRepository, times(3)).deleteAllInBatch(any());
+    }
+
+    @DisplayName("선점한 묶음만 처리하고 선점이 없으면 아무것도 하지 않음")
+    @Test
+    void drainClaimedRowsOnly() {
+        givenClaimed();
+
+        worker(s3).drain();
+
+        verify(outboxRepository, times(1)).claimDue(anyString(), eq(10), any(), any(), eq(1000));
+        verify(outboxRepository, never()).findByClaimTokenOrderById(anyString());
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @DisplayName("실패한 키만 다음 시도로 미룸")
+    @Test
+    void retryFailedKeysOnly() {
+        List<ImageDeleteOutboxEntity> rows = rows("bucket/review", 3);
+        s3.failDeleteOn("1.png");
+        givenClaimed(rows);
+
+        ImageDeleteWorker worker = worker(s3);
+        worker.drain();
+
+        List<ImageDeleteOutboxEntity> done = captureDeleted();
+        Assertions.assertEquals(2, done.size());
+        Assertions.assertFalse(done.contains(rows.get(1)));
+        Assertions.assertTrue(s3.contains("bucket/review/1.png"));
+
+        ImageDeleteOutboxEntity failed = rows.get(1);
+        Assertions.assertEquals(1, failed.getAttempts());
+        Assertions.assertTrue(failed.getNextAttemptAt().after(new Date()));
+        Assertions.assertNotNull(failed.getLastError());
+        Assertions.assertEquals(1, worker.getFailedCount());
+        Assertions.assertEquals(2, worker.getDeletedCount());
+    }
+
+    @DisplayName("요청 자체가 실패하면 묶음 전체를 다시 시도")
+    @Test
+    void retryWholeBatchOnClientError() {
+        AmazonS3Client failing = Mockito.mock(AmazonS3Client.class);
+        when(failing.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(new SdkClientException("timeout"));
+
+        List<ImageDeleteOutboxEntity> rows = rows("bucket/review", 3);
+        givenClaimed(rows);
+
+        ImageDeleteWorker worker = worker(failing);
+        worker.drain();
+
+        Assertions.assertTrue(captureDeleted().isEmpty());
+        rows.forEach(row -> Assertions.assertEquals(1, row.getAttempts()));
+        Assertions.assertEquals(3, worker.getFailedCount());
+    }
+
+    @DisplayName("처리량과 남은 행 수를 메트릭으로 등록")
+    @Test
+    void registerMeters() {
+        List<ImageDeleteOutboxEntity> rows = rows("bucket/review", 3);
+        s3.failDeleteOn("1.png");
+        givenClaimed(rows);
+        when(outboxRepository.countByAttemptsLessThan(10)).thenReturn(1L);
+        when(outboxRepository.countByAttemptsGreaterThanEqual(10)).thenReturn(4L);
+
+        ImageDeleteWorker worker = worker(s3);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        worker.bindTo(registry);
+        worker.drain();
+
+        Assertions.assertEquals(2, registry.get("image.delete.deleted").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("image.delete.failed").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("image.delete.requests").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("image.delete.backlog").gauge().value());
+        Assertions.assertEquals(4, registry.get("image.delete.abandoned").gauge().value());
+    }
+
+    private ImageDeleteWorker worker(AmazonS3Client client) {
+        return new ImageDeleteWorker(outboxRepository, client, Mockito.mock(PlatformTransactionManager.class), 1000, 10, 1000, 300000);
+    }
+
+    // 선점할 때마다 다음 묶음을 돌려준다
+    @SafeVarargs
+    private void givenClaimed(List<ImageDeleteOutboxEntity>... batches) {
+        Iterator<List<ImageDeleteOutboxEntity>> iterator = Arrays.asList(batches).iterator();
+        Map<String, List<ImageDeleteOutboxEntity>> claimed = new HashMap<>();
+
+        when(outboxRepository.claimDue(anyString(), anyInt(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            List<ImageDeleteOutboxEntity> batch = iterator.hasNext() ? iterator.next() : Collections.emptyList();
+            claimed.put(invocation.getArgument(0), batch);
+            return batch.size();
+        });
+        when(outboxRepository.findByClaimTokenOrderById(anyString()))
+                .thenAnswer(invocation -> claimed.getOrDefault(invocation.<String>getArgument(0), Collections.emptyList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ImageDeleteOutboxEntity> captureDeleted() {
+        ArgumentCaptor<Iterable<ImageDeleteOutboxEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(outboxRepository, times(1)).deleteAllInBatch(captor.capture());
+
+        List<ImageDeleteOutboxEntity> deleted = new ArrayList<>();
+        captor.getValue().forEach(deleted::add);
+        return deleted;
+    }
+
+    private List<ImageDeleteOutboxEntity> rows(String bucket, int count) {
+        List<ImageDeleteOutboxEntity> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String imagePath = bucket + "/" + i + ".png";
+            rows.add(ImageDeleteOutboxEntity.of(imagePath));
+            s3.put(imagePath);
+        }
+        return rows;
+    }
+}
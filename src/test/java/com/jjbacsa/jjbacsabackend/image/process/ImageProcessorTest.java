@@ -0,0 +1,105 @@
+package com.jjbacsa.jjbacsabackend.image.process;
+
+import com.jjbacsa.jjbacsabackend.etc.exception.NonCriticalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class ImageProcessorTest {
+
+    private ImageProcessor processor;
+
+    @BeforeEach
+    void setup() {
+        processor = new ImageProcessor(1280, 500, 150, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @DisplayName("큰 이미지는 비율을 유지한 채 사본별 너비로 줄임")
+    @Test
+    void renderRenditions() throws IOException {
+        ImageRenditions renditions = processor.render(new ByteArrayInputStream(image(4000, 3000, "jpg")));
+
+        assertSize(renditions.get(Rendition.FULL), 1280, 960);
+        assertSize(renditions.get(Rendition.LIST), 500, 375);
+        assertSize(renditions.get(Rendition.THUMBNAIL), 150, 112);
+    }
+
+    @DisplayName("작은 이미지는 키우지 않음")
+    @Test
+    void keepSmallImage() throws IOException {
+        ImageRenditions renditions = processor.render(new ByteArrayInputStream(image(300, 200, "png")));
+
+        assertSize(renditions.get(Rendition.FULL), 300, 200);
+        assertSize(renditions.get(Rendition.LIST), 300, 200);
+        assertSize(renditions.get(Rendition.THUMBNAIL), 150, 100);
+    }
+
+    @DisplayName("투명 PNG도 JPEG로 저장")
+    @Test
+    void encodeTransparentPngAsJpeg() throws Exception {
+        MockMultipartFile png = new MockMultipartFile("image", "a.png", "image/png", image(800, 600, "png"));
+
+        ImageRenditions renditions = processor.submit(png).get(5, TimeUnit.SECONDS);
+
+        byte[] full = renditions.get(Rendition.FULL);
+        Assertions.assertEquals((byte) 0xFF, full[0]);
+        Assertions.assertEquals((byte) 0xD8, full[1]);
+        assertSize(full, 800, 600);
+    }
+
+    @DisplayName("읽을 수 없는 파일은 리사이징 예외")
+    @Test
+    void rejectBrokenImage() {
+        MockMultipartFile broken = new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3});
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> processor.submit(broken).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof NonCriticalException);
+    }
+
+    @DisplayName("사본 경로는 원본 경로에 접미사를 붙임")
+    @Test
+    void renditionPath() {
+        Assertions.assertEquals("bucket/review/a.jpg", Rendition.FULL.pathOf("bucket/review/a.jpg"));
+        Assertions.assertEquals("bucket/review/a_list.jpg", Rendition.LIST.pathOf("bucket/review/a.jpg"));
+        Assertions.assertEquals("https://cdn/review/a_thumb.jpg", Rendition.THUMBNAIL.pathOf("https://cdn/review/a.jpg"));
+    }
+
+    // subsampling으로 읽으면 높이가 1px 정도 달라질 수 있다
+    private static void assertSize(byte[] bytes, int width, int height) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        Assertions.assertEquals(width, image.getWidth());
+        Assertions.assertEquals(height, image.getHeight(), 1);
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        boolean alpha = "png".equals(format);
+        BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(0, 0, width, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jjbacsa.jjbacsabackend.image.repository;
+
+import com.jjbacsa.jjbacsabackend.image.entity.ImageDeleteOutboxEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageDeleteOutboxRepositoryTest {
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long CLAIM_TIMEOUT = 60000;
+
+    @Autowired
+    private ImageDeleteOutboxRepository outboxRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < 3; i++) {
+            outboxRepository.save(ImageDeleteOutboxEntity.of("bucket/review/" + i + ".png"));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void 선점한_행은_다른_워커가_가져가지_않음() {
+        Date now = new Date(System.currentTimeMillis() + 1000);
+
+        Assertions.assertEquals(2, outboxRepository.claimDue("first", MAX_ATTEMPTS, now, new Date(now.getTime() + CLAIM_TIMEOUT), 2));
+        Assertions.assertEquals(1, outboxRepository.claimDue("second", MAX_ATTEMPTS, now, new Date(now.getTime() + CLAIM_TIMEOUT), 2));
+        Assertions.assertEquals(0, outboxRepository.claimDue("third", MAX_ATTEMPTS, now, new Date(now.getTime() + CLAIM_TIMEOUT), 2));
+        entityManager.clear();
+
+        List<ImageDeleteOutboxEntity> first = outboxRepository.findByClaimTokenOrderById("first");
+        List<ImageDeleteOutboxEntity> second = outboxRepository.findByClaimTokenOrderById("second");
+        Assertions.assertEquals(2, first.size());
+        Assertions.assertEquals(1, second.size());
+        Assertions.assertFalse(first.stream().anyMatch(row -> row.getId().equals(second.get(0).getId())));
+    }
+
+    @Test
+    void 선점_기한이_지난_행은_다시_선점() {
+        Date now = new Date(System.currentTimeMillis() + 1000);
+        outboxRepository.claimDue("stopped", MAX_ATTEMPTS, now, new Date(now.getTime() + CLAIM_TIMEOUT), 3);
+
+        Date later = new Date(now.getTime() + CLAIM_TIMEOUT + 1);
+        Assertions.assertEquals(3, outboxRepository.claimDue("next", MAX_ATTEMPTS, later, new Date(later.getTime() + CLAIM_TIMEOUT), 3));
+        entityManager.clear();
+
+        Assertions.assertTrue(outboxRepository.findByClaimTokenOrderById("stopped").isEmpty());
+        Assertions.assertEquals(3, outboxRepository.findByClaimTokenOrderById("next").size());
+    }
+}
@@ -0,0 +1,201 @@
+package com.jjbacsa.jjbacsabackend.image.upload;
+
+import com.jjbacsa.jjbacsabackend.etc.exception.NonCriticalException;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.image.delete.ImageDeleteOutbox;
+import com.jjbacsa.jjbacsabackend.image.dto.request.ImageRequest;
+import com.jjbacsa.jjbacsabackend.image.process.ImageProcessor;
+import com.jjbacsa.jjbacsabackend.image.process.Rendition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ImageUploadPipelineTest {
+    private static final String PATH = "bucket/review/";
+    private static final String URL_FORMAT = "https://cdn/review/";
+
+    private LocalS3Client s3;
+    private ImageDeleteOutbox deleteOutbox;
+    private ImageProcessor imageProcessor;
+    private ImageUploadPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new LocalS3Client(100);
+        deleteOutbox = Mockito.mock(ImageDeleteOutbox.class);
+        imageProcessor = new ImageProcessor(1280, 500, 150, 2, 50);
+        pipeline = new ImageUploadPipeline(s3, imageProcessor, deleteOutbox, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+        imageProcessor.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 동시에_업로드하고_요청_순서대로_반환() {
+        List<MultipartFile> images = images(8);
+
+        long start = System.nanoTime();
+        List<ImageRequest> uploaded = pipeline.upload(images, PATH, URL_FORMAT);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertEquals(8, uploaded.size());
+        Assertions.assertEquals(8 * 3, s3.size());
+        for (int i = 0; i < uploaded.size(); i++) {
+            ImageRequest image = uploaded.get(i);
+            Assertions.assertEquals("image" + i + ".png", image.getOriginalName());
+            Assertions.assertTrue(image.getPath().startsWith(PATH));
+            Assertions.assertTrue(image.getImageUrl().startsWith(URL_FORMAT));
+            Assertions.assertEquals(Rendition.THUMBNAIL.pathOf(image.getImageUrl()), image.getThumbnailUrl());
+            Assertions.assertEquals(Rendition.LIST.pathOf(image.getImageUrl()), image.getListUrl());
+            storedPaths(image).forEach(path -> Assertions.assertTrue(s3.contains(path)));
+        }
+        Assertions.assertTrue(s3.getMaxRunning() > 1);
+        Assertions.assertTrue(s3.getMaxRunning() <= 4);
+        Assertions.assertTrue(elapsed < 8 * 3 * 100);
+    }
+
+    @Test
+    void 잘못된_파일이_있으면_아무것도_올리지_않음() {
+        List<MultipartFile> images = images(3);
+        images.add(new MockMultipartFile("image", "a.gif", "image/gif", new byte[]{1}));
+
+        Assertions.assertThrows(RequestInputException.class, () -> pipeline.upload(images, PATH, URL_FORMAT));
+        Assertions.assertEquals(0, s3.size());
+    }
+
+    @Test
+    void 이미지가_아니면_아무것도_올리지_않음() {
+        List<MultipartFile> images = images(2);
+        images.add(new MockMultipartFile("image", "broken.png", "image/png", new byte[]{1, 2, 3}));
+
+        Assertions.assertThrows(NonCriticalException.class, () -> pipeline.upload(images, PATH, URL_FORMAT));
+        Assertions.assertTrue(captureEnqueuedNow().containsAll(s3.paths()));
+    }
+
+    @Test
+    void 일부_업로드_실패하면_올린_객체_삭제_요청() {
+        s3.failOnPut(3);
+
+        Assertions.assertThrows(RequestInputException.class, () -> pipeline.upload(images(5), PATH, URL_FORMAT));
+
+        List<String> enqueued = captureEnqueuedNow();
+        Assertions.assertEquals(5 * 3 - 1, enqueued.size());
+        Assertions.assertEquals(5 * 3 - 1, s3.size());
+        enqueued.forEach(path -> Assertions.assertTrue(s3.contains(path)));
+    }
+
+    @Test
+    void 롤백되면_올린_객체_삭제_요청() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        List<ImageRequest> uploaded = pipeline.upload(images(3), PATH, URL_FORMAT);
+        Assertions.assertEquals(3 * 3, s3.size());
+        verify(deleteOutbox, never()).enqueueNow(any());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        Assertions.assertEquals(storedPaths(uploaded), captureEnqueuedNow());
+    }
+
+    @Test
+    void 기존_객체는_현재_트랜잭션에_삭제_요청() {
+        List<ImageRequest> origin = pipeline.upload(images(2), PATH, URL_FORMAT);
+
+        pipeline.deleteAfterCommit(paths(origin));
+
+        verify(deleteOutbox, times(1)).enqueue(paths(origin));
+        verify(deleteOutbox, never()).enqueueNow(any());
+        Assertions.assertEquals(2 * 3, s3.size());
+    }
+
+    @Test
+    void 커밋되면_올린_객체_유지() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.upload(Collections.singletonList(images(1).get(0)), PATH, URL_FORMAT);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        Assertions.assertEquals(3, s3.size());
+        verify(deleteOutbox, never()).enqueueNow(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureEnqueuedNow() {
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deleteOutbox, times(1)).enqueueNow(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<String> paths(List<ImageRequest> images) {
+        return images.stream().map(ImageRequest::getPath).collect(Collectors.toList());
+    }
+
+    private List<String> storedPaths(List<ImageRequest> images) {
+        return images.stream().flatMap(image -> storedPaths(image).stream()).collect(Collectors.toList());
+    }
+
+    private List<String> storedPaths(ImageRequest image) {
+        return Arrays.stream(Rendition.values()).map(rendition -> rendition.pathOf(image.getPath())).collect(Collectors.toList());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private List<MultipartFile> images(int count) {
+        List<MultipartFile> images = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            images.add(new MockMultipartFile("image", "image" + i + ".png", "image/png", png(640, 480, i)));
+        }
+        return images;
+    }
+
+    static byte[] png(int width, int height, int seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(seed * 40 % 256, 120, 200));
+        graphics.fillRect(0, 0, width, height / 2);
+        graphics.dispose();
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.jjbacsa.jjbacsabackend.image.upload;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 대역 (메모리에 "버킷/키" 단위로 저장)
+ * failOnPut으로 지정한 순번의 업로드는 실패로, failDeleteOn에 포함된 키는 일괄 삭제 실패로 처리하고, 동시에 실행 중인 업로드 수의 최댓값을 기록한다.
+ */
+public class LocalS3Client extends AmazonS3Client {
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Set<Integer> failOnPut = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger puts = new AtomicInteger();
+    private final Set<String> failDeleteOn = ConcurrentHashMap.newKeySet();
+    private final List<Integer> deleteRequestSizes = new ArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final long latencyMillis;
+
+    public LocalS3Client(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+        try {
+            Thread.sleep(latencyMillis);
+            byte[] bytes = request.getInputStream().readAllBytes();
+
+            if (failOnPut.contains(puts.incrementAndGet())) {
+                throw new SdkClientException("upload failed");
+            }
+
+            objects.put(request.getBucketName() + "/" + request.getKey(), bytes);
+            return new PutObjectResult();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException(e);
+        } catch (IOException e) {
+            throw new SdkClientException(e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.getBucketName() + "/" + request.getKey());
+    }
+
+    @Override
+    public synchronized DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        deleteRequestSizes.add(request.getKeys().size());
+
+        List<DeleteObjectsResult.DeletedObject> deletedObjects = new ArrayList<>();
+        List<MultiObjectDeleteException.DeleteError> errors = new ArrayList<>();
+
+        for (DeleteObjectsRequest.KeyVersion keyVersion : request.getKeys()) {
+            if (failDeleteOn.contains(keyVersion.getKey())) {
+                MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                error.setKey(keyVersion.getKey());
+                error.setCode("InternalError");
+                error.setMessage("delete failed");
+                errors.add(error);
+                continue;
+            }
+
+            objects.remove(request.getBucketName() + "/" + keyVersion.getKey());
+            DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(keyVersion.getKey());
+            deletedObjects.add(deletedObject);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new MultiObjectDeleteException(errors, deletedObjects);
+        }
+        return new DeleteObjectsResult(deletedObjects);
+    }
+
+    public void put(String imagePath) {
+        objects.put(imagePath, new byte[0]);
+    }
+
+    public void failDeleteOn(String key) {
+        failDeleteOn.add(key);
+    }
+
+    public synchronized List<Integer> getDeleteRequestSizes() {
+        return new ArrayList<>(deleteRequestSizes);
+    }
+
+    // n번째(1부터) putObject 호출을 실패시킨다
+    public void failOnPut(int n) {
+        failOnPut.add(n);
+    }
+
+    public boolean contains(String imagePath) {
+        return objects.containsKey(imagePath);
+    }
+
+    public Set<String> paths() {
+        return objects.keySet();
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public int getMaxRunning() {
+        return maxRunning.get();
+    }
+}
@@ -35,7 +35,7 @@ class PostRepositoryTest {
 
         postRepository.save(noticePost);
 
-        Page<PostEntity> noticePosts = postRepository.findAllPosts(null, null, PageRequest.ofSize(size));
+        Page<PostEntity> noticePosts = postRepository.findAllPosts(null, PageRequest.ofSize(size));
 
         assertEquals(noticePosts.get().collect(Collectors.toList()).get(0).getContent(), content);
     }
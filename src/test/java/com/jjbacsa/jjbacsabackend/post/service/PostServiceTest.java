@@ -128,13 +128,13 @@ public class PostServiceTest {
         //Given
         PostCursorRequest pageRequest = createPageRequest();
 
-        given(postRepository.findAllPosts(pageRequest.getDateCursor(), pageRequest.getIdCursor(), PageRequest.ofSize(pageRequest.getSize()))).willReturn(Page.empty());
+        given(postRepository.findAllPosts(pageRequest.getCursor(), PageRequest.ofSize(pageRequest.getSize()))).willReturn(Page.empty());
         // When
         Page<PostResponse> postResponses = postService.getPosts(pageRequest);
 
         // Then
         assertThat(postResponses).isEmpty();
-        then(postRepository).should().findAllPosts(pageRequest.getDateCursor(), pageRequest.getIdCursor(), PageRequest.ofSize(pageRequest.getSize()));
+        then(postRepository).should().findAllPosts(pageRequest.getCursor(), PageRequest.ofSize(pageRequest.getSize()));
     }
 
     private PostRequest createPostRequest(String title, String content) {
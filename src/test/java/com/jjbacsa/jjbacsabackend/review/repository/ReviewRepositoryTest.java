@@ -1,12 +1,18 @@
 package com.jjbacsa.jjbacsabackend.review.repository;
 
-import com.jjbacsa.jjbacsabackend.etc.enums.OAuthType;
 import com.jjbacsa.jjbacsabackend.etc.enums.UserType;
+import com.jjbacsa.jjbacsabackend.follow.entity.FollowEntity;
+import com.jjbacsa.jjbacsabackend.follow.repository.FollowRepository;
+import com.jjbacsa.jjbacsabackend.google.entity.GoogleShopEntity;
+import com.jjbacsa.jjbacsabackend.google.repository.GoogleShopRepository;
+import com.jjbacsa.jjbacsabackend.review.dto.request.ReviewCursorRequest;
+import com.jjbacsa.jjbacsabackend.review.dto.response.ReviewStatistics;
 import com.jjbacsa.jjbacsabackend.review.entity.ReviewEntity;
-import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
-import com.jjbacsa.jjbacsabackend.shop.repository.ShopRepository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +22,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -27,14 +37,18 @@ class ReviewRepositoryTest {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private ShopRepository shopRepository;
+    private GoogleShopRepository googleShopRepository;
     @Autowired
     private ReviewRepository reviewRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private static UserEntity user1;
     private static UserEntity user2;
-    private static ShopEntity shop1;
-    private static ShopEntity shop2;
+    private static GoogleShopEntity shop1;
+    private static GoogleShopEntity shop2;
     private static ReviewEntity review1_1;
     private static ReviewEntity review1_2;
     private static ReviewEntity review1_3;
@@ -61,17 +75,12 @@ class ReviewRepositoryTest {
                 .nickname("testuser2")
                 .build();
 
-        shop1 = ShopEntity.builder()
+        shop1 = GoogleShopEntity.builder()
                 .placeId("abc")
-                .placeName("testshop")
-                .categoryName("test")
-                .x("0")
-                .y("0")
                 .build();
 
         shop2 = shop1.toBuilder()
                 .placeId("def")
-                .placeName("testshop2")
                 .build();
     }
 
@@ -80,8 +89,8 @@ class ReviewRepositoryTest {
 
         UserEntity dbUser1 = userRepository.save(user1);
         UserEntity dbUser2 = userRepository.save(user2);
-        ShopEntity dbShop1 = shopRepository.save(shop1);
-        ShopEntity dbShop2 = shopRepository.save(shop2);
+        GoogleShopEntity dbShop1 = googleShopRepository.save(shop1);
+        GoogleShopEntity dbShop2 = googleShopRepository.save(shop2);
 
         review1_1 = ReviewEntity.builder()
                 .writer(dbUser1)
@@ -164,4 +173,99 @@ class ReviewRepositoryTest {
         assertEquals(reviewRepository.findAllByWriterAndShop(review2_1.getWriter(), review2_1.getShop()).get(0).getContent(), review2_1.getContent());
         assertEquals(reviewRepository.findAllByWriterAndShop(review2_2.getWriter(), review2_2.getShop()).get(0).getContent(), review2_2.getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 작성자별_리뷰_상점_id만_조회() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Long writer1 = review1_1.getWriter().getId();
+        Long writer2 = review2_1.getWriter().getId();
+        Map<Long, long[]> shopIds = reviewRepository.findShopIdsByWriterIds(List.of(writer1, writer2));
+
+        //같은 상점 리뷰 여러 개는 하나로, 작성자 여러 명을 리뷰/상점 엔티티를 읽지 않고 쿼리 한 번
+        long shop1Id = review1_1.getShop().getId();
+        long shop2Id = review2_2.getShop().getId();
+        Assertions.assertArrayEquals(new long[]{shop1Id}, shopIds.get(writer1));
+        Assertions.assertArrayEquals(new long[]{Math.min(shop1Id, shop2Id), Math.max(shop1Id, shop2Id)}, shopIds.get(writer2));
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 작성자가_많으면_나눠서_조회() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Long writer1 = review1_1.getWriter().getId();
+        Long writer2 = review2_1.getWriter().getId();
+
+        //리뷰가 없는 작성자 사이에 둔 두 작성자가 서로 다른 묶음에 들어가도록 1500명
+        List<Long> writerIds = LongStream.rangeClosed(1, 1500).map(id -> -id).boxed().collect(Collectors.toList());
+        writerIds.set(0, writer1);
+        writerIds.set(writerIds.size() - 1, writer2);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Map<Long, long[]> shopIds = reviewRepository.findShopIdsByWriterIds(writerIds);
+
+        Assertions.assertEquals(2, shopIds.size());
+        Assertions.assertEquals(1, shopIds.get(writer1).length);
+        Assertions.assertEquals(2, shopIds.get(writer2).length);
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 팔로워_리뷰_통계는_삭제된_리뷰와_팔로우_제외() {
+        UserEntity viewer = userRepository.save(UserEntity.builder()
+                .account("viewer")
+                .password("password")
+                .email("viewer@google.com")
+                .nickname("viewer")
+                .userType(UserType.NORMAL)
+                .build());
+
+        followRepository.save(FollowEntity.builder()
+                .user(viewer)
+                .follower(review1_1.getWriter())
+                .build());
+
+        //언팔로우한 user2의 review2_1은 같은 상점이어도 집계하지 않는다
+        FollowEntity unfollowed = followRepository.save(FollowEntity.builder()
+                .user(viewer)
+                .follower(review2_1.getWriter())
+                .build());
+        followRepository.delete(unfollowed);
+
+        review1_1.setRate(1);
+        review1_2.setRate(2);
+        review1_3.setRate(3);
+        review1_4.setRate(5);
+        reviewRepository.delete(review1_4);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        String placeId = review1_1.getShop().getPlaceId();
+        ReviewStatistics statistics = reviewRepository.getFollowersReviewStatisticsByShop(viewer.getId(), placeId);
+        List<ReviewEntity> firstPage = reviewRepository.findFollowersReviewsByShopPlaceId(viewer.getId(), placeId,
+                ReviewCursorRequest.builder().size(10).build());
+
+        assertEquals(3L, statistics.getCount());
+        assertEquals(2.0, statistics.getAverageRate());
+        Assertions.assertNotNull(statistics.getLastDate());
+        assertEquals(List.of(review1_1.getId(), review1_2.getId(), review1_3.getId()),
+                firstPage.stream().map(ReviewEntity::getId).sorted().collect(Collectors.toList()));
+
+        //팔로워가 없으면 0건
+        ReviewStatistics empty = reviewRepository.getFollowersReviewStatisticsByShop(review2_1.getWriter().getId(), placeId);
+        assertEquals(0L, empty.getCount());
+        Assertions.assertNull(empty.getAverageRate());
+    }
+}
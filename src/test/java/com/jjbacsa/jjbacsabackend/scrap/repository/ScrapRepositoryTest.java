@@ -9,12 +9,18 @@ import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
 import com.jjbacsa.jjbacsabackend.shop.repository.ShopRepository;
 import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
 import com.jjbacsa.jjbacsabackend.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import javax.persistence.EntityManager;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ScrapRepositoryTest {
@@ -27,6 +33,8 @@ class ScrapRepositoryTest {
     private ScrapRepository scrapRepository;
     @Autowired
     private ScrapDirectoryRepository scrapDirectoryRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private static UserEntity user;
     private static GoogleShopEntity shop;
@@ -71,4 +79,21 @@ class ScrapRepositoryTest {
         scrapRepository.save(scrap1);
         scrapRepository.save(scrap2);
     }
+
+    @Test
+    void 스크랩한_상점_id만_조회() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long[] shopIds = scrapRepository.findShopIdsByUserId(scrap1.getUser().getId());
+
+        //같은 상점 스크랩 두 개는 하나로, 스크랩/상점 엔티티를 읽지 않고 쿼리 한 번
+        Assertions.assertArrayEquals(new long[]{scrap1.getShop().getId()}, shopIds);
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
 }
\ No newline at end of file
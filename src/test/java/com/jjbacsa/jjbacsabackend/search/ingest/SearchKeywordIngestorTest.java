@@ -0,0 +1,172 @@
+package com.jjbacsa.jjbacsabackend.search.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchKeywordIngestorTest {
+
+    private SearchKeywordWriter searchKeywordWriter;
+    private SearchKeywordIngestor ingestor;
+
+    @BeforeEach
+    void setup() {
+        searchKeywordWriter = Mockito.mock(SearchKeywordWriter.class);
+        ingestor = new SearchKeywordIngestor(searchKeywordWriter, Mockito.mock(PlatformTransactionManager.class), 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SortedMap<String, Long> captureUpsert() {
+        ArgumentCaptor<SortedMap<String, Long>> captor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(searchKeywordWriter, times(1)).upsert(captor.capture());
+        return captor.getValue();
+    }
+
+    @DisplayName("동시에 들어온 검색어를 검색어마다 한 번에 반영")
+    @Test
+    void flushAggregatedCounts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    ingestor.record("떡볶이");
+                    ingestor.record(" 라멘 ");
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        ingestor.flush();
+
+        SortedMap<String, Long> batch = captureUpsert();
+        Assertions.assertEquals(Map.of("떡볶이", 8000L, "라멘", 8000L), batch);
+        Assertions.assertEquals(0, ingestor.getPendingCount());
+        Assertions.assertEquals(2, ingestor.getFlushedKeywordCount());
+    }
+
+    @DisplayName("빈 검색어, 너무 긴 검색어, 제한을 넘는 새 검색어는 버림")
+    @Test
+    void dropInvalidAndOverflow() {
+        ingestor.record(null);
+        ingestor.record("   ");
+        ingestor.record("가".repeat(SearchKeywordIngestor.MAX_KEYWORD_LENGTH + 1));
+        ingestor.record("a");
+        ingestor.record("b");
+        ingestor.record("c");
+        ingestor.record("d");
+        ingestor.record("a");
+
+        Assertions.assertEquals(4, ingestor.getDroppedCount());
+        Assertions.assertEquals(3, ingestor.getPendingCount());
+
+        ingestor.flush();
+
+        Assertions.assertEquals(new TreeMap<>(Map.of("a", 2L, "b", 1L, "c", 1L)), captureUpsert());
+    }
+
+    @DisplayName("반영 실패 시 횟수를 다시 보관")
+    @Test
+    void restoreOnFailure() {
+        when(searchKeywordWriter.upsert(any())).thenThrow(new RuntimeException("db down")).thenReturn(1);
+
+        ingestor.record("떡볶이");
+        ingestor.flush();
+
+        Assertions.assertEquals(1, ingestor.getFailedCount());
+        Assertions.assertEquals(1, ingestor.getPendingCount());
+
+        ingestor.record("떡볶이");
+        ingestor.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<SortedMap<String, Long>> captor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(searchKeywordWriter, times(2)).upsert(captor.capture());
+        Assertions.assertEquals(Map.of("떡볶이", 2L), captor.getAllValues().get(1));
+        Assertions.assertEquals(0, ingestor.getPendingCount());
+    }
+
+    @DisplayName("모은 검색어와 버린 검색어 수를 메트릭으로 등록")
+    @Test
+    void bindMeters() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ingestor.bindTo(registry);
+        when(searchKeywordWriter.upsert(any())).thenReturn(1);
+
+        ingestor.record("떡볶이");
+        ingestor.record("떡볶이");
+        ingestor.record(" ");
+
+        Assertions.assertEquals(2, registry.get("search.ingest.recorded").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("search.ingest.dropped").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("search.ingest.pending").gauge().value());
+
+        ingestor.flush();
+
+        Assertions.assertEquals(1, registry.get("search.ingest.flushed_keywords").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("search.ingest.statements").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("search.ingest.pending").gauge().value());
+    }
+
+    @DisplayName("반영할 검색어가 없으면 DB를 호출하지 않음")
+    @Test
+    void skipEmptyFlush() {
+        ingestor.flush();
+
+        verifyNoInteractions(searchKeywordWriter);
+    }
+
+    @DisplayName("CHUNK_SIZE개씩 한 문장으로 upsert")
+    @Test
+    void writerChunksRows() {
+        List<String> sql = new ArrayList<>();
+        List<Object[]> params = new ArrayList<>();
+        SearchKeywordWriter writer = new SearchKeywordWriter(new JdbcTemplate() {
+            @Override
+            public int update(String statement, Object... args) {
+                sql.add(statement);
+                params.add(args);
+                return args.length / 2;
+            }
+        });
+
+        TreeMap<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < SearchKeywordWriter.CHUNK_SIZE + 1; i++) {
+            counts.put(String.format("keyword-%04d", i), (long) i + 1);
+        }
+
+        Assertions.assertEquals(2, writer.upsert(counts));
+        Assertions.assertEquals(2, sql.size());
+
+        Assertions.assertTrue(sql.get(0).endsWith("ON DUPLICATE KEY UPDATE score = score + VALUES(score)"));
+        Assertions.assertEquals(SearchKeywordWriter.CHUNK_SIZE * 2, params.get(0).length);
+        Assertions.assertArrayEquals(new Object[]{"keyword-0500", 501L}, params.get(1));
+        Assertions.assertEquals("INSERT INTO search (content, score) VALUES (?, ?) ON DUPLICATE KEY UPDATE score = score + VALUES(score)",
+                sql.get(1));
+    }
+}
@@ -1,17 +1,24 @@
 package com.jjbacsa.jjbacsabackend.search.service;
 
 import com.jjbacsa.jjbacsabackend.search.dto.TrendingResponse;
+import com.jjbacsa.jjbacsabackend.search.ingest.SearchKeywordIngestor;
 import com.jjbacsa.jjbacsabackend.search.serviceImpl.SearchServiceImpl;
+import com.jjbacsa.jjbacsabackend.search.trending.RedisTrendingEngine;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class SearchServiceTest {
     private SearchService searchService;
 
@@ -21,13 +28,24 @@ public class SearchServiceTest {
 
     @BeforeEach
     void init() {
-        searchService = new SearchServiceImpl(redisTemplate, testKey);
-        redisTemplate.delete(testKey);
+        searchService = new SearchServiceImpl(new RedisTrendingEngine(redisTemplate, testKey, 60, 10, 10),
+                Mockito.mock(SearchKeywordIngestor.class));
+        clear();
     }
 
     @AfterAll
     void after() {
+        clear();
+    }
+
+    //순위 키와 분 구간 키("rankingTest:<분>") 삭제
+    private void clear() {
         redisTemplate.delete(testKey);
+
+        Set<String> buckets = redisTemplate.keys(testKey + ":*");
+        if (buckets != null && !buckets.isEmpty()) {
+            redisTemplate.delete(buckets);
+        }
     }
 
     @Test
@@ -0,0 +1,52 @@
+package com.jjbacsa.jjbacsabackend.search.trending;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트용 메모리 순위 (RedisTrendingEngine과 같은 구간/가중치 계산)
+ */
+public class LocalTrendingEngine implements TrendingEngine {
+    private final TrendingWindow window;
+    private final int size;
+    private final LongSupplier clock;
+
+    private final Map<Long, Map<String, Double>> buckets = new HashMap<>();
+    private List<String> top = Collections.emptyList();
+
+    public LocalTrendingEngine(int windowMinutes, double halfLifeMinutes, int size, LongSupplier clock) {
+        this.window = new TrendingWindow(windowMinutes, halfLifeMinutes);
+        this.size = size;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void record(String keyword) {
+        long minute = TrendingWindow.minuteOf(clock.getAsLong());
+        buckets.computeIfAbsent(minute, key -> new HashMap<>()).merge(keyword, 1.0, Double::sum);
+    }
+
+    @Override
+    public synchronized List<String> top() {
+        return top;
+    }
+
+    @Override
+    public synchronized void refresh() {
+        long minute = TrendingWindow.minuteOf(clock.getAsLong());
+        buckets.keySet().removeIf(bucket -> minute - bucket >= window.size());
+
+        Map<String, Double> scores = new HashMap<>();
+        buckets.forEach((bucket, counts) -> {
+            double weight = window.weight((int) (minute - bucket));
+            counts.forEach((keyword, count) -> scores.merge(keyword, count * weight, Double::sum));
+        });
+
+        top = scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,81 @@
+package com.jjbacsa.jjbacsabackend.search.trending;
+
+import com.jjbacsa.jjbacsabackend.search.service.SearchService;
+import com.jjbacsa.jjbacsabackend.search.serviceImpl.SearchServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TrendingEngineTest {
+
+    private AtomicLong clock;
+    private TrendingEngine engine;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(TimeUnit.HOURS.toMillis(1000));
+        engine = new LocalTrendingEngine(60, 10, 3, clock::get);
+        searchService = new SearchServiceImpl(engine);
+    }
+
+    @DisplayName("가중치는 반감기마다 절반")
+    @Test
+    void halfLifeWeights() {
+        TrendingWindow window = new TrendingWindow(60, 10);
+
+        Assertions.assertEquals(60, window.size());
+        Assertions.assertEquals(1.0, window.weight(0), 1e-9);
+        Assertions.assertEquals(0.5, window.weight(10), 1e-9);
+        Assertions.assertEquals(0.25, window.weight(20), 1e-9);
+    }
+
+    @DisplayName("계산 전에는 이전 순위를 그대로 반환")
+    @Test
+    void cachedUntilRefresh() {
+        searchService.saveTrending("떡볶이");
+        Assertions.assertTrue(searchService.getTrending().getTrendings().isEmpty());
+
+        engine.refresh();
+        Assertions.assertEquals(Arrays.asList("떡볶이"), searchService.getTrending().getTrendings());
+    }
+
+    @DisplayName("최근 검색어가 오래된 검색어보다 높음")
+    @Test
+    void recentKeywordsRankHigher() {
+        search("라멘", 10);
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(30));   // 가중치 1/8
+        search("마제소바", 3);
+        search("육회", 1);
+
+        engine.refresh();
+
+        Assertions.assertEquals(Arrays.asList("마제소바", "라멘", "육회"), searchService.getTrending().getTrendings());
+    }
+
+    @DisplayName("구간 밖으로 밀려난 검색어는 빠지고 상위 N개만 유지")
+    @Test
+    void dropExpiredAndKeepTopN() {
+        search("라멘", 100);
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(61));
+        search("떡볶이", 4);
+        search("순대볶음", 3);
+        search("중국집", 2);
+        search("햄버거", 1);
+
+        engine.refresh();
+
+        Assertions.assertEquals(Arrays.asList("떡볶이", "순대볶음", "중국집"), searchService.getTrending().getTrendings());
+    }
+
+    private void search(String keyword, int count) {
+        for (int i = 0; i < count; i++) {
+            searchService.saveTrending(keyword);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.jjbacsa.jjbacsabackend.shop.repository;
+
+import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
+import com.jjbacsa.jjbacsabackend.shop.repository.spatial.ShopSpatialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("상점 좌표 검색 DB 테스트")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopSpatialRepositoryTest {
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private ShopSpatialRepository shopSpatialRepository;
+
+    //기준 좌표 (위도 36.362, 경도 127.3922)
+    private final double lat = 36.362;
+    private final double lng = 127.3922;
+
+    @BeforeEach
+    void init() {
+        //기준 좌표에서 약 0m, 110m, 1.1km, 11km, 110km
+        save("near0", "cafe", lat, lng);
+        save("near1", "cafe", lat + 0.001, lng);
+        save("near2", "cafe", lat + 0.01, lng);
+        save("near3", "cafe", lat + 0.1, lng);
+        save("near4", "cafe", lat + 1, lng);
+        save("restaurant", "restaurant", lat, lng + 0.0005);
+    }
+
+    @DisplayName("카테고리 가까운 순 페이지 조회")
+    @Test
+    void findNearest() {
+        List<ShopSummaryResponse> firstPage = shopSpatialRepository.findNearest(lat, lng, "cafe", PageRequest.of(0, 2));
+        List<ShopSummaryResponse> secondPage = shopSpatialRepository.findNearest(lat, lng, "cafe", PageRequest.of(1, 2));
+        List<ShopSummaryResponse> lastPage = shopSpatialRepository.findNearest(lat, lng, "cafe", PageRequest.of(2, 2));
+
+        assertEquals(List.of("near0", "near1"), placeIds(firstPage));
+        assertEquals(List.of("near2", "near3"), placeIds(secondPage));
+        //최대 반경(64km) 밖의 near4는 나오지 않는다
+        assertEquals(List.of(), placeIds(lastPage));
+    }
+
+    @DisplayName("반경 내 상점 조회")
+    @Test
+    void findWithinRadius() {
+        List<ShopSummaryResponse> shops = shopSpatialRepository.findWithinRadius(lat, lng, 2000, "cafe", PageRequest.of(0, 10));
+
+        assertEquals(List.of("near0", "near1", "near2"), placeIds(shops));
+        assertEquals(3, shopSpatialRepository.countWithinRadius(lat, lng, 2000, "cafe"));
+        assertEquals(4, shopSpatialRepository.countWithinRadius(lat, lng, 2000, null));
+    }
+
+    private void save(String placeId, String category, double lat, double lng) {
+        shopRepository.save(ShopEntity.builder()
+                .placeId(placeId)
+                .placeName(placeId)
+                .address("대전광역시 유성구")
+                .categoryName(category)
+                .x(String.valueOf(lng))
+                .y(String.valueOf(lat))
+                .build());
+    }
+
+    private List<String> placeIds(List<ShopSummaryResponse> shops) {
+        return shops.stream()
+                .map(ShopSummaryResponse::getPlaceId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,151 @@
+package com.jjbacsa.jjbacsabackend.shop.repository.spatial;
+
+import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
+import com.jjbacsa.jjbacsabackend.shop.repository.ShopRepository;
+import com.jjbacsa.jjbacsabackend.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 공간 함수가 없는 H2(test 프로필)용 조회, 테스트 코드에만 있다.
+ * 호출 시점의 상점으로 위경도 격자를 만들고, 가운데 칸부터 바깥으로 넓혀가며 필요한 만큼만 거리 계산한다.
+ */
+@Repository
+@Profile("test")
+public class InMemoryShopSpatialRepository implements ShopSpatialRepository {
+
+    private static final double CELL_DEGREE = 0.01;
+
+    private final ShopRepository shopRepository;
+    private final double maxRadiusMeter;
+
+    public InMemoryShopSpatialRepository(ShopRepository shopRepository,
+                                         @Value("${shop.nearest.max-radius:64000}") double maxRadiusMeter) {
+        this.shopRepository = shopRepository;
+        this.maxRadiusMeter = maxRadiusMeter;
+    }
+
+    @Override
+    public List<ShopSummaryResponse> findNearest(double lat, double lng, String categoryName, Pageable pageable) {
+        return page(search(lat, lng, maxRadiusMeter, categoryName, pageable.getOffset() + pageable.getPageSize()), pageable);
+    }
+
+    @Override
+    public List<ShopSummaryResponse> findWithinRadius(double lat, double lng, double radiusMeter, String categoryName, Pageable pageable) {
+        return page(search(lat, lng, radiusMeter, categoryName, pageable.getOffset() + pageable.getPageSize()), pageable);
+    }
+
+    @Override
+    public long countWithinRadius(double lat, double lng, double radiusMeter, String categoryName) {
+        return search(lat, lng, radiusMeter, categoryName, Long.MAX_VALUE).size();
+    }
+
+    private List<ShopSummaryResponse> search(double lat, double lng, double radiusMeter, String categoryName, long needed) {
+        Map<Long, List<ShopEntity>> grid = buildGrid(categoryName);
+        List<ShopSummaryResponse> found = new ArrayList<>();
+
+        if (grid.isEmpty()) {
+            return found;
+        }
+
+        int centerRow = toCell(lat);
+        int centerCol = toCell(lng);
+        int maxRing = maxRing(grid.keySet(), centerRow, centerCol);
+        double ringMeter = CELL_DEGREE * Math.min(GeoUtil.meterPerLatDegree(), GeoUtil.meterPerLngDegree(lat));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                for (int col = centerCol - ring; col <= centerCol + ring; col++) {
+                    if (Math.max(Math.abs(row - centerRow), Math.abs(col - centerCol)) != ring) {
+                        continue;
+                    }
+
+                    for (ShopEntity shop : grid.getOrDefault(toKey(row, col), Collections.emptyList())) {
+                        double dist = GeoUtil.distance(lat, lng, shop.getLatitude(), shop.getLongitude());
+
+                        if (dist <= radiusMeter) {
+                            found.add(toResponse(shop, dist));
+                        }
+                    }
+                }
+            }
+
+            //ring 칸까지 확인했으면 ring * 칸 크기 안의 상점은 모두 찾은 것
+            double coveredMeter = ring * ringMeter;
+            if (coveredMeter >= radiusMeter) {
+                break;
+            }
+
+            long confirmed = found.stream().filter(shop -> shop.getDist() <= coveredMeter).count();
+            if (confirmed >= needed) {
+                break;
+            }
+        }
+
+        found.sort(Comparator.comparingDouble(ShopSummaryResponse::getDist)
+                .thenComparing(ShopSummaryResponse::getShopId));
+
+        return found;
+    }
+
+    private List<ShopSummaryResponse> page(List<ShopSummaryResponse> shops, Pageable pageable) {
+        return shops.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<ShopEntity>> buildGrid(String categoryName) {
+        Map<Long, List<ShopEntity>> grid = new HashMap<>();
+
+        for (ShopEntity shop : shopRepository.findAll()) {
+            if (categoryName != null && !categoryName.equals(shop.getCategoryName())) {
+                continue;
+            }
+
+            grid.computeIfAbsent(toKey(toCell(shop.getLatitude()), toCell(shop.getLongitude())), key -> new ArrayList<>())
+                    .add(shop);
+        }
+
+        return grid;
+    }
+
+    private int maxRing(Set<Long> keys, int centerRow, int centerCol) {
+        int maxRing = 0;
+
+        for (long key : keys) {
+            int row = (int) (key >> 32);
+            int col = (int) key;
+            maxRing = Math.max(maxRing, Math.max(Math.abs(row - centerRow), Math.abs(col - centerCol)));
+        }
+
+        return maxRing;
+    }
+
+    private ShopSummaryResponse toResponse(ShopEntity shop, double dist) {
+        return ShopSummaryResponse.builder()
+                .shopId(shop.getId())
+                .placeId(shop.getPlaceId())
+                .placeName(shop.getPlaceName())
+                .address(shop.getAddress())
+                .x(shop.getX())
+                .y(shop.getY())
+                .phone(shop.getPhone())
+                .dist(dist)
+                .build();
+    }
+
+    private int toCell(double degree) {
+        return (int) Math.floor(degree / CELL_DEGREE);
+    }
+
+    private long toKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
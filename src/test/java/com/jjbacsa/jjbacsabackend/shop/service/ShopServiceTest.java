@@ -4,15 +4,21 @@ import com.jjbacsa.jjbacsabackend.etc.exception.ApiException;
 import com.jjbacsa.jjbacsabackend.shop.dto.request.ShopRequest;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopResponse;
 import com.jjbacsa.jjbacsabackend.shop.dto.response.ShopSummaryResponse;
+import com.jjbacsa.jjbacsabackend.shop.entity.ShopEntity;
+import com.jjbacsa.jjbacsabackend.shop.repository.ShopRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("상점 통합 테스트")
 @SpringBootTest
+@ActiveProfiles("test")
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @TestMethodOrder(value= MethodOrderer.OrderAnnotation.class)
 @Transactional
@@ -31,6 +38,9 @@ public class ShopServiceTest {
     @Autowired
     StringRedisTemplate redisTemplate;
 
+    @Autowired
+    private ShopRepository shopRepository;
+
     private final String KEY="ranking";
 
     @Order(1)
@@ -85,6 +95,7 @@ public class ShopServiceTest {
     @Test
     public void searchWithoutCategory(){
         //given
+        saveShop("대전카페테스트","대전광역시 유성구","cafe");
         String keyword="대전카페";
 
         ShopRequest shopRequest=ShopRequest.builder()
@@ -105,6 +116,7 @@ public class ShopServiceTest {
     @Test
     public void searchWithCategory(){
         //given
+        saveShop("크러쉬온드","대전광역시 서구","cafe");
         String keyword="크러쉬온드";
 
         ShopRequest shopRequest=ShopRequest.builder()
@@ -119,4 +131,73 @@ public class ShopServiceTest {
         //then
         assertThat(res.stream().collect(Collectors.toList()).size()).isNotEqualTo(0);
     }
+
+    @Order(6)
+    @DisplayName("카테고리 검색은 가까운 순으로 조회")
+    @Test
+    public void searchCategory(){
+        //given
+        saveShop("크러쉬온드","대전광역시 서구","cafe");
+        saveShop("식당테스트","대전광역시 서구","restaurant");
+
+        ShopRequest shopRequest=ShopRequest.builder()
+                .keyword("카페")
+                .x(127.3922)
+                .y(36.362)
+                .build();
+
+        //when
+        Page<ShopSummaryResponse> res=shopService.searchShop(shopRequest,0,10);
+
+        //then
+        assertThat(res.stream().map(ShopSummaryResponse::getPlaceName).collect(Collectors.toList())).contains("크러쉬온드").doesNotContain("식당테스트");
+    }
+
+    @Order(7)
+    @DisplayName("커서 기반 검색은 페이지 검색과 같은 순서로 중복 없이 조회")
+    @Test
+    public void searchWithCursor(){
+        //given
+        saveShop("대전카페","대전광역시 유성구","cafe");
+        saveShop("대전카페2","대전광역시 서구","cafe");
+        saveShop("카페대전","대전광역시 중구","cafe");
+        saveShop("서울카페","서울특별시","cafe");
+        String keyword="대전카페";
+
+        ShopRequest shopRequest=ShopRequest.builder()
+                .keyword(keyword)
+                .x(127.3922)
+                .y(36.362)
+                .build();
+
+        List<Long> expected=shopService.searchShop(shopRequest,0,100).stream()
+                .map(ShopSummaryResponse::getShopId)
+                .collect(Collectors.toList());
+
+        //when
+        List<Long> actual=new ArrayList<>();
+        String cursor=null;
+        Slice<ShopSummaryResponse> res;
+
+        do {
+            res=shopService.searchShopWithCursor(shopRequest,cursor,1);
+            res.forEach(shop->actual.add(shop.getShopId()));
+            cursor=res.hasContent() ? res.getContent().get(res.getNumberOfElements()-1).getCursor() : null;
+        } while (res.hasNext());
+
+        //then
+        assertThat(expected.size()).isGreaterThan(1);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void saveShop(String placeName, String address, String category){
+        shopRepository.save(ShopEntity.builder()
+                .placeId(placeName)
+                .placeName(placeName)
+                .address(address)
+                .categoryName(category)
+                .x("127.3922")
+                .y("36.362")
+                .build());
+    }
 }
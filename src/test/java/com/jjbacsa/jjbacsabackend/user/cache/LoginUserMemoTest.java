@@ -0,0 +1,72 @@
+package com.jjbacsa.jjbacsabackend.user.cache;
+
+import com.jjbacsa.jjbacsabackend.user.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoginUserMemoTest {
+
+    private EntityManager entityManager;
+    private LoginUserMemo loginUserMemo;
+
+    @BeforeEach
+    void init() {
+        entityManager = Mockito.mock(EntityManager.class);
+        loginUserMemo = new LoginUserMemo(entityManager);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 같은_요청에서는_한번만_조회() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Mockito.when(entityManager.contains(Mockito.any())).thenReturn(true);
+
+        UserEntity first = loginUserMemo.get(1L, () -> load(1L, loadCount));
+        UserEntity second = loginUserMemo.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(1, loginUserMemo.getHitCount());
+    }
+
+    @Test
+    void 영속성_컨텍스트를_벗어난_엔티티는_다시_조회() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Mockito.when(entityManager.contains(Mockito.any())).thenReturn(false);
+
+        loginUserMemo.get(1L, () -> load(1L, loadCount));
+        loginUserMemo.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void 요청_밖에서는_메모하지_않음() {
+        AtomicInteger loadCount = new AtomicInteger();
+        RequestContextHolder.resetRequestAttributes();
+
+        loginUserMemo.get(1L, () -> load(1L, loadCount));
+        loginUserMemo.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    private UserEntity load(Long id, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return UserEntity.builder().id(id).build();
+    }
+}
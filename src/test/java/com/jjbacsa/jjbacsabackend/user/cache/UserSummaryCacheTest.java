@@ -0,0 +1,79 @@
+package com.jjbacsa.jjbacsabackend.user.cache;
+
+import com.jjbacsa.jjbacsabackend.user.dto.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class UserSummaryCacheTest {
+
+    @Test
+    void 캐시된_사용자는_다시_조회하지_않음() {
+        UserSummaryCache cache = new UserSummaryCache(true, 10, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        UserResponse first = cache.get(1L, () -> load(1L, loadCount));
+        UserResponse second = cache.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        UserSummaryCache cache = new UserSummaryCache(true, 10, 60);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(1L, () -> load(1L, new AtomicInteger()));
+        cache.get(1L, () -> load(1L, new AtomicInteger()));
+
+        Assertions.assertEquals(1, registry.get("user.summary_cache.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("user.summary_cache.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("user.summary_cache.size").gauge().value());
+    }
+
+    @Test
+    void 제거하면_다시_조회() {
+        UserSummaryCache cache = new UserSummaryCache(true, 10, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(1L, () -> load(1L, loadCount));
+        cache.evict(1L);
+        cache.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void 만료된_사용자는_다시_조회() {
+        UserSummaryCache cache = new UserSummaryCache(true, 10, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(1L, () -> load(1L, loadCount));
+        cache.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void 비활성화시_항상_조회() {
+        UserSummaryCache cache = new UserSummaryCache(false, 10, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(1L, () -> load(1L, loadCount));
+        cache.get(1L, () -> load(1L, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertEquals(0, cache.getHitCount());
+    }
+
+    private UserResponse load(Long id, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return UserResponse.builder().id(id).build();
+    }
+}
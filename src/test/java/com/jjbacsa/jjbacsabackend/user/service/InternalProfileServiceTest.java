@@ -0,0 +1,66 @@
+package com.jjbacsa.jjbacsabackend.user.service;
+
+import com.jjbacsa.jjbacsabackend.image.dto.request.ImageRequest;
+import com.jjbacsa.jjbacsabackend.image.entity.ImageEntity;
+import com.jjbacsa.jjbacsabackend.image.process.Rendition;
+import com.jjbacsa.jjbacsabackend.image.repository.ImageRepository;
+import com.jjbacsa.jjbacsabackend.image.serviceImpl.InternalImageServiceImpl;
+import com.jjbacsa.jjbacsabackend.image.upload.ImageUploadPipeline;
+import com.jjbacsa.jjbacsabackend.user.serviceImpl.InternalProfileServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class InternalProfileServiceTest {
+    private static final String PATH = "bucket/profile/uuid.jpg";
+    private static final String URL = "https://cdn/profile/uuid.jpg";
+
+    private ImageRepository imageRepository;
+    private ImageUploadPipeline uploadPipeline;
+    private InternalProfileService profileService;
+
+    @BeforeEach
+    void setUp() {
+        imageRepository = Mockito.mock(ImageRepository.class);
+        uploadPipeline = Mockito.mock(ImageUploadPipeline.class);
+        profileService = new InternalProfileServiceImpl(new InternalImageServiceImpl(imageRepository, uploadPipeline));
+
+        Mockito.when(uploadPipeline.upload(any(), any(), any())).thenReturn(List.of(new ImageRequest(PATH, "profile.png", URL,
+                Rendition.THUMBNAIL.pathOf(URL), Rendition.LIST.pathOf(URL))));
+        Mockito.when(imageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void 프로필_이미지는_사본_URL까지_저장() throws Exception {
+        ImageEntity profile = profileService.createProfileImage(profile());
+
+        Assertions.assertEquals(URL, profile.getUrl());
+        Assertions.assertEquals(Rendition.LIST.pathOf(URL), profile.getListUrl());
+        Assertions.assertEquals(Rendition.THUMBNAIL.pathOf(URL), profile.getThumbnailUrl());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 프로필_이미지_삭제시_사본까지_삭제_요청() throws Exception {
+        ImageEntity profile = profileService.createProfileImage(profile());
+        Mockito.when(imageRepository.findById(any())).thenReturn(Optional.of(profile));
+
+        profileService.deleteProfileImage(profile);
+
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(uploadPipeline).deleteAfterCommit(captor.capture());
+        Assertions.assertEquals(List.of(PATH, Rendition.LIST.pathOf(PATH), Rendition.THUMBNAIL.pathOf(PATH)), captor.getValue());
+    }
+
+    private MockMultipartFile profile() {
+        return new MockMultipartFile("profile", "profile.png", "image/png", new byte[]{1});
+    }
+}
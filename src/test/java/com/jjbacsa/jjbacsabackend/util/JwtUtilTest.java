@@ -0,0 +1,101 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import com.jjbacsa.jjbacsabackend.etc.dto.TokenClaims;
+import com.jjbacsa.jjbacsabackend.etc.enums.ErrorMessage;
+import com.jjbacsa.jjbacsabackend.etc.enums.TokenType;
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JwtUtilTest {
+    private static final String KEY = "jwt-util-test-secret-key-0123456789";
+
+    @Test
+    void 같은_토큰은_캐시에서_검증() {
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 10);
+        String token = "Bearer " + jwtUtil.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        TokenClaims first = jwtUtil.verify(token, TokenType.ACCESS);
+        TokenClaims second = jwtUtil.verify(token, TokenType.ACCESS);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1L, second.getId());
+        Assertions.assertEquals("ROLE_NORMAL", second.getAuthority());
+        Assertions.assertEquals(1, jwtUtil.getCacheMissCount());
+        Assertions.assertEquals(1, jwtUtil.getCacheHitCount());
+    }
+
+    @Test
+    void 적중_수를_메트릭으로_등록() {
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 10);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil.bindTo(registry);
+        String token = "Bearer " + jwtUtil.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        jwtUtil.verify(token, TokenType.ACCESS);
+        jwtUtil.verify(token, TokenType.ACCESS);
+
+        Assertions.assertEquals(1, registry.get("jwt.verify_cache.hits").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("jwt.verify_cache.misses").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("jwt.verify_cache.size").gauge().value());
+    }
+
+    @Test
+    void 캐시된_토큰도_타입을_검사() {
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 10);
+        String token = "Bearer " + jwtUtil.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        jwtUtil.verify(token, TokenType.ACCESS);
+        RequestInputException e = Assertions.assertThrows(RequestInputException.class,
+                () -> jwtUtil.verify(token, TokenType.REFRESH));
+
+        Assertions.assertEquals(ErrorMessage.INVALID_TOKEN_TYPE.getCode(), e.getCode());
+    }
+
+    @Test
+    void 다른_키로_서명된_토큰은_거부() {
+        JwtUtil issuer = new JwtUtil(KEY + "-other", "access", "refresh", 10);
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 10);
+        String token = "Bearer " + issuer.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        Assertions.assertThrows(RequestInputException.class, () -> jwtUtil.verify(token, TokenType.ACCESS));
+        Assertions.assertThrows(RequestInputException.class, () -> jwtUtil.verify(token, TokenType.ACCESS));
+        Assertions.assertEquals(0, jwtUtil.getCacheHitCount());
+    }
+
+    @Test
+    void 캐시를_끄면_매번_검증() {
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 0);
+        String token = "Bearer " + jwtUtil.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        jwtUtil.verify(token, TokenType.ACCESS);
+        jwtUtil.verify(token, TokenType.ACCESS);
+
+        Assertions.assertEquals(2, jwtUtil.getCacheMissCount());
+        Assertions.assertEquals(0, jwtUtil.getCacheHitCount());
+    }
+
+    @Test
+    void 가득_차면_오래_쓰이지_않은_토큰만_제거() {
+        JwtUtil jwtUtil = new JwtUtil(KEY, "access", "refresh", 2);
+        String token1 = "Bearer " + jwtUtil.generateToken(1L, TokenType.ACCESS, "ROLE_NORMAL");
+        String token2 = "Bearer " + jwtUtil.generateToken(2L, TokenType.ACCESS, "ROLE_NORMAL");
+        String token3 = "Bearer " + jwtUtil.generateToken(3L, TokenType.ACCESS, "ROLE_NORMAL");
+
+        jwtUtil.verify(token1, TokenType.ACCESS);
+        jwtUtil.verify(token2, TokenType.ACCESS);
+        jwtUtil.verify(token1, TokenType.ACCESS);
+        jwtUtil.verify(token3, TokenType.ACCESS);
+
+        //token2만 밀려나고 token1, token3는 남는다
+        jwtUtil.verify(token1, TokenType.ACCESS);
+        jwtUtil.verify(token3, TokenType.ACCESS);
+        Assertions.assertEquals(3, jwtUtil.getCacheMissCount());
+        Assertions.assertEquals(3, jwtUtil.getCacheHitCount());
+
+        jwtUtil.verify(token2, TokenType.ACCESS);
+        Assertions.assertEquals(4, jwtUtil.getCacheMissCount());
+    }
+}
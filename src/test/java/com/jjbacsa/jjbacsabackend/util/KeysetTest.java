@@ -0,0 +1,53 @@
+package com.jjbacsa.jjbacsabackend.util;
+
+import com.jjbacsa.jjbacsabackend.etc.exception.RequestInputException;
+import com.jjbacsa.jjbacsabackend.post.entity.QPostEntity;
+import com.querydsl.core.types.Order;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+public class KeysetTest {
+    private static final QPostEntity post = QPostEntity.postEntity;
+    private static final Keyset keyset = Keyset.of(
+            Keyset.date(post.createdAt, Order.DESC),
+            Keyset.number(post.id, Order.DESC));
+
+    @Test
+    void 커서_인코딩_디코딩() {
+        Date createdAt = new Date(1700000000000L);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(createdAt, 123456L, "a,b:c"));
+
+        Assertions.assertEquals(3, cursor.size());
+        Assertions.assertEquals("1700000000000", cursor.get(0));
+        Assertions.assertEquals("123456", cursor.get(1));
+        Assertions.assertEquals("a,b:c", cursor.get(2));
+    }
+
+    @Test
+    void 키_순서대로_조건_생성() {
+        String cursor = KeysetCursor.encode(new Date(1700000000000L), 100000L);
+
+        String predicate = keyset.after(cursor).toString();
+
+        Assertions.assertTrue(predicate.contains("postEntity.createdAt < "));
+        Assertions.assertTrue(predicate.contains("postEntity.createdAt = "));
+        Assertions.assertTrue(predicate.contains("postEntity.id < 100000"));
+        Assertions.assertEquals(2, keyset.orderBy().length);
+    }
+
+    @Test
+    void 커서가_없으면_조건_없음() {
+        Assertions.assertNull(keyset.after(null));
+        Assertions.assertNull(keyset.after(""));
+    }
+
+    @Test
+    void 잘못된_커서() {
+        Assertions.assertThrows(RequestInputException.class, () -> keyset.after("%%%"));
+        Assertions.assertThrows(RequestInputException.class, () -> keyset.after(KeysetCursor.encode(1L)));
+        Assertions.assertThrows(RequestInputException.class, () -> keyset.after(KeysetCursor.encode("date", 1L)));
+    }
+}